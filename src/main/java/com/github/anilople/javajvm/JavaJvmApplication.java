@@ -2,15 +2,25 @@ package com.github.anilople.javajvm;
 
 import com.github.anilople.javajvm.classpath.Classpath;
 import com.github.anilople.javajvm.command.Command;
+import com.github.anilople.javajvm.engine.ExecutionEngines;
+import com.github.anilople.javajvm.engine.Superinstructions;
+import com.github.anilople.javajvm.engine.SwitchEngine;
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmClassLoader;
 import com.github.anilople.javajvm.heap.JvmMethod;
-import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.instructions.references.InlineCache;
+import com.github.anilople.javajvm.natives.Intrinsic;
+import com.github.anilople.javajvm.natives.Intrinsics;
+import com.github.anilople.javajvm.natives.Stdio;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.JvmThread;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 public class JavaJvmApplication {
 
     private static final Logger logger = LoggerFactory.getLogger(JavaJvmApplication.class);
@@ -27,11 +37,26 @@ public class JavaJvmApplication {
     public JavaJvmApplication(Command command) {
         this.command = command;
         if(!Classpath.isInitialized()) {
-            // just use jre now
-            // may add classpath todo
-            Classpath.initialize(command.getOptions().getXjre());
+            Classpath.initialize(command.getOptions().getXjre(), command.getOptions().getClasspath());
         }
         this.classpath = Classpath.getInstance();
+        JvmThread.setStackSize(command.getOptions().getXss());
+        ExecutionEngines.use(command.getOptions().getXengine());
+        Intrinsics.disable(command.getOptions().getXdisableIntrinsics());
+        Stdio.setOutBuffering(command.getOptions().getXstdio());
+        // hits are logged at debug level only, superinstructions are used by switch engine only
+        Superinstructions.setCounting(logger.isDebugEnabled() && SwitchEngine.NAME.equals(command.getOptions().getXengine()));
+        switch (command.getOptions().getXshare()) {
+            case "off":
+            case "dump":
+                break;
+            case "auto":
+                // fall back to boot classpath if archive cannot be used
+                classpath.mapSharedArchive(Paths.get(command.getOptions().getXsharedArchiveFile()));
+                break;
+            default:
+                throw new IllegalArgumentException("unknown -Xshare:" + command.getOptions().getXshare());
+        }
     }
 
     /**
@@ -79,6 +104,16 @@ public class JavaJvmApplication {
                 "    -version      print product version and exit\n" +
                 "    -? -help      print this help message\n" +
                 "    -Xjre         java runtime environment, default value is System.getProperty(\"java.home\")\n" +
+                "    -Xss<size>    set java thread stack size, i.e -Xss512k, default value is 1m\n" +
+                "    -Xengine      execution engine, instruction or switch, default value is instruction,\n" +
+                "                  only switch fuses frequent bytecode sequences into superinstructions\n" +
+                "    -XdisableIntrinsics <names>\n" +
+                "                  intrinsics interpreted instead, separated by ',', i.e String.equals,Math.sqrt, or all\n" +
+                "    -Xstdio       buffering of standard output, line or full, default value is line\n" +
+                "    -Xshare:off|auto|dump\n" +
+                "                  use shared archive of boot and ext classes if it is not stale, or dump it at exit, default value is off\n" +
+                "    -XsharedArchiveFile <file>\n" +
+                "                  file of shared archive, default value is javajvm.jsa\n" +
                 "See https://github.com/Anilople/javajvm for more details.");
     }
 
@@ -92,13 +127,7 @@ public class JavaJvmApplication {
     public static void loop(JvmThread jvmThread) {
         logger.trace("start loop: {}", jvmThread);
 
-        while (jvmThread.existFrame()) {
-            jvmThread.currentFrame().traceStatus();
-            // get next instruction from frame (there is a pc register in frame)
-            Instruction instruction = jvmThread.currentFrame().readNextInstruction();
-            // change nextPc in top frame
-            instruction.execute(jvmThread.currentFrame());
-        }
+        ExecutionEngines.run(jvmThread);
 
         logger.trace("loop finished: {}", jvmThread);
     }
@@ -123,5 +152,35 @@ public class JavaJvmApplication {
                 interpret(jvmMethod);
             }
         }
+        Stdio.flushAll();
+
+        if("dump".equals(command.getOptions().getXshare())) {
+            dumpSharedArchive(jvmClassLoader);
+        }
+
+        if(SwitchEngine.NAME.equals(command.getOptions().getXengine())) {
+            logger.debug("superinstruction hits: {}", Superinstructions.getHits());
+        }
+        if(logger.isDebugEnabled()) {
+            for(InlineCache inlineCache : InlineCache.getInlineCaches()) {
+                logger.debug("{}", inlineCache);
+            }
+            for(Intrinsic intrinsic : Intrinsics.getIntrinsics()) {
+                logger.debug("{}", intrinsic);
+            }
+        }
+    }
+
+    /**
+     * dump boot and ext classes loaded by this run
+     */
+    private void dumpSharedArchive(JvmClassLoader jvmClassLoader) {
+        Path path = Paths.get(command.getOptions().getXsharedArchiveFile());
+        try {
+            int count = classpath.dumpSharedArchive(path, jvmClassLoader.getLoadedClassNames());
+            logger.info("{} classes dumped to shared archive {}", count, path);
+        } catch (IOException e) {
+            throw new RuntimeException("cannot dump shared archive " + path, e);
+        }
     }
 }
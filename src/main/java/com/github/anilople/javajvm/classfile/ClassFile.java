@@ -2,14 +2,12 @@ package com.github.anilople.javajvm.classfile;
 
 import com.github.anilople.javajvm.classfile.attributes.AttributeInfo;
 import com.github.anilople.javajvm.classfile.constantinfo.ConstantPoolInfo;
-import com.github.anilople.javajvm.utils.ByteUtils;
 import com.github.anilople.javajvm.utils.ConstantPoolUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 /**
  * The Java ® Virtual
@@ -207,50 +205,123 @@ public class ClassFile {
     }
 
     /**
-     * warpper an input stream to read byte, short, int ...
+     * a cursor over shared bytes to read byte, short, int ...
+     * the bytes are in an array or a buffer, i.e a class file mapped from a jar,
+     * they are never copied except {@link #readBytes(int)},
+     * so reading u1, u2, u4 allocates nothing
      */
     public static class ClassReader {
 
-        private static final Logger logger = LoggerFactory.getLogger(ClassReader.class);
+        /**
+         * big endian, read by absolute index only
+         */
+        private final ByteBuffer buffer;
 
-        private InputStream inputStream;
+        /**
+         * this reader can only read bytes in [start, end)
+         */
+        private final int start;
 
-        private ClassReader() {
-        }
+        private final int end;
+
+        /**
+         * index of next byte will be read in buffer
+         */
+        private int position;
 
         public ClassReader(byte[] bytes) {
-            this.inputStream = new ByteArrayInputStream(bytes.clone());
+            this(bytes, 0, bytes.length);
         }
 
         /**
-         * given a length, read bytes which length match
-         *
+         * @param bytes shared, will not be copied
+         * @param offset first byte can be read
+         * @param length how many bytes can be read
+         */
+        public ClassReader(byte[] bytes, int offset, int length) {
+            this(ByteBuffer.wrap(bytes), offset, length);
+        }
+
+        /**
+         * @param buffer shared, will not be copied,
+         *               bytes from its position to its limit can be read
+         */
+        public ClassReader(ByteBuffer buffer) {
+            this(buffer, buffer.position(), buffer.remaining());
+        }
+
+        private ClassReader(ByteBuffer buffer, int offset, int length) {
+            if (offset < 0 || length < 0 || offset + length > buffer.capacity()) {
+                throw new IndexOutOfBoundsException("offset = " + offset + ", length = " + length + ", bytes.length = " + buffer.capacity());
+            }
+            this.buffer = ByteOrder.BIG_ENDIAN == buffer.order() ? buffer : buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+            this.start = offset;
+            this.end = offset + length;
+            this.position = offset;
+        }
+
+        /**
+         * make sure there are length bytes after position
          * @param length
-         * @return
          */
-        public byte[] readBytes(int length) {
+        private void checkRemaining(int length) {
             if (length < 0) {
                 throw new RuntimeException(length + " must >= 0");
             }
-            byte[] bytes = new byte[length];
-            try {
-                inputStream.read(bytes);
-                return bytes;
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+            if (position + length > end) {
+                throw new IndexOutOfBoundsException("need " + length + " bytes, but only " + (end - position) + " remain");
+            }
+        }
+
+        /**
+         * @param index relative to the start of this reader
+         * @return absolute index in bytes
+         */
+        private int absoluteIndex(int index, int length) {
+            if (index < 0 || start + index + length > end) {
+                throw new IndexOutOfBoundsException("index = " + index + ", length = " + length + ", limit = " + (end - start));
+            }
+            return start + index;
+        }
+
+        /**
+         * given a length, read bytes which length match.
+         * a new array is returned, use it only when the bytes must be kept
+         *
+         * @param length
+         * @return
+         */
+        public byte[] readBytes(int length) {
+            checkRemaining(length);
+            byte[] result = new byte[length];
+            if (buffer.hasArray()) {
+                System.arraycopy(buffer.array(), buffer.arrayOffset() + position, result, 0, length);
+            } else {
+                ByteBuffer duplicate = buffer.duplicate();
+                duplicate.position(position);
+                duplicate.get(result);
             }
+            position += length;
+            return result;
         }
 
         public byte readU1() {
-            return readBytes(1)[0];
+            checkRemaining(1);
+            return buffer.get(position++);
         }
 
         public short readU2() {
-            return ByteUtils.bytes2short(readBytes(2));
+            checkRemaining(2);
+            short value = buffer.getShort(position);
+            position += 2;
+            return value;
         }
 
         public int readU4() {
-            return ByteUtils.bytes2int(readBytes(4));
+            checkRemaining(4);
+            int value = buffer.getInt(position);
+            position += 4;
+            return value;
         }
 
         /**
@@ -267,6 +338,80 @@ public class ClassFile {
             }
             return shorts;
         }
+
+        /**
+         * read without moving the cursor
+         * @param index relative to the start of this reader
+         */
+        public byte getU1(int index) {
+            return buffer.get(absoluteIndex(index, 1));
+        }
+
+        /**
+         * read without moving the cursor
+         * @param index relative to the start of this reader
+         */
+        public short getU2(int index) {
+            return buffer.getShort(absoluteIndex(index, 2));
+        }
+
+        /**
+         * read without moving the cursor
+         * @param index relative to the start of this reader
+         */
+        public int getU4(int index) {
+            return buffer.getInt(absoluteIndex(index, 4));
+        }
+
+        /**
+         * a new reader shares the next length bytes,
+         * then skip them in this reader
+         * @param length
+         * @return a reader can only read those length bytes
+         */
+        public ClassReader slice(int length) {
+            checkRemaining(length);
+            ClassReader classReader = new ClassReader(buffer, position, length);
+            position += length;
+            return classReader;
+        }
+
+        public void skip(int length) {
+            checkRemaining(length);
+            position += length;
+        }
+
+        /**
+         * skip 0 to 3 bytes,
+         * make position is a multiple of 4 from the start of this reader
+         */
+        public void align4() {
+            int padding = (4 - ((position - start) & 3)) & 3;
+            skip(padding);
+        }
+
+        /**
+         * @return position relative to the start of this reader
+         */
+        public int getPosition() {
+            return position - start;
+        }
+
+        /**
+         * @param position relative to the start of this reader
+         */
+        public void setPosition(int position) {
+            if (position < 0 || start + position > end) {
+                throw new IndexOutOfBoundsException("position = " + position + ", limit = " + (end - start));
+            }
+            this.position = start + position;
+        }
+
+        /**
+         * @return how many bytes can be read
+         */
+        public int remaining() {
+            return end - position;
+        }
     }
 }
-
@@ -0,0 +1,186 @@
+package com.github.anilople.javajvm.classfile;
+
+import com.github.anilople.javajvm.constants.ConstantPoolTags;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * remove the attributes which jvm never uses from a class file,
+ * the result is still a valid class file can be parsed by {@link ClassFile#parse(ClassFile.ClassReader)}.
+ *
+ * Kept:
+ * ConstantValue of fields,
+ * Code of methods, without attributes in it, i.e LineNumberTable, StackMapTable,
+ * BootstrapMethods of class.
+ * The constant pool is copied as it is, so every index in code is still valid.
+ */
+public final class ClassFileTrimmer {
+
+    private static final byte[] CONSTANT_VALUE = "ConstantValue".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] CODE = "Code".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] BOOTSTRAP_METHODS = "BootstrapMethods".getBytes(StandardCharsets.UTF_8);
+
+    private ClassFileTrimmer() {
+    }
+
+    /**
+     * @param classBytes a class file
+     * @return a smaller class file
+     * @throws IllegalArgumentException if it is not a class file
+     */
+    public static byte[] trim(byte[] classBytes) {
+        ByteBuffer input = ByteBuffer.wrap(classBytes);
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(classBytes.length);
+        DataOutputStream output = new DataOutputStream(byteArrayOutputStream);
+        try {
+            if (0xCAFEBABE != input.getInt()) {
+                throw new IllegalArgumentException("not a class file");
+            }
+            // minor version, major version, constant pool
+            input.position(input.position() + 4);
+            final int[] utf8Positions = skipConstantPool(input);
+            // access flags, this class, super class, interfaces
+            input.position(input.position() + 6);
+            final int interfacesCount = u2(input);
+            input.position(input.position() + 2 * interfacesCount);
+            output.write(classBytes, 0, input.position());
+
+            trimMembers(input, output, utf8Positions, CONSTANT_VALUE);
+            trimMembers(input, output, utf8Positions, CODE);
+            trimAttributes(input, output, utf8Positions, BOOTSTRAP_METHODS);
+            if (input.hasRemaining()) {
+                throw new IllegalArgumentException(input.remaining() + " bytes after class file");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("broken class file", e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    /**
+     * @return position of Utf8 entry by its index, 0 if the entry is not Utf8
+     */
+    private static int[] skipConstantPool(ByteBuffer input) {
+        final int count = u2(input);
+        int[] utf8Positions = new int[count];
+        for (int index = 1; index < count; index++) {
+            final byte tag = input.get();
+            switch (tag) {
+                case ConstantPoolTags.CONSTANT_Utf8:
+                    utf8Positions[index] = input.position();
+                    final int length = u2(input);
+                    input.position(input.position() + length);
+                    break;
+                case ConstantPoolTags.CONSTANT_Class:
+                case ConstantPoolTags.CONSTANT_String:
+                case ConstantPoolTags.CONSTANT_MethodType:
+                    input.position(input.position() + 2);
+                    break;
+                case ConstantPoolTags.CONSTANT_MethodHandle:
+                    input.position(input.position() + 3);
+                    break;
+                case ConstantPoolTags.CONSTANT_Integer:
+                case ConstantPoolTags.CONSTANT_Float:
+                case ConstantPoolTags.CONSTANT_Fieldref:
+                case ConstantPoolTags.CONSTANT_Methodref:
+                case ConstantPoolTags.CONSTANT_InterfaceMethodref:
+                case ConstantPoolTags.CONSTANT_NameAndType:
+                case ConstantPoolTags.CONSTANT_InvokeDynamic:
+                    input.position(input.position() + 4);
+                    break;
+                case ConstantPoolTags.CONSTANT_Long:
+                case ConstantPoolTags.CONSTANT_Double:
+                    input.position(input.position() + 8);
+                    // takes 2 entries
+                    index++;
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown constant pool tag " + tag + " at " + index);
+            }
+        }
+        return utf8Positions;
+    }
+
+    /**
+     * fields or methods, only the attribute named kept remains
+     */
+    private static void trimMembers(ByteBuffer input, DataOutputStream output, int[] utf8Positions, byte[] kept) throws IOException {
+        final int count = u2(input);
+        output.writeShort(count);
+        for (int i = 0; i < count; i++) {
+            // access flags, name, descriptor
+            output.writeShort(u2(input));
+            output.writeShort(u2(input));
+            output.writeShort(u2(input));
+            trimAttributes(input, output, utf8Positions, kept);
+        }
+    }
+
+    private static void trimAttributes(ByteBuffer input, DataOutputStream output, int[] utf8Positions, byte[] kept) throws IOException {
+        final int count = u2(input);
+        ByteArrayOutputStream attributes = new ByteArrayOutputStream();
+        DataOutputStream attributesOutput = new DataOutputStream(attributes);
+        int keptCount = 0;
+        for (int i = 0; i < count; i++) {
+            final int nameIndex = u2(input);
+            final int length = input.getInt();
+            final int start = input.position();
+            if (nameEquals(input, utf8Positions, nameIndex, kept)) {
+                keptCount++;
+                attributesOutput.writeShort(nameIndex);
+                if (CODE == kept) {
+                    writeCode(input, attributesOutput, start);
+                } else {
+                    attributesOutput.writeInt(length);
+                    attributesOutput.write(input.array(), start, length);
+                }
+            }
+            input.position(start + length);
+        }
+        output.writeShort(keptCount);
+        attributes.writeTo(output);
+    }
+
+    /**
+     * max stack, max locals, code, exception table, no attributes
+     */
+    private static void writeCode(ByteBuffer input, DataOutputStream output, int start) throws IOException {
+        ByteBuffer code = input.duplicate();
+        code.position(start + 4);
+        final int codeLength = code.getInt();
+        code.position(code.position() + codeLength);
+        final int exceptionTableLength = u2(code);
+        code.position(code.position() + 8 * exceptionTableLength);
+        final int length = code.position() - start;
+        output.writeInt(length + 2);
+        output.write(input.array(), start, length);
+        // attributes count
+        output.writeShort(0);
+    }
+
+    private static boolean nameEquals(ByteBuffer input, int[] utf8Positions, int index, byte[] expected) {
+        if (index <= 0 || index >= utf8Positions.length || 0 == utf8Positions[index]) {
+            throw new IllegalArgumentException("attribute name " + index + " is not a Utf8");
+        }
+        final int position = utf8Positions[index];
+        final int length = input.getShort(position) & 0xFFFF;
+        return length == expected.length && Arrays.equals(
+                Arrays.copyOfRange(input.array(), position + 2, position + 2 + length), expected
+        );
+    }
+
+    private static int u2(ByteBuffer input) {
+        return input.getShort() & 0xFFFF;
+    }
+}
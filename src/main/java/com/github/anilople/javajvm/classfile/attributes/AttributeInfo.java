@@ -18,7 +18,7 @@ public abstract class AttributeInfo {
     public AttributeInfo() {
     }
 
-    public AttributeInfo(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public AttributeInfo(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         this.classFile = classFile;
         this.attributeNameIndex = attributeNameIndex;
         this.attributeLength = attributeLength;
@@ -64,7 +64,7 @@ public abstract class AttributeInfo {
     public static AttributeInfo parseAttributeInfo(ClassFile classFile, ClassFile.ClassReader classReader) {
         short attributeNameIndex = classReader.readU2();
         int attributeLength = classReader.readU4();
-        byte[] info = classReader.readBytes(attributeLength);
+        ClassFile.ClassReader info = classReader.slice(attributeLength);
         String attributeName = ConstantPoolUtils.getUtf8(classFile.getConstantPool(), attributeNameIndex);
         switch (attributeName) {
             case "ConstantValue":
@@ -13,9 +13,9 @@ public class BootstrapMethodsAttribute extends AttributeInfo {
 
     private BootstrapMethod[] bootstrapMethods;
 
-    public BootstrapMethodsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public BootstrapMethodsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.bootstrapMethods = BootstrapMethod.parseBootstrapMethods(new ClassFile.ClassReader(info));
+        this.bootstrapMethods = BootstrapMethod.parseBootstrapMethods(info);
     }
 
     public static class BootstrapMethod {
@@ -21,9 +21,8 @@ public class CodeAttribute extends AttributeInfo {
     private CodeAttribute() {
     }
 
-    public CodeAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
-        super(classFile, attributeNameIndex, attributeLength, info);
-        ClassFile.ClassReader classReader = new ClassFile.ClassReader(info);
+    public CodeAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader classReader) {
+        super(classFile, attributeNameIndex, attributeLength, classReader);
         this.maxStack = classReader.readU2();
         this.maxLocals = classReader.readU2();
         int codeLength = classReader.readU4();
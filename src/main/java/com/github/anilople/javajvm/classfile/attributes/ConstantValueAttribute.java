@@ -1,7 +1,6 @@
 package com.github.anilople.javajvm.classfile.attributes;
 
 import com.github.anilople.javajvm.classfile.ClassFile;
-import com.github.anilople.javajvm.utils.ByteUtils;
 
 public class ConstantValueAttribute extends AttributeInfo {
 
@@ -11,9 +10,9 @@ public class ConstantValueAttribute extends AttributeInfo {
         super();
     }
 
-    public ConstantValueAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public ConstantValueAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.constantValueIndex = ByteUtils.bytes2short(info);
+        this.constantValueIndex = info.readU2();
     }
 
     public short getConstantValueIndex() {
@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.classfile.ClassFile;
 
 public class DeprecatedAttribute extends AttributeInfo {
 
-    public DeprecatedAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public DeprecatedAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
     }
 
@@ -1,9 +1,6 @@
 package com.github.anilople.javajvm.classfile.attributes;
 
 import com.github.anilople.javajvm.classfile.ClassFile;
-import com.github.anilople.javajvm.utils.ByteUtils;
-
-import java.util.Arrays;
 
 public class EnclosingMethodAttribute extends AttributeInfo {
 
@@ -11,10 +8,10 @@ public class EnclosingMethodAttribute extends AttributeInfo {
 
     private short methodIndex;
 
-    public EnclosingMethodAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public EnclosingMethodAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.classIndex = ByteUtils.bytes2short(Arrays.copyOfRange(info, 0, 2));
-        this.methodIndex = ByteUtils.bytes2short(Arrays.copyOfRange(info, 2, 4));
+        this.classIndex = info.readU2();
+        this.methodIndex = info.readU2();
     }
 
 }
@@ -14,9 +14,9 @@ public class ExceptionsAttribute extends AttributeInfo {
      */
     private short[] exceptionIndexTable;
 
-    public ExceptionsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public ExceptionsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.exceptionIndexTable = ExceptionsAttribute.parseExceptionIndexTable(new ClassFile.ClassReader(info));
+        this.exceptionIndexTable = ExceptionsAttribute.parseExceptionIndexTable(info);
     }
 
     private static short[] parseExceptionIndexTable(ClassFile.ClassReader classReader) {
@@ -8,9 +8,9 @@ public class InnerClassesAttribute extends AttributeInfo {
 
     ClassesEntry[] classes;
 
-    public InnerClassesAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public InnerClassesAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.classes = ClassesEntry.parseClasses(new ClassFile.ClassReader(info));
+        this.classes = ClassesEntry.parseClasses(info);
     }
 
     public ClassesEntry[] getClasses() {
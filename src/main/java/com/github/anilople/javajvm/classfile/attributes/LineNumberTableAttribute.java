@@ -8,9 +8,9 @@ public class LineNumberTableAttribute extends AttributeInfo {
 
     private LineNumberTableEntry[] lineNumberTable;
 
-    public LineNumberTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public LineNumberTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.lineNumberTable = LineNumberTableEntry.parseLineNumberTable(new ClassFile.ClassReader(info));
+        this.lineNumberTable = LineNumberTableEntry.parseLineNumberTable(info);
     }
 
     public LineNumberTableEntry[] getLineNumberTable() {
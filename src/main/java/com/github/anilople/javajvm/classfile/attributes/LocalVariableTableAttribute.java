@@ -6,9 +6,9 @@ public class LocalVariableTableAttribute extends AttributeInfo {
 
     private LocalVariableTableEntry[] localVariableTable;
 
-    public LocalVariableTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public LocalVariableTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        localVariableTable = LocalVariableTableEntry.parseLocalVariableTable(new ClassFile.ClassReader(info));
+        localVariableTable = LocalVariableTableEntry.parseLocalVariableTable(info);
     }
 
     public static class LocalVariableTableEntry {
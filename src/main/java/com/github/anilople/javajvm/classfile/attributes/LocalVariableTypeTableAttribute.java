@@ -8,9 +8,9 @@ public class LocalVariableTypeTableAttribute extends AttributeInfo {
 
     LocalVariableTypeTableEntry[] localVariableTypeTable;
 
-    public LocalVariableTypeTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public LocalVariableTypeTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.localVariableTypeTable = LocalVariableTypeTableEntry.parseLocalVariableTypeTable(new ClassFile.ClassReader(info));
+        this.localVariableTypeTable = LocalVariableTypeTableEntry.parseLocalVariableTypeTable(info);
     }
 
 
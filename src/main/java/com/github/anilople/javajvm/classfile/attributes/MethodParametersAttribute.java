@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.classfile.ClassFile;
 
 public class MethodParametersAttribute extends AttributeInfo {
 
-    public MethodParametersAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public MethodParametersAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
     }
 }
\ No newline at end of file
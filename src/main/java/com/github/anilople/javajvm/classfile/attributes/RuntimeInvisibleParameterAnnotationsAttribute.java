@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.classfile.ClassFile;
 
 public class RuntimeInvisibleParameterAnnotationsAttribute extends AttributeInfo {
 
-    public RuntimeInvisibleParameterAnnotationsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public RuntimeInvisibleParameterAnnotationsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
     }
 
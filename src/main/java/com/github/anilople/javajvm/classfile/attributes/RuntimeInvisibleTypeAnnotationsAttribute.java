@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.classfile.ClassFile;
 
 public class RuntimeInvisibleTypeAnnotationsAttribute extends AttributeInfo {
 
-    public RuntimeInvisibleTypeAnnotationsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public RuntimeInvisibleTypeAnnotationsAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
     }
 
@@ -1,15 +1,14 @@
 package com.github.anilople.javajvm.classfile.attributes;
 
 import com.github.anilople.javajvm.classfile.ClassFile;
-import com.github.anilople.javajvm.utils.ByteUtils;
 
 public class SignatureAttribute extends AttributeInfo {
 
     private short signatureIndex;
 
-    public SignatureAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public SignatureAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.signatureIndex = ByteUtils.bytes2short(info);
+        this.signatureIndex = info.readU2();
     }
 
     public short getSignatureIndex() {
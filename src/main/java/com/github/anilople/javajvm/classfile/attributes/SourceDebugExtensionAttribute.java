@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.classfile.ClassFile;
 
 public class SourceDebugExtensionAttribute extends AttributeInfo {
 
-    public SourceDebugExtensionAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public SourceDebugExtensionAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
     }
 
@@ -12,9 +12,9 @@ public class StackMapTableAttribute extends AttributeInfo {
 
     private StackMapFrame[] entries;
 
-    public StackMapTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public StackMapTableAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.entries = StackMapFrame.parseStackMapFrames(new ClassFile.ClassReader(info));
+        this.entries = StackMapFrame.parseStackMapFrames(info);
     }
 
     public static class StackMapFrame {
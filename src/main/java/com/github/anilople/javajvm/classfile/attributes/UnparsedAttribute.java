@@ -12,8 +12,8 @@ public class UnparsedAttribute extends AttributeInfo {
     private UnparsedAttribute() {
     }
 
-    public UnparsedAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, byte[] info) {
+    public UnparsedAttribute(ClassFile classFile, short attributeNameIndex, int attributeLength, ClassFile.ClassReader info) {
         super(classFile, attributeNameIndex, attributeLength, info);
-        this.info = info;
+        this.info = info.readBytes(attributeLength);
     }
 }
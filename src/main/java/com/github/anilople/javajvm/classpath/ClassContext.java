@@ -1,5 +1,9 @@
 package com.github.anilople.javajvm.classpath;
 
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.function.Function;
+
 /**
  * What a jvm need when it running?
  * One of functions is that read a class file by class name
@@ -18,4 +22,40 @@ interface ClassContext {
      * @return null if there is no this class
      */
     byte[] readClass(String className);
+
+    /**
+     * given a class name like {@link #readClass(String)},
+     * let parser read bytes of this class file,
+     * the bytes are not copied if they can be shared, i.e mapped from a jar
+     *
+     * @param className class name
+     * @param parser the bytes are valid only in it, they may be reused after it returns
+     * @return result of parser, null if there is no this class
+     */
+    default <T> T parseClass(String className, Function<ByteBuffer, T> parser) {
+        byte[] bytes = readClass(className);
+        return null == bytes ? null : parser.apply(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * packages of classes may be in this context,
+     * like java/lang, "" is the default package
+     *
+     * @return null if unknown, then the context is searched for every class
+     * @see ClassContextIndex
+     */
+    default Set<String> getPackages() {
+        return null;
+    }
+
+    /**
+     * asked for a context without packages known,
+     * when a class of the package is looked up
+     *
+     * @param packageName like java/lang, "" is the default package
+     * @return false if no class of the package is in this context
+     */
+    default boolean mayContainPackage(String packageName) {
+        return true;
+    }
 }
@@ -1,11 +1,18 @@
 package com.github.anilople.javajvm.classpath;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 class ClassContextFactory {
 
+    private static final Logger logger = LoggerFactory.getLogger(ClassContextFactory.class);
+
     /**
      * Path -> ClassContext
      * Because ClassContext do not modify and read only,
@@ -16,12 +23,12 @@ class ClassContextFactory {
     static ClassContext getInstance(Path path) {
         if(!path2ClassContextCaches.containsKey(path)) {
             String pathname = path.toString();
-            if (pathname.endsWith(".class")) {
-                path2ClassContextCaches.put(path, new ClassFileClassContextImpl(path));
+            if (Files.isDirectory(path)) {
+                path2ClassContextCaches.put(path, new DirectoryClassContextImpl(path));
             } else if (
                     pathname.endsWith(".jar") || pathname.endsWith(".JAR")
                             || pathname.endsWith(".zip") || pathname.endsWith(".ZIP")) {
-                path2ClassContextCaches.put(path, new ZipClassContextImpl(path));
+                path2ClassContextCaches.put(path, makeZipClassContext(path));
             } else {
 //            logger.trace("{} cannot be recognized", path);
             }
@@ -29,4 +36,16 @@ class ClassContextFactory {
         return path2ClassContextCaches.get(path);
     }
 
+    /**
+     * mapped to memory if possible
+     */
+    private static ClassContext makeZipClassContext(Path path) {
+        try {
+            return new MappedZipClassContextImpl(path);
+        } catch (IOException e) {
+            logger.debug("{} cannot be mapped, read it by zip file", path, e);
+            return new ZipClassContextImpl(path);
+        }
+    }
+
 }
@@ -0,0 +1,126 @@
+package com.github.anilople.javajvm.classpath;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * class contexts indexed by package,
+ * so a lookup only touches the contexts which may contain the package of class,
+ * instead of every context in classpath.
+ *
+ * The order of contexts is kept, the first one contains the class wins.
+ * @see ClassContext#getPackages()
+ */
+class ClassContextIndex implements ClassContext {
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    private final List<ClassContext> classContexts;
+
+    /**
+     * package -> positions of contexts, ascending
+     */
+    private final Map<String, int[]> package2Positions;
+
+    /**
+     * positions of contexts without packages known, ascending
+     */
+    private final int[] unindexedPositions;
+
+    ClassContextIndex(List<ClassContext> classContexts) {
+        this.classContexts = new ArrayList<>(classContexts);
+        Map<String, List<Integer>> package2PositionList = new HashMap<>();
+        List<Integer> unindexedPositionList = new ArrayList<>();
+        for (int position = 0; position < this.classContexts.size(); position++) {
+            Set<String> packages = this.classContexts.get(position).getPackages();
+            if(null == packages) {
+                unindexedPositionList.add(position);
+            } else {
+                for (String packageName : packages) {
+                    package2PositionList.computeIfAbsent(packageName, key -> new ArrayList<>()).add(position);
+                }
+            }
+        }
+        this.package2Positions = new HashMap<>(package2PositionList.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : package2PositionList.entrySet()) {
+            this.package2Positions.put(entry.getKey(), toArray(entry.getValue()));
+        }
+        this.unindexedPositions = toArray(unindexedPositionList);
+    }
+
+    /**
+     * @param className like java/lang/Object.class
+     * @return like java/lang, "" if in default package
+     */
+    static String packageOf(String className) {
+        int index = className.lastIndexOf('/');
+        return index < 0 ? "" : className.substring(0, index);
+    }
+
+    /**
+     * @param className like java/lang/Object.class
+     * @return contexts may contain the class, in order
+     * @see ClassContext#mayContainPackage(String)
+     */
+    List<ClassContext> getCandidates(String className) {
+        String packageName = packageOf(className);
+        int[] indexed = package2Positions.getOrDefault(packageName, NO_POSITIONS);
+        List<ClassContext> candidates = new ArrayList<>(indexed.length + unindexedPositions.length);
+        // merge 2 ascending positions
+        int i = 0, j = 0;
+        while (i < indexed.length || j < unindexedPositions.length) {
+            if(j >= unindexedPositions.length || (i < indexed.length && indexed[i] < unindexedPositions[j])) {
+                candidates.add(classContexts.get(indexed[i++]));
+            } else {
+                ClassContext unindexed = classContexts.get(unindexedPositions[j++]);
+                if(unindexed.mayContainPackage(packageName)) {
+                    candidates.add(unindexed);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    @Override
+    public byte[] readClass(String className) {
+        for (ClassContext classContext : getCandidates(className)) {
+            byte[] data = classContext.readClass(className);
+            if (null != data) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public <T> T parseClass(String className, Function<ByteBuffer, T> parser) {
+        for (ClassContext classContext : getCandidates(className)) {
+            T result = classContext.parseClass(className, parser);
+            if (null != result) {
+                return result;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Set<String> getPackages() {
+        if(unindexedPositions.length > 0) {
+            return null;
+        }
+        return package2Positions.keySet();
+    }
+
+    private static int[] toArray(List<Integer> integers) {
+        int[] array = new int[integers.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = integers.get(i);
+        }
+        return array;
+    }
+}
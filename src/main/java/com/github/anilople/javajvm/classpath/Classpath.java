@@ -1,15 +1,23 @@
 package com.github.anilople.javajvm.classpath;
 
+import com.github.anilople.javajvm.classfile.ClassFileTrimmer;
 import com.github.anilople.javajvm.utils.ClassPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,35 +30,68 @@ public class Classpath implements ClassContext {
 
     private static volatile Classpath INSTANCE = null;
 
-    private static final Map<String, byte[]> classBytesCaches = new ConcurrentHashMap<>();
+    /**
+     * user's classes
+     * in the class search path, i.e -classpath
+     */
+    List<ClassContext> userList;
 
     /**
-     * class under
-     * jre/lib/*
+     * user contexts in order, indexed by package,
+     * they are searched after boot and ext classpath
      */
-    List<ClassContext> bootList;
+    private final ClassContextIndex classContextIndex;
 
     /**
-     * class under
-     * jre/lib/ext/*
+     * files of boot classes, jars or a jimage
      */
-    List<ClassContext> extList;
+    private final List<Path> bootPaths;
 
     /**
-     * user's classes
-     * under "." directory
+     * lib/modules of a modular runtime, null if boot classes are under jre/lib/*
      */
-    List<ClassContext> userList;
+    private final Path modules;
+
+    /**
+     * jar files under jre/lib/ext/*
+     */
+    private final List<Path> extPaths;
+
+    /**
+     * boot and ext contexts in order,
+     * null until a class is searched in them,
+     * with a shared archive it may never happen
+     * @see #getSystemIndex()
+     */
+    private volatile ClassContextIndex systemIndex;
+
+    /**
+     * boot and ext classes dumped by a run before, null if not used
+     */
+    private volatile SharedArchive sharedArchive;
+
+    /**
+     * initialize {@link Classpath},
+     * user's classes are in environment variable CLASSPATH, or current directory
+     * @throws IllegalStateException if initializes already
+     */
+    public static void initialize(String jreDirectory) {
+        initialize(jreDirectory, null);
+    }
 
     /**
      * initialize {@link Classpath}
+     * @param userClasspath value of -classpath, null for default
      * @throws IllegalStateException if initializes already
      */
-    synchronized public static void initialize(String jreDirectory) {
+    synchronized public static void initialize(String jreDirectory, String userClasspath) {
         if(null != INSTANCE) {
             throw new IllegalStateException(INSTANCE + " initializes already.");
         }
-        INSTANCE = new Classpath(jreDirectory);
+        if(null == userClasspath) {
+            userClasspath = System.getenv().getOrDefault("CLASSPATH", ".");
+        }
+        INSTANCE = new Classpath(jreDirectory, userClasspath);
     }
 
     /**
@@ -76,78 +117,175 @@ public class Classpath implements ClassContext {
      * initial a class context from command
      *
      * @param jreDirectory jre path
+     * @param userClasspath class search path of user
      */
-    private Classpath(String jreDirectory) {
+    private Classpath(String jreDirectory, String userClasspath) {
 
-        // jre/lib/*
-        String jrelibDirectory = String.join(File.separator, jreDirectory, "lib", "*");
-        Collection<Path> jrelibPaths = ClassPathUtils.getAllPathNested(jrelibDirectory);
-        this.bootList = jrelibPaths
-                .stream()
-                .map(ClassContextFactory::getInstance)
-                .filter(classContext -> null != classContext)
-                .collect(Collectors.toList());
+        Path modules = Paths.get(jreDirectory, "lib", "modules");
+        if (Files.isRegularFile(modules)) {
+            // jdk 9+, lib/modules
+            this.modules = modules;
+            this.bootPaths = Collections.singletonList(modules);
+        } else {
+            // jre/lib/*
+            this.modules = null;
+            String jrelibDirectory = String.join(File.separator, jreDirectory, "lib", "*");
+            this.bootPaths = ClassPathUtils.getClasspathEntries(jrelibDirectory);
+        }
 
         // jre/lib/ext/*
         String jrelibextDirectory = String.join(File.separator, jreDirectory, "lib", "ext", "*");
-        Collection<Path> jrelibextPaths = ClassPathUtils.getAllPathNested(jrelibextDirectory);
-        this.extList = jrelibextPaths
-                .stream()
-                .map(ClassContextFactory::getInstance)
-                .filter(classContext -> null != classContext)
-                .collect(Collectors.toList());
+        this.extPaths = ClassPathUtils.getClasspathEntries(jrelibextDirectory);
 
         // user class
-        Collection<Path> userPaths = ClassPathUtils.getAllPathNested(".");
-        this.userList = userPaths
-                .stream()
+        this.userList = makeClassContexts(ClassPathUtils.getClasspathEntries(userClasspath));
+        logger.debug("user classpath: {}", userList);
+        this.classContextIndex = new ClassContextIndex(userList);
+    }
+
+    /**
+     * open the boot and ext jars, or jimage, at the first time,
+     * indexing them is the most of time to initialize a classpath
+     */
+    private ClassContextIndex getSystemIndex() {
+        ClassContextIndex index = systemIndex;
+        if (null == index) {
+            synchronized (this) {
+                index = systemIndex;
+                if (null == index) {
+                    List<ClassContext> classContexts = new ArrayList<>();
+                    classContexts.addAll(null == modules ? makeClassContexts(bootPaths) : makeJimageClassContexts(modules));
+                    classContexts.addAll(makeClassContexts(extPaths));
+                    index = new ClassContextIndex(classContexts);
+                    systemIndex = index;
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * @param modules jimage of a modular runtime
+     * @return empty if it cannot be read
+     */
+    private static List<ClassContext> makeJimageClassContexts(Path modules) {
+        try {
+            return Collections.singletonList(new JimageClassContextImpl(modules));
+        } catch (IOException e) {
+            logger.error("cannot read jimage {}", modules, e);
+            return Collections.emptyList();
+        }
+    }
+
+    private static List<ClassContext> makeClassContexts(List<Path> paths) {
+        return paths.stream()
                 .map(ClassContextFactory::getInstance)
                 .filter(classContext -> null != classContext)
                 .collect(Collectors.toList());
     }
 
     /**
-     * just read class's byte one time,
-     * {@link this#readClass(String)} will cache the result
+     * classes in the archive are read from it instead of boot and ext classpath,
+     * the others are searched as usual,
+     * boot and ext jars are not opened unless a class may be in them
+     * @return false if archive does not exist, is broken or stale, it is not used then
      */
-    private byte[] readClassOneTime(String className) {
-        // add ".class" suffix
-        className = className + ".class";
-
-        // from boot
-        for (ClassContext classContext : bootList) {
-            byte[] data = classContext.readClass(className);
-            if (null != data) {
-                return data;
-            }
+    public boolean mapSharedArchive(Path path) {
+        this.sharedArchive = SharedArchive.map(path, getSystemStamp());
+        if (null != sharedArchive) {
+            logger.info("use shared archive {}, {} classes", path, sharedArchive.size());
         }
+        return null != sharedArchive;
+    }
 
-        // from ext
-        for (ClassContext classContext : extList) {
-            byte[] data = classContext.readClass(className);
-            if (null != data) {
-                return data;
+    /**
+     * write trimmed class files of boot and ext classes to an archive,
+     * it can be mapped by {@link #mapSharedArchive(Path)} in later runs
+     * @param classNames like java/lang/Object, the ones not in boot or ext classpath are ignored
+     * @return how many classes dumped
+     */
+    public int dumpSharedArchive(Path path, Collection<String> classNames) throws IOException {
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        for (String className : classNames) {
+            String name = className + ".class";
+            byte[] data = getSystemIndex().readClass(name);
+            if (null == data) {
+                continue;
+            }
+            try {
+                classes.put(name, ClassFileTrimmer.trim(data));
+            } catch (IllegalArgumentException e) {
+                logger.warn("{} is not dumped", className, e);
             }
         }
+        SharedArchive.dump(path, getSystemStamp(), getSystemIndex().getPackages(), classes);
+        return classes.size();
+    }
 
-        // from user
-        for (ClassContext classContext : userList) {
-            byte[] data = classContext.readClass(className);
-            if (null != data) {
-                return data;
+    /**
+     * a shared archive is stale if any file of boot or ext classes changes,
+     * the files are not opened
+     * @return path, size and last modified time of every file
+     */
+    String getSystemStamp() {
+        List<Path> systemPaths = new ArrayList<>(bootPaths);
+        systemPaths.addAll(extPaths);
+        StringBuilder stringBuilder = new StringBuilder();
+        for (Path systemPath : systemPaths) {
+            stringBuilder.append(systemPath.toAbsolutePath());
+            try {
+                stringBuilder.append(' ').append(Files.size(systemPath))
+                        .append(' ').append(Files.getLastModifiedTime(systemPath).toMillis());
+            } catch (IOException e) {
+                logger.warn("cannot stamp {}", systemPath, e);
             }
+            stringBuilder.append('\n');
         }
-
-        logger.error("{} not exist", className);
-        return null;
+        return stringBuilder.toString();
     }
 
+    /**
+     * bytes are not cached, read them again every time
+     * @param className like java/lang/Object
+     */
     @Override
     public byte[] readClass(String className) {
-        classBytesCaches.computeIfAbsent(
-                className,
-                this::readClassOneTime
-        );
-        return classBytesCaches.get(className);
+        // boot first, then ext, then user
+        byte[] data = getSystemIndex().readClass(className + ".class");
+        if (null == data) {
+            data = classContextIndex.readClass(className + ".class");
+        }
+        if (null == data) {
+            logger.error("{} not exist", className);
+        }
+        return data;
+    }
+
+    /**
+     * the bytes of class file are not kept after parsing,
+     * they are mapped from jar or read again when needed
+     * @param className like java/lang/Object
+     */
+    @Override
+    public <T> T parseClass(String className, Function<ByteBuffer, T> parser) {
+        final String name = className + ".class";
+        final SharedArchive archive = sharedArchive;
+        T result;
+        if (null == archive) {
+            result = getSystemIndex().parseClass(name, parser);
+        } else {
+            // boot and ext classes only, they are searched first anyway
+            result = archive.parseClass(name, parser);
+            if (null == result && archive.mayBeSystemClass(name)) {
+                result = getSystemIndex().parseClass(name, parser);
+            }
+        }
+        if (null == result) {
+            result = classContextIndex.parseClass(name, parser);
+        }
+        if (null == result) {
+            logger.error("{} not exist", className);
+        }
+        return result;
     }
 }
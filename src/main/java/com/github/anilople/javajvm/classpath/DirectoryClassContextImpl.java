@@ -0,0 +1,67 @@
+package com.github.anilople.javajvm.classpath;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read class from a directory in classpath,
+ * class a/b/C is the file directory/a/b/C.class,
+ * the directory is not walked,
+ * a package is looked up when a class of it is needed.
+ */
+class DirectoryClassContextImpl implements ClassContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(DirectoryClassContextImpl.class);
+
+    private final Path directory;
+
+    /**
+     * packages found, a package not found is looked up again next time,
+     * its directory may be created later
+     */
+    private final Set<String> packages = ConcurrentHashMap.newKeySet();
+
+    public DirectoryClassContextImpl(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public byte[] readClass(String className) {
+        Path classfile = directory.resolve(className);
+        if (!Files.isRegularFile(classfile)) {
+            return null;
+        }
+        try {
+            logger.debug("{} is in {}", className, directory);
+            return Files.readAllBytes(classfile);
+        } catch (IOException e) {
+            logger.debug("cannot read content", e);
+            return null;
+        }
+    }
+
+    @Override
+    public boolean mayContainPackage(String packageName) {
+        if (packages.contains(packageName)) {
+            return true;
+        }
+        if (Files.isDirectory(directory.resolve(packageName))) {
+            packages.add(packageName);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "DirectoryClassContextImpl{" +
+                "directory=" + directory +
+                '}';
+    }
+}
@@ -0,0 +1,348 @@
+package com.github.anilople.javajvm.classpath;
+
+import com.github.anilople.javajvm.utils.ConstantPoolUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * read class from the jimage of a modular runtime (jdk 9+), i.e lib/modules,
+ * there is no rt.jar in it.
+ *
+ * The image is mapped to memory. A resource like /java.base/java/lang/Object.class
+ * is found by the perfect hash table in the index,
+ * the module of a package is found by resource /packages/java.lang once.
+ * An uncompressed resource is a slice of the mapped file, it is never copied,
+ * a compressed one is decompressed, only "zip" compression is supported.
+ * @see <a href="https://openjdk.java.net/jeps/220">JEP 220</a>
+ */
+class JimageClassContextImpl implements ClassContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(JimageClassContextImpl.class);
+
+    private static final int MAGIC = 0xCAFEDADA;
+
+    private static final int MAJOR_VERSION = 1;
+
+    private static final int HEADER_SIZE = 7 * 4;
+
+    private static final int HASH_MULTIPLIER = 0x01000193;
+
+    /**
+     * kinds of location attributes
+     */
+    private static final int ATTRIBUTE_END = 0;
+    private static final int ATTRIBUTE_MODULE = 1;
+    private static final int ATTRIBUTE_PARENT = 2;
+    private static final int ATTRIBUTE_BASE = 3;
+    private static final int ATTRIBUTE_EXTENSION = 4;
+    private static final int ATTRIBUTE_OFFSET = 5;
+    private static final int ATTRIBUTE_COMPRESSED = 6;
+    private static final int ATTRIBUTE_UNCOMPRESSED = 7;
+    private static final int ATTRIBUTE_COUNT = 8;
+
+    private static final int COMPRESSED_HEADER_MAGIC = 0xCAFEFAFA;
+
+    private static final int COMPRESSED_HEADER_SIZE = 29;
+
+    /**
+     * package of class has no module
+     */
+    private static final String NO_MODULE = "";
+
+    private final Path path;
+
+    /**
+     * whole image, in byte order of image
+     */
+    private final ByteBuffer mapped;
+
+    private final int tableLength;
+
+    private final int redirectStart;
+
+    private final int offsetsStart;
+
+    private final int locationsStart;
+
+    private final int stringsStart;
+
+    /**
+     * resources follow the index
+     */
+    private final int resourcesStart;
+
+    /**
+     * like java.lang -> java.base
+     */
+    private final Map<String, String> package2Module = new ConcurrentHashMap<>();
+
+    /**
+     * @throws IOException if file cannot be mapped or it is not a jimage supported
+     */
+    JimageClassContextImpl(Path path) throws IOException {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE || fileSize < HEADER_SIZE) {
+                throw new IOException(path + " size " + fileSize + " is not supported");
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            // magic tells the byte order
+            if (MAGIC != buffer.order(ByteOrder.LITTLE_ENDIAN).getInt(0)
+                    && MAGIC != buffer.order(ByteOrder.BIG_ENDIAN).getInt(0)) {
+                throw new IOException(path + " is not a jimage");
+            }
+            this.mapped = buffer;
+        }
+        final int version = mapped.getInt(4);
+        if (MAJOR_VERSION != version >>> 16) {
+            throw new IOException(path + " version " + (version >>> 16) + "." + (version & 0xFFFF) + " is not supported");
+        }
+        this.tableLength = mapped.getInt(16);
+        final int locationsSize = mapped.getInt(20);
+        final int stringsSize = mapped.getInt(24);
+        this.redirectStart = HEADER_SIZE;
+        this.offsetsStart = redirectStart + tableLength * 4;
+        this.locationsStart = offsetsStart + tableLength * 4;
+        this.stringsStart = locationsStart + locationsSize;
+        this.resourcesStart = stringsStart + stringsSize;
+        if (tableLength <= 0 || resourcesStart > mapped.limit()) {
+            throw new IOException(path + " broken index");
+        }
+        logger.debug("{} mapped, {} resources", path, mapped.getInt(12));
+    }
+
+    @Override
+    public byte[] readClass(String className) {
+        return parseClass(className, buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        });
+    }
+
+    /**
+     * @param className like java/lang/Object.class
+     */
+    @Override
+    public <T> T parseClass(String className, Function<ByteBuffer, T> parser) {
+        String module = getModule(ClassContextIndex.packageOf(className).replace('/', '.'));
+        if (NO_MODULE.equals(module)) {
+            return null;
+        }
+        long[] attributes = findLocation("/" + module + "/" + className);
+        if (null == attributes) {
+            return null;
+        }
+        logger.debug("class {} is in module {} of {}", className, module, path);
+        return parser.apply(getResource(attributes));
+    }
+
+    /**
+     * @param packageName like java.lang
+     * @return like java.base, {@link #NO_MODULE} if not in any module
+     */
+    private String getModule(String packageName) {
+        String module = package2Module.get(packageName);
+        if (null == module) {
+            module = findModule(packageName);
+            package2Module.put(packageName, module);
+        }
+        return module;
+    }
+
+    /**
+     * resource /packages/java.lang is pairs of int,
+     * is empty or not, offset of module name in strings
+     */
+    private String findModule(String packageName) {
+        if (packageName.isEmpty()) {
+            return NO_MODULE;
+        }
+        long[] attributes = findLocation("/packages/" + packageName);
+        if (null == attributes) {
+            return NO_MODULE;
+        }
+        ByteBuffer modules = getResource(attributes).order(mapped.order());
+        String module = NO_MODULE;
+        for (int i = modules.position(); i + 8 <= modules.limit(); i += 8) {
+            boolean isEmpty = 0 != modules.getInt(i);
+            String name = getString(modules.getInt(i + 4));
+            if (!isEmpty) {
+                return name;
+            }
+            if (NO_MODULE.equals(module)) {
+                module = name;
+            }
+        }
+        return module;
+    }
+
+    /**
+     * @param name like /java.base/java/lang/Object.class
+     * @return attributes of location, null if not exists
+     */
+    private long[] findLocation(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int index = mapped.getInt(redirectStart + 4 * (hash(bytes, HASH_MULTIPLIER) % tableLength));
+        if (index < 0) {
+            // the index
+            index = -index - 1;
+        } else if (index > 0) {
+            // the seed of hash
+            index = hash(bytes, index) % tableLength;
+        } else {
+            return null;
+        }
+        long[] attributes = decodeAttributes(locationsStart + mapped.getInt(offsetsStart + 4 * index));
+        // different name may have same hash
+        return name.equals(getFullName(attributes)) ? attributes : null;
+    }
+
+    private long[] decodeAttributes(int position) {
+        long[] attributes = new long[ATTRIBUTE_COUNT];
+        while (position < stringsStart) {
+            int data = mapped.get(position++) & 0xFF;
+            int kind = data >>> 3;
+            if (ATTRIBUTE_END == kind) {
+                break;
+            }
+            if (kind >= ATTRIBUTE_COUNT) {
+                throw new IllegalStateException(path + " invalid location attribute " + kind);
+            }
+            // big endian value with 1 to 8 bytes
+            int length = (data & 0x7) + 1;
+            long value = 0;
+            for (int i = 0; i < length; i++) {
+                value = (value << 8) | (mapped.get(position++) & 0xFF);
+            }
+            attributes[kind] = value;
+        }
+        return attributes;
+    }
+
+    /**
+     * /module/parent/base.extension, empty parts are omitted
+     */
+    private String getFullName(long[] attributes) {
+        StringBuilder stringBuilder = new StringBuilder();
+        if (0 != attributes[ATTRIBUTE_MODULE]) {
+            stringBuilder.append('/').append(getString((int) attributes[ATTRIBUTE_MODULE])).append('/');
+        }
+        if (0 != attributes[ATTRIBUTE_PARENT]) {
+            stringBuilder.append(getString((int) attributes[ATTRIBUTE_PARENT])).append('/');
+        }
+        stringBuilder.append(getString((int) attributes[ATTRIBUTE_BASE]));
+        if (0 != attributes[ATTRIBUTE_EXTENSION]) {
+            stringBuilder.append('.').append(getString((int) attributes[ATTRIBUTE_EXTENSION]));
+        }
+        return stringBuilder.toString();
+    }
+
+    /**
+     * @param offset in strings, a string ends with 0
+     */
+    private String getString(int offset) {
+        int start = stringsStart + offset;
+        int end = start;
+        while (0 != mapped.get(end)) {
+            end++;
+        }
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = mapped.get(start + i);
+        }
+        return ConstantPoolUtils.decodeMUTF8(bytes);
+    }
+
+    /**
+     * @return bytes of resource, big endian
+     */
+    private ByteBuffer getResource(long[] attributes) {
+        final int start = resourcesStart + (int) attributes[ATTRIBUTE_OFFSET];
+        final int compressedSize = (int) attributes[ATTRIBUTE_COMPRESSED];
+        final int size = (int) attributes[ATTRIBUTE_UNCOMPRESSED];
+        ByteBuffer resource = mapped.duplicate();
+        if (0 == compressedSize) {
+            resource.limit(start + size).position(start);
+            return resource.slice();
+        }
+        resource.limit(start + compressedSize).position(start);
+        return ByteBuffer.wrap(decompress(resource.slice().order(mapped.order())));
+    }
+
+    /**
+     * a resource may be compressed many times,
+     * every time a header is added before the content
+     */
+    private byte[] decompress(ByteBuffer compressed) {
+        byte[] content = new byte[compressed.remaining()];
+        compressed.get(content);
+        ByteBuffer header = ByteBuffer.wrap(content).order(mapped.order());
+        while (content.length >= COMPRESSED_HEADER_SIZE && COMPRESSED_HEADER_MAGIC == header.getInt(0)) {
+            final int size = (int) header.getLong(12);
+            final String decompressor = getString(header.getInt(20));
+            if (!"zip".equals(decompressor)) {
+                throw new IllegalStateException(path + " unsupported decompressor " + decompressor);
+            }
+            content = inflate(content, COMPRESSED_HEADER_SIZE, content.length - COMPRESSED_HEADER_SIZE, size);
+            header = ByteBuffer.wrap(content).order(mapped.order());
+        }
+        return content;
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int length, int size) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+            byte[] output = new byte[size];
+            int inflated = 0;
+            while (inflated < size) {
+                int count = inflater.inflate(output, inflated, size - inflated);
+                if (0 == count && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                inflated += count;
+            }
+            if (inflated != size) {
+                throw new IllegalStateException("inflated " + inflated + " bytes, but size is " + size);
+            }
+            return output;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * same as jdk.internal.jimage.ImageStringsReader
+     * @return positive hash of UTF-8 bytes
+     */
+    private static int hash(byte[] bytes, int seed) {
+        for (byte b : bytes) {
+            seed = (seed * HASH_MULTIPLIER) ^ (b & 0xFF);
+        }
+        return seed & 0x7FFFFFFF;
+    }
+
+    @Override
+    public String toString() {
+        return "JimageClassContextImpl{" +
+                "path=" + path +
+                '}';
+    }
+}
@@ -0,0 +1,385 @@
+package com.github.anilople.javajvm.classpath;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * read class from a jar or zip file mapped to memory.
+ *
+ * The central directory is parsed once into a hash index of ".class" entries,
+ * name -> offset of its central directory header,
+ * names are compared in the mapped bytes, no string is kept for an entry.
+ * A stored entry is a slice of the mapped file, it is never copied,
+ * a deflated entry is inflated into buffers pooled by thread.
+ *
+ * Zip64 and files larger than 2GB are not supported,
+ * {@link ZipClassContextImpl} reads them instead.
+ */
+class MappedZipClassContextImpl implements ClassContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedZipClassContextImpl.class);
+
+    private static final int END_SIGNATURE = 0x06054b50;
+
+    private static final int CENTRAL_SIGNATURE = 0x02014b50;
+
+    private static final int LOCAL_SIGNATURE = 0x04034b50;
+
+    private static final int END_SIZE = 22;
+
+    private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final int LOCAL_HEADER_SIZE = 30;
+
+    private static final int STORED = 0;
+
+    private static final int DEFLATED = 8;
+
+    private static final byte[] CLASS_SUFFIX = ".class".getBytes(StandardCharsets.UTF_8);
+
+    private static final ThreadLocal<InflateBuffers> INFLATE_BUFFERS = ThreadLocal.withInitial(InflateBuffers::new);
+
+    private final Path path;
+
+    /**
+     * whole file, little endian
+     */
+    private final ByteBuffer mapped;
+
+    /**
+     * open addressing, index of entry + 1, 0 means empty
+     */
+    private final int[] table;
+
+    /**
+     * hash of entry's name
+     */
+    private final int[] hashes;
+
+    /**
+     * offset of entry's central directory header
+     */
+    private final int[] centralOffsets;
+
+    private final Set<String> packages = new HashSet<>();
+
+    /**
+     * @throws IOException if file cannot be mapped or it is not a zip file supported
+     */
+    MappedZipClassContextImpl(Path path) throws IOException {
+        this.path = path;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if (fileSize > Integer.MAX_VALUE) {
+                throw new IOException(path + " is larger than 2GB");
+            }
+            this.mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        final int end = findEnd();
+        final int total = u2(end + 10);
+        final long centralSize = u4(end + 12);
+        final long centralStart = u4(end + 16);
+        if (0xFFFF == total || 0xFFFFFFFFL == centralStart || centralStart + centralSize > end) {
+            throw new IOException(path + " is zip64 or broken");
+        }
+
+        int[] offsets = new int[total];
+        int[] entryHashes = new int[total];
+        int count = 0;
+        int position = (int) centralStart;
+        int lastPackageStart = -1;
+        int lastPackageLength = -1;
+        for (int i = 0; i < total; i++) {
+            if (position + CENTRAL_HEADER_SIZE > end || CENTRAL_SIGNATURE != mapped.getInt(position)) {
+                throw new IOException(path + " broken central directory at " + position);
+            }
+            final int nameLength = u2(position + 28);
+            final int nameStart = position + CENTRAL_HEADER_SIZE;
+            if (endsWith(nameStart, nameLength, CLASS_SUFFIX)) {
+                offsets[count] = position;
+                entryHashes[count] = hash(nameStart, nameLength);
+                count++;
+                // entries in same package are adjacent mostly
+                int packageLength = lastIndexOfSlash(nameStart, nameLength);
+                if (packageLength != lastPackageLength || !equals(nameStart, lastPackageStart, packageLength)) {
+                    packages.add(decode(nameStart, packageLength));
+                    lastPackageStart = nameStart;
+                    lastPackageLength = packageLength;
+                }
+            }
+            position = nameStart + nameLength + u2(position + 30) + u2(position + 32);
+        }
+
+        this.centralOffsets = new int[count];
+        this.hashes = new int[count];
+        System.arraycopy(offsets, 0, centralOffsets, 0, count);
+        System.arraycopy(entryHashes, 0, hashes, 0, count);
+        this.table = new int[tableSize(count)];
+        final int mask = table.length - 1;
+        for (int entry = 0; entry < count; entry++) {
+            int index = hashes[entry] & mask;
+            while (0 != table[index]) {
+                index = (index + 1) & mask;
+            }
+            table[index] = entry + 1;
+        }
+        logger.debug("{} mapped, {} classes", path, count);
+    }
+
+    @Override
+    public byte[] readClass(String className) {
+        return parseClass(className, buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        });
+    }
+
+    @Override
+    public <T> T parseClass(String className, Function<ByteBuffer, T> parser) {
+        int entry = find(className.getBytes(StandardCharsets.UTF_8));
+        if (entry < 0) {
+            return null;
+        }
+        logger.debug("class {} is in zipfile {}", className, path);
+        final int central = centralOffsets[entry];
+        final int method = u2(central + 10);
+        final int compressedSize = (int) u4(central + 20);
+        final int size = (int) u4(central + 24);
+        final int local = (int) u4(central + 42);
+        if (LOCAL_SIGNATURE != mapped.getInt(local)) {
+            throw new IllegalStateException(path + " broken local header of " + className);
+        }
+        final int dataStart = local + LOCAL_HEADER_SIZE + u2(local + 26) + u2(local + 28);
+        switch (method) {
+            case STORED: {
+                ByteBuffer slice = mapped.duplicate();
+                slice.limit(dataStart + size).position(dataStart);
+                return parser.apply(slice.slice());
+            }
+            case DEFLATED: {
+                InflateBuffers inflateBuffers = INFLATE_BUFFERS.get();
+                if (inflateBuffers.inUse) {
+                    // parser reads another class
+                    inflateBuffers = new InflateBuffers();
+                }
+                inflateBuffers.inUse = true;
+                try {
+                    return parser.apply(inflateBuffers.inflate(mapped, dataStart, compressedSize, size));
+                } finally {
+                    inflateBuffers.inUse = false;
+                }
+            }
+            default:
+                throw new IllegalStateException(path + " unsupported compression method " + method + " of " + className);
+        }
+    }
+
+    @Override
+    public Set<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * @return index of entry, -1 if not found
+     */
+    private int find(byte[] name) {
+        final int hash = hash(name);
+        final int mask = table.length - 1;
+        for (int index = hash & mask; 0 != table[index]; index = (index + 1) & mask) {
+            int entry = table[index] - 1;
+            if (hash == hashes[entry] && nameEquals(centralOffsets[entry], name)) {
+                return entry;
+            }
+        }
+        return -1;
+    }
+
+    private boolean nameEquals(int central, byte[] name) {
+        if (u2(central + 28) != name.length) {
+            return false;
+        }
+        final int nameStart = central + CENTRAL_HEADER_SIZE;
+        for (int i = 0; i < name.length; i++) {
+            if (mapped.get(nameStart + i) != name[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * end of central directory is after the central directory,
+     * a comment with variable length may follow it
+     */
+    private int findEnd() throws IOException {
+        final int lowest = Math.max(0, mapped.limit() - END_SIZE - MAX_COMMENT_LENGTH);
+        for (int position = mapped.limit() - END_SIZE; position >= lowest; position--) {
+            if (END_SIGNATURE == mapped.getInt(position)) {
+                return position;
+            }
+        }
+        throw new IOException(path + " no end of central directory");
+    }
+
+    private int u2(int index) {
+        return mapped.getShort(index) & 0xFFFF;
+    }
+
+    private long u4(int index) {
+        return mapped.getInt(index) & 0xFFFFFFFFL;
+    }
+
+    private boolean endsWith(int start, int length, byte[] suffix) {
+        if (length < suffix.length) {
+            return false;
+        }
+        final int suffixStart = start + length - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (mapped.get(suffixStart + i) != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return length of package in name, 0 if in default package
+     */
+    private int lastIndexOfSlash(int start, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if ('/' == mapped.get(start + i)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private boolean equals(int start, int otherStart, int length) {
+        if (otherStart < 0) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (mapped.get(start + i) != mapped.get(otherStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int start, int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = mapped.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int hash(int start, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + mapped.get(start + i);
+        }
+        return mix(hash);
+    }
+
+    private static int hash(byte[] bytes) {
+        int hash = 0;
+        for (byte b : bytes) {
+            hash = 31 * hash + b;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * spread high bits to low bits, the table is masked
+     */
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * @return power of 2, load factor is at most 0.5
+     */
+    private static int tableSize(int count) {
+        int size = 2;
+        while (size < count * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedZipClassContextImpl{" +
+                "path=" + path +
+                ", classes=" + centralOffsets.length +
+                '}';
+    }
+
+    /**
+     * inflater and buffers reused by a thread
+     */
+    private static class InflateBuffers {
+
+        private final Inflater inflater = new Inflater(true);
+
+        private byte[] input = new byte[8 * 1024];
+
+        private byte[] output = new byte[16 * 1024];
+
+        private boolean inUse;
+
+        /**
+         * @return inflated bytes, valid until next inflate
+         */
+        ByteBuffer inflate(ByteBuffer mapped, int start, int compressedSize, int size) {
+            // an extra dummy byte is needed when nowrap
+            if (input.length < compressedSize + 1) {
+                input = new byte[compressedSize + 1];
+            }
+            if (output.length < size) {
+                output = new byte[size];
+            }
+            ByteBuffer compressed = mapped.duplicate();
+            compressed.position(start);
+            compressed.get(input, 0, compressedSize);
+            input[compressedSize] = 0;
+
+            inflater.reset();
+            inflater.setInput(input, 0, compressedSize + 1);
+            int inflated = 0;
+            try {
+                while (inflated < size) {
+                    int count = inflater.inflate(output, inflated, size - inflated);
+                    if (0 == count && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    inflated += count;
+                }
+            } catch (DataFormatException e) {
+                throw new IllegalStateException(e);
+            }
+            if (inflated != size) {
+                throw new IllegalStateException("inflated " + inflated + " bytes, but size is " + size);
+            }
+            return ByteBuffer.wrap(output, 0, size);
+        }
+    }
+}
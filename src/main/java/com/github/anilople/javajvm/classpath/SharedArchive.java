@@ -0,0 +1,302 @@
+package com.github.anilople.javajvm.classpath;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * class data sharing archive,
+ * class files dumped by a run are mapped by the next runs,
+ * so they are not searched, inflated and read from jars again.
+ * The class files are trimmed before dump,
+ * i.e {@link com.github.anilople.javajvm.classfile.ClassFileTrimmer}.
+ *
+ * An archive has a stamp of the files it comes from,
+ * it is stale and not used if the stamp is different.
+ * It also keeps the packages of the whole boot and ext classpath,
+ * a class in none of them is not searched in boot and ext classpath,
+ * so their jars are not opened for user's classes.
+ * <p>
+ * Archive {
+ * u4 magic;
+ * u2 version;
+ * u4 stamp_length;
+ * u1 stamp[stamp_length];
+ * u4 packages_count;
+ * package packages[packages_count];
+ * u4 classes_count;
+ * entry index[classes_count];
+ * u1 class_files[];
+ * }
+ * package {
+ * u2 name_length;
+ * u1 name[name_length];
+ * }
+ * entry {
+ * u2 name_length;
+ * u1 name[name_length];
+ * u4 offset;
+ * u4 length;
+ * }
+ * big endian, offset is from the start of archive,
+ * packages_count is 0xFFFFFFFF if the packages are unknown.
+ */
+class SharedArchive implements ClassContext {
+
+    private static final Logger logger = LoggerFactory.getLogger(SharedArchive.class);
+
+    /**
+     * "JJSA"
+     */
+    private static final int MAGIC = 0x4A4A5341;
+
+    private static final short VERSION = 2;
+
+    private final Path path;
+
+    /**
+     * whole archive
+     */
+    private final ByteBuffer mapped;
+
+    /**
+     * like java/lang/Object.class -> index of entry
+     */
+    private final Map<String, Integer> name2Entry;
+
+    private final int[] offsets;
+
+    private final int[] lengths;
+
+    private final Set<String> packages = new HashSet<>();
+
+    /**
+     * packages of boot and ext classpath when dumped, null if unknown
+     */
+    private final Set<String> systemPackages;
+
+    private SharedArchive(Path path, ByteBuffer mapped, Set<String> systemPackages, Map<String, Integer> name2Entry, int[] offsets, int[] lengths) {
+        this.path = path;
+        this.mapped = mapped;
+        this.systemPackages = systemPackages;
+        this.name2Entry = name2Entry;
+        this.offsets = offsets;
+        this.lengths = lengths;
+        for (String name : name2Entry.keySet()) {
+            packages.add(ClassContextIndex.packageOf(name));
+        }
+    }
+
+    /**
+     * write an archive, replace the old one if exists
+     * @param systemPackages of boot and ext classpath, like java/lang, null if unknown
+     * @param classes like java/lang/Object.class -> class file
+     */
+    static void dump(Path path, String stamp, Set<String> systemPackages, Map<String, byte[]> classes) throws IOException {
+        byte[] stampBytes = stamp.getBytes(StandardCharsets.UTF_8);
+        byte[][] packageNames = new byte[null == systemPackages ? 0 : systemPackages.size()][];
+        int packagesSize = 0;
+        if (null != systemPackages) {
+            int i = 0;
+            for (String packageName : systemPackages) {
+                packageNames[i] = toBytes(packageName);
+                packagesSize += 2 + packageNames[i].length;
+                i++;
+            }
+        }
+        byte[][] names = new byte[classes.size()][];
+        int indexSize = 0;
+        int i = 0;
+        for (String name : classes.keySet()) {
+            names[i] = toBytes(name);
+            indexSize += 2 + names[i].length + 4 + 4;
+            i++;
+        }
+
+        // written to a temporary file first, a run never maps a half archive
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.writeInt(stampBytes.length);
+            output.write(stampBytes);
+            output.writeInt(null == systemPackages ? -1 : packageNames.length);
+            for (byte[] packageName : packageNames) {
+                output.writeShort(packageName.length);
+                output.write(packageName);
+            }
+            output.writeInt(classes.size());
+            long offset = 4 + 2 + 4 + stampBytes.length + 4 + packagesSize + 4 + indexSize;
+            i = 0;
+            for (byte[] classFile : classes.values()) {
+                output.writeShort(names[i].length);
+                output.write(names[i]);
+                output.writeInt((int) offset);
+                output.writeInt(classFile.length);
+                offset += classFile.length;
+                if (offset > Integer.MAX_VALUE) {
+                    throw new IOException("archive is larger than 2GB");
+                }
+                i++;
+            }
+            for (byte[] classFile : classes.values()) {
+                output.write(classFile);
+            }
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+        logger.debug("{} classes dumped to {}", classes.size(), path);
+    }
+
+    private static byte[] toBytes(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("name is too long: " + name);
+        }
+        return bytes;
+    }
+
+    /**
+     * @param stamp of files now, compared with the one in archive
+     * @return null if archive does not exist, is broken or stale
+     */
+    static SharedArchive map(Path path, String stamp) {
+        if (!Files.isRegularFile(path)) {
+            logger.info("shared archive {} does not exist", path);
+            return null;
+        }
+        final ByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                logger.info("shared archive {} is larger than 2GB", path);
+                return null;
+            }
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            logger.info("cannot map shared archive {}", path, e);
+            return null;
+        }
+
+        try {
+            ByteBuffer header = mapped.duplicate();
+            if (MAGIC != header.getInt() || VERSION != header.getShort()) {
+                logger.info("{} is not a shared archive of version {}", path, VERSION);
+                return null;
+            }
+            if (!stamp.equals(readString(header, header.getInt()))) {
+                logger.info("shared archive {} is stale", path);
+                return null;
+            }
+            final int packagesCount = header.getInt();
+            Set<String> systemPackages = null;
+            if (-1 != packagesCount) {
+                if (packagesCount < 0 || packagesCount > header.remaining() / 2) {
+                    throw new BufferUnderflowException();
+                }
+                systemPackages = new HashSet<>(packagesCount * 2);
+                for (int i = 0; i < packagesCount; i++) {
+                    systemPackages.add(readString(header, header.getShort() & 0xFFFF));
+                }
+            }
+            final int count = header.getInt();
+            if (count < 0 || count > header.remaining() / 10) {
+                throw new BufferUnderflowException();
+            }
+            Map<String, Integer> name2Entry = new HashMap<>(count * 2);
+            int[] offsets = new int[count];
+            int[] lengths = new int[count];
+            for (int entry = 0; entry < count; entry++) {
+                String name = readString(header, header.getShort() & 0xFFFF);
+                offsets[entry] = header.getInt();
+                lengths[entry] = header.getInt();
+                if (offsets[entry] < 0 || lengths[entry] < 0 || (long) offsets[entry] + lengths[entry] > mapped.limit()) {
+                    logger.info("shared archive {} is broken at {}", path, name);
+                    return null;
+                }
+                name2Entry.put(name, entry);
+            }
+            logger.debug("{} mapped, {} classes", path, count);
+            return new SharedArchive(path, mapped, systemPackages, name2Entry, offsets, lengths);
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            logger.info("shared archive {} is broken", path, e);
+            return null;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] readClass(String className) {
+        return parseClass(className, buffer -> {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        });
+    }
+
+    /**
+     * the class file is a slice of the mapped archive, it is never copied
+     * @param className like java/lang/Object.class
+     */
+    @Override
+    public <T> T parseClass(String className, Function<ByteBuffer, T> parser) {
+        Integer entry = name2Entry.get(className);
+        if (null == entry) {
+            return null;
+        }
+        logger.debug("class {} is in shared archive {}", className, path);
+        ByteBuffer slice = mapped.duplicate();
+        slice.limit(offsets[entry] + lengths[entry]).position(offsets[entry]);
+        return parser.apply(slice.slice());
+    }
+
+    @Override
+    public Set<String> getPackages() {
+        return packages;
+    }
+
+    /**
+     * @param className like java/lang/Object.class
+     * @return false if its package is not in boot or ext classpath when dumped
+     */
+    boolean mayBeSystemClass(String className) {
+        return null == systemPackages || systemPackages.contains(ClassContextIndex.packageOf(className));
+    }
+
+    /**
+     * @return how many classes in archive
+     */
+    int size() {
+        return offsets.length;
+    }
+
+    @Override
+    public String toString() {
+        return "SharedArchive{" +
+                "path=" + path +
+                ", classes=" + offsets.length +
+                '}';
+    }
+}
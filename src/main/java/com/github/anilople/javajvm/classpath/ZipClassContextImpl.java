@@ -7,9 +7,12 @@ import com.github.anilople.javajvm.utils.IOUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
+import java.util.stream.Collectors;
 
 /**
  * read class from a compressed file
@@ -21,6 +24,11 @@ class ZipClassContextImpl implements ClassContext {
 
     private ZipFile zipFile;
 
+    /**
+     * packages of ".class" entries, from central directory
+     */
+    private Set<String> packages = Collections.emptySet();
+
     private ZipClassContextImpl() {
     }
 
@@ -29,6 +37,11 @@ class ZipClassContextImpl implements ClassContext {
             String pathname = path.toAbsolutePath().toString();
             zipFile =
                     pathname.endsWith(".zip") || pathname.endsWith(".ZIP") ? new ZipFile(pathname) : new JarFile(pathname);
+            packages = zipFile.stream()
+                    .map(ZipEntry::getName)
+                    .filter(name -> name.endsWith(".class"))
+                    .map(ClassContextIndex::packageOf)
+                    .collect(Collectors.toSet());
         } catch (IOException e) {
             logger.error("{} cannot convert to a zip file", path);
             e.printStackTrace();
@@ -55,6 +68,11 @@ class ZipClassContextImpl implements ClassContext {
         }
     }
 
+    @Override
+    public Set<String> getPackages() {
+        return packages;
+    }
+
     @Override
     public String toString() {
         return "ZipClassContextImpl{" +
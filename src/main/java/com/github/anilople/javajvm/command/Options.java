@@ -1,5 +1,7 @@
 package com.github.anilople.javajvm.command;
 
+import com.github.anilople.javajvm.engine.InstructionEngine;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +44,63 @@ public class Options {
      */
     private String Xjre;
 
+    /**
+     * value after
+     * -Xss
+     * i.e -Xss512k
+     *
+     * stack size of thread in bytes
+     */
+    private long Xss;
+
+    /**
+     * value after
+     * -Xengine
+     *
+     * name of execution engine, default is {@link InstructionEngine#NAME},
+     * superinstructions are fused by {@link com.github.anilople.javajvm.engine.SwitchEngine} only
+     * @see com.github.anilople.javajvm.engine.ExecutionEngines
+     */
+    private String Xengine;
+
+    /**
+     * value after
+     * -XdisableIntrinsics
+     * i.e -XdisableIntrinsics String.equals,Math.sqrt
+     *
+     * names of intrinsics interpreted instead, or all, default is empty
+     * @see com.github.anilople.javajvm.natives.Intrinsics
+     */
+    private String XdisableIntrinsics;
+
+    /**
+     * value after
+     * -Xstdio
+     *
+     * buffering of standard output, line or full, default is line
+     * @see com.github.anilople.javajvm.natives.Stdio
+     */
+    private String Xstdio;
+
+    /**
+     * value of
+     * -Xshare:off
+     * -Xshare:auto
+     * -Xshare:dump
+     *
+     * use shared archive of boot and ext classes or not, or dump it at exit, default is off
+     * @see com.github.anilople.javajvm.classpath.Classpath#mapSharedArchive(java.nio.file.Path)
+     */
+    private String Xshare;
+
+    /**
+     * value after
+     * -XsharedArchiveFile
+     *
+     * file of shared archive, default is javajvm.jsa
+     */
+    private String XsharedArchiveFile;
+
     /**
      * parse command line
      *
@@ -73,8 +132,30 @@ public class Options {
                     options.Xjre = args[newStart + 1];
                     newStart += 2;
                     break;
+                case "-Xengine":
+                    options.Xengine = args[newStart + 1];
+                    newStart += 2;
+                    break;
+                case "-XdisableIntrinsics":
+                    options.XdisableIntrinsics = args[newStart + 1];
+                    newStart += 2;
+                    break;
+                case "-Xstdio":
+                    options.Xstdio = args[newStart + 1];
+                    newStart += 2;
+                    break;
+                case "-XsharedArchiveFile":
+                    options.XsharedArchiveFile = args[newStart + 1];
+                    newStart += 2;
+                    break;
                 default:
-                    logger.warn("[{}] cannot be recognized", nowArg);
+                    if(nowArg.startsWith("-Xss")) {
+                        options.Xss = parseSize(nowArg.substring("-Xss".length()));
+                    } else if(nowArg.startsWith("-Xshare:")) {
+                        options.Xshare = nowArg.substring("-Xshare:".length());
+                    } else {
+                        logger.warn("[{}] cannot be recognized", nowArg);
+                    }
                     newStart += 1;
             }
             // update arg
@@ -86,10 +167,54 @@ public class Options {
         if(null == options.Xjre) {
             options.Xjre = System.getProperty("java.home");
         }
+        if(0 == options.Xss) {
+            options.Xss = JvmThread.DEFAULT_STACK_SIZE;
+        }
+        if(null == options.Xengine) {
+            options.Xengine = InstructionEngine.NAME;
+        }
+        if(null == options.XdisableIntrinsics) {
+            options.XdisableIntrinsics = "";
+        }
+        if(null == options.Xstdio) {
+            options.Xstdio = "line";
+        }
+        if(null == options.Xshare) {
+            options.Xshare = "off";
+        }
+        if(null == options.XsharedArchiveFile) {
+            options.XsharedArchiveFile = "javajvm.jsa";
+        }
 
         return newStart;
     }
 
+    /**
+     * @param size like 1024, 512k, 1m, 1g
+     * @return size in bytes
+     * @throws IllegalArgumentException
+     */
+    private static long parseSize(String size) {
+        if(size.isEmpty()) {
+            throw new IllegalArgumentException("size is empty");
+        }
+        final long unit;
+        switch (Character.toLowerCase(size.charAt(size.length() - 1))) {
+            case 'k':
+                unit = 1024L;
+                break;
+            case 'm':
+                unit = 1024L * 1024;
+                break;
+            case 'g':
+                unit = 1024L * 1024 * 1024;
+                break;
+            default:
+                return Long.parseLong(size);
+        }
+        return Long.parseLong(size.substring(0, size.length() - 1)) * unit;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -98,12 +223,18 @@ public class Options {
         return isVersionFlag() == options.isVersionFlag() &&
                 isHelpFlag() == options.isHelpFlag() &&
                 getClasspath().equals(options.getClasspath()) &&
-                getXjre().equals(options.getXjre());
+                getXjre().equals(options.getXjre()) &&
+                getXss() == options.getXss() &&
+                getXengine().equals(options.getXengine()) &&
+                getXdisableIntrinsics().equals(options.getXdisableIntrinsics()) &&
+                getXstdio().equals(options.getXstdio()) &&
+                getXshare().equals(options.getXshare()) &&
+                getXsharedArchiveFile().equals(options.getXsharedArchiveFile());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(isVersionFlag(), isHelpFlag(), getClasspath(), getXjre());
+        return Objects.hash(isVersionFlag(), isHelpFlag(), getClasspath(), getXjre(), getXss(), getXengine(), getXdisableIntrinsics(), getXstdio(), getXshare(), getXsharedArchiveFile());
     }
 
     public boolean isVersionFlag() {
@@ -121,4 +252,28 @@ public class Options {
     public String getXjre() {
         return Xjre;
     }
+
+    public long getXss() {
+        return Xss;
+    }
+
+    public String getXengine() {
+        return Xengine;
+    }
+
+    public String getXdisableIntrinsics() {
+        return XdisableIntrinsics;
+    }
+
+    public String getXstdio() {
+        return Xstdio;
+    }
+
+    public String getXshare() {
+        return Xshare;
+    }
+
+    public String getXsharedArchiveFile() {
+        return XsharedArchiveFile;
+    }
 }
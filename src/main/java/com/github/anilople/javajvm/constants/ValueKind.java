@@ -0,0 +1,67 @@
+package com.github.anilople.javajvm.constants;
+
+/**
+ * kind of value in local variables and operand stack,
+ * boolean, byte, char and short are int.
+ * @see ComputationalType
+ */
+public enum ValueKind {
+
+    INT(1),
+
+    LONG(2),
+
+    FLOAT(1),
+
+    DOUBLE(2),
+
+    REFERENCE(1),
+
+    /**
+     * only for return descriptor
+     */
+    VOID(0),
+
+    ;
+
+    /**
+     * how many slots the value occupies
+     */
+    private final int size;
+
+    ValueKind(int size) {
+        this.size = size;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @param descriptor FieldType or VoidDescriptor
+     * @return kind of the value described
+     */
+    public static ValueKind of(String descriptor) {
+        switch (descriptor.charAt(0)) {
+            case 'Z':
+            case 'B':
+            case 'C':
+            case 'S':
+            case 'I':
+                return INT;
+            case 'J':
+                return LONG;
+            case 'F':
+                return FLOAT;
+            case 'D':
+                return DOUBLE;
+            case 'L':
+            case '[':
+                return REFERENCE;
+            case 'V':
+                return VOID;
+            default:
+                throw new IllegalArgumentException("What descriptor is " + descriptor);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.instructions.Instruction;
+
+import static com.github.anilople.javajvm.engine.Opcodes.*;
+
+/**
+ * code of a method decoded for {@link SwitchEngine}.
+ *
+ * All arrays are indexed by pc, only the start of an instruction has value.
+ * Operands are resolved to int when decoding,
+ * i.e the branch offset of goto becomes the absolute target pc,
+ * so the engine never reads the bytecode again.
+ *
+ * Frequent sequences are fused to superinstructions in {@link #fusedOpcodes},
+ * only the first pc of the sequence is replaced,
+ * so a branch into the middle of a sequence still executes the rest one by one.
+ * The instruction engine does not use it, every instruction there is an object
+ * seen by {@link ExecutionListener}, so the sequences are never fused.
+ */
+public class DecodedCode {
+
+    /**
+     * opcode, short forms are replaced by their general form
+     */
+    final int[] opcodes;
+
+    /**
+     * same as opcodes, except the superinstructions
+     */
+    final int[] fusedOpcodes;
+
+    /**
+     * local variable index, constant value or branch target
+     */
+    final int[] operands1;
+
+    /**
+     * const of iinc
+     */
+    final int[] operands2;
+
+    /**
+     * pc of the instruction following
+     */
+    final int[] nextPcs;
+
+    /**
+     * operands of superinstruction,
+     * the first operand is the one of the first instruction in {@link #operands1}
+     */
+    final int[] fusedOperands2;
+
+    final int[] fusedOperands3;
+
+    /**
+     * pc of the instruction following the fused sequence
+     */
+    final int[] fusedNextPcs;
+
+    /**
+     * the opcodes not executed by engine itself fall back to them
+     */
+    final Instruction[] instructions;
+
+    private DecodedCode(int length) {
+        this.opcodes = new int[length];
+        this.operands1 = new int[length];
+        this.operands2 = new int[length];
+        this.nextPcs = new int[length];
+        this.fusedOpcodes = new int[length];
+        this.fusedOperands2 = new int[length];
+        this.fusedOperands3 = new int[length];
+        this.fusedNextPcs = new int[length];
+        this.instructions = new Instruction[length];
+    }
+
+    /**
+     * decode the code of method
+     * @param jvmMethod must not be abstract or native
+     * @return code decoded
+     */
+    public static DecodedCode decode(JvmMethod jvmMethod) {
+        byte[] code = jvmMethod.getCode();
+        DecodedCode decodedCode = new DecodedCode(code.length);
+        for (int pc = 0; pc < code.length; ) {
+            Instruction instruction = jvmMethod.getInstruction(pc);
+            decodedCode.instructions[pc] = instruction;
+            decodedCode.nextPcs[pc] = pc + instruction.size();
+            decodedCode.decode(code, pc);
+            pc = decodedCode.nextPcs[pc];
+        }
+        decodedCode.fuse();
+        return decodedCode;
+    }
+
+    /**
+     * @param pc may be the end of code
+     * @return opcode, or -1 if no instruction at pc
+     */
+    private int opcodeAt(int pc) {
+        return pc < opcodes.length ? opcodes[pc] : -1;
+    }
+
+    private void fuse() {
+        System.arraycopy(opcodes, 0, fusedOpcodes, 0, opcodes.length);
+        for (int pc = 0; pc < opcodes.length; pc = nextPcs[pc]) {
+            final int pc1 = nextPcs[pc];
+            final int pc2 = pc1 < opcodes.length ? nextPcs[pc1] : pc1;
+            final int pc3 = pc2 < opcodes.length ? nextPcs[pc2] : pc2;
+            final int opcode1 = opcodeAt(pc1);
+            final int opcode2 = opcodeAt(pc2);
+            switch (opcodes[pc]) {
+                case ILOAD:
+                    if (IINC == opcode1 && GOTO == opcode2) {
+                        // i++ in a branch of ?:, the old value is kept on stack
+                        fusedOpcodes[pc] = ILOAD_IINC_GOTO;
+                        fusedOperands3[pc] = operands1[pc2];
+                        break;
+                    }
+                    if (ILOAD != opcode1) {
+                        break;
+                    }
+                    if (IADD == opcode2 && ISTORE == opcodeAt(pc3)) {
+                        // c = a + b
+                        fusedOpcodes[pc] = ILOAD_ILOAD_IADD_ISTORE;
+                        fusedOperands2[pc] = operands1[pc1];
+                        fusedOperands3[pc] = operands1[pc3];
+                        fusedNextPcs[pc] = nextPcs[pc3];
+                    } else if (opcode2 >= IF_ICMPEQ && opcode2 <= IF_ICMPLE) {
+                        // loop condition
+                        fusedOpcodes[pc] = ILOAD_ILOAD_IF_ICMPEQ + (opcode2 - IF_ICMPEQ);
+                        fusedOperands2[pc] = operands1[pc1];
+                        fusedOperands3[pc] = operands1[pc2];
+                        fusedNextPcs[pc] = nextPcs[pc2];
+                    }
+                    break;
+                case ALOAD:
+                    if (GETFIELD == opcode1) {
+                        // this.field
+                        fusedOpcodes[pc] = ALOAD_GETFIELD;
+                        fusedNextPcs[pc] = pc1;
+                    } else if (ILOAD == opcode1 && IALOAD == opcode2) {
+                        // array[index]
+                        fusedOpcodes[pc] = ALOAD_ILOAD_IALOAD;
+                        fusedOperands2[pc] = operands1[pc1];
+                        fusedNextPcs[pc] = nextPcs[pc2];
+                    }
+                    break;
+                case IINC:
+                    if (GOTO == opcode1) {
+                        // loop tail
+                        fusedOpcodes[pc] = IINC_GOTO;
+                        fusedOperands3[pc] = operands1[pc1];
+                    }
+                    break;
+                default:
+            }
+        }
+    }
+
+    private void decode(byte[] code, int pc) {
+        int opcode = code[pc] & 0xff;
+        if (opcode >= ICONST_M1 && opcode <= ICONST_5) {
+            // iconst_<i>, value is opcode - iconst_0
+            opcodes[pc] = BIPUSH;
+            operands1[pc] = opcode - ICONST_M1 - 1;
+        } else if (opcode >= LCONST_0 && opcode <= LCONST_1) {
+            opcodes[pc] = LCONST_0;
+            operands1[pc] = opcode - LCONST_0;
+        } else if (opcode >= FCONST_0 && opcode <= FCONST_2) {
+            opcodes[pc] = FCONST_0;
+            operands1[pc] = opcode - FCONST_0;
+        } else if (opcode >= DCONST_0 && opcode <= DCONST_1) {
+            opcodes[pc] = DCONST_0;
+            operands1[pc] = opcode - DCONST_0;
+        } else if (opcode >= ILOAD_0 && opcode <= ALOAD_3) {
+            // <t>load_<n>, 4 opcodes for each type
+            opcodes[pc] = ILOAD + (opcode - ILOAD_0) / 4;
+            operands1[pc] = (opcode - ILOAD_0) % 4;
+        } else if (opcode >= ISTORE_0 && opcode <= ASTORE_3) {
+            // <t>store_<n>, 4 opcodes for each type
+            opcodes[pc] = ISTORE + (opcode - ISTORE_0) / 4;
+            operands1[pc] = (opcode - ISTORE_0) % 4;
+        } else {
+            opcodes[pc] = opcode;
+            switch (opcode) {
+                case BIPUSH:
+                    operands1[pc] = code[pc + 1];
+                    break;
+                case SIPUSH:
+                    operands1[pc] = (short) ((code[pc + 1] << 8) | (code[pc + 2] & 0xff));
+                    break;
+                case ILOAD:
+                case LLOAD:
+                case FLOAD:
+                case DLOAD:
+                case ALOAD:
+                case ISTORE:
+                case LSTORE:
+                case FSTORE:
+                case DSTORE:
+                case ASTORE:
+                    operands1[pc] = code[pc + 1] & 0xff;
+                    break;
+                case IINC:
+                    operands1[pc] = code[pc + 1] & 0xff;
+                    operands2[pc] = code[pc + 2];
+                    break;
+                case IFEQ:
+                case IFNE:
+                case IFLT:
+                case IFGE:
+                case IFGT:
+                case IFLE:
+                case IF_ICMPEQ:
+                case IF_ICMPNE:
+                case IF_ICMPLT:
+                case IF_ICMPGE:
+                case IF_ICMPGT:
+                case IF_ICMPLE:
+                case IF_ACMPEQ:
+                case IF_ACMPNE:
+                case GOTO:
+                case IFNULL:
+                case IFNONNULL:
+                    // signed 16-bit offset from the opcode
+                    operands1[pc] = pc + (short) ((code[pc + 1] << 8) | (code[pc + 2] & 0xff));
+                    break;
+                default:
+                    // no operand, or executed by instruction
+            }
+        }
+    }
+
+    public int length() {
+        return opcodes.length;
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+
+/**
+ * execute the frames in the java virtual machine stack of a thread
+ * @see ExecutionEngines
+ */
+public interface ExecutionEngine {
+
+    /**
+     * execute until there is no frame in the thread
+     * @param jvmThread
+     */
+    void run(JvmThread jvmThread);
+
+    /**
+     * execute only one instruction of current frame
+     * @param jvmThread must exist frame
+     */
+    void step(JvmThread jvmThread);
+
+}
@@ -0,0 +1,58 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+
+/**
+ * engine used by all threads,
+ * choose it by option -Xengine
+ */
+public class ExecutionEngines {
+
+    private static final ExecutionEngine INSTRUCTION_ENGINE = new InstructionEngine();
+
+    private static final ExecutionEngine SWITCH_ENGINE = new SwitchEngine();
+
+    private static volatile ExecutionEngine current = INSTRUCTION_ENGINE;
+
+    private ExecutionEngines() {
+
+    }
+
+    /**
+     * @param name {@link InstructionEngine#NAME} or {@link SwitchEngine#NAME}
+     * @return the engine
+     * @throws IllegalArgumentException if name is unknown
+     */
+    public static ExecutionEngine getEngine(String name) {
+        switch (name) {
+            case InstructionEngine.NAME:
+                return INSTRUCTION_ENGINE;
+            case SwitchEngine.NAME:
+                return SWITCH_ENGINE;
+            default:
+                throw new IllegalArgumentException("unknown engine " + name);
+        }
+    }
+
+    public static ExecutionEngine current() {
+        return current;
+    }
+
+    public static void use(String name) {
+        current = getEngine(name);
+    }
+
+    /**
+     * run the thread by current engine,
+     * listeners are checked only once here
+     * @param jvmThread
+     */
+    public static void run(JvmThread jvmThread) {
+        ExecutionListener[] listeners = ExecutionListeners.getListeners();
+        if (0 == listeners.length) {
+            current.run(jvmThread);
+        } else {
+            new ListenedEngine(current, listeners).run(jvmThread);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+
+/**
+ * listen the execution of interpreter.
+ * in jvms8, 2.11 Instruction Set Summary,
+ * the inner loop of interpreter with listeners is
+ *      do {
+ *          [before fetch]
+ *          atomically calculate pc and fetch opcode at pc;
+ *          if (operands) fetch operands;
+ *          [after fetch]
+ *          [before execute]
+ *          execute the action for the opcode;
+ *          [after execute]
+ *      } while (there is more to do);
+ *
+ * Native and hack methods don't have frame,
+ * so there is no method enter and exit for them.
+ *
+ * All methods do nothing by default.
+ * @see ExecutionListeners
+ */
+public interface ExecutionListener {
+
+    /**
+     * @param jvmThread current frame will be fetched
+     */
+    default void beforeFetch(JvmThread jvmThread) {
+
+    }
+
+    default void afterFetch(JvmThread jvmThread, Instruction instruction) {
+
+    }
+
+    default void beforeExecute(JvmThread jvmThread, Instruction instruction) {
+
+    }
+
+    /**
+     * @param jvmThread may exist no frame
+     * @param instruction executed
+     */
+    default void afterExecute(JvmThread jvmThread, Instruction instruction) {
+
+    }
+
+    /**
+     * @param frame new frame of method invoked
+     */
+    default void methodEnter(Frame frame) {
+
+    }
+
+    /**
+     * @param frame frame popped, by return or exception
+     */
+    default void methodExit(Frame frame) {
+
+    }
+
+    /**
+     * athrow executed
+     * @param frame the frame throws exception
+     * @param exception object reference of exception
+     */
+    default void exceptionThrown(Frame frame, Reference exception) {
+
+    }
+
+}
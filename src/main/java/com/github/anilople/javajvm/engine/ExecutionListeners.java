@@ -0,0 +1,56 @@
+package com.github.anilople.javajvm.engine;
+
+import java.util.Arrays;
+
+/**
+ * listeners of all threads.
+ *
+ * If no listener added, the engine runs without any instrumentation.
+ * Listeners should be added before a thread start,
+ * a running thread doesn't see the change.
+ */
+public class ExecutionListeners {
+
+    private static final ExecutionListener[] EMPTY = new ExecutionListener[0];
+
+    /**
+     * copy on write
+     */
+    private static volatile ExecutionListener[] listeners = EMPTY;
+
+    private ExecutionListeners() {
+
+    }
+
+    public static synchronized void add(ExecutionListener listener) {
+        if (null == listener) {
+            throw new NullPointerException("listener is null");
+        }
+        ExecutionListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listener;
+        listeners = newListeners;
+    }
+
+    public static synchronized void remove(ExecutionListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ExecutionListener[] newListeners = new ExecutionListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                listeners = newListeners;
+                return;
+            }
+        }
+    }
+
+    public static synchronized void clear() {
+        listeners = EMPTY;
+    }
+
+    /**
+     * @return listeners, must not be changed
+     */
+    static ExecutionListener[] getListeners() {
+        return listeners;
+    }
+}
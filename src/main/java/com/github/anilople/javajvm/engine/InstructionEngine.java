@@ -0,0 +1,30 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+
+/**
+ * the reference engine,
+ * every instruction is an object which fetch and execute itself.
+ *
+ * Slow but easy to read and debug.
+ */
+public class InstructionEngine implements ExecutionEngine {
+
+    public static final String NAME = "instruction";
+
+    @Override
+    public void run(JvmThread jvmThread) {
+        while (jvmThread.existFrame()) {
+            step(jvmThread);
+        }
+    }
+
+    @Override
+    public void step(JvmThread jvmThread) {
+        // get next instruction from frame (there is a pc register in frame)
+        Instruction instruction = jvmThread.currentFrame().readNextInstruction();
+        // change nextPc in top frame
+        instruction.execute(jvmThread.currentFrame());
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.instructions.references.ATHROW;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * run another engine one instruction a step,
+ * and trigger the listeners around every step.
+ *
+ * Method enter and exit are found by comparing
+ * the frames before and after a step.
+ */
+class ListenedEngine {
+
+    private final ExecutionEngine executionEngine;
+
+    private final ExecutionListener[] listeners;
+
+    /**
+     * frames known by listeners
+     */
+    private final List<Frame> frames = new ArrayList<>();
+
+    ListenedEngine(ExecutionEngine executionEngine, ExecutionListener[] listeners) {
+        this.executionEngine = executionEngine;
+        this.listeners = listeners;
+    }
+
+    void run(JvmThread jvmThread) {
+        syncFrames(jvmThread);
+        while (jvmThread.existFrame()) {
+            for (ExecutionListener listener : listeners) {
+                listener.beforeFetch(jvmThread);
+            }
+            final Frame frame = jvmThread.currentFrame();
+            final Instruction instruction = frame.readNextInstruction();
+            for (ExecutionListener listener : listeners) {
+                listener.afterFetch(jvmThread, instruction);
+            }
+            for (ExecutionListener listener : listeners) {
+                listener.beforeExecute(jvmThread, instruction);
+            }
+            if (instruction instanceof ATHROW) {
+                for (ExecutionListener listener : listeners) {
+                    listener.exceptionThrown(frame, frame.getOperandStacks().peekReference(0));
+                }
+            }
+
+            executionEngine.step(jvmThread);
+
+            for (ExecutionListener listener : listeners) {
+                listener.afterExecute(jvmThread, instruction);
+            }
+            syncFrames(jvmThread);
+        }
+    }
+
+    /**
+     * trigger method exit for frames popped,
+     * then method enter for frames pushed
+     */
+    private void syncFrames(JvmThread jvmThread) {
+        final int depth = jvmThread.getStackDepth();
+        while (!frames.isEmpty()) {
+            final int top = frames.size() - 1;
+            if (top < depth && frames.get(top) == jvmThread.getFrame(top)) {
+                break;
+            }
+            final Frame frame = frames.remove(top);
+            for (ExecutionListener listener : listeners) {
+                listener.methodExit(frame);
+            }
+        }
+        while (frames.size() < depth) {
+            final Frame frame = jvmThread.getFrame(frames.size());
+            frames.add(frame);
+            for (ExecutionListener listener : listeners) {
+                listener.methodEnter(frame);
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.github.anilople.javajvm.engine;
+
+/**
+ * opcodes the switch engine executes by itself,
+ * values come from jvms8 chapter 7 Opcode Mnemonics by Opcode.
+ *
+ * The short forms (i.e iload_0, istore_1, iconst_2) are decoded
+ * to their general form with the index or value as operand,
+ * so they don't appear here.
+ */
+final class Opcodes {
+
+    private Opcodes() {
+
+    }
+
+    // constants
+    static final int NOP = 0x00;
+    static final int ACONST_NULL = 0x01;
+    static final int ICONST_M1 = 0x02;
+    static final int ICONST_5 = 0x08;
+    static final int LCONST_0 = 0x09;
+    static final int LCONST_1 = 0x0a;
+    static final int FCONST_0 = 0x0b;
+    static final int FCONST_2 = 0x0d;
+    static final int DCONST_0 = 0x0e;
+    static final int DCONST_1 = 0x0f;
+    static final int BIPUSH = 0x10;
+    static final int SIPUSH = 0x11;
+
+    // loads
+    static final int ILOAD = 0x15;
+    static final int LLOAD = 0x16;
+    static final int FLOAD = 0x17;
+    static final int DLOAD = 0x18;
+    static final int ALOAD = 0x19;
+    static final int ILOAD_0 = 0x1a;
+    static final int ALOAD_3 = 0x2d;
+    static final int IALOAD = 0x2e;
+    static final int AALOAD = 0x32;
+
+    // stores
+    static final int ISTORE = 0x36;
+    static final int LSTORE = 0x37;
+    static final int FSTORE = 0x38;
+    static final int DSTORE = 0x39;
+    static final int ASTORE = 0x3a;
+    static final int ISTORE_0 = 0x3b;
+    static final int ASTORE_3 = 0x4e;
+    static final int IASTORE = 0x4f;
+
+    // stack
+    static final int POP = 0x57;
+    static final int POP2 = 0x58;
+    static final int DUP = 0x59;
+    static final int DUP_X1 = 0x5a;
+    static final int DUP_X2 = 0x5b;
+    static final int DUP2 = 0x5c;
+    static final int DUP2_X1 = 0x5d;
+    static final int DUP2_X2 = 0x5e;
+    static final int SWAP = 0x5f;
+
+    // math
+    static final int IADD = 0x60;
+    static final int LADD = 0x61;
+    static final int FADD = 0x62;
+    static final int DADD = 0x63;
+    static final int ISUB = 0x64;
+    static final int LSUB = 0x65;
+    static final int FSUB = 0x66;
+    static final int DSUB = 0x67;
+    static final int IMUL = 0x68;
+    static final int LMUL = 0x69;
+    static final int FMUL = 0x6a;
+    static final int DMUL = 0x6b;
+    static final int IDIV = 0x6c;
+    static final int LDIV = 0x6d;
+    static final int FDIV = 0x6e;
+    static final int DDIV = 0x6f;
+    static final int IREM = 0x70;
+    static final int LREM = 0x71;
+    static final int FREM = 0x72;
+    static final int DREM = 0x73;
+    static final int INEG = 0x74;
+    static final int LNEG = 0x75;
+    static final int FNEG = 0x76;
+    static final int DNEG = 0x77;
+    static final int ISHL = 0x78;
+    static final int LSHL = 0x79;
+    static final int ISHR = 0x7a;
+    static final int LSHR = 0x7b;
+    static final int IUSHR = 0x7c;
+    static final int LUSHR = 0x7d;
+    static final int IAND = 0x7e;
+    static final int LAND = 0x7f;
+    static final int IOR = 0x80;
+    static final int LOR = 0x81;
+    static final int IXOR = 0x82;
+    static final int LXOR = 0x83;
+    static final int IINC = 0x84;
+
+    // conversions
+    static final int I2L = 0x85;
+    static final int I2F = 0x86;
+    static final int I2D = 0x87;
+    static final int L2I = 0x88;
+    static final int L2F = 0x89;
+    static final int L2D = 0x8a;
+    static final int F2I = 0x8b;
+    static final int F2L = 0x8c;
+    static final int F2D = 0x8d;
+    static final int D2I = 0x8e;
+    static final int D2L = 0x8f;
+    static final int D2F = 0x90;
+    static final int I2B = 0x91;
+    static final int I2C = 0x92;
+    static final int I2S = 0x93;
+
+    // comparisons
+    static final int LCMP = 0x94;
+    static final int FCMPL = 0x95;
+    static final int FCMPG = 0x96;
+    static final int DCMPL = 0x97;
+    static final int DCMPG = 0x98;
+    static final int IFEQ = 0x99;
+    static final int IFNE = 0x9a;
+    static final int IFLT = 0x9b;
+    static final int IFGE = 0x9c;
+    static final int IFGT = 0x9d;
+    static final int IFLE = 0x9e;
+    static final int IF_ICMPEQ = 0x9f;
+    static final int IF_ICMPNE = 0xa0;
+    static final int IF_ICMPLT = 0xa1;
+    static final int IF_ICMPGE = 0xa2;
+    static final int IF_ICMPGT = 0xa3;
+    static final int IF_ICMPLE = 0xa4;
+    static final int IF_ACMPEQ = 0xa5;
+    static final int IF_ACMPNE = 0xa6;
+
+    // control
+    static final int GOTO = 0xa7;
+
+    // references
+    static final int GETFIELD = 0xb4;
+
+    // extended
+    static final int IFNULL = 0xc6;
+    static final int IFNONNULL = 0xc7;
+
+    // superinstructions, take the opcodes unused by jvms8 (0xcb - 0xfd)
+    static final int ILOAD_ILOAD_IADD_ISTORE = 0xcb;
+    static final int ALOAD_GETFIELD = 0xcc;
+    static final int ILOAD_ILOAD_IF_ICMPEQ = 0xcd;
+    static final int ILOAD_ILOAD_IF_ICMPNE = 0xce;
+    static final int ILOAD_ILOAD_IF_ICMPLT = 0xcf;
+    static final int ILOAD_ILOAD_IF_ICMPGE = 0xd0;
+    static final int ILOAD_ILOAD_IF_ICMPGT = 0xd1;
+    static final int ILOAD_ILOAD_IF_ICMPLE = 0xd2;
+    static final int IINC_GOTO = 0xd3;
+    static final int ALOAD_ILOAD_IALOAD = 0xd4;
+    static final int ILOAD_IINC_GOTO = 0xd5;
+
+    static final int FIRST_SUPERINSTRUCTION = ILOAD_ILOAD_IADD_ISTORE;
+    static final int LAST_SUPERINSTRUCTION = ILOAD_IINC_GOTO;
+
+}
@@ -0,0 +1,79 @@
+package com.github.anilople.javajvm.engine;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.github.anilople.javajvm.engine.Opcodes.*;
+
+/**
+ * a superinstruction is a sequence of instructions
+ * executed by {@link SwitchEngine} in one dispatch.
+ *
+ * Count how many times every superinstruction executed,
+ * to know the coverage on a workload.
+ * Counting is off by default, the engine reads the flag once when it starts running,
+ * so the dispatch pays nothing for it.
+ * The counters are not synchronized, under many threads they are approximate.
+ */
+public class Superinstructions {
+
+    private static final String[] NAMES = {
+            "iload_iload_iadd_istore",
+            "aload_getfield",
+            "iload_iload_if_icmpeq",
+            "iload_iload_if_icmpne",
+            "iload_iload_if_icmplt",
+            "iload_iload_if_icmpge",
+            "iload_iload_if_icmpgt",
+            "iload_iload_if_icmple",
+            "iinc_goto",
+            "aload_iload_iaload",
+            "iload_iinc_goto",
+    };
+
+    /**
+     * indexed by opcode - {@link Opcodes#FIRST_SUPERINSTRUCTION}
+     */
+    private static final long[] hits = new long[LAST_SUPERINSTRUCTION - FIRST_SUPERINSTRUCTION + 1];
+
+    private static volatile boolean counting;
+
+    private Superinstructions() {
+
+    }
+
+    /**
+     * take effect on the threads run by engine after
+     */
+    public static void setCounting(boolean counting) {
+        Superinstructions.counting = counting;
+    }
+
+    static boolean isCounting() {
+        return counting;
+    }
+
+    /**
+     * @param opcode of superinstruction executed
+     */
+    static void hit(int opcode) {
+        hits[opcode - FIRST_SUPERINSTRUCTION]++;
+    }
+
+    /**
+     * @return name of superinstruction to the times it executed
+     */
+    public static Map<String, Long> getHits() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            result.put(NAMES[i], hits[i]);
+        }
+        return result;
+    }
+
+    public static void resetHits() {
+        for (int i = 0; i < hits.length; i++) {
+            hits[i] = 0;
+        }
+    }
+}
@@ -0,0 +1,722 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.runtimedataarea.reference.IntArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectArrayReference;
+
+import static com.github.anilople.javajvm.engine.Opcodes.*;
+
+/**
+ * execute the {@link DecodedCode} of methods
+ * by a switch on int opcodes.
+ *
+ * The pc is kept in a local variable and written back to frame
+ * only when an instruction not executed by engine itself
+ * (method invocation, object creation, ...) falls back to
+ * {@link com.github.anilople.javajvm.instructions.Instruction#execute(Frame)}.
+ */
+public class SwitchEngine implements ExecutionEngine {
+
+    public static final String NAME = "switch";
+
+    @Override
+    public void run(JvmThread jvmThread) {
+        execute(jvmThread, false);
+    }
+
+    @Override
+    public void step(JvmThread jvmThread) {
+        execute(jvmThread, true);
+    }
+
+    private static void execute(final JvmThread jvmThread, final boolean singleStep) {
+        final boolean counting = Superinstructions.isCounting();
+        frames:
+        while (jvmThread.existFrame()) {
+            final Frame frame = jvmThread.currentFrame();
+            final DecodedCode decodedCode = frame.getJvmMethod().getDecodedCode();
+            // one instruction a step, superinstructions cannot be used
+            final int[] opcodes = singleStep ? decodedCode.opcodes : decodedCode.fusedOpcodes;
+            final int[] operands1 = decodedCode.operands1;
+            final int[] operands2 = decodedCode.operands2;
+            final int[] nextPcs = decodedCode.nextPcs;
+            final int[] fusedOperands2 = decodedCode.fusedOperands2;
+            final int[] fusedOperands3 = decodedCode.fusedOperands3;
+            final int[] fusedNextPcs = decodedCode.fusedNextPcs;
+            final LocalVariables localVariables = frame.getLocalVariables();
+            final OperandStacks operandStacks = frame.getOperandStacks();
+            int pc = frame.getNextPc();
+            while (true) {
+                switch (opcodes[pc]) {
+                    case NOP:
+                        pc = nextPcs[pc];
+                        break;
+                    case ACONST_NULL:
+                        operandStacks.pushReference(Reference.NULL);
+                        pc = nextPcs[pc];
+                        break;
+                    case LCONST_0:
+                        operandStacks.pushLongValue(operands1[pc]);
+                        pc = nextPcs[pc];
+                        break;
+                    case FCONST_0:
+                        operandStacks.pushFloatValue(operands1[pc]);
+                        pc = nextPcs[pc];
+                        break;
+                    case DCONST_0:
+                        operandStacks.pushDoubleValue(operands1[pc]);
+                        pc = nextPcs[pc];
+                        break;
+                    case BIPUSH:
+                    case SIPUSH:
+                        operandStacks.pushIntValue(operands1[pc]);
+                        pc = nextPcs[pc];
+                        break;
+                    case ILOAD:
+                        operandStacks.pushIntValue(localVariables.getIntValue(operands1[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    case LLOAD:
+                        operandStacks.pushLongValue(localVariables.getLongValue(operands1[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    case FLOAD:
+                        operandStacks.pushFloatValue(localVariables.getFloatValue(operands1[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    case DLOAD:
+                        operandStacks.pushDoubleValue(localVariables.getDoubleValue(operands1[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    case ALOAD:
+                        operandStacks.pushReference(localVariables.getReference(operands1[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    case IALOAD: {
+                        int index = operandStacks.popIntValue();
+                        Reference reference = operandStacks.popReference();
+                        Reference.assertIsNotNull(reference);
+                        IntArrayReference arrayReference = (IntArrayReference) reference;
+                        arrayReference.assertIndexIsNotOutOfBounds(index);
+                        operandStacks.pushIntValue(arrayReference.getIntValue(index));
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case AALOAD: {
+                        int index = operandStacks.popIntValue();
+                        Reference reference = operandStacks.popReference();
+                        Reference.assertIsNotNull(reference);
+                        ObjectArrayReference arrayReference = (ObjectArrayReference) reference;
+                        arrayReference.assertIndexIsNotOutOfBounds(index);
+                        operandStacks.pushReference(arrayReference.getReference(index));
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case ISTORE:
+                        localVariables.setIntValue(operands1[pc], operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case LSTORE:
+                        localVariables.setLongValue(operands1[pc], operandStacks.popLongValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case FSTORE:
+                        localVariables.setFloatValue(operands1[pc], operandStacks.popFloatValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case DSTORE:
+                        localVariables.setDoubleValue(operands1[pc], operandStacks.popDoubleValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case ASTORE:
+                        localVariables.setReference(operands1[pc], operandStacks.popReference());
+                        pc = nextPcs[pc];
+                        break;
+                    case IASTORE: {
+                        int value = operandStacks.popIntValue();
+                        int index = operandStacks.popIntValue();
+                        Reference reference = operandStacks.popReference();
+                        Reference.assertIsNotNull(reference);
+                        IntArrayReference arrayReference = (IntArrayReference) reference;
+                        arrayReference.assertIndexIsNotOutOfBounds(index);
+                        arrayReference.setIntValue(index, value);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case POP:
+                        operandStacks.popSlots(1);
+                        pc = nextPcs[pc];
+                        break;
+                    case POP2:
+                        operandStacks.popSlots(2);
+                        pc = nextPcs[pc];
+                        break;
+                    case DUP:
+                        operandStacks.dup(1, 0);
+                        pc = nextPcs[pc];
+                        break;
+                    case DUP_X1:
+                        operandStacks.dup(1, 1);
+                        pc = nextPcs[pc];
+                        break;
+                    case DUP_X2:
+                        operandStacks.dup(1, 2);
+                        pc = nextPcs[pc];
+                        break;
+                    case DUP2:
+                        operandStacks.dup(2, 0);
+                        pc = nextPcs[pc];
+                        break;
+                    case DUP2_X1:
+                        operandStacks.dup(2, 1);
+                        pc = nextPcs[pc];
+                        break;
+                    case DUP2_X2:
+                        operandStacks.dup(2, 2);
+                        pc = nextPcs[pc];
+                        break;
+                    case SWAP:
+                        operandStacks.swap();
+                        pc = nextPcs[pc];
+                        break;
+                    case IADD: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 + value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LADD: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 + value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case FADD: {
+                        float value2 = operandStacks.popFloatValue();
+                        float value1 = operandStacks.popFloatValue();
+                        operandStacks.pushFloatValue(value1 + value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case DADD: {
+                        double value2 = operandStacks.popDoubleValue();
+                        double value1 = operandStacks.popDoubleValue();
+                        operandStacks.pushDoubleValue(value1 + value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case ISUB: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 - value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LSUB: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 - value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case FSUB: {
+                        float value2 = operandStacks.popFloatValue();
+                        float value1 = operandStacks.popFloatValue();
+                        operandStacks.pushFloatValue(value1 - value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case DSUB: {
+                        double value2 = operandStacks.popDoubleValue();
+                        double value1 = operandStacks.popDoubleValue();
+                        operandStacks.pushDoubleValue(value1 - value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IMUL: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 * value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LMUL: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 * value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case FMUL: {
+                        float value2 = operandStacks.popFloatValue();
+                        float value1 = operandStacks.popFloatValue();
+                        operandStacks.pushFloatValue(value1 * value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case DMUL: {
+                        double value2 = operandStacks.popDoubleValue();
+                        double value1 = operandStacks.popDoubleValue();
+                        operandStacks.pushDoubleValue(value1 * value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IDIV: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 / value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LDIV: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 / value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case FDIV: {
+                        float value2 = operandStacks.popFloatValue();
+                        float value1 = operandStacks.popFloatValue();
+                        operandStacks.pushFloatValue(value1 / value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case DDIV: {
+                        double value2 = operandStacks.popDoubleValue();
+                        double value1 = operandStacks.popDoubleValue();
+                        operandStacks.pushDoubleValue(value1 / value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IREM: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 % value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LREM: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 % value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case FREM: {
+                        float value2 = operandStacks.popFloatValue();
+                        float value1 = operandStacks.popFloatValue();
+                        operandStacks.pushFloatValue(value1 % value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case DREM: {
+                        double value2 = operandStacks.popDoubleValue();
+                        double value1 = operandStacks.popDoubleValue();
+                        operandStacks.pushDoubleValue(value1 % value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case INEG:
+                        operandStacks.pushIntValue(-operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case LNEG:
+                        operandStacks.pushLongValue(-operandStacks.popLongValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case FNEG:
+                        operandStacks.pushFloatValue(-operandStacks.popFloatValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case DNEG:
+                        operandStacks.pushDoubleValue(-operandStacks.popDoubleValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case ISHL: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 << value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LSHL: {
+                        int value2 = operandStacks.popIntValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 << value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case ISHR: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 >> value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LSHR: {
+                        int value2 = operandStacks.popIntValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 >> value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IUSHR: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 >>> value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LUSHR: {
+                        int value2 = operandStacks.popIntValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 >>> value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IAND: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 & value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LAND: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 & value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IOR: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 | value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LOR: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 | value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IXOR: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        operandStacks.pushIntValue(value1 ^ value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case LXOR: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushLongValue(value1 ^ value2);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IINC: {
+                        int index = operands1[pc];
+                        localVariables.setIntValue(index, localVariables.getIntValue(index) + operands2[pc]);
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case I2L:
+                        operandStacks.pushLongValue(operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case I2F:
+                        operandStacks.pushFloatValue(operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case I2D:
+                        operandStacks.pushDoubleValue(operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case L2I:
+                        operandStacks.pushIntValue((int) operandStacks.popLongValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case L2F:
+                        operandStacks.pushFloatValue(operandStacks.popLongValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case L2D:
+                        operandStacks.pushDoubleValue(operandStacks.popLongValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case F2I:
+                        operandStacks.pushIntValue((int) operandStacks.popFloatValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case F2L:
+                        operandStacks.pushLongValue((long) operandStacks.popFloatValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case F2D:
+                        operandStacks.pushDoubleValue(operandStacks.popFloatValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case D2I:
+                        operandStacks.pushIntValue((int) operandStacks.popDoubleValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case D2L:
+                        operandStacks.pushLongValue((long) operandStacks.popDoubleValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case D2F:
+                        operandStacks.pushFloatValue((float) operandStacks.popDoubleValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case I2B:
+                        operandStacks.pushIntValue((byte) operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case I2C:
+                        operandStacks.pushIntValue((char) operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case I2S:
+                        operandStacks.pushIntValue((short) operandStacks.popIntValue());
+                        pc = nextPcs[pc];
+                        break;
+                    case LCMP: {
+                        long value2 = operandStacks.popLongValue();
+                        long value1 = operandStacks.popLongValue();
+                        operandStacks.pushIntValue(Long.compare(value1, value2));
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case FCMPL:
+                    case FCMPG: {
+                        float value2 = operandStacks.popFloatValue();
+                        float value1 = operandStacks.popFloatValue();
+                        operandStacks.pushIntValue(compare(value1, value2, FCMPG == opcodes[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case DCMPL:
+                    case DCMPG: {
+                        double value2 = operandStacks.popDoubleValue();
+                        double value1 = operandStacks.popDoubleValue();
+                        operandStacks.pushIntValue(compare(value1, value2, DCMPG == opcodes[pc]));
+                        pc = nextPcs[pc];
+                        break;
+                    }
+                    case IFEQ:
+                        pc = operandStacks.popIntValue() == 0 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IFNE:
+                        pc = operandStacks.popIntValue() != 0 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IFLT:
+                        pc = operandStacks.popIntValue() < 0 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IFGE:
+                        pc = operandStacks.popIntValue() >= 0 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IFGT:
+                        pc = operandStacks.popIntValue() > 0 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IFLE:
+                        pc = operandStacks.popIntValue() <= 0 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IF_ICMPEQ: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        pc = value1 == value2 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ICMPNE: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        pc = value1 != value2 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ICMPLT: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        pc = value1 < value2 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ICMPGE: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        pc = value1 >= value2 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ICMPGT: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        pc = value1 > value2 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ICMPLE: {
+                        int value2 = operandStacks.popIntValue();
+                        int value1 = operandStacks.popIntValue();
+                        pc = value1 <= value2 ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ACMPEQ: {
+                        Reference value2 = operandStacks.popReference();
+                        Reference value1 = operandStacks.popReference();
+                        pc = value1.equals(value2) ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case IF_ACMPNE: {
+                        Reference value2 = operandStacks.popReference();
+                        Reference value1 = operandStacks.popReference();
+                        pc = !value1.equals(value2) ? operands1[pc] : nextPcs[pc];
+                        break;
+                    }
+                    case GOTO:
+                        pc = operands1[pc];
+                        break;
+                    case IFNULL:
+                        pc = Reference.isNull(operandStacks.popReference()) ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case IFNONNULL:
+                        pc = !Reference.isNull(operandStacks.popReference()) ? operands1[pc] : nextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IADD_ISTORE:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IADD_ISTORE);
+                        }
+                        localVariables.setIntValue(
+                                fusedOperands3[pc],
+                                localVariables.getIntValue(operands1[pc]) + localVariables.getIntValue(fusedOperands2[pc])
+                        );
+                        pc = fusedNextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IF_ICMPEQ:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IF_ICMPEQ);
+                        }
+                        pc = localVariables.getIntValue(operands1[pc]) == localVariables.getIntValue(fusedOperands2[pc]) ?
+                                fusedOperands3[pc] : fusedNextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IF_ICMPNE:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IF_ICMPNE);
+                        }
+                        pc = localVariables.getIntValue(operands1[pc]) != localVariables.getIntValue(fusedOperands2[pc]) ?
+                                fusedOperands3[pc] : fusedNextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IF_ICMPLT:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IF_ICMPLT);
+                        }
+                        pc = localVariables.getIntValue(operands1[pc]) < localVariables.getIntValue(fusedOperands2[pc]) ?
+                                fusedOperands3[pc] : fusedNextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IF_ICMPGE:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IF_ICMPGE);
+                        }
+                        pc = localVariables.getIntValue(operands1[pc]) >= localVariables.getIntValue(fusedOperands2[pc]) ?
+                                fusedOperands3[pc] : fusedNextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IF_ICMPGT:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IF_ICMPGT);
+                        }
+                        pc = localVariables.getIntValue(operands1[pc]) > localVariables.getIntValue(fusedOperands2[pc]) ?
+                                fusedOperands3[pc] : fusedNextPcs[pc];
+                        break;
+                    case ILOAD_ILOAD_IF_ICMPLE:
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_ILOAD_IF_ICMPLE);
+                        }
+                        pc = localVariables.getIntValue(operands1[pc]) <= localVariables.getIntValue(fusedOperands2[pc]) ?
+                                fusedOperands3[pc] : fusedNextPcs[pc];
+                        break;
+                    case IINC_GOTO: {
+                        if (counting) {
+                            Superinstructions.hit(IINC_GOTO);
+                        }
+                        int index = operands1[pc];
+                        localVariables.setIntValue(index, localVariables.getIntValue(index) + operands2[pc]);
+                        pc = fusedOperands3[pc];
+                        break;
+                    }
+                    case ILOAD_IINC_GOTO: {
+                        if (counting) {
+                            Superinstructions.hit(ILOAD_IINC_GOTO);
+                        }
+                        operandStacks.pushIntValue(localVariables.getIntValue(operands1[pc]));
+                        // pc of iinc
+                        final int iincPc = nextPcs[pc];
+                        int index = operands1[iincPc];
+                        localVariables.setIntValue(index, localVariables.getIntValue(index) + operands2[iincPc]);
+                        pc = fusedOperands3[pc];
+                        break;
+                    }
+                    case ALOAD_ILOAD_IALOAD: {
+                        if (counting) {
+                            Superinstructions.hit(ALOAD_ILOAD_IALOAD);
+                        }
+                        Reference reference = localVariables.getReference(operands1[pc]);
+                        int index = localVariables.getIntValue(fusedOperands2[pc]);
+                        Reference.assertIsNotNull(reference);
+                        IntArrayReference arrayReference = (IntArrayReference) reference;
+                        arrayReference.assertIndexIsNotOutOfBounds(index);
+                        operandStacks.pushIntValue(arrayReference.getIntValue(index));
+                        pc = fusedNextPcs[pc];
+                        break;
+                    }
+                    case ALOAD_GETFIELD:
+                        if (counting) {
+                            Superinstructions.hit(ALOAD_GETFIELD);
+                        }
+                        operandStacks.pushReference(localVariables.getReference(operands1[pc]));
+                        // pc of getfield, it is executed as below
+                        pc = fusedNextPcs[pc];
+                        // fall through
+                    default:
+                        // invocation, field access, object creation, ...
+                        frame.setNextPc(pc);
+                        decodedCode.instructions[pc].execute(frame);
+                        if (!jvmThread.existFrame() || jvmThread.currentFrame() != frame) {
+                            // frame pushed or popped, nextPc has been saved by instruction
+                            if (singleStep) {
+                                return;
+                            }
+                            continue frames;
+                        }
+                        pc = frame.getNextPc();
+                }
+                if (singleStep) {
+                    frame.setNextPc(pc);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * fcmp<op> and dcmp<op>
+     * @param nanIsGreater true for fcmpg and dcmpg, false for fcmpl and dcmpl
+     * @return 1, 0 or -1
+     */
+    private static int compare(double value1, double value2, boolean nanIsGreater) {
+        if (value1 > value2) {
+            return 1;
+        } else if (value1 == value2) {
+            return 0;
+        } else if (value1 < value2) {
+            return -1;
+        } else {
+            // at least one is NaN
+            return nanIsGreater ? 1 : -1;
+        }
+    }
+}
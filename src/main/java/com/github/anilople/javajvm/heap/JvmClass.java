@@ -2,8 +2,16 @@ package com.github.anilople.javajvm.heap;
 
 import com.github.anilople.javajvm.classfile.ClassFile;
 import com.github.anilople.javajvm.constants.AccessFlags;
+import com.github.anilople.javajvm.constants.ValueKind;
 import com.github.anilople.javajvm.constants.SpecialMethods;
+import com.github.anilople.javajvm.heap.constant.JvmConstant;
+import com.github.anilople.javajvm.heap.constant.JvmConstantDouble;
+import com.github.anilople.javajvm.heap.constant.JvmConstantFloat;
+import com.github.anilople.javajvm.heap.constant.JvmConstantInteger;
+import com.github.anilople.javajvm.heap.constant.JvmConstantLong;
+import com.github.anilople.javajvm.heap.constant.JvmConstantString;
 import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.utils.ClassNameConverterUtils;
 import com.github.anilople.javajvm.utils.DescriptorUtils;
 import com.github.anilople.javajvm.utils.JvmClassUtils;
@@ -61,6 +69,40 @@ public class JvmClass {
      */
     private LocalVariables staticFieldsValue;
 
+    /**
+     * non static fields of ancestors and this class in order of offset,
+     * built when linking
+     */
+    private volatile JvmField[] instanceFields;
+
+    /**
+     * slots occupied by primitive fields in {@link #instanceFields}
+     */
+    private int instancePrimitiveSlots;
+
+    /**
+     * references of a new instance, all {@link Reference#NULL},
+     * one slot for each reference field in {@link #instanceFields}
+     */
+    private Reference[] instanceTemplate;
+
+    /**
+     * virtual method table, built when linking.
+     * Slots of super class come first, overridden in place,
+     * then new virtual methods of this class,
+     * then default methods of interfaces not implemented by any class.
+     *
+     * For interface, it is the virtual methods declared,
+     * i.e the layout of itable of this interface
+     */
+    private volatile JvmMethod[] vtable;
+
+    /**
+     * interface method tables,
+     * one for every interface implemented directly or indirectly
+     */
+    private volatile Itable[] itables = new Itable[0];
+
     /**
      * just new a instance, not initial it
      * @param jvmClassLoader
@@ -189,31 +231,347 @@ public class JvmClass {
         return JvmClassUtils.getMethod(this, name, descriptor);
     }
 
+    /**
+     * jvms8 4.7.2 The ConstantValue Attribute
+     * static fields with ConstantValue attribute are assigned when preparing,
+     * so reading them never depends on "<clinit>"
+     */
+    void initialConstantValues() {
+        for (JvmField jvmField : this.getJvmFields()) {
+            final int constantValueIndex = jvmField.getConstantValueIndex();
+            if (!jvmField.isStatic() || 0 == constantValueIndex) {
+                continue;
+            }
+            final JvmConstant jvmConstant = this.getJvmConstantPool().getJvmConstant(constantValueIndex);
+            final int offset = jvmField.getStaticFieldOffset();
+            switch (jvmField.getValueKind()) {
+                case INT:
+                    staticFieldsValue.setIntValue(offset, ((JvmConstantInteger) jvmConstant).getIntValue());
+                    break;
+                case FLOAT:
+                    staticFieldsValue.setFloatValue(offset, ((JvmConstantFloat) jvmConstant).getFloatValue());
+                    break;
+                case LONG:
+                    staticFieldsValue.setLongValue(offset, ((JvmConstantLong) jvmConstant).resolveValue());
+                    break;
+                case DOUBLE:
+                    staticFieldsValue.setDoubleValue(offset, ((JvmConstantDouble) jvmConstant).resolveValue());
+                    break;
+                case REFERENCE:
+                    staticFieldsValue.setReference(offset, ((JvmConstantString) jvmConstant).resolveStringObjectReference());
+                    break;
+                default:
+                    throw new IllegalStateException("Unexpected ConstantValue of " + jvmField);
+            }
+        }
+    }
+
+    /**
+     * jvms8 5.4.6 Method Selection
+     * select the method invoked on an instance of this class
+     * by vtable or itable slot of the resolved method
+     * @param resolvedMethod method resolved from symbolic reference
+     * @throws AbstractMethodError if no method can be selected from itable
+     * @return method to invoke
+     */
+    public JvmMethod selectMethod(JvmMethod resolvedMethod) {
+        final JvmClass declaringClass = resolvedMethod.getJvmClass();
+        // make sure the index exists
+        declaringClass.getVtable();
+        final int index = resolvedMethod.getVtableIndex();
+        if (index >= 0) {
+            if (declaringClass.isInterface()) {
+                JvmMethod selected = this.getItable(declaringClass)[index];
+                if (null == selected) {
+                    throw new AbstractMethodError(this.getName() + " not implements " + resolvedMethod.getName() + resolvedMethod.getDescriptor());
+                }
+                return selected;
+            }
+            JvmMethod[] vtable = this.getVtable();
+            if (index < vtable.length) {
+                return vtable[index];
+            }
+        }
+        if (!resolvedMethod.isVirtual()) {
+            // private method
+            return resolvedMethod;
+        }
+        // array class etc. have no vtable
+        return this.getMethod(resolvedMethod.getName(), resolvedMethod.getDescriptor());
+    }
+
+    /**
+     * @see #vtable
+     * @return virtual method table, build it if this class is not linked yet
+     */
+    public JvmMethod[] getVtable() {
+        JvmMethod[] vtable = this.vtable;
+        if (null == vtable) {
+            this.linkMethodTables();
+            vtable = this.vtable;
+        }
+        return vtable;
+    }
+
+    /**
+     * @param interfaceClass interface implemented by this class
+     * @return methods selected for the methods of interface, in order of interface's vtable
+     */
+    public JvmMethod[] getItable(JvmClass interfaceClass) {
+        for (Itable itable : this.itables) {
+            if (itable.interfaceClass == interfaceClass) {
+                return itable.methods;
+            }
+        }
+        // interface not loaded when this class linked
+        synchronized (this) {
+            for (Itable itable : this.itables) {
+                if (itable.interfaceClass == interfaceClass) {
+                    return itable.methods;
+                }
+            }
+            Itable itable = new Itable(interfaceClass, this.buildItable(interfaceClass));
+            Itable[] itables = Arrays.copyOf(this.itables, this.itables.length + 1);
+            itables[itables.length - 1] = itable;
+            this.itables = itables;
+            return itable.methods;
+        }
+    }
+
+    /**
+     * bind methods not interpreted to their implementations
+     * @see JvmMethod#getNativeMethod()
+     */
+    void linkNativeMethods() {
+        for (JvmMethod jvmMethod : this.getJvmMethods()) {
+            jvmMethod.bindNativeMethod();
+        }
+    }
+
+    /**
+     * build vtable and itables,
+     * the super class and interfaces will be linked first
+     */
+    synchronized void linkMethodTables() {
+        if (null != this.vtable) {
+            return;
+        }
+
+        if (this.isInterface()) {
+            List<JvmMethod> interfaceMethods = new ArrayList<>();
+            for (JvmMethod jvmMethod : this.getJvmMethods()) {
+                if (jvmMethod.isVirtual()) {
+                    jvmMethod.setVtableIndex(interfaceMethods.size());
+                    interfaceMethods.add(jvmMethod);
+                }
+            }
+            this.vtable = interfaceMethods.toArray(new JvmMethod[0]);
+            return;
+        }
+
+        List<JvmMethod> methods = new ArrayList<>();
+        if (null != this.getSuperClass()) {
+            methods.addAll(Arrays.asList(this.getSuperClass().getVtable()));
+        }
+        // override or append
+        for (JvmMethod jvmMethod : this.getJvmMethods()) {
+            if (jvmMethod.isVirtual()) {
+                int index = indexOfMethod(methods, jvmMethod.getName(), jvmMethod.getDescriptor());
+                if (index < 0) {
+                    index = methods.size();
+                    methods.add(jvmMethod);
+                } else {
+                    methods.set(index, jvmMethod);
+                }
+                jvmMethod.setVtableIndex(index);
+            }
+        }
+        // default methods, the interface nearer to this class first
+        final List<JvmClass> allInterfaces = this.getAllInterfaces();
+        for (JvmClass interfaceClass : allInterfaces) {
+            for (JvmMethod interfaceMethod : interfaceClass.getVtable()) {
+                if (!interfaceMethod.isAbstract()
+                        && indexOfMethod(methods, interfaceMethod.getName(), interfaceMethod.getDescriptor()) < 0) {
+                    methods.add(interfaceMethod);
+                }
+            }
+        }
+        this.vtable = methods.toArray(new JvmMethod[0]);
+
+        Itable[] itables = new Itable[allInterfaces.size()];
+        for (int i = 0; i < itables.length; i++) {
+            itables[i] = new Itable(allInterfaces.get(i), this.buildItable(allInterfaces.get(i)));
+        }
+        this.itables = itables;
+    }
+
+    /**
+     * @param interfaceClass interface implemented
+     * @return method selected from vtable for every method of interface, null if it is abstract
+     */
+    private JvmMethod[] buildItable(JvmClass interfaceClass) {
+        final List<JvmMethod> methods = Arrays.asList(this.getVtable());
+        final JvmMethod[] interfaceMethods = interfaceClass.getVtable();
+        final JvmMethod[] itable = new JvmMethod[interfaceMethods.length];
+        for (int i = 0; i < itable.length; i++) {
+            final JvmMethod interfaceMethod = interfaceMethods[i];
+            int index = indexOfMethod(methods, interfaceMethod.getName(), interfaceMethod.getDescriptor());
+            if (index >= 0) {
+                itable[i] = methods.get(index);
+            } else if (!interfaceMethod.isAbstract()) {
+                itable[i] = interfaceMethod;
+            }
+        }
+        return itable;
+    }
+
+    /**
+     * @return interfaces of this class and super classes, include their super interfaces
+     */
+    private List<JvmClass> getAllInterfaces() {
+        List<JvmClass> allInterfaces = new ArrayList<>();
+        for (JvmClass now = this; null != now; now = now.getSuperClass()) {
+            addInterfaces(allInterfaces, now.getInterfaces());
+        }
+        return allInterfaces;
+    }
+
+    private static void addInterfaces(List<JvmClass> allInterfaces, JvmClass[] interfaces) {
+        // null when the class is still loading
+        if (null == interfaces) {
+            return;
+        }
+        for (JvmClass interfaceClass : interfaces) {
+            if (null != interfaceClass && !containsClass(allInterfaces, interfaceClass)) {
+                allInterfaces.add(interfaceClass);
+                addInterfaces(allInterfaces, interfaceClass.getInterfaces());
+            }
+        }
+    }
+
+    private static boolean containsClass(List<JvmClass> jvmClasses, JvmClass jvmClass) {
+        for (JvmClass exists : jvmClasses) {
+            if (exists == jvmClass) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOfMethod(List<JvmMethod> methods, String name, String descriptor) {
+        for (int i = 0; i < methods.size(); i++) {
+            JvmMethod jvmMethod = methods.get(i);
+            if (jvmMethod.getName().equals(name) && jvmMethod.getDescriptor().equals(descriptor)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * methods selected for an interface
+     */
+    private static class Itable {
+
+        private final JvmClass interfaceClass;
+
+        private final JvmMethod[] methods;
+
+        Itable(JvmClass interfaceClass, JvmMethod[] methods) {
+            this.interfaceClass = interfaceClass;
+            this.methods = methods;
+        }
+    }
+
     /**
      *
      * @return all field from ancestor to this class in order
      */
     public List<JvmField> getNonStaticJvmFieldsFromAncestorsInOrder() {
-        List<JvmField> nonStaticJvmFieldsFromAncestors = new ArrayList<>();
-        for(JvmClass jvmClass : JvmClassUtils.getInheritedClassesChain(this)) {
-            nonStaticJvmFieldsFromAncestors.addAll(jvmClass.getNonStaticFields());
-        }
-        return nonStaticJvmFieldsFromAncestors;
+        return new ArrayList<>(Arrays.asList(this.getInstanceFields()));
     }
 
     /**
      *
-     * @return now static fields occupy size in this class and its super classes
+     * @return now static fields occupy size in this class and its super classes,
+     * primitive slots and references together
      */
     public int getNonStaticFieldsSize() {
-        List<JvmClass> jvmClasses = JvmClassUtils.getInheritedClassesChain(this);
+        this.getInstanceFields();
+        return instancePrimitiveSlots + instanceTemplate.length;
+    }
 
-        int number = 0;
-        for(JvmClass jvmClass : jvmClasses) {
-            number += JvmClassUtils.getNonStaticFieldsSize(jvmClass);
+    /**
+     * @return slots of primitive values in an instance, long and double occupy 2 slots
+     */
+    public int getInstancePrimitiveSlots() {
+        this.getInstanceFields();
+        return instancePrimitiveSlots;
+    }
+
+    /**
+     * jls8, 4.12.5 Initial Values of Variables
+     * new instance is a copy of it, never change it
+     * @return references with default value of a new instance
+     */
+    public Reference[] getInstanceTemplate() {
+        this.getInstanceFields();
+        return instanceTemplate;
+    }
+
+    /**
+     * field layout of object,
+     * fields of super class first, then non static fields declared in this class
+     * @return non static fields of ancestors and this class in order of offset
+     */
+    public JvmField[] getInstanceFields() {
+        JvmField[] instanceFields = this.instanceFields;
+        if (null == instanceFields) {
+            this.linkFieldLayout();
+            instanceFields = this.instanceFields;
         }
+        return instanceFields;
+    }
 
-        return number;
+    /**
+     * compute offset of every field declared.
+     * Non static fields of primitive and reference are laid out apart,
+     * the offset is the index in primitive slots or in references of object,
+     * both after the fields of super class,
+     * the layout of super class will be computed first
+     */
+    synchronized void linkFieldLayout() {
+        if (null != this.instanceFields) {
+            return;
+        }
+        List<JvmField> fields = new ArrayList<>();
+        int primitiveOffset = 0;
+        int referenceOffset = 0;
+        if (null != this.getSuperClass()) {
+            fields.addAll(Arrays.asList(this.getSuperClass().getInstanceFields()));
+            primitiveOffset = this.getSuperClass().getInstancePrimitiveSlots();
+            referenceOffset = this.getSuperClass().getInstanceTemplate().length;
+        }
+        int staticOffset = 0;
+        for (JvmField jvmField : this.getJvmFields()) {
+            if (jvmField.isStatic()) {
+                jvmField.setOffset(staticOffset);
+                staticOffset += jvmField.getSize();
+            } else if (ValueKind.REFERENCE == jvmField.getValueKind()) {
+                jvmField.setOffset(referenceOffset);
+                referenceOffset++;
+                fields.add(jvmField);
+            } else {
+                jvmField.setOffset(primitiveOffset);
+                primitiveOffset += jvmField.getSize();
+                fields.add(jvmField);
+            }
+        }
+        Reference[] instanceTemplate = new Reference[referenceOffset];
+        Arrays.fill(instanceTemplate, Reference.NULL);
+        this.instancePrimitiveSlots = primitiveOffset;
+        this.instanceTemplate = instanceTemplate;
+        this.instanceFields = fields.toArray(new JvmField[0]);
     }
 
     /**
@@ -417,7 +775,8 @@ public class JvmClass {
     }
 
     /**
-     * this class is implement then interface class given or not
+     * this class is implement then interface class given or not,
+     * the super interfaces of interfaces are included
      * @param interfaceClass
      * @return
      */
@@ -427,7 +786,7 @@ public class JvmClass {
             JvmClass[] nowInterfaces = now.getInterfaces();
             // traversal all interfaces of now class
             for(JvmClass nowInterface : nowInterfaces) {
-                if(nowInterface.equals(interfaceClass)) {
+                if(nowInterface.equals(interfaceClass) || nowInterface.isImplementInterface(interfaceClass)) {
                     return true;
                 }
             }
@@ -517,7 +876,7 @@ public class JvmClass {
             // same name? They should be identical
             throw new IllegalStateException("same type but not same object address, may exist some problems with class loader");
         } else {
-            return true;
+            return false;
         }
     }
 
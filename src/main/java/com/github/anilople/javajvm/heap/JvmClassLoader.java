@@ -8,6 +8,8 @@ import com.github.anilople.javajvm.vm.VM;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -43,10 +45,18 @@ public class JvmClassLoader {
         return INSTANCE;
     }
 
+    /**
+     * @return names of classes loaded, i.e java/lang/Object, [I, int
+     */
+    public Set<String> getLoadedClassNames() {
+        return new TreeSet<>(classConcurrentMap.keySet());
+    }
+
     /**
      * if a class has been loaded,
      * then simply return
      * @return {@link JvmClass} in cache, if not exist create new one
+     * @throws NoClassDefFoundError if class is not in classpath
      */
     public JvmClass loadClass(String className) {
         if(!classConcurrentMap.containsKey(className)) {
@@ -112,17 +122,21 @@ public class JvmClassLoader {
      * @param className
      * @return
      * @throws IllegalArgumentException if class given initializes already.
+     * @throws NoClassDefFoundError if class is not in classpath
      */
     private JvmClass loadNonArrayClass(String className) {
         if(classConcurrentMap.containsKey(className)) {
             throw new IllegalArgumentException(className + " initial already");
         }
 
-        // loading
-        byte[] bytes = classpath.readClass(className);
-        // define
-        ClassFile.ClassReader classReader = new ClassFile.ClassReader(bytes);
-        ClassFile classFile = ClassFile.parse(classReader);
+        // loading and define, bytes of class file are not kept
+        ClassFile classFile = classpath.parseClass(
+                className,
+                buffer -> ClassFile.parse(new ClassFile.ClassReader(buffer))
+        );
+        if(null == classFile) {
+            throw new NoClassDefFoundError(className);
+        }
 
         // new a instance without initial, Why? forbid the circle in graph
         JvmClass jvmClass = new JvmClass(this);
@@ -150,7 +164,12 @@ public class JvmClassLoader {
     }
 
     private void prepare(JvmClass jvmClass) {
-        // to do
+        // layout of object and static fields
+        jvmClass.linkFieldLayout();
+        jvmClass.initialConstantValues();
+        // method tables for dispatch
+        jvmClass.linkMethodTables();
+        jvmClass.linkNativeMethods();
     }
 
     /**
@@ -74,6 +74,10 @@ public abstract class JvmClassMember {
         return descriptor;
     }
 
+    public AttributeInfo[] getAttributes() {
+        return attributes;
+    }
+
     public JvmClass getJvmClass() {
         return jvmClass;
     }
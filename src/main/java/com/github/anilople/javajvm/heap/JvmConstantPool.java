@@ -41,6 +41,13 @@ public class JvmConstantPool {
         }
     }
 
+    /**
+     * @return constant_pool_count, index 0 is not used
+     */
+    public int size() {
+        return jvmConstants.length;
+    }
+
     public JvmConstant getJvmConstant(int index) {
         JvmConstant jvmConstant = jvmConstants[index];
         if(null != jvmConstant) {
@@ -1,15 +1,25 @@
 package com.github.anilople.javajvm.heap;
 
 import com.github.anilople.javajvm.classfile.FieldInfo;
-import com.github.anilople.javajvm.constants.Descriptors;
+import com.github.anilople.javajvm.classfile.attributes.AttributeInfo;
+import com.github.anilople.javajvm.classfile.attributes.ConstantValueAttribute;
+import com.github.anilople.javajvm.constants.ValueKind;
 import com.github.anilople.javajvm.utils.ConstantPoolUtils;
-import com.github.anilople.javajvm.utils.JvmClassUtils;
-import com.github.anilople.javajvm.utils.JvmFieldUtils;
-
-import java.util.List;
+import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
 
 public class JvmField extends JvmClassMember {
 
+    private final ValueKind valueKind;
+
+    /**
+     * slot of non static field in object,
+     * in primitive slots or in references according to its kind,
+     * or slot of static field in static fields of its class,
+     * assigned when its class is linked
+     * @see JvmClass#getInstanceFields()
+     */
+    private int offset = -1;
+
     public JvmField(JvmClass jvmClass, FieldInfo fieldInfo) {
         super(
                 jvmClass,
@@ -18,6 +28,7 @@ public class JvmField extends JvmClassMember {
                 ConstantPoolUtils.getUtf8(fieldInfo.getClassFile().getConstantPool(), fieldInfo.getDescriptorIndex()),
                 fieldInfo.getAttributes()
         );
+        this.valueKind = ValueKind.of(this.getDescriptor());
     }
 
     public static JvmField[] generateJvmFields(JvmClass jvmClass, FieldInfo[] fieldInfos) {
@@ -60,40 +71,57 @@ public class JvmField extends JvmClassMember {
      * @return
      */
     public int getSize() {
-        String descriptor = this.getDescriptor();
-        if(Descriptors.BaseType.LONG.equals(descriptor)
-        || Descriptors.BaseType.DOUBLE.equals(descriptor)) {
-            return 2;
-        } else {
-            return 1;
-        }
+        return valueKind.getSize();
+    }
+
+    /**
+     * boolean, byte, char and short are int
+     * @return kind of this field's value
+     */
+    public ValueKind getValueKind() {
+        return valueKind;
     }
 
     /**
-     * suppose this field is not static field
-     * now calculate its offset in all fields (current class and super classes)
+     * suppose this field is not static field,
+     * its offset in all fields of the same kind (current class and super classes)
+     * is computed when the class is linked
      * @return
      */
     public int calculateNonStaticFieldOffset() {
-        return JvmFieldUtils.calculateNonStaticFieldOffset(this.getJvmClass(), this);
+        if(offset < 0) {
+            // class is not linked yet
+            this.getJvmClass().getInstanceFields();
+        }
+        return offset;
+    }
+
+    void setOffset(int offset) {
+        this.offset = offset;
     }
 
     /**
-     *
+     * computed when the class is linked
      * @return this static field's offset in declared class
      */
     public int getStaticFieldOffset() {
-        final JvmClass jvmClass = getJvmClass();
-        int staticOffset = 0;
-        for(JvmField jvmField : jvmClass.getJvmFields()) {
-            if(jvmField.equals(this)) {
-                return staticOffset;
-            } else if(jvmField.isStatic()){
-                staticOffset += jvmField.getSize();
-            } else {
-                // non-static field does not affect the offset
+        if(offset < 0) {
+            // class is not linked yet
+            this.getJvmClass().getInstanceFields();
+        }
+        return offset;
+    }
+
+    /**
+     * jvms8 4.7.2 The ConstantValue Attribute
+     * @return index of constant pool, 0 if this field has no ConstantValue attribute
+     */
+    public int getConstantValueIndex() {
+        for(AttributeInfo attributeInfo : this.getAttributes()) {
+            if(attributeInfo instanceof ConstantValueAttribute) {
+                return PrimitiveTypeUtils.intFormUnsignedShort(((ConstantValueAttribute) attributeInfo).getConstantValueIndex());
             }
         }
-        throw new RuntimeException(this.getName() + " not in " + jvmClass.getName());
+        return 0;
     }
 }
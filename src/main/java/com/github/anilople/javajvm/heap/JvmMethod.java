@@ -4,7 +4,12 @@ import com.github.anilople.javajvm.classfile.MethodInfo;
 import com.github.anilople.javajvm.classfile.attributes.AttributeInfo;
 import com.github.anilople.javajvm.classfile.attributes.CodeAttribute;
 import com.github.anilople.javajvm.constants.AccessFlags;
+import com.github.anilople.javajvm.constants.SpecialMethods;
+import com.github.anilople.javajvm.engine.DecodedCode;
 import com.github.anilople.javajvm.heap.constant.JvmConstantClass;
+import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.natives.NativeMethod;
+import com.github.anilople.javajvm.natives.NativeMethodRegistry;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
 
 import java.util.Objects;
@@ -19,6 +24,39 @@ public class JvmMethod extends JvmClassMember {
 
     private ExceptionHandler[] exceptionHandlers;
 
+    /**
+     * parsed from descriptor
+     */
+    private final MethodSignature signature;
+
+    /**
+     * decoded code, indexed by pc,
+     * decode lazily when the method is executed first time
+     */
+    private volatile Instruction[] instructions;
+
+    /**
+     * code decoded for switch engine,
+     * decode lazily like instructions
+     */
+    private volatile DecodedCode decodedCode;
+
+    /**
+     * slot of this method in the vtable of its class,
+     * or in the itable of its interface if it is declared by an interface.
+     * -1 if it is not dispatched (static, private, initialization method)
+     * or the class is not linked yet
+     */
+    private int vtableIndex = -1;
+
+    /**
+     * implementation if this method is not interpreted,
+     * bound when its class is linked
+     */
+    private NativeMethod nativeMethod;
+
+    private volatile boolean nativeMethodBound;
+
     public JvmMethod(JvmClass jvmClass, MethodInfo methodInfo) {
         super(
             jvmClass,
@@ -39,6 +77,8 @@ public class JvmMethod extends JvmClassMember {
                 this.exceptionHandlers = ExceptionHandler.generateExceptionTables(this, (codeAttribute.getExceptionTable()));
             }
         }
+
+        this.signature = new MethodSignature(methodInfo.getDescriptor());
     }
 
     /**
@@ -225,8 +265,104 @@ public class JvmMethod extends JvmClassMember {
         return maxLocals;
     }
 
+    public MethodSignature getSignature() {
+        return signature;
+    }
+
+    /**
+     * @see JvmClass#getVtable()
+     * @return slot of this method in vtable (itable for interface method), or -1
+     */
+    public int getVtableIndex() {
+        return vtableIndex;
+    }
+
+    void setVtableIndex(int vtableIndex) {
+        this.vtableIndex = vtableIndex;
+    }
+
+    /**
+     * @see NativeMethodRegistry
+     * @return null if this method is interpreted
+     */
+    public NativeMethod getNativeMethod() {
+        if(!nativeMethodBound) {
+            // class is not linked yet
+            this.bindNativeMethod();
+        }
+        return nativeMethod;
+    }
+
+    synchronized void bindNativeMethod() {
+        if(!nativeMethodBound) {
+            this.nativeMethod = NativeMethodRegistry.bind(this);
+            this.nativeMethodBound = true;
+        }
+    }
+
+    /**
+     * static methods, private methods, "<init>" and "<clinit>"
+     * are never selected by the class of object reference
+     * @return this method can be overridden or not
+     */
+    public boolean isVirtual() {
+        return !this.isStatic()
+                && !this.isPrivate()
+                && !SpecialMethods.INIT.equals(this.getName())
+                && !SpecialMethods.CLINIT.equals(this.getName());
+    }
+
     public byte[] getCode() {
         // return a clone to forbidden changing code
         return code.clone();
     }
+
+    /**
+     * @param pc offset of an instruction in code
+     * @return the instruction start at pc
+     * @throws IllegalStateException if pc is not the start of an instruction
+     */
+    public Instruction getInstruction(int pc) {
+        Instruction instruction = getInstructions()[pc];
+        if (null == instruction) {
+            throw new IllegalStateException("pc " + pc + " is not the start of an instruction in " + this);
+        }
+        return instruction;
+    }
+
+    /**
+     * instructions are stateless after operands fetched,
+     * so all frames of this method share them
+     * @return instructions indexed by pc
+     */
+    private Instruction[] getInstructions() {
+        Instruction[] instructions = this.instructions;
+        if (null == instructions) {
+            synchronized (this) {
+                instructions = this.instructions;
+                if (null == instructions) {
+                    instructions = Instruction.readInstructions(code);
+                    this.instructions = instructions;
+                }
+            }
+        }
+        return instructions;
+    }
+
+    /**
+     * @return code decoded for switch engine
+     */
+    public DecodedCode getDecodedCode() {
+        DecodedCode decodedCode = this.decodedCode;
+        if (null == decodedCode) {
+            synchronized (this) {
+                decodedCode = this.decodedCode;
+                if (null == decodedCode) {
+                    decodedCode = DecodedCode.decode(this);
+                    this.decodedCode = decodedCode;
+                }
+            }
+        }
+        return decodedCode;
+    }
 }
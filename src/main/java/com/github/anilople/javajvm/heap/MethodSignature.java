@@ -0,0 +1,109 @@
+package com.github.anilople.javajvm.heap;
+
+import com.github.anilople.javajvm.constants.ValueKind;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
+import com.github.anilople.javajvm.utils.DescriptorUtils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MethodDescriptor:
+ *      ( {ParameterDescriptor} ) ReturnDescriptor
+ *
+ * parsed once when the method is loaded,
+ * so invocations don't parse the descriptor again.
+ */
+public class MethodSignature {
+
+    private final List<String> parameterDescriptors;
+
+    private final ValueKind[] argumentKinds;
+
+    /**
+     * slots of arguments, without object reference
+     */
+    private final int argumentsSlots;
+
+    private final String returnDescriptor;
+
+    private final ValueKind returnKind;
+
+    /**
+     * types of parameters in host jvm, only for native method,
+     * resolve lazily because the classes may not exist in host
+     */
+    private volatile Class<?>[] parameterTypes;
+
+    public MethodSignature(String methodDescriptor) {
+        this.parameterDescriptors = Collections.unmodifiableList(
+                DescriptorUtils.getParameterDescriptor(methodDescriptor)
+        );
+        this.argumentKinds = new ValueKind[parameterDescriptors.size()];
+        int argumentsSlots = 0;
+        for (int i = 0; i < argumentKinds.length; i++) {
+            argumentKinds[i] = ValueKind.of(parameterDescriptors.get(i));
+            argumentsSlots += argumentKinds[i].getSize();
+        }
+        this.argumentsSlots = argumentsSlots;
+        this.returnDescriptor = DescriptorUtils.getReturnDescriptor(methodDescriptor);
+        this.returnKind = ValueKind.of(returnDescriptor);
+    }
+
+    /**
+     * pop args (and object reference) from operand stack
+     * to a standalone local variables,
+     * objectref in local variable 0, arg1 in local variable 1, and so on.
+     * @param existsObjectReference non static method or not
+     * @param operandStacks
+     * @return local variables of args
+     */
+    public LocalVariables popArgs(boolean existsObjectReference, OperandStacks operandStacks) {
+        final int slots = existsObjectReference ? argumentsSlots + 1 : argumentsSlots;
+        LocalVariables localVariables = new LocalVariables(slots);
+        operandStacks.popSlots(slots, localVariables);
+        return localVariables;
+    }
+
+    /**
+     * @return unmodifiable list
+     */
+    public List<String> getParameterDescriptors() {
+        return parameterDescriptors;
+    }
+
+    /**
+     * @return kinds of arguments, must not be changed
+     */
+    public ValueKind[] getArgumentKinds() {
+        return argumentKinds;
+    }
+
+    public int getArgumentsSlots() {
+        return argumentsSlots;
+    }
+
+    public String getReturnDescriptor() {
+        return returnDescriptor;
+    }
+
+    public ValueKind getReturnKind() {
+        return returnKind;
+    }
+
+    /**
+     * @return types of parameters in host jvm, must not be changed
+     */
+    public Class<?>[] getParameterTypes() {
+        Class<?>[] parameterTypes = this.parameterTypes;
+        if (null == parameterTypes) {
+            parameterTypes = new Class<?>[parameterDescriptors.size()];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterTypes[i] = DescriptorUtils.fieldTypeDescriptor2Class(parameterDescriptors.get(i));
+            }
+            this.parameterTypes = parameterTypes;
+        }
+        return parameterTypes;
+    }
+}
@@ -7,6 +7,12 @@ public abstract class JvmConstant {
 
     private JvmClass jvmClass;
 
+    /**
+     * result of {@link #resolve()},
+     * or {@link ResolutionFailure} if it failed
+     */
+    private volatile Object resolution;
+
     public JvmConstant() {
 
     }
@@ -54,4 +60,72 @@ public abstract class JvmConstant {
         return jvmClass;
     }
 
+    /**
+     * resolve the symbolic reference of this constant,
+     * only the constants need resolution override it
+     * @return what this constant refers to, never null
+     * @throws LinkageError if it cannot be resolved, i.e NoClassDefFoundError, NoSuchMethodError
+     */
+    protected Object resolve() {
+        throw new UnsupportedOperationException(this.getClass() + " cannot be resolved");
+    }
+
+    /**
+     * jvms8 5.4.3 Resolution
+     * Subsequent attempts to resolve the symbolic reference always succeed trivially
+     * and result in the same entity produced by the initial resolution.
+     * If an error occurs during resolution,
+     * then subsequent attempts always fail with the same error.
+     *
+     * So {@link #resolve()} is invoked only once for a constant,
+     * the result is published safely to all threads.
+     * Only a {@link LinkageError} is the error of resolution,
+     * anything else thrown, i.e by class initialization or a bug, is not remembered,
+     * the next attempt resolves again.
+     * @return result of {@link #resolve()}
+     */
+    protected final Object getResolution() {
+        Object resolution = this.resolution;
+        if (null == resolution) {
+            synchronized (this) {
+                resolution = this.resolution;
+                if (null == resolution) {
+                    try {
+                        resolution = resolve();
+                        if (null == resolution) {
+                            // a lookup not found, it must not be retried
+                            throw new LinkageError(this.getClass().getName() + " resolved to nothing");
+                        }
+                    } catch (LinkageError e) {
+                        resolution = new ResolutionFailure(e);
+                    }
+                    this.resolution = resolution;
+                }
+            }
+        }
+        if (resolution instanceof ResolutionFailure) {
+            throw ((ResolutionFailure) resolution).rethrow();
+        }
+        return resolution;
+    }
+
+    /**
+     * the error of the initial resolution
+     */
+    private static class ResolutionFailure {
+
+        private final LinkageError cause;
+
+        ResolutionFailure(LinkageError cause) {
+            this.cause = cause;
+        }
+
+        /**
+         * @return the same error to throw again
+         */
+        LinkageError rethrow() {
+            return cause;
+        }
+    }
+
 }
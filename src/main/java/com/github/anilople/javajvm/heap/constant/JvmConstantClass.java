@@ -2,12 +2,20 @@ package com.github.anilople.javajvm.heap.constant;
 
 import com.github.anilople.javajvm.classfile.constantinfo.ConstantClassInfo;
 import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.runtimedataarea.reference.ClassObjectReference;
 import com.github.anilople.javajvm.utils.ConstantPoolUtils;
 
 public class JvmConstantClass extends JvmConstant {
 
     private ConstantClassInfo constantClassInfo;
 
+    private volatile String name;
+
+    /**
+     * class mirror, java.lang.Class object of the class resolved
+     */
+    private volatile ClassObjectReference classObjectReference;
+
     private JvmConstantClass() {
 
     }
@@ -22,10 +30,15 @@ public class JvmConstantClass extends JvmConstant {
      * @return jvm class name represent of this constant
      */
     public String getName() {
-        return ConstantPoolUtils.getUtf8(
-                constantClassInfo.getClassFile().getConstantPool(),
-                constantClassInfo.getNameIndex()
-        );
+        String name = this.name;
+        if (null == name) {
+            name = ConstantPoolUtils.getUtf8(
+                    constantClassInfo.getClassFile().getConstantPool(),
+                    constantClassInfo.getNameIndex()
+            );
+            this.name = name;
+        }
+        return name;
     }
 
     /**
@@ -36,11 +49,29 @@ public class JvmConstantClass extends JvmConstant {
      * @return What jvm class this constant represent
      */
     public JvmClass resolveJvmClass() {
+        return (JvmClass) getResolution();
+    }
+
+    @Override
+    protected Object resolve() {
         String jvmClassName = this.getName();
         // remember that use "super" not "this"
         return super.getJvmClass().getLoader().loadClass(jvmClassName);
     }
 
+    /**
+     * @return class mirror of the class resolved
+     */
+    public ClassObjectReference resolveClassObjectReference() {
+        ClassObjectReference classObjectReference = this.classObjectReference;
+        if (null == classObjectReference) {
+            // same instance for same class, so the race is harmless
+            classObjectReference = ClassObjectReference.getInstance(resolveJvmClass());
+            this.classObjectReference = classObjectReference;
+        }
+        return classObjectReference;
+    }
+
     /**
      * same as {@link this#resolveJvmClass()}
      * @see this#resolveJvmClass()
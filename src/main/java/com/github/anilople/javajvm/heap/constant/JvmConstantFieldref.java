@@ -59,8 +59,14 @@ public class JvmConstantFieldref extends JvmConstant {
      * @return
      */
     public JvmField resolveJvmField() {
-        String className = this.getClassName();
-        JvmClass jvmClass = this.getJvmClass().getLoader().loadClass(className);
+        return (JvmField) getResolution();
+    }
+
+    @Override
+    protected Object resolve() {
+        int classIndex = constantFieldrefInfo.getClassIndex();
+        JvmConstantClass jvmConstantClass = (JvmConstantClass) this.getJvmClass().getJvmConstantPool().getJvmConstant(classIndex);
+        JvmClass jvmClass = jvmConstantClass.resolveJvmClass();
         return JvmFieldUtils.resolveJvmField(jvmClass, this.getFieldName(), this.getFieldDescriptor());
     }
 }
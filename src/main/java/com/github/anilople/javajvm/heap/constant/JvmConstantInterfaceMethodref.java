@@ -2,11 +2,19 @@ package com.github.anilople.javajvm.heap.constant;
 
 import com.github.anilople.javajvm.classfile.constantinfo.ConstantInterfaceMethodrefInfo;
 import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.heap.MethodSignature;
+import com.github.anilople.javajvm.utils.JvmClassUtils;
 
 public class JvmConstantInterfaceMethodref extends JvmConstant {
 
     private ConstantInterfaceMethodrefInfo constantInterfaceMethodrefInfo;
 
+    /**
+     * parsed from descriptor lazily
+     */
+    private volatile MethodSignature methodSignature;
+
     private JvmConstantInterfaceMethodref() {
 
     }
@@ -35,4 +43,41 @@ public class JvmConstantInterfaceMethodref extends JvmConstant {
         JvmConstant jvmConstant = this.getJvmClass().getJvmConstantPool().getJvmConstant(nameAndTypeIndex);
         return (JvmConstantNameAndType) jvmConstant;
     }
+
+    /**
+     * @return the interface method, the method invoked is selected by object reference
+     */
+    public JvmMethod resolveJvmMethod() {
+        return (JvmMethod) getResolution();
+    }
+
+    @Override
+    protected Object resolve() {
+        final JvmClass interfaceClass = resolveJvmConstantClass().resolveJvmClass();
+        if(!interfaceClass.isInterface()) {
+            throw new IncompatibleClassChangeError(interfaceClass + " is not an interface");
+        }
+        final JvmConstantNameAndType jvmConstantNameAndType = resolveJvmConstantNameAndType();
+        final JvmMethod jvmMethod = JvmClassUtils.getInterfaceMethod(
+                interfaceClass, jvmConstantNameAndType.getName(), jvmConstantNameAndType.getDescriptor()
+        );
+        if(null == jvmMethod) {
+            throw new NoSuchMethodError(interfaceClass.getName() + "." + jvmConstantNameAndType.getName() + jvmConstantNameAndType.getDescriptor());
+        }
+        return jvmMethod;
+    }
+
+    /**
+     * the method invoked is unknown until the object reference is found,
+     * but the signature is known from descriptor
+     * @return signature of descriptor
+     */
+    public MethodSignature getMethodSignature() {
+        MethodSignature methodSignature = this.methodSignature;
+        if (null == methodSignature) {
+            methodSignature = new MethodSignature(resolveJvmConstantNameAndType().getDescriptor());
+            this.methodSignature = methodSignature;
+        }
+        return methodSignature;
+    }
 }
@@ -3,6 +3,7 @@ package com.github.anilople.javajvm.heap.constant;
 import com.github.anilople.javajvm.classfile.constantinfo.ConstantMethodrefInfo;
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.utils.DescriptorUtils;
 
 public class JvmConstantMethodref extends JvmConstant {
 
@@ -43,11 +44,15 @@ public class JvmConstantMethodref extends JvmConstant {
      * @return a jvm method
      */
     public JvmMethod resolveJvmMethod() {
+        return (JvmMethod) getResolution();
+    }
+
+    @Override
+    protected Object resolve() {
         // get which class this method belong to
         short classIndex = constantMethodrefInfo.getClassIndex();
         JvmConstantClass jvmConstantClass = (JvmConstantClass) this.getJvmClass().getJvmConstantPool().getJvmConstant(classIndex);
-        final String jvmClassName = jvmConstantClass.getName();
-        JvmClass jvmClass = this.getJvmClass().getLoader().loadClass(jvmClassName);
+        JvmClass jvmClass = jvmConstantClass.resolveJvmClass();
 
         // get method's name and type
         short nameAndTypeIndex = constantMethodrefInfo.getNameAndTypeIndex();
@@ -56,8 +61,17 @@ public class JvmConstantMethodref extends JvmConstant {
         String name = jvmConstantNameAndType.getName();
         String descriptor = jvmConstantNameAndType.getDescriptor();
 
+        if(DescriptorUtils.isArrayType(jvmClass.getName())) {
+            // jls8, 10.7 Array Members, i.e clone(), methods inherited from java.lang.Object
+            jvmClass = jvmClass.getLoader().loadClass(Object.class);
+        }
+
         // from jvmClass to find method
-        return jvmClass.getMethod(name, descriptor);
+        JvmMethod jvmMethod = jvmClass.getMethod(name, descriptor);
+        if(null == jvmMethod) {
+            throw new NoSuchMethodError(jvmClass.getName() + "." + name + descriptor);
+        }
+        return jvmMethod;
     }
 
 }
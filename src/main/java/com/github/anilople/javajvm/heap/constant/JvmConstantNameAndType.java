@@ -7,6 +7,10 @@ public class JvmConstantNameAndType extends JvmConstant {
 
     private ConstantNameAndTypeInfo constantNameAndTypeInfo;
 
+    private volatile String name;
+
+    private volatile String descriptor;
+
     private JvmConstantNameAndType() {
 
     }
@@ -21,9 +25,12 @@ public class JvmConstantNameAndType extends JvmConstant {
      * @return
      */
     public String getName() {
-        // name
-        int nameIndex = constantNameAndTypeInfo.getNameIndex();
-        String name = this.getJvmClass().getJvmConstantPool().getUtf8String(nameIndex);
+        String name = this.name;
+        if (null == name) {
+            int nameIndex = constantNameAndTypeInfo.getNameIndex();
+            name = this.getJvmClass().getJvmConstantPool().getUtf8String(nameIndex);
+            this.name = name;
+        }
         return name;
     }
 
@@ -32,8 +39,12 @@ public class JvmConstantNameAndType extends JvmConstant {
      * @return
      */
     public String getDescriptor() {
-        int descriptorIndex = constantNameAndTypeInfo.getDescriptorIndex();
-        String descriptor = this.getJvmClass().getJvmConstantPool().getUtf8String(descriptorIndex);
+        String descriptor = this.descriptor;
+        if (null == descriptor) {
+            int descriptorIndex = constantNameAndTypeInfo.getDescriptorIndex();
+            descriptor = this.getJvmClass().getJvmConstantPool().getUtf8String(descriptorIndex);
+            this.descriptor = descriptor;
+        }
         return descriptor;
     }
 }
@@ -2,6 +2,8 @@ package com.github.anilople.javajvm.heap.constant;
 
 import com.github.anilople.javajvm.classfile.constantinfo.ConstantStringInfo;
 import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+import com.github.anilople.javajvm.utils.ReferenceUtils;
 
 public class JvmConstantString extends JvmConstant {
 
@@ -19,4 +21,22 @@ public class JvmConstantString extends JvmConstant {
     public ConstantStringInfo getConstantStringInfo() {
         return constantStringInfo;
     }
+
+    /**
+     * @return the interned java.lang.String object of this literal
+     */
+    public ObjectReference resolveStringObjectReference() {
+        return (ObjectReference) getResolution();
+    }
+
+    @Override
+    protected Object resolve() {
+        JvmClass jvmClass = this.getJvmClass();
+        String utf8 = jvmClass.getJvmConstantPool().getUtf8String(constantStringInfo.getStringIndex());
+        // string literals are interned by pool
+        return ReferenceUtils.getStringObjectReference(
+                jvmClass.getLoader().loadClass(String.class),
+                utf8
+        );
+    }
 }
@@ -2,9 +2,7 @@ package com.github.anilople.javajvm.heap.constant;
 
 import com.github.anilople.javajvm.classfile.constantinfo.ConstantUtf8Info;
 import com.github.anilople.javajvm.heap.JvmClass;
-
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
+import com.github.anilople.javajvm.utils.ConstantPoolUtils;
 
 public class JvmConstantUtf8 extends JvmConstant {
 
@@ -25,7 +23,7 @@ public class JvmConstantUtf8 extends JvmConstant {
     }
 
     /**
-     * bytes to string (UTF-8)
+     * bytes to string (Modified UTF-8)
      * whenever how many times use this method,
      * the string returning always identity!
      * @return
@@ -33,7 +31,7 @@ public class JvmConstantUtf8 extends JvmConstant {
     @Override
     public String toString() {
         if(null == this.content) {
-            this.content = new String(constantUtf8Info.getBytes(), StandardCharsets.UTF_8);
+            this.content = ConstantPoolUtils.decodeMUTF8(constantUtf8Info.getBytes());
         }
         return this.content;
     }
@@ -2,10 +2,14 @@ package com.github.anilople.javajvm.instructions;
 
 import com.github.anilople.javajvm.classfile.ClassFile;
 
+/**
+ * read a method's code,
+ * position 0 is the opcode of the method's first instruction
+ */
 public class BytecodeReader extends ClassFile.ClassReader {
 
-    public BytecodeReader(byte[] bytes) {
-        super(bytes);
+    public BytecodeReader(byte[] code) {
+        super(code);
     }
 
 }
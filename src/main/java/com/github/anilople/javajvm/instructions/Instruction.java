@@ -53,6 +53,28 @@ import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
  */
 public interface Instruction {
 
+    /**
+     * decode all instructions in a method's code
+     *
+     * @param code method's code
+     * @return an array indexed by pc, the element is null if
+     * pc is not the start of an instruction
+     */
+    static Instruction[] readInstructions(byte[] code) {
+        Instruction[] instructions = new Instruction[code.length];
+        BytecodeReader bytecodeReader = new BytecodeReader(code);
+        while (bytecodeReader.remaining() > 0) {
+            final int pc = bytecodeReader.getPosition();
+            Instruction instruction = readInstruction(bytecodeReader);
+            // fetch operands (may fetch nothing)
+            instruction.fetchOperands(bytecodeReader);
+            instructions[pc] = instruction;
+            // some instructions don't fetch all of their operands
+            bytecodeReader.setPosition(pc + instruction.size());
+        }
+        return instructions;
+    }
+
     static Instruction readInstruction(BytecodeReader bytecodeReader) {
         byte opcode = bytecodeReader.readU1();
         int unsignedOpcode = PrimitiveTypeUtils.intFormUnsignedByte(opcode);
@@ -28,7 +28,6 @@ public class DCMPG implements Instruction {
     public void execute(Frame frame) {
         double value2 = frame.getOperandStacks().popDoubleValue();
         double value1 = frame.getOperandStacks().popDoubleValue();
-        logger.trace("double compare: [{}] [{}]", value1, value2);
         if(value1 > value2) {
             frame.getOperandStacks().pushIntValue(1);
         } else if(value1 == value2) {
@@ -19,7 +19,6 @@ public class DCMPL implements Instruction {
     public void execute(Frame frame) {
         double value2 = frame.getOperandStacks().popDoubleValue();
         double value1 = frame.getOperandStacks().popDoubleValue();
-        logger.trace("double compare: [{}] [{}]", value1, value2);
         if(value1 > value2) {
             frame.getOperandStacks().pushIntValue(1);
         } else if(value1 == value2) {
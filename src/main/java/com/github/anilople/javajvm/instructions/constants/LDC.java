@@ -14,9 +14,6 @@ import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ClassNameConverterUtils;
 import com.github.anilople.javajvm.utils.ConstantPoolUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import com.github.anilople.javajvm.utils.ReferenceUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation:
@@ -50,8 +47,6 @@ import org.slf4j.LoggerFactory;
  */
 public class LDC implements Instruction {
 
-    private final Logger logger = LoggerFactory.getLogger(this.getClass());
-
     private byte unsignedByteIndex;
 
     @Override
@@ -64,7 +59,6 @@ public class LDC implements Instruction {
         JvmClass currentClass = frame.getJvmMethod().getJvmClass();
         int index = PrimitiveTypeUtils.intFormUnsignedByte(unsignedByteIndex);
         JvmConstant jvmConstant = currentClass.getJvmConstantPool().getJvmConstant(index);
-        logger.trace("jvmConstant: {}", jvmConstant);
         if(jvmConstant instanceof JvmConstantInteger) {
             int intValue = ((JvmConstantInteger) jvmConstant).getIntValue();
             frame.getOperandStacks().pushIntValue(intValue);
@@ -75,21 +69,13 @@ public class LDC implements Instruction {
             // a reference to a string literal
 //            throw new RuntimeException("LDC now cannot support JvmConstantString " + jvmConstant);
             JvmConstantString jvmConstantString = (JvmConstantString) jvmConstant;
-            String utf8 = jvmConstantString.getJvmClass().getJvmConstantPool().getUtf8String(
-                    jvmConstantString.getConstantStringInfo().getStringIndex()
-            );
-            logger.trace("String content = {}", utf8);
-            // get string by tool
-            ObjectReference objectReference = ReferenceUtils.getStringObjectReference(
-                    currentClass.getLoader().loadClass(String.class),
-                    utf8
-            );
+            // interned once per constant pool entry
+            ObjectReference objectReference = jvmConstantString.resolveStringObjectReference();
             frame.getOperandStacks().pushReference(objectReference);
 //            throw new RuntimeException("LDC now cannot support " + jvmConstant);
         } else if(jvmConstant instanceof JvmConstantClass) {
             JvmConstantClass jvmConstantClass = (JvmConstantClass) jvmConstant;
-            JvmClass jvmClass = jvmConstantClass.resolveJvmClass();
-            ClassObjectReference classObjectReference = ClassObjectReference.getInstance(jvmClass);
+            ClassObjectReference classObjectReference = jvmConstantClass.resolveClassObjectReference();
             frame.getOperandStacks().pushReference(classObjectReference);
         } else if(jvmConstant instanceof JvmConstantMethodType) {
             JvmConstantMethodType jvmConstantMethodType = (JvmConstantMethodType) jvmConstant;
@@ -27,6 +27,6 @@ public class LDC_W implements Instruction {
 
     @Override
     public int size() {
-        return 1;
+        return 3;
     }
 }
@@ -4,9 +4,6 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.JvmThread;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -30,8 +27,6 @@ import org.slf4j.LoggerFactory;
  */
 public class IRETURN implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(IRETURN.class);
-
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
 
@@ -39,8 +34,6 @@ public class IRETURN implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        String returnDescriptor = DescriptorUtils.getReturnDescriptor(frame.getJvmMethod().getDescriptor());
-        logger.trace("returnDescriptor: {}", returnDescriptor);
         // check exception, to do...
 
         // return int
@@ -4,23 +4,73 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 
+import java.util.Arrays;
+
+/**
+ * Operation
+ * Access jump table by key match and jump
+ *
+ * Description
+ * Immediately after the lookupswitch opcode, between zero and three
+ * bytes must act as padding, such that defaultbyte1 begins at an
+ * address that is a multiple of four bytes from the start of the
+ * current method (the opcode of its first instruction). Immediately
+ * after the padding follow a series of signed 32-bit values: default,
+ * npairs, and then npairs pairs of signed 32-bit values. Each of the
+ * npairs pairs consists of an int match and a signed 32-bit offset.
+ *
+ * The table match-offset pairs of the lookupswitch instruction must
+ * be sorted in increasing numerical order by match.
+ *
+ * The key must be of type int and is popped from the operand stack.
+ * The key is compared against the match values. If it is equal to one
+ * of them, then a target address is calculated by adding the
+ * corresponding offset to the address of the opcode of this
+ * lookupswitch instruction. If the key does not match any of the
+ * match values, the target address is calculated by adding default
+ * to the address of the opcode of this lookupswitch instruction.
+ */
 public class LOOKUPSWITCH implements Instruction {
 
+    private int size;
+
+    private int defaultOffset;
+
+    /**
+     * sorted, so binary search can be used
+     */
+    private int[] matches;
+
+    private int[] offsets;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
-
+        // opcode has been read
+        final int opcodePc = bytecodeReader.getPosition() - 1;
+        bytecodeReader.align4();
+        this.defaultOffset = bytecodeReader.readU4();
+        final int npairs = bytecodeReader.readU4();
+        this.matches = new int[npairs];
+        this.offsets = new int[npairs];
+        for (int i = 0; i < npairs; i++) {
+            matches[i] = bytecodeReader.readU4();
+            offsets[i] = bytecodeReader.readU4();
+        }
+        this.size = bytecodeReader.getPosition() - opcodePc;
     }
 
     @Override
     public void execute(Frame frame) {
-        throw new RuntimeException("Now cannot support " + this.getClass());
-//        int nextPc = frame.getNextPc() + this.size();
-//        frame.setNextPc(nextPc);
+        int key = frame.getOperandStacks().popIntValue();
+        int position = Arrays.binarySearch(matches, key);
+        int offset = position < 0 ? defaultOffset : offsets[position];
+        int nextPc = frame.getNextPc() + offset;
+        frame.setNextPc(nextPc);
     }
 
     @Override
     public int size() {
-        return 1;
+        return size;
     }
 
 }
@@ -24,7 +24,7 @@ public class RET implements Instruction {
 
     @Override
     public int size() {
-        return 1;
+        return 2;
     }
 
 }
@@ -3,8 +3,6 @@ package com.github.anilople.javajvm.instructions.control;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -26,8 +24,6 @@ import org.slf4j.LoggerFactory;
  */
 public class RETURN implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(RETURN.class);
-
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
 
@@ -36,7 +32,6 @@ public class RETURN implements Instruction {
     @Override
     public void execute(Frame frame) {
         frame.getJvmThread().popFrame();
-        logger.trace("pop frame: {}", frame);
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
     }
@@ -24,7 +24,7 @@ public class JSR_W implements Instruction {
 
     @Override
     public int size() {
-        return 1;
+        return 5;
     }
 
 }
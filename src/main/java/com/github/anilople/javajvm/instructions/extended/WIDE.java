@@ -2,25 +2,97 @@ package com.github.anilople.javajvm.instructions.extended;
 
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.instructions.loads.*;
+import com.github.anilople.javajvm.instructions.stores.*;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
 
+/**
+ * Operation
+ * Extend local variable index by additional bytes
+ *
+ * Description
+ * The wide instruction modifies the behavior of another instruction.
+ * It takes one of two formats, depending on the instruction being
+ * modified. The first form of the wide instruction modifies one of the
+ * instructions iload, fload, aload, lload, dload, istore, fstore,
+ * astore, lstore, dstore, or ret. The second form applies only to the
+ * iinc instruction.
+ *
+ * In either case, the wide opcode itself is followed in the compiled
+ * code by the opcode of the instruction wide modifies. In either form,
+ * two unsigned bytes indexbyte1 and indexbyte2 follow the modified
+ * opcode and are assembled into a 16-bit unsigned index to a local
+ * variable in the current frame. In the iinc form, the index is
+ * followed by two bytes constbyte1 and constbyte2, which are assembled
+ * into a signed 16-bit constant.
+ */
 public class WIDE implements Instruction {
 
+    private static final int IINC_OPCODE = 0x84;
+
+    private int modifiedOpcode;
+
+    private int index;
+
+    private int constValue;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
-
+        this.modifiedOpcode = PrimitiveTypeUtils.intFormUnsignedByte(bytecodeReader.readU1());
+        this.index = PrimitiveTypeUtils.intFormUnsignedShort(bytecodeReader.readU2());
+        if (IINC_OPCODE == modifiedOpcode) {
+            this.constValue = PrimitiveTypeUtils.intFormSignedShort(bytecodeReader.readU2());
+        }
     }
 
     @Override
     public void execute(Frame frame) {
-        throw new RuntimeException("Now cannot support " + this.getClass());
-//        int nextPc = frame.getNextPc() + this.size();
-//        frame.setNextPc(nextPc);
+        switch (modifiedOpcode) {
+            case 0x15:
+                ILOAD.execute(this, frame, index);
+                break;
+            case 0x16:
+                LLOAD.execute(this, frame, index);
+                break;
+            case 0x17:
+                FLOAD.execute(this, frame, index);
+                break;
+            case 0x18:
+                DLOAD.execute(this, frame, index);
+                break;
+            case 0x19:
+                ALOAD.execute(frame, index);
+                frame.setNextPc(frame.getNextPc() + this.size());
+                break;
+            case 0x36:
+                ISTORE.execute(this, frame, index);
+                break;
+            case 0x37:
+                LSTORE.execute(this, frame, index);
+                break;
+            case 0x38:
+                FSTORE.execute(this, frame, index);
+                break;
+            case 0x39:
+                DSTORE.execute(this, frame, index);
+                break;
+            case 0x3a:
+                ASTORE.execute(this, frame, index);
+                break;
+            case IINC_OPCODE:
+                int intValue = frame.getLocalVariables().getIntValue(index);
+                frame.getLocalVariables().setIntValue(index, intValue + constValue);
+                frame.setNextPc(frame.getNextPc() + this.size());
+                break;
+            default:
+                throw new RuntimeException("Now cannot support wide opcode " + modifiedOpcode);
+        }
     }
 
     @Override
     public int size() {
-        return 1;
+        return IINC_OPCODE == modifiedOpcode ? 6 : 4;
     }
 
 }
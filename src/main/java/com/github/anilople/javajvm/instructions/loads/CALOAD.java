@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.CharArrayReference;
 
 /**
  * Operation
@@ -36,10 +36,10 @@ public class CALOAD implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
+        CharArrayReference arrayReference = (CharArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
 
-        char charValue = baseTypeArrayReference.getCharValue(index);
+        char charValue = arrayReference.getCharValue(index);
         frame.getOperandStacks().pushCharValue(charValue);
 
         int nextPc = frame.getNextPc() + this.size();
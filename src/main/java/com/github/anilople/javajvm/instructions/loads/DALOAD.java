@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.DoubleArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.NullReference;
 
 /**
@@ -40,9 +40,9 @@ public class DALOAD implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        double doubleValue = baseTypeArrayReference.getDoubleValue(index);
+        DoubleArrayReference arrayReference = (DoubleArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        double doubleValue = arrayReference.getDoubleValue(index);
         frame.getOperandStacks().pushDoubleValue(doubleValue);
 
         int nextPc = frame.getNextPc() + this.size();
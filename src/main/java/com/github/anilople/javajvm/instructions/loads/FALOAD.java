@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.FloatArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.NullReference;
 
 /**
@@ -28,9 +28,9 @@ public class FALOAD implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        float floatValue = baseTypeArrayReference.getFloatValue(index);
+        FloatArrayReference arrayReference = (FloatArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        float floatValue = arrayReference.getFloatValue(index);
         frame.getOperandStacks().pushFloatValue(floatValue);
 
         int nextPc = frame.getNextPc() + this.size();
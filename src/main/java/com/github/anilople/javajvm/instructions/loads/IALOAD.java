@@ -5,7 +5,7 @@ import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ArrayReference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.IntArrayReference;
 
 /**
  * Operation
@@ -42,9 +42,9 @@ public class IALOAD implements Instruction {
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
 
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        int value = baseTypeArrayReference.getIntValue(index);
+        IntArrayReference arrayReference = (IntArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        int value = arrayReference.getIntValue(index);
         frame.getOperandStacks().pushIntValue(value);
 
         int nextPc = frame.getNextPc() + this.size();
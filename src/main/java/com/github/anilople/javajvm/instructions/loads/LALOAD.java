@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.LongArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.NullReference;
 
 /**
@@ -28,9 +28,9 @@ public class LALOAD implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        long longValue = baseTypeArrayReference.getLongValue(index);
+        LongArrayReference arrayReference = (LongArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        long longValue = arrayReference.getLongValue(index);
         frame.getOperandStacks().pushLongValue(longValue);
 
         int nextPc = frame.getNextPc() + this.size();
@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.ShortArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.NullReference;
 
 /**
@@ -28,9 +28,9 @@ public class SALOAD implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        short shortValue = baseTypeArrayReference.getShortValue(index);
+        ShortArrayReference arrayReference = (ShortArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        short shortValue = arrayReference.getShortValue(index);
         frame.getOperandStacks().pushShortValue(shortValue);
 
         int nextPc = frame.getNextPc() + this.size();
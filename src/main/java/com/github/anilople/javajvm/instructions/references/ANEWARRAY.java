@@ -10,8 +10,6 @@ import com.github.anilople.javajvm.runtimedataarea.reference.ObjectArrayReferenc
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -45,8 +43,6 @@ import org.slf4j.LoggerFactory;
  */
 public class ANEWARRAY implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(ANEWARRAY.class);
-
     private byte indexbyte1;
 
     private byte indexbyte2;
@@ -69,13 +65,10 @@ public class ANEWARRAY implements Instruction {
 
 
         int index = PrimitiveTypeUtils.intFormSignedShort(ByteUtils.bytes2short(indexbyte1, indexbyte2));
-        logger.trace("index = {}", index);
         // class, array, or interface type
         JvmConstant jvmConstant = frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
-        logger.trace("jvmConstant = {}", jvmConstant);
         if(jvmConstant instanceof JvmConstantClass) {
             JvmConstantClass jvmConstantClass = (JvmConstantClass) jvmConstant;
-            logger.trace("className = {}", jvmConstantClass.getName());
             frame.getOperandStacks().pushReference(
                     ANEWARRAY.allocate(jvmConstantClass.resolveJvmClass(), count)
             );
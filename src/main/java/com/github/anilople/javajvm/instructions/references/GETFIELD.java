@@ -1,18 +1,16 @@
 package com.github.anilople.javajvm.instructions.references;
 
-import com.github.anilople.javajvm.constants.Descriptors;
+import com.github.anilople.javajvm.constants.ValueKind;
 import com.github.anilople.javajvm.heap.JvmField;
 import com.github.anilople.javajvm.heap.constant.JvmConstantFieldref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -40,12 +38,19 @@ import org.slf4j.LoggerFactory;
  */
 public class GETFIELD implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(GETFIELD.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
 
+    /**
+     * field resolved, {@link #offset} and {@link #valueKind} are valid when it is not null
+     */
+    private volatile JvmField jvmField;
+
+    private int offset;
+
+    private ValueKind valueKind;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -54,100 +59,60 @@ public class GETFIELD implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
-        JvmConstantFieldref jvmConstantFieldref = (JvmConstantFieldref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
-        JvmField jvmField = jvmConstantFieldref.resolveJvmField();
-        logger.debug("jvm field: {}", jvmField);
-
-        // linking exceptions
-        if(jvmField.isStatic()) {
-            throw new IncompatibleClassChangeError("static field cannot use " + GETFIELD.class);
-        }
-
-        String fieldDescriptor = jvmField.getDescriptor();
-        logger.debug("field descriptor: {}", fieldDescriptor);
-        if(DescriptorUtils.isBaseType(fieldDescriptor)) {
-            // BaseType
-            executeGetBaseType(frame, jvmField);
-        } else if(DescriptorUtils.isObjectType(fieldDescriptor)) {
-            // ObjectType
-            executeGetObjectType(frame, jvmField);
-        } else if(DescriptorUtils.isArrayType(fieldDescriptor)){
-            // ArrayType
-            executeGetArrayType(frame, jvmField);
-        } else {
-            throw new IllegalStateException("Unexpected fieldDescriptor: " + fieldDescriptor);
+        if(null == this.jvmField) {
+            this.quicken(frame);
         }
 
-        int nextPc = frame.getNextPc() + this.size();
-        frame.setNextPc(nextPc);
-    }
-
-    private void executeGetBaseType(Frame frame, JvmField jvmField) {
-        Reference reference = frame.getOperandStacks().popReference();
+        final OperandStacks operandStacks = frame.getOperandStacks();
+        Reference reference = operandStacks.popReference();
         if(Reference.NULL.equals(reference)) {
             throw new NullPointerException();
         }
         ObjectReference objectReference = (ObjectReference) reference;
-        String fieldDescriptor = jvmField.getDescriptor();
-        switch (fieldDescriptor) {
-            case Descriptors.BaseType.BOOLEAN: // boolean
-                boolean booleanValue = objectReference.getBooleanValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushBooleanValue(booleanValue);
-                break;
-            case Descriptors.BaseType.BYTE: // byte
-                byte byteValue = objectReference.getByteValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushByteValue(byteValue);
-                break;
-            case Descriptors.BaseType.CHAR: // char
-                char charValue = objectReference.getCharValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushCharValue(charValue);
+        // boolean, byte, char and short are narrowed when they are put
+        switch (valueKind) {
+            case INT:
+                operandStacks.pushIntValue(objectReference.getIntValue(offset));
                 break;
-            case Descriptors.BaseType.SHORT: // short
-                short shortValue = objectReference.getShortValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushShortValue(shortValue);
+            case FLOAT:
+                operandStacks.pushFloatValue(objectReference.getFloatValue(offset));
                 break;
-            case Descriptors.BaseType.INT:
-                int value = objectReference.getIntValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushIntValue(value);
+            case LONG:
+                operandStacks.pushLongValue(objectReference.getLongValue(offset));
                 break;
-            case Descriptors.BaseType.FLOAT:
-                float floatValue = objectReference.getFloatValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushFloatValue(floatValue);
+            case DOUBLE:
+                operandStacks.pushDoubleValue(objectReference.getDoubleValue(offset));
                 break;
-            case Descriptors.BaseType.LONG:
-                long longValue = objectReference.getLongValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushLongValue(longValue);
-                break;
-            case Descriptors.BaseType.DOUBLE:
-                double doubleValue = objectReference.getDoubleValue(jvmField.calculateNonStaticFieldOffset());
-                frame.getOperandStacks().pushDoubleValue(doubleValue);
+            case REFERENCE:
+                operandStacks.pushReference(objectReference.getReference(offset));
                 break;
             default:
-                throw new IllegalStateException("Unexpected fieldDescriptor: " + fieldDescriptor);
+                throw new IllegalStateException("Unexpected field: " + jvmField);
         }
-    }
 
-    private void executeGetObjectType(Frame frame, JvmField jvmField) {
-        Reference reference = frame.getOperandStacks().popReference();
-        if(Reference.NULL.equals(reference)) {
-            throw new NullPointerException();
-        }
-        ObjectReference objectReference = (ObjectReference) reference;
-        int nonStaticFieldOffset = jvmField.calculateNonStaticFieldOffset();
-        Reference fieldReference = objectReference.getReference(nonStaticFieldOffset);
-        frame.getOperandStacks().pushReference(fieldReference);
+        int nextPc = frame.getNextPc() + this.size();
+        frame.setNextPc(nextPc);
     }
 
-    private void executeGetArrayType(Frame frame, JvmField jvmField) {
-        Reference reference = frame.getOperandStacks().popReference();
-        if(Reference.NULL.equals(reference)) {
-            throw new NullPointerException();
+    /**
+     * resolve the field at first execution,
+     * then remember its offset and kind
+     * @param frame
+     */
+    private void quicken(Frame frame) {
+        int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
+        JvmConstantFieldref jvmConstantFieldref = (JvmConstantFieldref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
+        JvmField jvmField = jvmConstantFieldref.resolveJvmField();
+
+        // linking exceptions
+        if(jvmField.isStatic()) {
+            throw new IncompatibleClassChangeError("static field cannot use " + GETFIELD.class);
         }
-        ObjectReference objectReference = (ObjectReference) reference;
-        int nonStaticFieldOffset = jvmField.calculateNonStaticFieldOffset();
-        Reference fieldReference = objectReference.getReference(nonStaticFieldOffset);
-        frame.getOperandStacks().pushReference(fieldReference);
+
+        this.offset = jvmField.calculateNonStaticFieldOffset();
+        this.valueKind = jvmField.getValueKind();
+        // publish offset and kind
+        this.jvmField = jvmField;
     }
 
     @Override
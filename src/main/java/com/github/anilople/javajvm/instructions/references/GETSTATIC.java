@@ -1,20 +1,15 @@
 package com.github.anilople.javajvm.instructions.references;
 
-import com.github.anilople.javajvm.constants.Descriptors;
-import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.constants.ValueKind;
 import com.github.anilople.javajvm.heap.JvmField;
 import com.github.anilople.javajvm.heap.constant.JvmConstantFieldref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
-import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.ArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import com.github.anilople.javajvm.utils.JvmClassUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -43,12 +38,25 @@ import org.slf4j.LoggerFactory;
  */
 public class GETSTATIC implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(GETSTATIC.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
 
+    /**
+     * field resolved, {@link #staticFieldsValue}, {@link #offset} and {@link #valueKind}
+     * are valid when it is not null
+     */
+    private volatile JvmField jvmField;
+
+    /**
+     * static fields of the class declares the field
+     */
+    private LocalVariables staticFieldsValue;
+
+    private int offset;
+
+    private ValueKind valueKind;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -57,100 +65,61 @@ public class GETSTATIC implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
-        JvmConstantFieldref jvmConstantFieldref = (JvmConstantFieldref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
-        JvmField jvmField = jvmConstantFieldref.resolveJvmField();
-        logger.debug("jvm field: {}", jvmField);
-
-        // linking exceptions
-        if(!(jvmField.isStatic() || jvmField.getJvmClass().isInterface())) {
-            // if the resolved field is not a static
-            // (class) field or an interface field, putstatic throws an
-            // IncompatibleClassChangeError
-            throw new IncompatibleClassChangeError();
+        if(null == this.jvmField) {
+            this.quicken(frame);
         }
 
-        String descriptor = jvmField.getDescriptor();
-        logger.debug("descriptor: {}", descriptor);
-        if(DescriptorUtils.isBaseType(descriptor)) {
-            // BaseType
-            executeGetBaseType(frame, jvmField);
-        } else if(DescriptorUtils.isObjectType(descriptor)) {
-            // ObjectType
-            executeGetObjectType(frame, jvmField);
-        } else if(DescriptorUtils.isArrayType(descriptor)){
-            // ArrayType
-            executeGetArrayType(frame, jvmField);
-        } else {
-            throw new IllegalStateException("Unexpected descriptor: " + descriptor);
-        }
-
-        int nextPc = frame.getNextPc() + this.size();
-        frame.setNextPc(nextPc);
-    }
-
-    public static void executeGetBaseType(Frame frame, JvmField jvmField) {
-        logger.trace("base type get: {} {}", jvmField.getDescriptor(), jvmField.getName());
-        JvmClass fieldBelongClass = JvmClassUtils.getJvmClassStaticFieldBelongTo(jvmField.getJvmClass(), jvmField);
-        int staticFieldOffset = JvmClassUtils.calculateStaticFieldOffsetInNowClass(fieldBelongClass, jvmField);
-        String descriptor = jvmField.getDescriptor();
-        switch (descriptor) {
-            case Descriptors.BaseType.BOOLEAN:
-                boolean booleanValue = fieldBelongClass.getStaticFieldsValue().getBooleanValue(staticFieldOffset);
-                frame.getOperandStacks().pushBooleanValue(booleanValue);
-                break;
-            case Descriptors.BaseType.BYTE:
-                byte byteValue = fieldBelongClass.getStaticFieldsValue().getByteValue(staticFieldOffset);
-                frame.getOperandStacks().pushByteValue(byteValue);
-                break;
-            case Descriptors.BaseType.CHAR:
-                char charValue = fieldBelongClass.getStaticFieldsValue().getCharValue(staticFieldOffset);
-                frame.getOperandStacks().pushCharValue(charValue);
-                break;
-            case Descriptors.BaseType.SHORT:
-                short shortValue = fieldBelongClass.getStaticFieldsValue().getShortValue(staticFieldOffset);
-                frame.getOperandStacks().pushShortValue(shortValue);
+        final OperandStacks operandStacks = frame.getOperandStacks();
+        // boolean, byte, char and short are narrowed when they are put
+        switch (valueKind) {
+            case INT:
+                operandStacks.pushIntValue(staticFieldsValue.getIntValue(offset));
                 break;
-            case Descriptors.BaseType.INT:
-                int intValue = fieldBelongClass.getStaticFieldsValue().getIntValue(staticFieldOffset);
-                frame.getOperandStacks().pushIntValue(intValue);
+            case FLOAT:
+                operandStacks.pushFloatValue(staticFieldsValue.getFloatValue(offset));
                 break;
-            case Descriptors.BaseType.FLOAT:
-                float floatValue = fieldBelongClass.getStaticFieldsValue().getFloatValue(staticFieldOffset);
-                frame.getOperandStacks().pushFloatValue(floatValue);
+            case LONG:
+                operandStacks.pushLongValue(staticFieldsValue.getLongValue(offset));
                 break;
-            case Descriptors.BaseType.LONG:
-                long longValue = fieldBelongClass.getStaticFieldsValue().getLongValue(staticFieldOffset);
-                frame.getOperandStacks().pushLongValue(longValue);
+            case DOUBLE:
+                operandStacks.pushDoubleValue(staticFieldsValue.getDoubleValue(offset));
                 break;
-            case Descriptors.BaseType.DOUBLE:
-                double doubleValue = fieldBelongClass.getStaticFieldsValue().getDoubleValue(staticFieldOffset);
-                frame.getOperandStacks().pushDoubleValue(doubleValue);
+            case REFERENCE:
+                operandStacks.pushReference(staticFieldsValue.getReference(offset));
                 break;
             default:
-                throw new IllegalStateException("Unexpected descriptor: " + descriptor);
+                throw new IllegalStateException("Unexpected field: " + jvmField);
         }
-    }
 
-    public static void executeGetObjectType(Frame frame, JvmField jvmField) {
-        logger.trace("object type get: {} {}", jvmField.getDescriptor(), jvmField.getName());
-        JvmClass fieldBelongClass = JvmClassUtils.getJvmClassStaticFieldBelongTo(jvmField.getJvmClass(), jvmField);
-        int staticFieldOffset = JvmClassUtils.calculateStaticFieldOffsetInNowClass(fieldBelongClass, jvmField);
-        Reference reference = fieldBelongClass.getStaticFieldsValue().getReference(staticFieldOffset);
-        frame.getOperandStacks().pushReference(reference);
+        int nextPc = frame.getNextPc() + this.size();
+        frame.setNextPc(nextPc);
     }
 
     /**
-     * to do
+     * resolve the field at first execution,
+     * then remember its holder, offset and kind.
+     * The declaring class is initialized when it is loaded by resolution,
+     * so there is no initialization check after that.
      * @param frame
-     * @param jvmField
      */
-    public static void executeGetArrayType(Frame frame, JvmField jvmField) {
-        final JvmClass jvmClass = jvmField.getJvmClass();
-        final int staticOffset = jvmField.getStaticFieldOffset();
-        ArrayReference arrayReference = (ArrayReference) jvmClass.getStaticFieldsValue().getReference(staticOffset);
-        frame.getOperandStacks().pushReference(arrayReference);
-//        throw new RuntimeException("executeGetArrayType not implement!");
+    private void quicken(Frame frame) {
+        int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
+        JvmConstantFieldref jvmConstantFieldref = (JvmConstantFieldref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
+        JvmField jvmField = jvmConstantFieldref.resolveJvmField();
+
+        // linking exceptions
+        if(!(jvmField.isStatic() || jvmField.getJvmClass().isInterface())) {
+            // if the resolved field is not a static
+            // (class) field or an interface field, putstatic throws an
+            // IncompatibleClassChangeError
+            throw new IncompatibleClassChangeError();
+        }
+
+        this.staticFieldsValue = jvmField.getJvmClass().getStaticFieldsValue();
+        this.offset = jvmField.getStaticFieldOffset();
+        this.valueKind = jvmField.getValueKind();
+        // publish holder, offset and kind
+        this.jvmField = jvmField;
     }
 
     @Override
@@ -4,23 +4,16 @@ import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmConstantPool;
 import com.github.anilople.javajvm.heap.JvmMethod;
 import com.github.anilople.javajvm.heap.constant.JvmConstant;
-import com.github.anilople.javajvm.heap.constant.JvmConstantClass;
 import com.github.anilople.javajvm.heap.constant.JvmConstantInterfaceMethodref;
-import com.github.anilople.javajvm.heap.constant.JvmConstantNameAndType;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.natives.NativeMethod;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import com.github.anilople.javajvm.utils.HackUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.List;
 
 /**
  * Operation
@@ -42,8 +35,6 @@ import java.util.List;
  */
 public class INVOKEINTERFACE implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(INVOKEINTERFACE.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
@@ -59,6 +50,11 @@ public class INVOKEINTERFACE implements Instruction {
      */
     private byte zero;
 
+    /**
+     * created when this call site is executed first time
+     */
+    private volatile InlineCache inlineCache;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -69,47 +65,47 @@ public class INVOKEINTERFACE implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        final JvmMethod currentMethod = frame.getJvmMethod();
-        final JvmClass currentClass = currentMethod.getJvmClass();
-        final JvmConstantPool currentConstantPool = currentClass.getJvmConstantPool();
-
-        // jvm specification. 5.4.3.4 Interface Method Resolution
-        int index = this.resolveIndex();
-        JvmConstantInterfaceMethodref jvmConstantInterfaceMethodref = (JvmConstantInterfaceMethodref) currentConstantPool.getJvmConstant(index);
-
-        final JvmConstantClass jvmConstantClass = jvmConstantInterfaceMethodref.resolveJvmConstantClass();
-        final JvmConstantNameAndType jvmConstantNameAndType = jvmConstantInterfaceMethodref.resolveJvmConstantNameAndType();
-        final JvmClass interfaceClass = jvmConstantClass.resolveJvmClass();
-        if(!interfaceClass.isInterface()) {
-            throw new IncompatibleClassChangeError(interfaceClass + " is not an interface");
+        InlineCache inlineCache = this.inlineCache;
+        if(null == inlineCache) {
+            final JvmMethod currentMethod = frame.getJvmMethod();
+            final JvmClass currentClass = currentMethod.getJvmClass();
+            final JvmConstantPool currentConstantPool = currentClass.getJvmConstantPool();
+
+            // jvm specification. 5.4.3.4 Interface Method Resolution
+            int index = this.resolveIndex();
+            JvmConstantInterfaceMethodref jvmConstantInterfaceMethodref = (JvmConstantInterfaceMethodref) currentConstantPool.getJvmConstant(index);
+            final JvmMethod interfaceMethod = jvmConstantInterfaceMethodref.resolveJvmMethod();
+            inlineCache = this.createInlineCache(
+                    frame,
+                    interfaceMethod,
+                    jvmConstantInterfaceMethodref.getMethodSignature().getArgumentsSlots() + 1
+            );
         }
-        final String methodName = jvmConstantNameAndType.getName();
-        final String methodDescriptor = jvmConstantNameAndType.getDescriptor();
-
-        logger.trace("method descriptor: {}", methodDescriptor);
-        List<String> parameterDescriptors = DescriptorUtils.getParameterDescriptor(methodDescriptor);
-        // pop args and object reference
-        LocalVariables localVariables = DescriptorUtils.popArgsByParameterDescriptor(
-                true,
-                frame.getOperandStacks(),
-                parameterDescriptors
-        );
 
-        final Reference reference = localVariables.getReference(0);
+        // object reference is under the args
+        final int argsSlots = inlineCache.getArgumentsSlots();
+        final Reference reference = frame.getOperandStacks().peekReference(argsSlots - 1);
         if(Reference.isNull(reference)) {
             throw new NullPointerException();
         }
         final ObjectReference objectref = (ObjectReference) reference;
-        final JvmMethod jvmMethod = objectref.getJvmClass().getMethod(methodName, methodDescriptor);
-        if(jvmMethod.isNative()) {
-            throw new RuntimeException(this.getClass() + " now cannot support native method " + jvmMethod);
+        // dispatch by inline cache, or itable of the class of object reference
+        final JvmMethod jvmMethod = inlineCache.lookup(objectref.getJvmClass());
+        final NativeMethod nativeMethod = jvmMethod.getNativeMethod();
+        if(null != nativeMethod) {
+            // native method selected
+            LocalVariables localVariables = jvmMethod.getSignature().popArgs(true, frame.getOperandStacks());
+            nativeMethod.invoke(frame, jvmMethod, localVariables);
+            int nextPc = frame.getNextPc() + this.size();
+            frame.setNextPc(nextPc);
+            return;
         }
 
         // make a new frame of this method
         Frame methodFrame = new Frame(
                 frame.getJvmThread(),
                 jvmMethod,
-                localVariables
+                argsSlots
         );
         // before invoke new method, we need to save pc in current method
         int nextPc = frame.getNextPc() + this.size();
@@ -118,6 +114,20 @@ public class INVOKEINTERFACE implements Instruction {
         frame.getJvmThread().pushFrame(methodFrame);
     }
 
+    private synchronized InlineCache createInlineCache(Frame frame, JvmMethod interfaceMethod, int argumentsSlots) {
+        if(null == this.inlineCache) {
+            this.inlineCache = new InlineCache(frame.getJvmMethod(), frame.getNextPc(), interfaceMethod, argumentsSlots);
+        }
+        return this.inlineCache;
+    }
+
+    /**
+     * @return inline cache of this call site, null if it is not executed
+     */
+    public InlineCache getInlineCache() {
+        return inlineCache;
+    }
+
     @Override
     public int size() {
         return 5;
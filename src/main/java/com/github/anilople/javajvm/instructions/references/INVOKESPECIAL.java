@@ -1,22 +1,20 @@
 package com.github.anilople.javajvm.instructions.references;
 
 import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.heap.MethodSignature;
 import com.github.anilople.javajvm.heap.constant.JvmConstantMethodref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.natives.NativeMethod;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import com.github.anilople.javajvm.utils.HackUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 /**
  * Operation
  * Invoke instance method; special handling for superclass, private,
@@ -57,7 +55,6 @@ public class INVOKESPECIAL implements Instruction {
         int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
         JvmConstantMethodref jvmConstantMethodref = (JvmConstantMethodref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
         JvmMethod jvmMethod = jvmConstantMethodref.resolveJvmMethod();
-        logger.trace("jvm method: {}", jvmMethod);
 
         // exception
         if(null == jvmMethod) {
@@ -71,27 +68,23 @@ public class INVOKESPECIAL implements Instruction {
             throw new AbstractMethodError();
         }
 
-        String methodDescriptor = jvmMethod.getDescriptor();
-        logger.trace("method descriptor: {}", methodDescriptor);
-        List<String> parameterDescriptors = DescriptorUtils.getParameterDescriptor(methodDescriptor);
-        // pop args and object reference
-        LocalVariables localVariables = DescriptorUtils.popArgsByParameterDescriptor(
-                true,
-                frame.getOperandStacks(),
-                parameterDescriptors
-        );
+        final MethodSignature signature = jvmMethod.getSignature();
 
-        // use hack skill
-        if(HackUtils.isInHackMethods(jvmMethod)) {
-            HackUtils.hackMethod(frame, jvmMethod, localVariables);
+        // native method or hacked method
+        final NativeMethod nativeMethod = jvmMethod.getNativeMethod();
+        if(null != nativeMethod) {
+            // pop args and object reference
+            LocalVariables localVariables = signature.popArgs(true, frame.getOperandStacks());
+            nativeMethod.invoke(frame, jvmMethod, localVariables);
             // early return here
             int nextPc = frame.getNextPc() + this.size();
             frame.setNextPc(nextPc);
             return;
         }
 
-        // get object reference which has pop already
-        Reference reference = localVariables.getReference(0);
+        // object reference is under the args
+        final int argsSlots = signature.getArgumentsSlots() + 1;
+        Reference reference = frame.getOperandStacks().peekReference(argsSlots - 1);
         if(Reference.NULL.equals(reference)) {
             throw new NullPointerException(INVOKESPECIAL.class.toString());
         }
@@ -101,6 +94,7 @@ public class INVOKESPECIAL implements Instruction {
         // native method check
         if(jvmMethod.isNative()) {
             logger.warn("native method: {} not support now.", jvmMethod);
+            frame.getOperandStacks().popSlots(argsSlots);
             // check register or not, to do
             // early return here
             int nextPc = frame.getNextPc() + this.size();
@@ -112,7 +106,7 @@ public class INVOKESPECIAL implements Instruction {
         Frame methodFrame = new Frame(
                 frame.getJvmThread(),
                 jvmMethod,
-                localVariables
+                argsSlots
         );
         // before invoke new method, we need to save pc in current method
         int nextPc = frame.getNextPc() + this.size();
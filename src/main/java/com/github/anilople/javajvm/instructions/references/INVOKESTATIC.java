@@ -1,24 +1,18 @@
 package com.github.anilople.javajvm.instructions.references;
 
 import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.heap.MethodSignature;
 import com.github.anilople.javajvm.heap.constant.JvmConstantMethodref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.natives.NativeMethod;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import com.github.anilople.javajvm.utils.HackUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.List;
 
 public class INVOKESTATIC implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(INVOKESTATIC.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
@@ -36,7 +30,6 @@ public class INVOKESTATIC implements Instruction {
         // ignore interface method
         JvmConstantMethodref jvmConstantMethodref = (JvmConstantMethodref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
         JvmMethod jvmMethod = jvmConstantMethodref.resolveJvmMethod();
-        logger.trace("jvm class: {}, method: {}", jvmMethod.getJvmClass().getName(), jvmMethod);
 
         //
         if(!jvmMethod.isStatic()) {
@@ -44,19 +37,14 @@ public class INVOKESTATIC implements Instruction {
         }
 
 
-        String methodDescriptor = jvmMethod.getDescriptor();
-        logger.trace("method descriptor: {}", methodDescriptor);
-        List<String> parameterDescriptors = DescriptorUtils.getParameterDescriptor(methodDescriptor);
-        // pop args and object reference
-        LocalVariables localVariables = DescriptorUtils.popArgsByParameterDescriptor(
-                false,
-                frame.getOperandStacks(),
-                parameterDescriptors
-        );
+        final MethodSignature signature = jvmMethod.getSignature();
 
-        // use hack skill
-        if(HackUtils.isInHackMethods(jvmMethod)) {
-            HackUtils.hackMethod(frame, jvmMethod, localVariables);
+        // native method or hacked method
+        final NativeMethod nativeMethod = jvmMethod.getNativeMethod();
+        if(null != nativeMethod) {
+            // pop args
+            LocalVariables localVariables = signature.popArgs(false, frame.getOperandStacks());
+            nativeMethod.invoke(frame, jvmMethod, localVariables);
             // early return here
             int nextPc = frame.getNextPc() + this.size();
             frame.setNextPc(nextPc);
@@ -65,8 +53,8 @@ public class INVOKESTATIC implements Instruction {
 
         // native method check
         if(jvmMethod.isNative()) {
-            logger.debug("class {}, native method: {}, {}", jvmMethod.getJvmClass().getName(), jvmMethod.getName(), jvmMethod.getDescriptor());
             // check register or not, to do
+            frame.getOperandStacks().popSlots(signature.getArgumentsSlots());
             // early return here
             int nextPc = frame.getNextPc() + this.size();
             frame.setNextPc(nextPc);
@@ -77,7 +65,7 @@ public class INVOKESTATIC implements Instruction {
         Frame staticMethodFrame = new Frame(
                 frame.getJvmThread(),
                 jvmMethod,
-                localVariables
+                signature.getArgumentsSlots()
         );
         // before invoke new method, we need to save pc in current method
         int nextPc = frame.getNextPc() + this.size();
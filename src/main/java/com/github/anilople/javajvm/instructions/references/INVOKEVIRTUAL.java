@@ -5,18 +5,13 @@ import com.github.anilople.javajvm.heap.constant.JvmConstant;
 import com.github.anilople.javajvm.heap.constant.JvmConstantMethodref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.natives.NativeMethod;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import com.github.anilople.javajvm.utils.HackUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.util.List;
 
 /**
  * Operation
@@ -48,12 +43,15 @@ import java.util.List;
  */
 public class INVOKEVIRTUAL implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(INVOKEVIRTUAL.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
 
+    /**
+     * created when this call site is executed first time
+     */
+    private volatile InlineCache inlineCache;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -62,53 +60,60 @@ public class INVOKEVIRTUAL implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        int index = this.resolveIndex();
-        final JvmConstant jvmConstant = frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
-        final JvmConstantMethodref jvmConstantMethodref = (JvmConstantMethodref) jvmConstant;
-        final JvmMethod jvmMethod = jvmConstantMethodref.resolveJvmMethod();
-        if(jvmMethod.isStatic()) {
-            throw new IncompatibleClassChangeError(jvmMethod.getName() + " " + ((JvmConstantMethodref) jvmConstant).getDescriptor());
+        InlineCache inlineCache = this.inlineCache;
+        if(null == inlineCache) {
+            int index = this.resolveIndex();
+            final JvmConstant jvmConstant = frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
+            final JvmConstantMethodref jvmConstantMethodref = (JvmConstantMethodref) jvmConstant;
+            final JvmMethod jvmMethod = jvmConstantMethodref.resolveJvmMethod();
+            if(jvmMethod.isStatic()) {
+                throw new IncompatibleClassChangeError(jvmMethod.getName() + " " + ((JvmConstantMethodref) jvmConstant).getDescriptor());
+            }
+
+            // hacked method is not dispatched, i.e System.out,
+            // native method is dispatched like others
+            final NativeMethod nativeMethod = jvmMethod.getNativeMethod();
+            if(null != nativeMethod && !jvmMethod.isNative()) {
+                // pop args and object reference
+                LocalVariables localVariables = jvmMethod.getSignature().popArgs(true, frame.getOperandStacks());
+                nativeMethod.invoke(frame, jvmMethod, localVariables);
+                // early return here
+                int nextPc = frame.getNextPc() + this.size();
+                frame.setNextPc(nextPc);
+                return;
+            }
+
+            inlineCache = this.createInlineCache(frame, jvmMethod);
         }
 
-        String methodDescriptor = jvmMethod.getDescriptor();
-        logger.trace("method descriptor: {}", methodDescriptor);
-        List<String> parameterDescriptors = DescriptorUtils.getParameterDescriptor(methodDescriptor);
-        // pop args and object reference
-        LocalVariables localVariables = DescriptorUtils.popArgsByParameterDescriptor(
-                true,
-                frame.getOperandStacks(),
-                parameterDescriptors
-        );
+        // object reference is under the args
+        final int argsSlots = inlineCache.getArgumentsSlots();
+        Reference reference = frame.getOperandStacks().peekReference(argsSlots - 1);
+        Reference.assertIsNotNull(reference);
 
-        // use hack skill
-        if(HackUtils.isInHackMethods(jvmMethod)) {
-            // hack with System.out
-            HackUtils.hackMethod(frame, jvmMethod, localVariables);
-            // early return here
+        final JvmMethod jvmMethodResolved;
+        if(reference instanceof ObjectReference) {
+            // select the real jvm method by inline cache, or vtable (dispatch based on class)
+            jvmMethodResolved = inlineCache.lookup(((ObjectReference) reference).getJvmClass());
+        } else {
+            // array reference, only methods of java.lang.Object
+            jvmMethodResolved = inlineCache.getResolvedMethod();
+        }
+        final NativeMethod nativeMethod = jvmMethodResolved.getNativeMethod();
+        if(null != nativeMethod) {
+            // native method selected
+            LocalVariables localVariables = jvmMethodResolved.getSignature().popArgs(true, frame.getOperandStacks());
+            nativeMethod.invoke(frame, jvmMethodResolved, localVariables);
             int nextPc = frame.getNextPc() + this.size();
             frame.setNextPc(nextPc);
             return;
         }
 
-        // get object reference which has pop already
-        Reference reference = localVariables.getReference(0);
-        Reference.assertIsNotNull(reference);
-
-        // may the reference is array reference, todo
-        ObjectReference objectReference = (ObjectReference) reference;
-        // check the object ref, todo
-
-        // resolve the real jvm method (dispatch based on class)
-        final JvmMethod jvmMethodResolved =
-                objectReference.getJvmClass().getMethod(
-                        jvmMethod.getName(), jvmMethod.getDescriptor()
-                );
-
         // make a new frame of this method
         Frame methodFrame = new Frame(
                 frame.getJvmThread(),
                 jvmMethodResolved,
-                localVariables
+                argsSlots
         );
         // before invoke new method, we need to save pc in current method
         int nextPc = frame.getNextPc() + this.size();
@@ -117,6 +122,25 @@ public class INVOKEVIRTUAL implements Instruction {
         frame.getJvmThread().pushFrame(methodFrame);
     }
 
+    private synchronized InlineCache createInlineCache(Frame frame, JvmMethod jvmMethod) {
+        if(null == this.inlineCache) {
+            this.inlineCache = new InlineCache(
+                    frame.getJvmMethod(),
+                    frame.getNextPc(),
+                    jvmMethod,
+                    jvmMethod.getSignature().getArgumentsSlots() + 1
+            );
+        }
+        return this.inlineCache;
+    }
+
+    /**
+     * @return inline cache of this call site, null if it is not executed
+     */
+    public InlineCache getInlineCache() {
+        return inlineCache;
+    }
+
     @Override
     public int size() {
         return 3;
@@ -0,0 +1,177 @@
+package com.github.anilople.javajvm.instructions.references;
+
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * polymorphic inline cache of a call site,
+ * i.e an invokevirtual or invokeinterface instruction in a method.
+ *
+ * The method selected is remembered by the class of object reference,
+ * monomorphic first, then polymorphic up to {@link #MAX_ENTRIES} classes.
+ * When it is full, the call site is megamorphic,
+ * the method is selected by vtable or itable every time.
+ *
+ * The counters are not synchronized, under many threads they are approximate.
+ */
+public class InlineCache {
+
+    /**
+     * max receiver classes remembered by a call site
+     */
+    public static final int MAX_ENTRIES = 4;
+
+    /**
+     * every call site has been executed
+     */
+    private static final Queue<InlineCache> INLINE_CACHES = new ConcurrentLinkedQueue<>();
+
+    /**
+     * the method contains this call site
+     */
+    private final JvmMethod caller;
+
+    private final int pc;
+
+    /**
+     * method resolved from symbolic reference
+     */
+    private final JvmMethod resolvedMethod;
+
+    /**
+     * slots of arguments, include object reference
+     */
+    private final int argumentsSlots;
+
+    /**
+     * replaced but never changed, so readers see a complete array
+     */
+    private volatile Entry[] entries = new Entry[0];
+
+    private long hits;
+
+    private long misses;
+
+    private long megamorphicLookups;
+
+    InlineCache(JvmMethod caller, int pc, JvmMethod resolvedMethod, int argumentsSlots) {
+        this.caller = caller;
+        this.pc = pc;
+        this.resolvedMethod = resolvedMethod;
+        this.argumentsSlots = argumentsSlots;
+        INLINE_CACHES.add(this);
+    }
+
+    /**
+     * @return inline caches of all call sites executed
+     */
+    public static List<InlineCache> getInlineCaches() {
+        return new ArrayList<>(INLINE_CACHES);
+    }
+
+    public static void resetCounters() {
+        for (InlineCache inlineCache : INLINE_CACHES) {
+            inlineCache.hits = 0;
+            inlineCache.misses = 0;
+            inlineCache.megamorphicLookups = 0;
+        }
+    }
+
+    /**
+     * @param receiverClass class of object reference
+     * @return method to invoke
+     */
+    JvmMethod lookup(JvmClass receiverClass) {
+        Entry[] entries = this.entries;
+        for (Entry entry : entries) {
+            if (entry.receiverClass == receiverClass) {
+                hits++;
+                return entry.method;
+            }
+        }
+
+        JvmMethod method = receiverClass.selectMethod(resolvedMethod);
+        if (entries.length < MAX_ENTRIES) {
+            misses++;
+            Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = new Entry(receiverClass, method);
+            this.entries = newEntries;
+        } else {
+            megamorphicLookups++;
+        }
+        return method;
+    }
+
+    JvmMethod getResolvedMethod() {
+        return resolvedMethod;
+    }
+
+    int getArgumentsSlots() {
+        return argumentsSlots;
+    }
+
+    public JvmMethod getCaller() {
+        return caller;
+    }
+
+    public int getPc() {
+        return pc;
+    }
+
+    /**
+     * @return how many receiver classes remembered
+     */
+    public int getReceiverClassesCount() {
+        return entries.length;
+    }
+
+    public boolean isMonomorphic() {
+        return 1 == entries.length;
+    }
+
+    public boolean isMegamorphic() {
+        return MAX_ENTRIES == entries.length && megamorphicLookups > 0;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getMegamorphicLookups() {
+        return megamorphicLookups;
+    }
+
+    @Override
+    public String toString() {
+        return "InlineCache{" +
+                caller.getJvmClass().getName() + "." + caller.getName() + caller.getDescriptor() +
+                ", pc=" + pc +
+                ", receiverClasses=" + entries.length +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", megamorphicLookups=" + megamorphicLookups +
+                '}';
+    }
+
+    private static class Entry {
+
+        private final JvmClass receiverClass;
+
+        private final JvmMethod method;
+
+        Entry(JvmClass receiverClass, JvmMethod method) {
+            this.receiverClass = receiverClass;
+            this.method = method;
+        }
+    }
+}
@@ -9,8 +9,6 @@ import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -40,12 +38,15 @@ import org.slf4j.LoggerFactory;
  */
 public class NEW implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(NEW.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
 
+    /**
+     * class resolved and checked at first execution
+     */
+    private volatile JvmClass targetJvmClass;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -54,19 +55,21 @@ public class NEW implements Instruction {
 
     @Override
     public void execute(Frame frame) {
+        JvmClass targetJvmClass = this.targetJvmClass;
+        if(null == targetJvmClass) {
+            int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
+            JvmConstantClass jvmConstantClass = (JvmConstantClass) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
 
-        int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
-        JvmConstantClass jvmConstantClass = (JvmConstantClass) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
-
-        // some type cannot be allocated to an instance
-        final JvmClass targetJvmClass = jvmConstantClass.resolveJvmClass();
-        if(targetJvmClass.isInterface()
-            || targetJvmClass.isAbstract()) {
-            throw new InstantiationError("cannot initial " + targetJvmClass);
+            // some type cannot be allocated to an instance
+            targetJvmClass = jvmConstantClass.resolveJvmClass();
+            if(targetJvmClass.isInterface()
+                || targetJvmClass.isAbstract()) {
+                throw new InstantiationError("cannot initial " + targetJvmClass);
+            }
+            this.targetJvmClass = targetJvmClass;
         }
 
         // allocate an object without initial
-        logger.debug("try to allocate an object: {}", targetJvmClass);
         ObjectReference objectReference = ObjectReference.makeObjectReference(targetJvmClass);
         frame.getOperandStacks().pushReference(objectReference);
 
@@ -82,7 +82,7 @@ public class NEWARRAY implements Instruction {
      * @return
      */
     public static BaseTypeArrayReference allocate(JvmClassLoader jvmClassLoader, byte typeCode, int count) {
-        return new BaseTypeArrayReference(jvmClassLoader, typeCode, count);
+        return BaseTypeArrayReference.allocate(jvmClassLoader, typeCode, count);
     }
 
     /**
@@ -1,7 +1,7 @@
 package com.github.anilople.javajvm.instructions.references;
 
-import com.github.anilople.javajvm.constants.Descriptors;
 import com.github.anilople.javajvm.constants.SpecialMethods;
+import com.github.anilople.javajvm.constants.ValueKind;
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmConstantPool;
 import com.github.anilople.javajvm.heap.JvmField;
@@ -9,14 +9,11 @@ import com.github.anilople.javajvm.heap.constant.JvmConstantFieldref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.ArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -33,12 +30,25 @@ import org.slf4j.LoggerFactory;
  */
 public class PUTFIELD implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(PUTFIELD.class);
-
     private byte indexByte1;
 
     private byte indexByte2;
 
+    /**
+     * field resolved, {@link #offset}, {@link #valueKind} and {@link #baseType}
+     * are valid when it is not null
+     */
+    private volatile JvmField jvmField;
+
+    private int offset;
+
+    private ValueKind valueKind;
+
+    /**
+     * first char of field descriptor, to narrow the int value
+     */
+    private char baseType;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -47,13 +57,85 @@ public class PUTFIELD implements Instruction {
 
     @Override
     public void execute(Frame frame) {
+        if(null == this.jvmField) {
+            this.quicken(frame);
+        }
+
+        final OperandStacks operandStacks = frame.getOperandStacks();
+        switch (valueKind) {
+            case INT: {
+                final int intValue;
+                switch (baseType) {
+                    case 'Z':
+                        intValue = operandStacks.popBooleanValue() ? 1 : 0;
+                        break;
+                    case 'B':
+                        intValue = operandStacks.popByteValue();
+                        break;
+                    case 'C':
+                        intValue = operandStacks.popCharValue();
+                        break;
+                    case 'S':
+                        intValue = operandStacks.popShortValue();
+                        break;
+                    default:
+                        intValue = operandStacks.popIntValue();
+                        break;
+                }
+                popObjectReference(operandStacks).setIntValue(offset, intValue);
+                break;
+            }
+            case FLOAT: {
+                float floatValue = operandStacks.popFloatValue();
+                popObjectReference(operandStacks).setFloatValue(offset, floatValue);
+                break;
+            }
+            case LONG: {
+                long longValue = operandStacks.popLongValue();
+                popObjectReference(operandStacks).setLongValue(offset, longValue);
+                break;
+            }
+            case DOUBLE: {
+                double doubleValue = operandStacks.popDoubleValue();
+                popObjectReference(operandStacks).setDoubleValue(offset, doubleValue);
+                break;
+            }
+            case REFERENCE: {
+                // type conform check, to do
+                Reference referenceValue = operandStacks.popReference();
+                popObjectReference(operandStacks).setReference(offset, referenceValue);
+                break;
+            }
+            default:
+                throw new IllegalStateException("Unexpected field: " + jvmField);
+        }
+
+        int nextPc = frame.getNextPc() + this.size();
+        frame.setNextPc(nextPc);
+    }
+
+    private static ObjectReference popObjectReference(OperandStacks operandStacks) {
+        Reference reference = operandStacks.popReference();
+        if(Reference.NULL.equals(reference)) {
+            throw new NullPointerException();
+        }
+        return (ObjectReference) reference;
+    }
+
+    /**
+     * resolve and check the field at first execution,
+     * then remember its offset and kind.
+     * The method of this instruction never changes,
+     * so the access check is done once too.
+     * @param frame
+     */
+    private void quicken(Frame frame) {
         JvmClass jvmClass = frame.getJvmMethod().getJvmClass();
         JvmConstantPool jvmConstantPool = jvmClass.getJvmConstantPool();
         int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
         JvmConstantFieldref jvmConstantFieldref = (JvmConstantFieldref) jvmConstantPool.getJvmConstant(index);
 
         JvmField jvmField = jvmConstantFieldref.resolveJvmField();
-        logger.debug("jvm field: {}", jvmField);
 
         // linking exceptions
         if(jvmField.isStatic()) {
@@ -82,146 +164,11 @@ public class PUTFIELD implements Instruction {
             }
         }
 
-        String fieldDescriptor = jvmField.getDescriptor();
-        logger.debug("field descriptor: {}", fieldDescriptor);
-        if(DescriptorUtils.isBaseType(fieldDescriptor)) {
-            // BaseType
-            executePutBaseType(frame, jvmField);
-        } else if(DescriptorUtils.isObjectType(fieldDescriptor)) {
-            // ObjectType
-            executePutObjectType(frame, jvmField);
-        } else if(DescriptorUtils.isArrayType(fieldDescriptor)){
-            // ArrayType
-            executePutArrayType(frame, jvmField);
-        } else {
-            throw new IllegalStateException("Unexpected fieldDescriptor: " + fieldDescriptor);
-        }
-
-        int nextPc = frame.getNextPc() + this.size();
-        frame.setNextPc(nextPc);
-    }
-
-    private void executePutBaseType(Frame frame, JvmField jvmField) {
-        String descriptor = jvmField.getDescriptor();
-        int nonStaticFieldOffset = jvmField.calculateNonStaticFieldOffset();
-        switch (descriptor) {
-            case Descriptors.BaseType.BOOLEAN: {
-                boolean booleanValue = frame.getOperandStacks().popBooleanValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setBooleanValue(nonStaticFieldOffset, booleanValue);
-                break;
-            }
-            case Descriptors.BaseType.BYTE: {
-                byte byteValue = frame.getOperandStacks().popByteValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setByteValue(nonStaticFieldOffset, byteValue);
-                break;
-            }
-            case Descriptors.BaseType.CHAR: {
-                char charValue = frame.getOperandStacks().popCharValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setCharValue(nonStaticFieldOffset, charValue);
-                break;
-            }
-            case Descriptors.BaseType.SHORT: {
-                short shortValue = frame.getOperandStacks().popShortValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setShortValue(nonStaticFieldOffset, shortValue);
-                break;
-            }
-            case Descriptors.BaseType.INT: {
-                int intValue = frame.getOperandStacks().popIntValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setIntValue(nonStaticFieldOffset, intValue);
-                break;
-            }
-            case Descriptors.BaseType.FLOAT: {
-                float floatValue = frame.getOperandStacks().popFloatValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setFloatValue(nonStaticFieldOffset, floatValue);
-                break;
-            }
-            case Descriptors.BaseType.LONG: {
-                long longValue = frame.getOperandStacks().popLongValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setLongValue(nonStaticFieldOffset, longValue);
-                break;
-            }
-            case Descriptors.BaseType.DOUBLE: {
-                double doubleValue = frame.getOperandStacks().popDoubleValue();
-                Reference reference = frame.getOperandStacks().popReference();
-                if(Reference.NULL.equals(reference)) {
-                    throw new NullPointerException();
-                }
-                ObjectReference objectReference = (ObjectReference) reference;
-                objectReference.setDoubleValue(nonStaticFieldOffset, doubleValue);
-                break;
-            }
-            default:
-                throw new IllegalStateException("Unexpected descriptor: " + descriptor);
-        }
-    }
-
-    /**
-     *  If
-     * the field descriptor type is a reference type, then the value must
-     * be of a type that is assignment compatible (JLS §5.2) with the
-     * field descriptor type.
-     * @param frame
-     * @param jvmField
-     */
-    private void executePutObjectType(Frame frame, JvmField jvmField) {
-        int nonStaticFieldOffset = jvmField.calculateNonStaticFieldOffset();
-        Reference referenceValue = frame.getOperandStacks().popReference();
-        Reference reference = frame.getOperandStacks().popReference();
-        if(Reference.NULL.equals(reference)) {
-            throw new NullPointerException();
-        }
-        // type conform check, to do
-//        logger.warn("without type conform check with {} and {}", reference, referenceValue);
-        ObjectReference objectReference = (ObjectReference) reference;
-        objectReference.setReference(nonStaticFieldOffset, referenceValue);
-    }
-
-    private void executePutArrayType(Frame frame, JvmField jvmField) {
-        int nonStaticFieldOffset = jvmField.calculateNonStaticFieldOffset();
-        ArrayReference arrayReference = (ArrayReference) frame.getOperandStacks().popReference();
-        Reference reference = frame.getOperandStacks().popReference();
-        if(Reference.NULL.equals(reference)) {
-            throw new NullPointerException();
-        }
-        // type conform check, to do
-//        logger.warn("without type conform check with {} and {}", reference, arrayReference);
-        ObjectReference objectReference = (ObjectReference) reference;
-        objectReference.setReference(nonStaticFieldOffset, arrayReference);
+        this.offset = jvmField.calculateNonStaticFieldOffset();
+        this.valueKind = jvmField.getValueKind();
+        this.baseType = jvmField.getDescriptor().charAt(0);
+        // publish offset and kind
+        this.jvmField = jvmField;
     }
 
     @Override
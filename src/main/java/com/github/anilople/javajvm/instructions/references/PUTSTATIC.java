@@ -1,19 +1,15 @@
 package com.github.anilople.javajvm.instructions.references;
 
-import com.github.anilople.javajvm.constants.Descriptors;
 import com.github.anilople.javajvm.constants.SpecialMethods;
-import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.constants.ValueKind;
 import com.github.anilople.javajvm.heap.JvmField;
 import com.github.anilople.javajvm.heap.constant.JvmConstantFieldref;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
-import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.ArrayReference;
-import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 import com.github.anilople.javajvm.utils.ByteUtils;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
-import com.github.anilople.javajvm.utils.JvmClassUtils;
 import com.github.anilople.javajvm.utils.PrimitiveTypeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +64,26 @@ public class PUTSTATIC implements Instruction {
 
     private byte indexByte2;
 
+    /**
+     * field resolved, {@link #staticFieldsValue}, {@link #offset}, {@link #valueKind}
+     * and {@link #baseType} are valid when it is not null
+     */
+    private volatile JvmField jvmField;
+
+    /**
+     * static fields of the class declares the field
+     */
+    private LocalVariables staticFieldsValue;
+
+    private int offset;
+
+    private ValueKind valueKind;
+
+    /**
+     * first char of field descriptor, to narrow the int value
+     */
+    private char baseType;
+
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
         this.indexByte1 = bytecodeReader.readU1();
@@ -76,10 +92,64 @@ public class PUTSTATIC implements Instruction {
 
     @Override
     public void execute(Frame frame) {
+        if(null == this.jvmField) {
+            this.quicken(frame);
+        }
+
+        final OperandStacks operandStacks = frame.getOperandStacks();
+        switch (valueKind) {
+            case INT:
+                final int intValue;
+                switch (baseType) {
+                    case 'Z':
+                        intValue = operandStacks.popBooleanValue() ? 1 : 0;
+                        break;
+                    case 'B':
+                        intValue = operandStacks.popByteValue();
+                        break;
+                    case 'C':
+                        intValue = operandStacks.popCharValue();
+                        break;
+                    case 'S':
+                        intValue = operandStacks.popShortValue();
+                        break;
+                    default:
+                        intValue = operandStacks.popIntValue();
+                        break;
+                }
+                staticFieldsValue.setIntValue(offset, intValue);
+                break;
+            case FLOAT:
+                staticFieldsValue.setFloatValue(offset, operandStacks.popFloatValue());
+                break;
+            case LONG:
+                staticFieldsValue.setLongValue(offset, operandStacks.popLongValue());
+                break;
+            case DOUBLE:
+                staticFieldsValue.setDoubleValue(offset, operandStacks.popDoubleValue());
+                break;
+            case REFERENCE:
+                staticFieldsValue.setReference(offset, operandStacks.popReference());
+                break;
+            default:
+                throw new IllegalStateException("Unexpected field: " + jvmField);
+        }
+
+        int nextPc = frame.getNextPc() + this.size();
+        frame.setNextPc(nextPc);
+    }
+
+    /**
+     * resolve and check the field at first execution,
+     * then remember its holder, offset and kind.
+     * The declaring class is initialized when it is loaded by resolution,
+     * so there is no initialization check after that.
+     * @param frame
+     */
+    private void quicken(Frame frame) {
         int index = PrimitiveTypeUtils.intFormUnsignedShort(ByteUtils.bytes2short(indexByte1, indexByte2));
         JvmConstantFieldref jvmConstantFieldref = (JvmConstantFieldref) frame.getJvmMethod().getJvmClass().getJvmConstantPool().getJvmConstant(index);
         JvmField jvmField = jvmConstantFieldref.resolveJvmField();
-        logger.debug("jvm field: {}", jvmField);
 
         // linking exceptions
         if(!(jvmField.isStatic() || jvmField.getJvmClass().isInterface())) {
@@ -102,79 +172,12 @@ public class PUTSTATIC implements Instruction {
             }
         }
 
-        String descriptor = jvmField.getDescriptor();
-        logger.debug("descriptor: {}", descriptor);
-        if(DescriptorUtils.isBaseType(descriptor)) {
-            // BaseType
-            executePutBaseType(frame, jvmField);
-        } else if(DescriptorUtils.isObjectType(descriptor)) {
-            // ObjectType
-            executePutObjectType(frame, jvmField);
-        } else if(DescriptorUtils.isArrayType(descriptor)){
-            // ArrayType
-            executePutArrayType(frame, jvmField);
-        } else {
-            throw new IllegalStateException("Unexpected descriptor: " + descriptor);
-        }
-
-        int nextPc = frame.getNextPc() + this.size();
-        frame.setNextPc(nextPc);
-    }
-
-    public static void executePutBaseType(Frame frame, JvmField jvmField) {
-        JvmClass fieldBelongClass = JvmClassUtils.getJvmClassStaticFieldBelongTo(jvmField.getJvmClass(), jvmField);
-        int staticFieldOffset = JvmClassUtils.calculateStaticFieldOffsetInNowClass(fieldBelongClass, jvmField);
-        String descriptor = jvmField.getDescriptor();
-        switch (descriptor) {
-            case Descriptors.BaseType.BOOLEAN: // boolean
-                boolean booleanValue = frame.getOperandStacks().popBooleanValue();
-                fieldBelongClass.getStaticFieldsValue().setBooleanValue(staticFieldOffset, booleanValue);
-                break;
-            case Descriptors.BaseType.BYTE: // byte
-                byte byteValue = frame.getOperandStacks().popByteValue();
-                fieldBelongClass.getStaticFieldsValue().setByteValue(staticFieldOffset, byteValue);
-                break;
-            case Descriptors.BaseType.CHAR: // char
-                char charValue = frame.getOperandStacks().popCharValue();
-                fieldBelongClass.getStaticFieldsValue().setCharValue(staticFieldOffset, charValue);
-                break;
-            case Descriptors.BaseType.SHORT: // short
-                short shortValue = frame.getOperandStacks().popShortValue();
-                fieldBelongClass.getStaticFieldsValue().setShortValue(staticFieldOffset, shortValue);
-                break;
-            case Descriptors.BaseType.INT:
-                int intValue = frame.getOperandStacks().popIntValue();
-                fieldBelongClass.getStaticFieldsValue().setIntValue(staticFieldOffset, intValue);
-                break;
-            case Descriptors.BaseType.FLOAT:
-                float floatValue = frame.getOperandStacks().popFloatValue();
-                fieldBelongClass.getStaticFieldsValue().setFloatValue(staticFieldOffset, floatValue);
-                break;
-            case Descriptors.BaseType.LONG:
-                long longValue = frame.getOperandStacks().popLongValue();
-                fieldBelongClass.getStaticFieldsValue().setLongValue(staticFieldOffset, longValue);
-                break;
-            case Descriptors.BaseType.DOUBLE:
-                double doubleValue = frame.getOperandStacks().popDoubleValue();
-                fieldBelongClass.getStaticFieldsValue().setDoubleValue(staticFieldOffset, doubleValue);
-                break;
-            default:
-                throw new IllegalStateException("Unexpected descriptor: " + descriptor);
-        }
-    }
-
-    public static void executePutObjectType(Frame frame, JvmField jvmField) {
-        JvmClass fieldBelongClass = JvmClassUtils.getJvmClassStaticFieldBelongTo(jvmField.getJvmClass(), jvmField);
-        int staticFieldOffset = JvmClassUtils.calculateStaticFieldOffsetInNowClass(fieldBelongClass, jvmField);
-        Reference reference = frame.getOperandStacks().popReference();
-        fieldBelongClass.getStaticFieldsValue().setReference(staticFieldOffset, reference);
-    }
-
-    public static void executePutArrayType(Frame frame, JvmField jvmField) {
-        JvmClass fieldBelongClass = JvmClassUtils.getJvmClassStaticFieldBelongTo(jvmField.getJvmClass(), jvmField);
-        int staticFieldOffset = JvmClassUtils.calculateStaticFieldOffsetInNowClass(fieldBelongClass, jvmField);
-        ArrayReference arrayReference = (ArrayReference) frame.getOperandStacks().popReference();
-        fieldBelongClass.getStaticFieldsValue().setReference(staticFieldOffset, arrayReference);
+        this.staticFieldsValue = jvmField.getJvmClass().getStaticFieldsValue();
+        this.offset = jvmField.getStaticFieldOffset();
+        this.valueKind = jvmField.getValueKind();
+        this.baseType = jvmField.getDescriptor().charAt(0);
+        // publish holder, offset and kind
+        this.jvmField = jvmField;
     }
 
     @Override
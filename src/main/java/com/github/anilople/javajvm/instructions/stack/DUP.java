@@ -3,7 +3,6 @@ package com.github.anilople.javajvm.instructions.stack;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
-import com.github.anilople.javajvm.runtimedataarea.LocalVariable;
 import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 
 /**
@@ -24,14 +23,7 @@ public class DUP implements Instruction {
     @Override
     public void execute(Frame frame) {
         OperandStacks operandStacks = frame.getOperandStacks();
-
-        // pop once
-        LocalVariable localVariable = operandStacks.pop();
-
-        // push twice
-        operandStacks.push(localVariable);
-        operandStacks.push(localVariable);
-
+        operandStacks.dup(1, 0);
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
     }
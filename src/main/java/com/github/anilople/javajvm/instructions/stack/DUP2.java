@@ -3,6 +3,7 @@ package com.github.anilople.javajvm.instructions.stack;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 
 public class DUP2 implements Instruction {
 
@@ -13,9 +14,11 @@ public class DUP2 implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        throw new RuntimeException("Now cannot support " + this.getClass());
-//        int nextPc = frame.getNextPc() + this.size();
-//        frame.setNextPc(nextPc);
+        OperandStacks operandStacks = frame.getOperandStacks();
+        // a long or double, or two category 1 values, both are 2 slots
+        operandStacks.dup(2, 0);
+        int nextPc = frame.getNextPc() + this.size();
+        frame.setNextPc(nextPc);
     }
 
     @Override
@@ -3,7 +3,6 @@ package com.github.anilople.javajvm.instructions.stack;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
-import com.github.anilople.javajvm.runtimedataarea.LocalVariable;
 import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 
 /**
@@ -28,14 +27,7 @@ public class DUP_X1 implements Instruction {
     @Override
     public void execute(Frame frame) {
         OperandStacks operandStacks = frame.getOperandStacks();
-
-        LocalVariable value1 = operandStacks.pop();
-        LocalVariable value2 = operandStacks.pop();
-
-        operandStacks.push(value1);
-        operandStacks.push(value2);
-        operandStacks.push(value1);
-
+        operandStacks.dup(1, 1);
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
     }
@@ -3,7 +3,6 @@ package com.github.anilople.javajvm.instructions.stack;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
-import com.github.anilople.javajvm.runtimedataarea.LocalVariable;
 import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 
 /**
@@ -27,17 +26,9 @@ public class DUP_X2 implements Instruction {
     @Override
     public void execute(Frame frame) {
         OperandStacks operandStacks = frame.getOperandStacks();
-
-        // because we have abstract long and double
-        // to an abstracted local variable
-        // so we don't care about what they use 1 or 2 location in jvm specification
-        LocalVariable value1 = operandStacks.pop();
-        LocalVariable value2 = operandStacks.pop();
-
-        operandStacks.push(value1);
-        operandStacks.push(value2);
-        operandStacks.push(value1);
-
+        // long and double occupy 2 slots,
+        // so value2 and value3 in form 1 or value2 in form 2 are always 2 slots
+        operandStacks.dup(1, 2);
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
     }
@@ -3,6 +3,7 @@ package com.github.anilople.javajvm.instructions.stack;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 
 /**
  * Operation:
@@ -20,7 +21,8 @@ public class POP implements Instruction {
 
     @Override
     public void execute(Frame frame) {
-        frame.getOperandStacks().pop();
+        OperandStacks operandStacks = frame.getOperandStacks();
+        operandStacks.popSlots(1);
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
     }
@@ -3,6 +3,7 @@ package com.github.anilople.javajvm.instructions.stack;
 import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
 
 /**
  * pop2 instruction is used to pop the value
@@ -21,15 +22,15 @@ public class POP2 implements Instruction {
     }
 
     /**
-     * What will happen if the value is long or double?
-     * Don't worry, we implement them by an abstracted
-     * LocalVariable, so just pop 1 LocalVariable
+     * a long or double occupies 2 slots in operand stack,
+     * so pop 2 slots always
      *
      * @param frame
      */
     @Override
     public void execute(Frame frame) {
-        frame.getOperandStacks().pop();
+        OperandStacks operandStacks = frame.getOperandStacks();
+        operandStacks.popSlots(2);
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
     }
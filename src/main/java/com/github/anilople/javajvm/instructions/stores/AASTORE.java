@@ -7,8 +7,6 @@ import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectArrayReference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 /**
  * Operation
@@ -35,8 +33,6 @@ import org.slf4j.LoggerFactory;
  */
 public class AASTORE implements Instruction {
 
-    private static final Logger logger = LoggerFactory.getLogger(AASTORE.class);
-
     @Override
     public void fetchOperands(BytecodeReader bytecodeReader) {
 
@@ -55,7 +51,6 @@ public class AASTORE implements Instruction {
 
         // type check here, jvms8: Page 368
         // null do not need to type check
-        logger.trace("value, i.e source = {}, array component of reference type target = {}", value, objectArrayReference.getComponentType());
         if(!Reference.NULL.equals(value)) {
             // to do
 
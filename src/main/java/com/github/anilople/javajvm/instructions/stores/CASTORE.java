@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.CharArrayReference;
 
 /**
  * Operation
@@ -36,10 +36,10 @@ public class CASTORE implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
+        CharArrayReference arrayReference = (CharArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
 
-        baseTypeArrayReference.setCharValue(index, charValue);
+        arrayReference.setCharValue(index, charValue);
 
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.DoubleArrayReference;
 
 /**
  * Operation
@@ -36,9 +36,9 @@ public class DASTORE implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        baseTypeArrayReference.setDoubleValue(index, doubleValue);
+        DoubleArrayReference arrayReference = (DoubleArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        arrayReference.setDoubleValue(index, doubleValue);
 
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
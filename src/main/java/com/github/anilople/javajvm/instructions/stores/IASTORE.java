@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.IntArrayReference;
 
 /**
  * Operation
@@ -43,9 +43,9 @@ public class IASTORE implements Instruction {
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
 
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        baseTypeArrayReference.setIntValue(index, value);
+        IntArrayReference arrayReference = (IntArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        arrayReference.setIntValue(index, value);
 
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
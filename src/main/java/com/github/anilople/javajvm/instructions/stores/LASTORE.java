@@ -4,7 +4,7 @@ import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.Frame;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.LongArrayReference;
 
 public class LASTORE implements Instruction {
 
@@ -19,9 +19,9 @@ public class LASTORE implements Instruction {
         int index = frame.getOperandStacks().popIntValue();
         Reference reference = frame.getOperandStacks().popReference();
         Reference.assertIsNotNull(reference);
-        BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
-        baseTypeArrayReference.assertIndexIsNotOutOfBounds(index);
-        baseTypeArrayReference.setLongValue(index, longValue);
+        LongArrayReference arrayReference = (LongArrayReference) reference;
+        arrayReference.assertIndexIsNotOutOfBounds(index);
+        arrayReference.setLongValue(index, longValue);
         
         int nextPc = frame.getNextPc() + this.size();
         frame.setNextPc(nextPc);
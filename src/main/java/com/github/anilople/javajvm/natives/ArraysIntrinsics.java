@@ -0,0 +1,72 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.runtimedataarea.reference.BaseTypeArrayReference;
+
+import java.util.Arrays;
+
+/**
+ * intrinsics of java.util.Arrays,
+ * arrays of primitive type are sorted by real jvm in place
+ */
+class ArraysIntrinsics {
+
+    static final String CLASS_NAME = "java/util/Arrays";
+
+    private ArraysIntrinsics() {
+
+    }
+
+    static void register() {
+        register("I", (array, fromIndex, toIndex) -> Arrays.sort((int[]) array, fromIndex, toIndex));
+        register("J", (array, fromIndex, toIndex) -> Arrays.sort((long[]) array, fromIndex, toIndex));
+        register("S", (array, fromIndex, toIndex) -> Arrays.sort((short[]) array, fromIndex, toIndex));
+        register("C", (array, fromIndex, toIndex) -> Arrays.sort((char[]) array, fromIndex, toIndex));
+        register("B", (array, fromIndex, toIndex) -> Arrays.sort((byte[]) array, fromIndex, toIndex));
+        register("F", (array, fromIndex, toIndex) -> Arrays.sort((float[]) array, fromIndex, toIndex));
+        register("D", (array, fromIndex, toIndex) -> Arrays.sort((double[]) array, fromIndex, toIndex));
+    }
+
+    /**
+     * sort(a) and sort(a, fromIndex, toIndex)
+     * @param componentDescriptor like I
+     */
+    private static void register(String componentDescriptor, Sorter sorter) {
+        NativeMethod sort = (frame, jvmMethod, localVariables) -> sort(frame, jvmMethod, localVariables, sorter);
+        Intrinsics.register(CLASS_NAME, "sort", "([" + componentDescriptor + ")V", sort);
+        Intrinsics.register(CLASS_NAME, "sort", "([" + componentDescriptor + "II)V", sort);
+    }
+
+    private static void sort(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables, Sorter sorter) {
+        Reference reference = localVariables.getReference(0);
+        if(Reference.NULL.equals(reference)) {
+            // NullPointerException
+            Intrinsics.interpret(frame, jvmMethod, localVariables);
+            return;
+        }
+        BaseTypeArrayReference array = (BaseTypeArrayReference) reference;
+        final int length = array.length();
+        int fromIndex = 0;
+        int toIndex = length;
+        if(localVariables.getMaxLocals() > 1) {
+            fromIndex = localVariables.getIntValue(1);
+            toIndex = localVariables.getIntValue(2);
+            if(fromIndex > toIndex || fromIndex < 0 || toIndex > length) {
+                // IllegalArgumentException or ArrayIndexOutOfBoundsException
+                Intrinsics.interpret(frame, jvmMethod, localVariables);
+                return;
+            }
+        }
+        sorter.sort(array.getArray(), fromIndex, toIndex);
+    }
+
+    @FunctionalInterface
+    private interface Sorter {
+
+        void sort(Object array, int fromIndex, int toIndex);
+
+    }
+}
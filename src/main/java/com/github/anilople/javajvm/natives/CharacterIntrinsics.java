@@ -0,0 +1,63 @@
+package com.github.anilople.javajvm.natives;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * intrinsics of java.lang.Character,
+ * the tables of CharacterData are looked up by real jvm
+ */
+class CharacterIntrinsics {
+
+    static final String CLASS_NAME = "java/lang/Character";
+
+    private CharacterIntrinsics() {
+
+    }
+
+    static void register() {
+        registerPredicate("isDigit", Character::isDigit);
+        registerPredicate("isLetter", Character::isLetter);
+        registerPredicate("isLetterOrDigit", Character::isLetterOrDigit);
+        registerPredicate("isWhitespace", Character::isWhitespace);
+        registerPredicate("isUpperCase", Character::isUpperCase);
+        registerPredicate("isLowerCase", Character::isLowerCase);
+        registerConversion("toUpperCase", Character::toUpperCase);
+        registerConversion("toLowerCase", Character::toLowerCase);
+
+        Intrinsics.register(CLASS_NAME, "digit", "(CI)I", (frame, jvmMethod, localVariables) ->
+                frame.getOperandStacks().pushIntValue(
+                        Character.digit(localVariables.getCharValue(0), localVariables.getIntValue(1))
+                )
+        );
+        Intrinsics.register(CLASS_NAME, "digit", "(II)I", (frame, jvmMethod, localVariables) ->
+                frame.getOperandStacks().pushIntValue(
+                        Character.digit(localVariables.getIntValue(0), localVariables.getIntValue(1))
+                )
+        );
+    }
+
+    /**
+     * both char and code point version
+     */
+    private static void registerPredicate(String name, IntPredicate predicate) {
+        Intrinsics.register(CLASS_NAME, name, "(C)Z", (frame, jvmMethod, localVariables) ->
+                frame.getOperandStacks().pushBooleanValue(predicate.test(localVariables.getCharValue(0)))
+        );
+        Intrinsics.register(CLASS_NAME, name, "(I)Z", (frame, jvmMethod, localVariables) ->
+                frame.getOperandStacks().pushBooleanValue(predicate.test(localVariables.getIntValue(0)))
+        );
+    }
+
+    /**
+     * both char and code point version
+     */
+    private static void registerConversion(String name, IntUnaryOperator operator) {
+        Intrinsics.register(CLASS_NAME, name, "(C)C", (frame, jvmMethod, localVariables) ->
+                frame.getOperandStacks().pushCharValue((char) operator.applyAsInt(localVariables.getCharValue(0)))
+        );
+        Intrinsics.register(CLASS_NAME, name, "(I)I", (frame, jvmMethod, localVariables) ->
+                frame.getOperandStacks().pushIntValue(operator.applyAsInt(localVariables.getIntValue(0)))
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+
+/**
+ * intrinsics of java.lang.Integer
+ */
+class IntegerIntrinsics {
+
+    static final String CLASS_NAME = "java/lang/Integer";
+
+    private IntegerIntrinsics() {
+
+    }
+
+    static void register() {
+        Intrinsics.register(CLASS_NAME, "toString", "(I)Ljava/lang/String;", IntegerIntrinsics::toString);
+        Intrinsics.register(CLASS_NAME, "toString", "(II)Ljava/lang/String;", IntegerIntrinsics::toString);
+        Intrinsics.register(CLASS_NAME, "parseInt", "(Ljava/lang/String;)I", IntegerIntrinsics::parseInt);
+        Intrinsics.register(CLASS_NAME, "parseInt", "(Ljava/lang/String;I)I", IntegerIntrinsics::parseInt);
+    }
+
+    /**
+     * toString(int i) and toString(int i, int radix)
+     */
+    private static void toString(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        int i = localVariables.getIntValue(0);
+        int radix = localVariables.getMaxLocals() > 1 ? localVariables.getIntValue(1) : 10;
+        char[] chars = Integer.toString(i, radix).toCharArray();
+        frame.getOperandStacks().pushReference(
+                StringIntrinsics.newString(jvmMethod.getJvmClass().getLoader(), chars)
+        );
+    }
+
+    /**
+     * parseInt(String s) and parseInt(String s, int radix)
+     */
+    private static void parseInt(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        Reference s = localVariables.getReference(0);
+        int radix = localVariables.getMaxLocals() > 1 ? localVariables.getIntValue(1) : 10;
+        if(Reference.NULL.equals(s)) {
+            // NumberFormatException
+            Intrinsics.interpret(frame, jvmMethod, localVariables);
+            return;
+        }
+        final int value;
+        try {
+            value = Integer.parseInt(new String(StringIntrinsics.getValue((ObjectReference) s)), radix);
+        } catch (NumberFormatException e) {
+            // let the exception be thrown by Integer
+            Intrinsics.interpret(frame, jvmMethod, localVariables);
+            return;
+        }
+        frame.getOperandStacks().pushIntValue(value);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.anilople.javajvm.natives;
+
+/**
+ * a method of jdk library implemented by real jvm,
+ * working on the objects in heap directly instead of interpreting its bytecode.
+ *
+ * An intrinsic is named by simple class name and method name, i.e "String.hashCode",
+ * all overloads of the method share the name.
+ * When it is disabled, the method is interpreted like others,
+ * or invoked by reflection if it is a native method.
+ *
+ * The counter is not synchronized, under many threads it is approximate.
+ * @see Intrinsics
+ */
+public final class Intrinsic {
+
+    private final String name;
+
+    private volatile boolean enabled = true;
+
+    private long hits;
+
+    Intrinsic(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param implementation work on the objects in heap
+     * @return bound to the method in {@link NativeMethodRegistry}
+     */
+    NativeMethod bind(NativeMethod implementation) {
+        // native method has no bytecode, invoke it by reflection when disabled
+        final NativeMethod reflectiveNativeMethod = new ReflectiveNativeMethod();
+        return (frame, jvmMethod, localVariables) -> {
+            if(enabled) {
+                hits++;
+                implementation.invoke(frame, jvmMethod, localVariables);
+            } else if(jvmMethod.isNative()) {
+                reflectiveNativeMethod.invoke(frame, jvmMethod, localVariables);
+            } else {
+                Intrinsics.interpret(frame, jvmMethod, localVariables);
+            }
+        };
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return how many times the method is invoked by real jvm
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    void resetHits() {
+        this.hits = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Intrinsic{" +
+                "name='" + name + '\'' +
+                ", enabled=" + enabled +
+                ", hits=" + hits +
+                '}';
+    }
+}
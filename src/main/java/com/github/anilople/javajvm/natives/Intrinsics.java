@@ -0,0 +1,141 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * hot methods of jdk library implemented by real jvm,
+ * i.e String.equals, Math.sqrt, Arrays.sort.
+ *
+ * They are bound like native methods,
+ * but work on the objects in heap directly, without converting them to real objects.
+ * An intrinsic may fall back to interpret the method when exception should be thrown,
+ * so the exception is thrown by the method in class library.
+ *
+ * All intrinsics are enabled by default, choose them by option -XdisableIntrinsics.
+ * @see NativeMethodRegistry
+ */
+public class Intrinsics {
+
+    private static final Logger logger = LoggerFactory.getLogger(Intrinsics.class);
+
+    /**
+     * value of option -XdisableIntrinsics to disable all intrinsics
+     */
+    public static final String ALL = "all";
+
+    /**
+     * sorted by name
+     */
+    private static final Map<String, Intrinsic> INTRINSICS = new ConcurrentSkipListMap<>();
+
+    static {
+        StringIntrinsics.register();
+        StringBuilderIntrinsics.register();
+        IntegerIntrinsics.register();
+        CharacterIntrinsics.register();
+        MathIntrinsics.register();
+        ArraysIntrinsics.register();
+    }
+
+    private Intrinsics() {
+
+    }
+
+    /**
+     * make sure the intrinsics are registered
+     */
+    static void initialize() {
+
+    }
+
+    /**
+     * @param className like java/lang/String
+     * @param name method name
+     * @param descriptor method descriptor
+     * @param implementation work on the objects in heap
+     */
+    static void register(String className, String name, String descriptor, NativeMethod implementation) {
+        String simpleClassName = className.substring(className.lastIndexOf('/') + 1);
+        Intrinsic intrinsic = INTRINSICS.computeIfAbsent(simpleClassName + "." + name, Intrinsic::new);
+        NativeMethodRegistry.register(className, name, descriptor, intrinsic.bind(implementation));
+    }
+
+    /**
+     * @return all intrinsics, sorted by name
+     */
+    public static List<Intrinsic> getIntrinsics() {
+        return new ArrayList<>(INTRINSICS.values());
+    }
+
+    /**
+     * @param name like String.hashCode
+     * @throws IllegalArgumentException if there is no such intrinsic
+     */
+    public static Intrinsic getIntrinsic(String name) {
+        Intrinsic intrinsic = INTRINSICS.get(name);
+        if(null == intrinsic) {
+            throw new IllegalArgumentException("unknown intrinsic " + name);
+        }
+        return intrinsic;
+    }
+
+    /**
+     * take effect immediately, even if the method has been invoked
+     * @param name like String.hashCode
+     * @param enabled false to interpret the method
+     * @throws IllegalArgumentException if there is no such intrinsic
+     */
+    public static void setEnabled(String name, boolean enabled) {
+        getIntrinsic(name).setEnabled(enabled);
+    }
+
+    public static void setAllEnabled(boolean enabled) {
+        for(Intrinsic intrinsic : INTRINSICS.values()) {
+            intrinsic.setEnabled(enabled);
+        }
+    }
+
+    /**
+     * @param names value of option -XdisableIntrinsics,
+     *              separated by ',', i.e String.equals,Math.sqrt,
+     *              or {@link #ALL}
+     * @throws IllegalArgumentException if there is unknown intrinsic
+     */
+    public static void disable(String names) {
+        for(String name : names.split(",")) {
+            name = name.trim();
+            if(ALL.equals(name)) {
+                setAllEnabled(false);
+            } else if(!name.isEmpty()) {
+                setEnabled(name, false);
+            }
+            logger.debug("intrinsic {} is disabled", name);
+        }
+    }
+
+    public static void resetHits() {
+        for(Intrinsic intrinsic : INTRINSICS.values()) {
+            intrinsic.resetHits();
+        }
+    }
+
+    /**
+     * interpret the bytecode of method instead,
+     * invoker is the current frame, it will receive the return value
+     * @param frame invoker
+     * @param jvmMethod method invoked
+     * @param localVariables arguments popped
+     */
+    static void interpret(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        frame.getJvmThread().pushFrame(new Frame(frame.getJvmThread(), jvmMethod, localVariables));
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.anilople.javajvm.natives;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * intrinsics of java.lang.Math and java.lang.StrictMath.
+ *
+ * Math delegates to StrictMath in class library,
+ * so both of them are computed by StrictMath of real jvm,
+ * the results are same as interpreting them.
+ */
+class MathIntrinsics {
+
+    private static final String[] CLASS_NAMES = {"java/lang/Math", "java/lang/StrictMath"};
+
+    private MathIntrinsics() {
+
+    }
+
+    static void register() {
+        register("sin", StrictMath::sin);
+        register("cos", StrictMath::cos);
+        register("tan", StrictMath::tan);
+        register("asin", StrictMath::asin);
+        register("acos", StrictMath::acos);
+        register("atan", StrictMath::atan);
+        register("exp", StrictMath::exp);
+        register("log", StrictMath::log);
+        register("log10", StrictMath::log10);
+        register("sqrt", StrictMath::sqrt);
+        register("cbrt", StrictMath::cbrt);
+        register("floor", StrictMath::floor);
+        register("ceil", StrictMath::ceil);
+        register("pow", StrictMath::pow);
+        register("atan2", StrictMath::atan2);
+
+        for(String className : CLASS_NAMES) {
+            Intrinsics.register(className, "abs", "(I)I", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushIntValue(Math.abs(localVariables.getIntValue(0)))
+            );
+            Intrinsics.register(className, "abs", "(J)J", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushLongValue(Math.abs(localVariables.getLongValue(0)))
+            );
+            Intrinsics.register(className, "abs", "(F)F", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushFloatValue(Math.abs(localVariables.getFloatValue(0)))
+            );
+            Intrinsics.register(className, "abs", "(D)D", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushDoubleValue(Math.abs(localVariables.getDoubleValue(0)))
+            );
+            Intrinsics.register(className, "max", "(II)I", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushIntValue(Math.max(localVariables.getIntValue(0), localVariables.getIntValue(1)))
+            );
+            Intrinsics.register(className, "max", "(JJ)J", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushLongValue(Math.max(localVariables.getLongValue(0), localVariables.getLongValue(2)))
+            );
+            Intrinsics.register(className, "max", "(DD)D", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushDoubleValue(Math.max(localVariables.getDoubleValue(0), localVariables.getDoubleValue(2)))
+            );
+            Intrinsics.register(className, "min", "(II)I", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushIntValue(Math.min(localVariables.getIntValue(0), localVariables.getIntValue(1)))
+            );
+            Intrinsics.register(className, "min", "(JJ)J", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushLongValue(Math.min(localVariables.getLongValue(0), localVariables.getLongValue(2)))
+            );
+            Intrinsics.register(className, "min", "(DD)D", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushDoubleValue(Math.min(localVariables.getDoubleValue(0), localVariables.getDoubleValue(2)))
+            );
+        }
+    }
+
+    private static void register(String name, DoubleUnaryOperator operator) {
+        for(String className : CLASS_NAMES) {
+            Intrinsics.register(className, name, "(D)D", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushDoubleValue(operator.applyAsDouble(localVariables.getDoubleValue(0)))
+            );
+        }
+    }
+
+    private static void register(String name, DoubleBinaryOperator operator) {
+        for(String className : CLASS_NAMES) {
+            Intrinsics.register(className, name, "(DD)D", (frame, jvmMethod, localVariables) ->
+                    frame.getOperandStacks().pushDoubleValue(
+                            operator.applyAsDouble(localVariables.getDoubleValue(0), localVariables.getDoubleValue(2))
+                    )
+            );
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+
+/**
+ * implementation of a native method,
+ * or of a method which is not interpreted (hacked).
+ * @see NativeMethodRegistry
+ */
+@FunctionalInterface
+public interface NativeMethod {
+
+    /**
+     * @param frame frame of caller, return value is pushed to its operand stack
+     * @param jvmMethod method invoked
+     * @param localVariables arguments pop from operand stack, "this" is at 0 if method is not static
+     */
+    void invoke(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables);
+
+}
@@ -0,0 +1,119 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.runtimedataarea.reference.ArrayReference;
+import com.github.anilople.javajvm.utils.HackUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * implementations of native methods and hacked methods,
+ * keyed by class name, method name and descriptor.
+ *
+ * A method is bound to its implementation once, when its class is linked,
+ * then invoking it costs one call of {@link NativeMethod}.
+ * Native method without implementation registered is invoked by reflection,
+ * the method with same name and descriptor in real jvm.
+ * @see JvmMethod#getNativeMethod()
+ */
+public class NativeMethodRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(NativeMethodRegistry.class);
+
+    private static final Map<String, NativeMethod> NATIVE_METHODS = new ConcurrentHashMap<>();
+
+    static {
+        // all methods of System.out
+        register("java/io/PrintStream", null, null, HackUtils::hackSystemOut);
+        register("java/util/Arrays", "fill", null, HackUtils::hackArraysFill);
+        register("java/lang/System", "arraycopy", "(Ljava/lang/Object;ILjava/lang/Object;II)V", HackUtils::hackSystemArrayCopy);
+        register("java/lang/System", "nanoTime", "()J", HackUtils::hackSystemNanoTime);
+        register("java/lang/System", "currentTimeMillis", "()J", HackUtils::hackSystemCurrentTimeMillis);
+        register("java/lang/System", "identityHashCode", "(Ljava/lang/Object;)I", HackUtils::hackIdentityHashCode);
+        register("java/lang/Object", "hashCode", "()I", HackUtils::hackIdentityHashCode);
+        register("java/lang/Object", "clone", "()Ljava/lang/Object;", new ObjectClone());
+        register("java/lang/Throwable", "fillInStackTrace", "(I)Ljava/lang/Throwable;", HackUtils::hackThrowableFillInStackTrace0);
+        register("java/lang/Shutdown", "halt0", "(I)V", HackUtils::hackShutdownHalt0);
+        register("java/lang/Class", "getComponentType", "()Ljava/lang/Class;", HackUtils::hackClassGetComponentType);
+        register("java/lang/Float", "floatToRawIntBits", "(F)I", HackUtils::hackFloatToRawIntBits);
+        register("java/lang/Float", "intBitsToFloat", "(I)F", HackUtils::hackIntBitsToFloat);
+        register("java/lang/Double", "doubleToRawLongBits", "(D)J", HackUtils::hackDoubleToRawLongBits);
+        register("java/lang/Double", "longBitsToDouble", "(J)D", HackUtils::hackLongBitsToDouble);
+        // hot methods of class library
+        Intrinsics.initialize();
+    }
+
+    private NativeMethodRegistry() {
+
+    }
+
+    /**
+     * @param className like java/lang/Object
+     * @param name null for all methods of class
+     * @param descriptor null for all methods with this name
+     * @param nativeMethod implementation
+     */
+    public static void register(String className, String name, String descriptor, NativeMethod nativeMethod) {
+        if(null == nativeMethod) {
+            throw new IllegalArgumentException("native method of " + key(className, name, descriptor) + " is null");
+        }
+        NATIVE_METHODS.put(key(className, name, descriptor), nativeMethod);
+    }
+
+    /**
+     * the most specific one is selected,
+     * i.e class, name and descriptor, then class and name, then class
+     * @param jvmMethod method being linked
+     * @return null if the method is interpreted
+     */
+    public static NativeMethod bind(JvmMethod jvmMethod) {
+        final String className = jvmMethod.getJvmClass().getName();
+        NativeMethod nativeMethod = NATIVE_METHODS.get(key(className, jvmMethod.getName(), jvmMethod.getDescriptor()));
+        if(null == nativeMethod) {
+            nativeMethod = NATIVE_METHODS.get(key(className, jvmMethod.getName(), null));
+        }
+        if(null == nativeMethod) {
+            nativeMethod = NATIVE_METHODS.get(key(className, null, null));
+        }
+        if(null == nativeMethod && jvmMethod.isNative()) {
+            logger.debug("bind native method {}.{}{} to reflection", className, jvmMethod.getName(), jvmMethod.getDescriptor());
+            nativeMethod = new ReflectiveNativeMethod();
+        }
+        return nativeMethod;
+    }
+
+    private static String key(String className, String name, String descriptor) {
+        if(null == name) {
+            return className;
+        }
+        if(null == descriptor) {
+            return className + "." + name;
+        }
+        return className + "." + name + descriptor;
+    }
+
+    /**
+     * jls8, 10.7 Array Members, clone of array is done directly,
+     * clone of other object is done by reflection
+     */
+    private static class ObjectClone implements NativeMethod {
+
+        private final NativeMethod reflectiveNativeMethod = new ReflectiveNativeMethod();
+
+        @Override
+        public void invoke(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+            Reference reference = localVariables.getReference(0);
+            if(reference instanceof ArrayReference) {
+                frame.getOperandStacks().pushReference(((ArrayReference) reference).cloneArray());
+            } else {
+                reflectiveNativeMethod.invoke(frame, jvmMethod, localVariables);
+            }
+        }
+    }
+}
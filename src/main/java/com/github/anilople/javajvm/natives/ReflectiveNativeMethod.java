@@ -0,0 +1,147 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.heap.MethodSignature;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.OperandStacks;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.utils.ReferenceUtils;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+/**
+ * invoke the method with same name and descriptor in real jvm,
+ * arguments and return value are converted by {@link ReferenceUtils},
+ * arrays of primitive type in arguments are shared with heap, not copied.
+ *
+ * The method of real jvm is found when it is invoked first time,
+ * then a method handle of it is cached.
+ */
+class ReflectiveNativeMethod implements NativeMethod {
+
+    /**
+     * takes an Object[] of arguments, "this" first if method is not static
+     */
+    private volatile MethodHandle methodHandle;
+
+    private Class<?>[] parameterTypes;
+
+    /**
+     * index of every parameter in local variables
+     */
+    private int[] parameterOffsets;
+
+    private Class<?> returnType;
+
+    @Override
+    public void invoke(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        MethodHandle methodHandle = this.methodHandle;
+        if(null == methodHandle) {
+            methodHandle = this.bind(jvmMethod);
+        }
+
+        final int first = jvmMethod.isStatic() ? 0 : 1;
+        Object[] arguments = new Object[first + parameterTypes.length];
+        try {
+            if(!jvmMethod.isStatic()) {
+                // non static method, so we must pass this pointer
+                arguments[0] = ReferenceUtils.reference2ObjectShallow(localVariables.getReference(0));
+            }
+            for(int i = 0; i < parameterTypes.length; i++) {
+                arguments[first + i] = ReferenceUtils.getLocalVariableByClassType(localVariables, parameterOffsets[i], parameterTypes[i]);
+            }
+
+            // the result of invocation
+            Object returnObject = (Object) methodHandle.invokeExact(arguments);
+
+            if(void.class.equals(returnType)) {
+                // no return value
+            } else if(returnType.isPrimitive()) {
+                // int, boolean, double etc..
+                pushPrimitiveValueByType(frame.getOperandStacks(), returnObject, returnType);
+            } else {
+                // String, Object, String[][] etc..
+                Reference returnReference = ReferenceUtils.object2Reference(jvmMethod.getJvmClass().getLoader(), returnObject);
+                frame.getOperandStacks().pushReference(returnReference);
+            }
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new RuntimeException(
+                    "invoke native method " +
+                            jvmMethod.getJvmClass().getName() + "." + jvmMethod.getName() +
+                            " fail",
+                    e
+            );
+        }
+    }
+
+    /**
+     * find the method in real jvm
+     */
+    private synchronized MethodHandle bind(JvmMethod jvmMethod) {
+        if(null != this.methodHandle) {
+            return this.methodHandle;
+        }
+        final JvmClass jvmClass = jvmMethod.getJvmClass();
+        final MethodSignature signature = jvmMethod.getSignature();
+        final Class<?>[] parameterTypes = signature.getParameterTypes();
+        final int[] parameterOffsets = new int[parameterTypes.length];
+        int parameterOffset = jvmMethod.isStatic() ? 0 : 1;
+        for(int i = 0; i < parameterTypes.length; i++) {
+            parameterOffsets[i] = parameterOffset;
+            parameterOffset += signature.getArgumentKinds()[i].getSize();
+        }
+
+        final MethodHandle methodHandle;
+        try {
+            final Method method = jvmClass.getRealClassInJvm().getDeclaredMethod(jvmMethod.getName(), parameterTypes);
+            method.setAccessible(true);
+            this.returnType = method.getReturnType();
+            MethodHandle unreflected = MethodHandles.lookup().unreflect(method);
+            methodHandle = unreflected
+                    .asType(unreflected.type().generic())
+                    .asSpreader(Object[].class, unreflected.type().parameterCount());
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new UnsatisfiedLinkError(jvmClass.getName() + "." + jvmMethod.getName() + jvmMethod.getDescriptor());
+        }
+        this.parameterTypes = parameterTypes;
+        this.parameterOffsets = parameterOffsets;
+        this.methodHandle = methodHandle;
+        return methodHandle;
+    }
+
+    /**
+     * push the return value of method to operand stack
+     * when return value is primitive type
+     * @param operandStacks
+     * @param primitiveValue
+     * @param primitiveType
+     */
+    private static void pushPrimitiveValueByType(OperandStacks operandStacks, Object primitiveValue, Class<?> primitiveType) {
+        final Class<?> type = primitiveType;
+        if(type.equals(boolean.class)) {
+            operandStacks.pushBooleanValue((boolean) primitiveValue);
+        } else if(type.equals(byte.class)) {
+            operandStacks.pushByteValue((byte) primitiveValue);
+        } else if(type.equals(short.class)) {
+            operandStacks.pushShortValue((short) primitiveValue);
+        } else if(type.equals(char.class)) {
+            operandStacks.pushCharValue((char) primitiveValue);
+        } else if(type.equals(int.class)) {
+            operandStacks.pushIntValue((int) primitiveValue);
+        } else if(type.equals(float.class)) {
+            operandStacks.pushFloatValue((float) primitiveValue);
+        } else if(type.equals(long.class)) {
+            operandStacks.pushLongValue((long) primitiveValue);
+        } else if(type.equals(double.class)) {
+            operandStacks.pushDoubleValue((double) primitiveValue);
+        } else {
+            throw new IllegalArgumentException("Cannot set type " + type);
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.function.Supplier;
+
+/**
+ * standard output and standard error of the program running in jvm,
+ * i.e what System.out and System.err print.
+ *
+ * The chars are encoded from the char[] in heap into a large byte buffer directly,
+ * the buffer is written to real jvm's System.out or System.err in batches,
+ * instead of a write for every print.
+ * The real stream is got at every write, so a redirect by System.setOut is followed.
+ *
+ * Standard output is line buffered by default or fully buffered, choose it by option -Xstdio,
+ * standard error is always line buffered.
+ * Both are flushed when the program exits, the jvm shuts down, or flush is invoked.
+ */
+public final class Stdio {
+
+    private static final Logger logger = LoggerFactory.getLogger(Stdio.class);
+
+    /**
+     * bytes buffered by a stream
+     */
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final char[] LINE_SEPARATOR = System.lineSeparator().toCharArray();
+
+    private static final Stdio OUT = new Stdio(() -> System.out, BUFFER_SIZE, Buffering.LINE);
+
+    private static final Stdio ERR = new Stdio(() -> System.err, BUFFER_SIZE, Buffering.LINE);
+
+    /**
+     * System.err in heap, the other print streams are standard output
+     */
+    private static volatile Reference errReference;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(Stdio::flushAll, "stdio-flush"));
+    }
+
+    private final Supplier<OutputStream> stream;
+
+    /**
+     * the input of encoder ends only when flush,
+     * so a surrogate pair printed by 2 prints is still one char
+     */
+    private final CharsetEncoder encoder;
+
+    private final ByteBuffer bytes;
+
+    /**
+     * a high surrogate at the end of last print, waiting for the low one
+     */
+    private char highSurrogate;
+
+    private boolean highSurrogatePending;
+
+    private volatile Buffering buffering;
+
+    Stdio(Supplier<OutputStream> stream, int capacity, Buffering buffering) {
+        this.stream = stream;
+        this.encoder = Charset.defaultCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate(capacity);
+        this.buffering = buffering;
+    }
+
+    /**
+     * @param receiver a print stream in heap
+     * @return standard error if receiver is System.err, otherwise standard output
+     */
+    public static Stdio of(Reference receiver) {
+        return receiver == errReference ? ERR : OUT;
+    }
+
+    public static Stdio out() {
+        return OUT;
+    }
+
+    public static Stdio err() {
+        return ERR;
+    }
+
+    /**
+     * @param err the object of System.err in heap
+     */
+    public static void setErrReference(Reference err) {
+        errReference = err;
+    }
+
+    /**
+     * @param name line or full
+     * @throws IllegalArgumentException if name is unknown
+     */
+    public static void setOutBuffering(String name) {
+        OUT.flush();
+        OUT.buffering = Buffering.of(name);
+    }
+
+    public static void flushAll() {
+        OUT.flush();
+        ERR.flush();
+    }
+
+    public synchronized void print(char[] chars, int offset, int length) {
+        encode(CharBuffer.wrap(chars, offset, length));
+        if(Buffering.LINE == buffering && containsNewLine(chars, offset, length)) {
+            write();
+        }
+    }
+
+    public void print(char[] chars) {
+        print(chars, 0, chars.length);
+    }
+
+    public synchronized void print(String string) {
+        encode(CharBuffer.wrap(string));
+        if(Buffering.LINE == buffering && string.indexOf('\n') >= 0) {
+            write();
+        }
+    }
+
+    public synchronized void println() {
+        encode(CharBuffer.wrap(LINE_SEPARATOR));
+        if(Buffering.LINE == buffering) {
+            write();
+        }
+    }
+
+    /**
+     * end the input of encoder, a high surrogate still pending is malformed,
+     * then write all bytes buffered
+     */
+    public synchronized void flush() {
+        CharBuffer rest = highSurrogatePending ? CharBuffer.wrap(new char[] {highSurrogate}) : CharBuffer.allocate(0);
+        highSurrogatePending = false;
+        while (encoder.encode(rest, bytes, true).isOverflow()) {
+            write();
+        }
+        while (encoder.flush(bytes).isOverflow()) {
+            write();
+        }
+        encoder.reset();
+        write();
+    }
+
+    /**
+     * write the bytes buffered to real jvm's stream
+     */
+    private void write() {
+        OutputStream outputStream = stream.get();
+        try {
+            outputStream.write(bytes.array(), bytes.arrayOffset(), bytes.position());
+            outputStream.flush();
+        } catch (IOException e) {
+            // same as PrintStream, the program is not told
+            logger.warn("write to standard stream failed", e);
+        } finally {
+            bytes.clear();
+        }
+    }
+
+    /**
+     * encode to buffer, write it when it is full.
+     * A high surrogate at the end is kept until next print or flush
+     */
+    private void encode(CharBuffer chars) {
+        if(highSurrogatePending && chars.hasRemaining()) {
+            // rare, the pair is split by 2 prints
+            highSurrogatePending = false;
+            encode(CharBuffer.wrap(new char[] {highSurrogate, chars.get()}));
+        }
+        CoderResult result = encoder.encode(chars, bytes, false);
+        while (result.isOverflow()) {
+            write();
+            result = encoder.encode(chars, bytes, false);
+        }
+        if(chars.hasRemaining()) {
+            // underflow, only a high surrogate is left
+            highSurrogate = chars.get();
+            highSurrogatePending = true;
+        }
+    }
+
+    private static boolean containsNewLine(char[] chars, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if('\n' == chars[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * when the bytes buffered are written
+     */
+    enum Buffering {
+        /**
+         * at the end of every line, or the buffer is full
+         */
+        LINE,
+        /**
+         * the buffer is full only
+         */
+        FULL;
+
+        static Buffering of(String name) {
+            for (Buffering buffering : values()) {
+                if(buffering.name().equalsIgnoreCase(name)) {
+                    return buffering;
+                }
+            }
+            throw new IllegalArgumentException("unknown buffering of standard output: " + name);
+        }
+    }
+}
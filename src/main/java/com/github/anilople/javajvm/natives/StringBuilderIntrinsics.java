@@ -0,0 +1,92 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.runtimedataarea.reference.CharArrayReference;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * intrinsics of java.lang.StringBuilder,
+ * chars are appended to field "value" of AbstractStringBuilder directly,
+ * the capacity grows like AbstractStringBuilder does.
+ */
+class StringBuilderIntrinsics {
+
+    static final String CLASS_NAME = "java/lang/StringBuilder";
+
+    /**
+     * same as AbstractStringBuilder.MAX_ARRAY_SIZE
+     */
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final char[] NULL_CHARS = "null".toCharArray();
+
+    /**
+     * offset of field "value" and "count"
+     */
+    private static volatile int valueOffset = -1;
+
+    private static volatile int countOffset = -1;
+
+    private StringBuilderIntrinsics() {
+
+    }
+
+    static void register() {
+        register("(Ljava/lang/String;)", localVariables -> {
+            Reference str = localVariables.getReference(1);
+            return Reference.NULL.equals(str) ? NULL_CHARS : StringIntrinsics.getValue((ObjectReference) str);
+        });
+        register("(C)", localVariables -> new char[]{localVariables.getCharValue(1)});
+        register("(I)", localVariables -> Integer.toString(localVariables.getIntValue(1)).toCharArray());
+        register("(J)", localVariables -> Long.toString(localVariables.getLongValue(1)).toCharArray());
+        register("(Z)", localVariables -> String.valueOf(localVariables.getBooleanValue(1)).toCharArray());
+    }
+
+    /**
+     * @param parameterDescriptor parameters of append
+     * @param toChars chars appended from arguments
+     */
+    private static void register(String parameterDescriptor, Function<LocalVariables, char[]> toChars) {
+        Intrinsics.register(
+                CLASS_NAME,
+                "append",
+                parameterDescriptor + "Ljava/lang/StringBuilder;",
+                (frame, jvmMethod, localVariables) -> append(frame, jvmMethod, localVariables, toChars)
+        );
+    }
+
+    private static void append(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables, Function<LocalVariables, char[]> toChars) {
+        ObjectReference stringBuilder = StringIntrinsics.getThis(localVariables);
+        if(valueOffset < 0) {
+            countOffset = StringIntrinsics.getFieldOffset(stringBuilder.getJvmClass(), "count");
+            valueOffset = StringIntrinsics.getFieldOffset(stringBuilder.getJvmClass(), "value");
+        }
+
+        char[] chars = toChars.apply(localVariables);
+        int count = stringBuilder.getIntValue(countOffset);
+        int minimumCapacity = count + chars.length;
+        char[] value = ((CharArrayReference) stringBuilder.getReference(valueOffset)).getArray();
+        if(minimumCapacity > value.length) {
+            int newCapacity = (value.length << 1) + 2;
+            if(newCapacity - minimumCapacity < 0) {
+                newCapacity = minimumCapacity;
+            }
+            if(minimumCapacity < 0 || newCapacity <= 0 || MAX_ARRAY_SIZE - newCapacity < 0) {
+                // huge capacity or OutOfMemoryError
+                Intrinsics.interpret(frame, jvmMethod, localVariables);
+                return;
+            }
+            value = Arrays.copyOf(value, newCapacity);
+            stringBuilder.setReference(valueOffset, new CharArrayReference(stringBuilder.getJvmClass().getLoader(), value));
+        }
+        System.arraycopy(chars, 0, value, count, chars.length);
+        stringBuilder.setIntValue(countOffset, minimumCapacity);
+        frame.getOperandStacks().pushReference(stringBuilder);
+    }
+}
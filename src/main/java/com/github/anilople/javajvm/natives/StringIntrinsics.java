@@ -0,0 +1,183 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+import com.github.anilople.javajvm.utils.ReferenceUtils;
+
+import java.util.Arrays;
+
+/**
+ * intrinsics of java.lang.String,
+ * the chars are read from field "value" of string directly
+ */
+class StringIntrinsics {
+
+    static final String CLASS_NAME = "java/lang/String";
+
+    /**
+     * offset of field "hash",
+     * there is only one String class in jvm, so it is cached
+     */
+    private static volatile int hashOffset = -1;
+
+    private StringIntrinsics() {
+
+    }
+
+    static void register() {
+        Intrinsics.register(CLASS_NAME, "equals", "(Ljava/lang/Object;)Z", StringIntrinsics::equals);
+        Intrinsics.register(CLASS_NAME, "hashCode", "()I", StringIntrinsics::hashCode);
+        Intrinsics.register(CLASS_NAME, "charAt", "(I)C", StringIntrinsics::charAt);
+        Intrinsics.register(CLASS_NAME, "indexOf", "(I)I", StringIntrinsics::indexOfChar);
+        Intrinsics.register(CLASS_NAME, "indexOf", "(II)I", StringIntrinsics::indexOfChar);
+        Intrinsics.register(CLASS_NAME, "indexOf", "(Ljava/lang/String;)I", StringIntrinsics::indexOfString);
+        Intrinsics.register(CLASS_NAME, "indexOf", "(Ljava/lang/String;I)I", StringIntrinsics::indexOfString);
+    }
+
+    /**
+     * @return "this" of the method invoked
+     */
+    static ObjectReference getThis(LocalVariables localVariables) {
+        Reference reference = localVariables.getReference(0);
+        Reference.assertIsNotNull(reference);
+        return (ObjectReference) reference;
+    }
+
+    /**
+     * @param string must be a string
+     * @return chars of string, shared
+     */
+    static char[] getValue(ObjectReference string) {
+        return ReferenceUtils.getStringValue(string);
+    }
+
+    /**
+     * a new string, not in string pool
+     * @param chars shared, not copied
+     */
+    static ObjectReference newString(JvmClassLoader jvmClassLoader, char[] chars) {
+        return ReferenceUtils.newStringObjectReference(jvmClassLoader.loadClass(CLASS_NAME), chars);
+    }
+
+    static int getFieldOffset(JvmClass jvmClass, String fieldName) {
+        return jvmClass.getJvmFieldByNameIncludeAncestors(fieldName).calculateNonStaticFieldOffset();
+    }
+
+    private static void equals(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        ObjectReference string = getThis(localVariables);
+        Reference anObject = localVariables.getReference(1);
+        final boolean equals;
+        if(string == anObject) {
+            equals = true;
+        } else if(anObject instanceof ObjectReference && string.getJvmClass() == ((ObjectReference) anObject).getJvmClass()) {
+            equals = Arrays.equals(getValue(string), getValue((ObjectReference) anObject));
+        } else {
+            equals = false;
+        }
+        frame.getOperandStacks().pushBooleanValue(equals);
+    }
+
+    /**
+     * the hash is cached in field "hash" like String does
+     */
+    private static void hashCode(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        ObjectReference string = getThis(localVariables);
+        int offset = hashOffset;
+        if(offset < 0) {
+            offset = hashOffset = getFieldOffset(string.getJvmClass(), "hash");
+        }
+        int h = string.getIntValue(offset);
+        char[] value = getValue(string);
+        if(0 == h && value.length > 0) {
+            for(char c : value) {
+                h = 31 * h + c;
+            }
+            string.setIntValue(offset, h);
+        }
+        frame.getOperandStacks().pushIntValue(h);
+    }
+
+    private static void charAt(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        char[] value = getValue(getThis(localVariables));
+        int index = localVariables.getIntValue(1);
+        if(index < 0 || index >= value.length) {
+            // StringIndexOutOfBoundsException
+            Intrinsics.interpret(frame, jvmMethod, localVariables);
+            return;
+        }
+        frame.getOperandStacks().pushCharValue(value[index]);
+    }
+
+    /**
+     * indexOf(int ch) and indexOf(int ch, int fromIndex)
+     */
+    private static void indexOfChar(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        char[] value = getValue(getThis(localVariables));
+        int ch = localVariables.getIntValue(1);
+        if(ch >= Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+            // search surrogate pair
+            Intrinsics.interpret(frame, jvmMethod, localVariables);
+            return;
+        }
+        int fromIndex = localVariables.getMaxLocals() > 2 ? Math.max(0, localVariables.getIntValue(2)) : 0;
+        int index = -1;
+        for(int i = fromIndex; i < value.length; i++) {
+            if(value[i] == ch) {
+                index = i;
+                break;
+            }
+        }
+        frame.getOperandStacks().pushIntValue(index);
+    }
+
+    /**
+     * indexOf(String str) and indexOf(String str, int fromIndex)
+     */
+    private static void indexOfString(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        char[] source = getValue(getThis(localVariables));
+        Reference str = localVariables.getReference(1);
+        if(Reference.NULL.equals(str)) {
+            // NullPointerException
+            Intrinsics.interpret(frame, jvmMethod, localVariables);
+            return;
+        }
+        char[] target = getValue((ObjectReference) str);
+        int fromIndex = localVariables.getMaxLocals() > 2 ? localVariables.getIntValue(2) : 0;
+        frame.getOperandStacks().pushIntValue(indexOf(source, target, fromIndex));
+    }
+
+    /**
+     * same as String.indexOf(char[], int, int, char[], int, int, int)
+     */
+    static int indexOf(char[] source, char[] target, int fromIndex) {
+        if(fromIndex >= source.length) {
+            return target.length == 0 ? source.length : -1;
+        }
+        if(fromIndex < 0) {
+            fromIndex = 0;
+        }
+        if(target.length == 0) {
+            return fromIndex;
+        }
+        final char first = target[0];
+        final int max = source.length - target.length;
+        for(int i = fromIndex; i <= max; i++) {
+            if(source[i] != first) {
+                continue;
+            }
+            int j = 1;
+            while(j < target.length && source[i + j] == target[j]) {
+                j++;
+            }
+            if(j == target.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
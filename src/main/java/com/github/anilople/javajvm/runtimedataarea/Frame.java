@@ -1,13 +1,10 @@
 package com.github.anilople.javajvm.runtimedataarea;
 
 import com.github.anilople.javajvm.heap.JvmMethod;
-import com.github.anilople.javajvm.instructions.BytecodeReader;
 import com.github.anilople.javajvm.instructions.Instruction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Arrays;
-
 /**
  * A frame is used to store data and partial results, as well as to perform dynamic
  * linking, return values for methods, and dispatch exceptions.
@@ -33,39 +30,63 @@ public class Frame {
     private Frame() {
     }
 
+    /**
+     * a frame without arguments,
+     * its window starts at the top of thread's stack
+     * @param jvmThread
+     * @param jvmMethod
+     */
     public Frame(JvmThread jvmThread, JvmMethod jvmMethod) {
-        this.jvmThread = jvmThread;
-        this.localVariables = new LocalVariables(jvmMethod.getMaxLocals());
-        this.operandStacks = new OperandStacks(jvmMethod.getMaxStack());
-        this.jvmMethod = jvmMethod;
+        this.initial(jvmThread, jvmMethod, jvmThread.getTopIndex());
     }
 
     /**
-     * max locals in jvm method must >= max locals in local variables
+     * the arguments on the top of caller's operand stack become the first local variables
+     * of the method, caller is the current frame of thread
      * @param jvmThread
      * @param jvmMethod
-     * @param localVariables
+     * @param argsSlots how many slots the arguments (include object reference) occupy
      * @throws RuntimeException
      */
-    public Frame(JvmThread jvmThread, JvmMethod jvmMethod, LocalVariables localVariables) {
-        if(jvmMethod.getMaxLocals() < localVariables.getMaxLocals()) {
+    public Frame(JvmThread jvmThread, JvmMethod jvmMethod, int argsSlots) {
+        this.initial(jvmThread, jvmMethod, popArgs(jvmThread, jvmMethod, argsSlots));
+    }
+
+    /**
+     * the arguments have been popped from caller's operand stack already,
+     * i.e a native method falls back to interpret the method
+     * @param jvmThread
+     * @param jvmMethod
+     * @param arguments become the first local variables of the method
+     */
+    public Frame(JvmThread jvmThread, JvmMethod jvmMethod, LocalVariables arguments) {
+        this.initial(jvmThread, jvmMethod, jvmThread.getTopIndex());
+        arguments.copyTo(this.localVariables);
+    }
+
+    private void initial(JvmThread jvmThread, JvmMethod jvmMethod, int base) {
+        this.jvmThread = jvmThread;
+        this.localVariables = jvmThread.makeLocalVariables(base, jvmMethod.getMaxLocals(), jvmMethod.getMaxStack());
+        this.operandStacks = jvmThread.makeOperandStacks(base + jvmMethod.getMaxLocals(), jvmMethod.getMaxStack());
+        this.jvmMethod = jvmMethod;
+    }
+
+    /**
+     * pop the arguments from caller's operand stack, but don't touch their slots
+     * @return index of the first argument in thread's stack
+     */
+    private static int popArgs(JvmThread jvmThread, JvmMethod jvmMethod, int argsSlots) {
+        if(jvmMethod.getMaxLocals() < argsSlots) {
             String message = String.format(
-                "max locals in jvm method must >= max locals in local variables!! method = %d, local variables = %d",
+                "max locals in jvm method must >= slots of arguments!! method = %d, arguments = %d",
                 jvmMethod.getMaxLocals(),
-                localVariables.getMaxLocals()
+                argsSlots
             );
             throw new RuntimeException(message);
         }
-
-        // maybe we need to grow local variables
-        if(localVariables.getMaxLocals() < jvmMethod.getMaxLocals()) {
-            localVariables.growMaxLocals(jvmMethod.getMaxLocals());
-        }
-
-        this.jvmThread = jvmThread;
-        this.localVariables = localVariables;
-        this.operandStacks = new OperandStacks(jvmMethod.getMaxStack());
-        this.jvmMethod = jvmMethod;
+        OperandStacks callerOperandStacks = jvmThread.currentFrame().getOperandStacks();
+        callerOperandStacks.popSlots(argsSlots);
+        return callerOperandStacks.getTopIndex();
     }
 
     /**
@@ -79,23 +100,12 @@ public class Frame {
     }
 
     /**
-     * read next instruction started by pc register
+     * read next instruction started by pc register,
+     * the instruction has been decoded by method
      * @return
      */
     public Instruction readNextInstruction() {
-        // method -> method's code
-        byte[] bytecode = this.getJvmMethod().getCode();
-
-        int pc = this.getNextPc();
-        BytecodeReader bytecodeReader = new BytecodeReader(Arrays.copyOfRange(bytecode, pc, bytecode.length));
-
-        Instruction instruction = Instruction.readInstruction(bytecodeReader);
-        logger.debug("read instruction: {}", instruction);
-
-        // fetch operands (may fetch nothing)
-        instruction.fetchOperands(bytecodeReader);
-
-        return instruction;
+        return this.getJvmMethod().getInstruction(this.getNextPc());
     }
 
     public JvmThread getJvmThread() {
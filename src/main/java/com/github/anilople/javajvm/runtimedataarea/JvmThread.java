@@ -1,8 +1,8 @@
 package com.github.anilople.javajvm.runtimedataarea;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Stack;
 
 /**
  * Per-thread data areas are created when a thread is
@@ -26,48 +26,148 @@ public class JvmThread {
     // save it to frame, every frame keep a pc of its method
     private int pc;
 
+    /**
+     * default size of stack, in bytes
+     */
+    public static final long DEFAULT_STACK_SIZE = 1024 * 1024;
+
+    /**
+     * a slot is an int (a reference beside it is not counted)
+     */
+    private static final int SLOT_BYTES = 4;
+
+    private static final int INITIAL_SLOTS = 1024;
+
+    /**
+     * max slots of threads created after,
+     * set by option -Xss
+     */
+    private static volatile int defaultMaxSlots = (int) (DEFAULT_STACK_SIZE / SLOT_BYTES);
+
     /**
      * If the computation in a thread requires a larger Java Virtual Machine stack than
      * is permitted, the Java Virtual Machine throws a StackOverflowError
      */
-    private int maxStackSize;
+    private final int maxSlots;
 
     /**
      * Each Java Virtual Machine thread has a private Java Virtual Machine stack, created
      * at the same time as the thread.
      */
-    private Stack<Frame> stack;
+    private final List<Frame> stack;
+
+    /**
+     * local variables and operand stacks of all frames,
+     * a frame is a window [base, base + max locals + max stack) of them.
+     * the arguments pushed by caller are the first local variables of callee,
+     * so nothing need to be copied when invoke a method
+     */
+    private int[] slots;
+
+    /**
+     * parallel to slots
+     */
+    private Reference[] references;
 
     public JvmThread() {
-        this.maxStackSize = 1024;
-        this.stack = new Stack<>();
+        this.maxSlots = defaultMaxSlots;
+        this.stack = new ArrayList<>();
+        this.slots = new int[Math.min(INITIAL_SLOTS, maxSlots)];
+        this.references = new Reference[slots.length];
     }
 
-    public void pushFrame(Frame frame) {
-        if (stack.size() >= maxStackSize) {
+    /**
+     * like -Xss in java
+     * @param stackSize stack size of threads created after, in bytes
+     */
+    public static void setStackSize(long stackSize) {
+        if (stackSize < SLOT_BYTES) {
+            throw new IllegalArgumentException("stack size is too small: " + stackSize);
+        }
+        defaultMaxSlots = (int) Math.min(Integer.MAX_VALUE, stackSize / SLOT_BYTES);
+    }
+
+    /**
+     * @return index of the first slot can be used by a new frame
+     */
+    int getTopIndex() {
+        if (stack.isEmpty()) {
+            return 0;
+        }
+        return currentFrame().getOperandStacks().getTopIndex();
+    }
+
+    /**
+     * make a window of slots, grow the slots if they are not enough
+     * @param base
+     * @param maxLocals
+     * @param maxStack
+     * @throws RuntimeException StackOverflowError
+     * @return local variables of the window,
+     * the operand stacks start after it
+     */
+    LocalVariables makeLocalVariables(int base, int maxLocals, int maxStack) {
+        ensureCapacity(base + maxLocals + maxStack);
+        return new LocalVariables(slots, references, base, maxLocals);
+    }
+
+    OperandStacks makeOperandStacks(int base, int maxStack) {
+        return new OperandStacks(slots, references, base, maxStack);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= slots.length) {
+            return;
+        }
+        if (capacity > maxSlots) {
             throw new RuntimeException("java.lang.StackOverflowError");
         }
-        stack.push(frame);
+        int newLength = (int) Math.min(maxSlots, Math.max(capacity, 2L * slots.length));
+        this.slots = Arrays.copyOf(slots, newLength);
+        this.references = Arrays.copyOf(references, newLength);
+        for (Frame frame : stack) {
+            frame.getLocalVariables().relocate(slots, references);
+            frame.getOperandStacks().relocate(slots, references);
+        }
+    }
+
+    public void pushFrame(Frame frame) {
+        stack.add(frame);
     }
 
     public void popFrame() {
         if (stack.size() <= 0) {
             throw new RuntimeException("jvm stack is empty!");
         }
-        stack.pop();
+        stack.remove(stack.size() - 1);
     }
 
     public Frame currentFrame() {
         if (stack.size() <= 0) {
             throw new RuntimeException("jvm stack is empty!");
         }
-        return stack.peek();
+        return stack.get(stack.size() - 1);
     }
 
     public boolean existFrame() {
         return stack.size() > 0;
     }
 
+    /**
+     * @return number of frames in stack
+     */
+    public int getStackDepth() {
+        return stack.size();
+    }
+
+    /**
+     * @param index 0 is the bottom frame
+     * @return frame at index
+     */
+    public Frame getFrame(int index) {
+        return stack.get(index);
+    }
+
     /**
      * clear the jvm stack
      * all frames in stack will be removed
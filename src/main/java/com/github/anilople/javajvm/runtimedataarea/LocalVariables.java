@@ -3,8 +3,6 @@ package com.github.anilople.javajvm.runtimedataarea;
 import com.github.anilople.javajvm.utils.ByteUtils;
 
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Each frame (§2.6) contains an array of variables known as its local variables. The
@@ -23,39 +21,65 @@ public class LocalVariables {
 
     private int maxLocals;
 
-    private List<LocalVariable> localVariables;
+    /**
+     * value of boolean, byte, char, short, int, float, returnAddress,
+     * or half of a long or double
+     */
+    private int[] slots;
+
+    /**
+     * parallel to slots, the reference stored in the same index
+     */
+    private Reference[] references;
+
+    /**
+     * local variable 0 is slots[base],
+     * not 0 when slots are shared with the stack of thread
+     */
+    private int base;
 
     private LocalVariables() {
     }
 
     public LocalVariables(int maxLocals) {
         this.maxLocals = maxLocals;
-        this.localVariables = Arrays.asList(new LocalVariable[maxLocals]);
+        this.slots = new int[maxLocals];
+        this.references = new Reference[maxLocals];
     }
 
     /**
-     * sometimes local variables not big enough
-     * so we need to grow its size
-     * @param newMaxLocals
-     * @throws RuntimeException
+     * a window of the slots in thread's stack
+     * @see JvmThread
      */
-    public void growMaxLocals(int newMaxLocals) {
-        if(this.getMaxLocals() > newMaxLocals) {
-            String message = String.format(
-                    "new max locals must >= origin max locals. newMaxLocals = %d, origin max locals = %d",
-                    newMaxLocals,
-                    this.getMaxLocals()
-            );
-            throw new RuntimeException(message);
-        }
-        // malloc new local variables
-        this.maxLocals = newMaxLocals;
-        List<LocalVariable> newLocalVariables = Arrays.asList(new LocalVariable[newMaxLocals]);
-        // copy old values to new local variables
-        Collections.copy(newLocalVariables, this.localVariables);
+    LocalVariables(int[] slots, Reference[] references, int base, int maxLocals) {
+        this.maxLocals = maxLocals;
+        this.slots = slots;
+        this.references = references;
+        this.base = base;
+    }
+
+    /**
+     * thread's stack has grown,
+     * the window moves to new slots
+     */
+    void relocate(int[] slots, Reference[] references) {
+        this.slots = slots;
+        this.references = references;
+    }
+
+    /**
+     * copy slots to local variables start from 0
+     */
+    void copyFrom(int[] slots, Reference[] references, int start, int count) {
+        System.arraycopy(slots, start, this.slots, base, count);
+        System.arraycopy(references, start, this.references, base, count);
+    }
 
-        // pointer to new local variables
-        this.localVariables = newLocalVariables;
+    /**
+     * copy all local variables to target start from 0
+     */
+    void copyTo(LocalVariables target) {
+        target.copyFrom(slots, references, base, maxLocals);
     }
 
     /**
@@ -64,14 +88,22 @@ public class LocalVariables {
      * Side effect!!!
      */
     public void reverse() {
-        Collections.reverse(localVariables);
+        for (int i = base, j = base + maxLocals - 1; i < j; i++, j--) {
+            int slot = slots[i];
+            slots[i] = slots[j];
+            slots[j] = slot;
+            Reference reference = references[i];
+            references[i] = references[j];
+            references[j] = reference;
+        }
     }
 
     @Override
     public String toString() {
         return this.getClass().getName() + "{" +
                 "maxLocals=" + maxLocals +
-                ", localVariables=" + localVariables +
+                ", slots=" + Arrays.toString(Arrays.copyOfRange(slots, base, base + maxLocals)) +
+                ", references=" + Arrays.toString(Arrays.copyOfRange(references, base, base + maxLocals)) +
                 '}';
     }
 
@@ -80,40 +112,40 @@ public class LocalVariables {
     }
 
     public boolean getBooleanValue(int index) {
-        return localVariables.get(index).getBooleanValue();
+        return 0 != slots[base + index];
     }
 
     public byte getByteValue(int index) {
-        return localVariables.get(index).getByteValue();
+        return (byte) slots[base + index];
     }
 
     public char getCharValue(int index) {
-        return localVariables.get(index).getCharValue();
+        return (char) slots[base + index];
     }
 
     public short getShortValue(int index) {
-        return localVariables.get(index).getShortValue();
+        return (short) slots[base + index];
     }
 
     public int getIntValue(int index) {
-        return localVariables.get(index).getIntValue();
+        return slots[base + index];
     }
 
     public float getFloatValue(int index) {
-        return localVariables.get(index).getFloatValue();
+        return Float.intBitsToFloat(slots[base + index]);
     }
 
     public Reference getReference(int index) {
-        return localVariables.get(index).getReference();
+        return references[base + index];
     }
 
     public int getReturnAddress(int index) {
-        return localVariables.get(index).getReturnAddress();
+        return slots[base + index];
     }
 
     public long getLongValue(int index) {
-        int value0 = localVariables.get(index).getIntValue();
-        int value1 = localVariables.get(index + 1).getIntValue();
+        int value0 = slots[base + index];
+        int value1 = slots[base + index + 1];
         return ByteUtils.int2long(value0, value1);
     }
 
@@ -123,43 +155,51 @@ public class LocalVariables {
     }
 
     public void setBooleanValue(int index, boolean booleanValue) {
-        localVariables.set(index, new LocalVariable().setBooleanValue(booleanValue));
+        this.setIntValue(index, booleanValue ? 1 : 0);
     }
 
     public void setByteValue(int index, byte byteValue) {
-        localVariables.set(index, new LocalVariable().setByteValue(byteValue));
+        this.setIntValue(index, byteValue);
     }
 
     public void setCharValue(int index, char charValue) {
-        localVariables.set(index, new LocalVariable().setCharValue(charValue));
+        this.setIntValue(index, charValue);
     }
 
     public void setShortValue(int index, short shortValue) {
-        localVariables.set(index, new LocalVariable().setShortValue(shortValue));
+        this.setIntValue(index, shortValue);
     }
 
+    /**
+     * a slot holds a value or a reference, never both,
+     * so the reference in the same index is cleared
+     * @param index
+     * @param intValue
+     */
     public void setIntValue(int index, int intValue) {
-        localVariables.set(index, new LocalVariable().setIntValue(intValue));
+        slots[base + index] = intValue;
+        references[base + index] = null;
     }
 
     public void setFloatValue(int index, float floatValue) {
-        localVariables.set(index, new LocalVariable().setFloatValue(floatValue));
+        this.setIntValue(index, Float.floatToRawIntBits(floatValue));
     }
 
     public void setReference(int index, Reference reference) {
-        localVariables.set(index, new LocalVariable().setReference(reference));
+        slots[base + index] = 0;
+        references[base + index] = reference;
     }
 
     public void setReturnAddress(int index, int returnAddress) {
-        localVariables.set(index, new LocalVariable().setReturnAddress(returnAddress));
+        this.setIntValue(index, returnAddress);
     }
 
     public void setLongValue(int index, long longValue) {
         // high bytes
         int value0 = (int) (longValue >> 32);
         int value1 = (int) (longValue);
-        localVariables.set(index, new LocalVariable().setIntValue(value0));
-        localVariables.set(index + 1, new LocalVariable().setIntValue(value1));
+        this.setIntValue(index, value0);
+        this.setIntValue(index + 1, value1);
     }
 
     public void setDoubleValue(int index, double doubleValue) {
@@ -2,7 +2,7 @@ package com.github.anilople.javajvm.runtimedataarea;
 
 import com.github.anilople.javajvm.utils.ByteUtils;
 
-import java.util.Stack;
+import java.util.Arrays;
 
 /**
  * Each frame (§2.6) contains a last-in-first-out (LIFO) stack known as its operand
@@ -14,76 +14,202 @@ public class OperandStacks {
 
     private int maxStack;
 
-    private Stack<LocalVariable> operandStack;
+    /**
+     * value of boolean, byte, char, short, int, float, returnAddress,
+     * or half of a long or double
+     */
+    private int[] slots;
+
+    /**
+     * parallel to slots, the reference stored in the same index
+     */
+    private Reference[] references;
+
+    /**
+     * bottom of stack is slots[base],
+     * not 0 when slots are shared with the stack of thread
+     */
+    private int base;
+
+    /**
+     * how many slots are used now,
+     * the top of stack is size - 1
+     */
+    private int size;
 
     private OperandStacks() {
     }
 
     public OperandStacks(int maxStack) {
         this.maxStack = maxStack;
-        operandStack = new Stack<>();
+        this.slots = new int[maxStack];
+        this.references = new Reference[maxStack];
+    }
+
+    /**
+     * a window of the slots in thread's stack
+     * @see JvmThread
+     */
+    OperandStacks(int[] slots, Reference[] references, int base, int maxStack) {
+        this.maxStack = maxStack;
+        this.slots = slots;
+        this.references = references;
+        this.base = base;
+    }
+
+    /**
+     * thread's stack has grown,
+     * the window moves to new slots
+     */
+    void relocate(int[] slots, Reference[] references) {
+        this.slots = slots;
+        this.references = references;
+    }
+
+    /**
+     * @return index of the slot above the top in the slots
+     */
+    int getTopIndex() {
+        return base + size;
     }
 
     @Override
     public String toString() {
         return "OperandStacks{" +
                 "maxStack=" + maxStack +
-                ", operandStack=" + operandStack +
+                ", slots=" + Arrays.toString(Arrays.copyOfRange(slots, base, base + size)) +
+                ", references=" + Arrays.toString(Arrays.copyOfRange(references, base, base + size)) +
                 '}';
     }
 
     public void clear() {
-        operandStack.clear();
+        Arrays.fill(references, base, base + size, null);
+        size = 0;
     }
 
+    /**
+     * a new local variable is allocated for the slot,
+     * use the typed push or pop in instructions
+     * @param localVariable
+     */
     public void push(LocalVariable localVariable) {
-        operandStack.push(localVariable);
+        slots[base + size] = localVariable.getIntValue();
+        references[base + size] = localVariable.getReference();
+        size++;
     }
 
+    /**
+     * a new local variable is allocated for the slot,
+     * use the typed push or pop in instructions
+     * @return
+     */
     public LocalVariable pop() {
-        return operandStack.pop();
+        size--;
+        return new LocalVariable().setIntValue(slots[base + size]).setReference(references[base + size]);
+    }
+
+    /**
+     * discard slots on the top
+     * @param count how many slots
+     */
+    public void popSlots(int count) {
+        if (count > size) {
+            throw new RuntimeException("stack has only " + size + " slots, cannot pop " + count);
+        }
+        size -= count;
+    }
+
+    /**
+     * pop slots on the top to local variables,
+     * the layout of slots is kept, the bottom one becomes local variable 0
+     * @param count how many slots
+     * @param localVariables target
+     */
+    public void popSlots(int count, LocalVariables localVariables) {
+        popSlots(count);
+        localVariables.copyFrom(slots, references, base + size, count);
+    }
+
+    /**
+     * duplicate the top count slots,
+     * and insert the copy under depth slots below them.
+     * i.e. dup is (1, 0), dup_x1 is (1, 1), dup2_x2 is (2, 2)
+     * @param count how many slots to duplicate
+     * @param depth how many slots the copy is inserted below
+     */
+    public void dup(int count, int depth) {
+        // [..., below(depth), top(count)] -> [..., top(count), below(depth), top(count)]
+        final int topStart = base + size - count;
+        final int insertPosition = topStart - depth;
+        // move below and top up
+        System.arraycopy(slots, insertPosition, slots, insertPosition + count, depth + count);
+        System.arraycopy(references, insertPosition, references, insertPosition + count, depth + count);
+        // copy top to insert position
+        System.arraycopy(slots, topStart + count, slots, insertPosition, count);
+        System.arraycopy(references, topStart + count, references, insertPosition, count);
+        size += count;
+    }
+
+    /**
+     * swap the top 2 slots
+     */
+    public void swap() {
+        int top = base + size - 1;
+        int slot = slots[top];
+        slots[top] = slots[top - 1];
+        slots[top - 1] = slot;
+        Reference reference = references[top];
+        references[top] = references[top - 1];
+        references[top - 1] = reference;
+    }
+
+    /**
+     * get a reference without popping it
+     * @param depth how many slots above the reference, 0 means the top
+     * @return
+     */
+    public Reference peekReference(int depth) {
+        return references[base + size - 1 - depth];
     }
 
     public boolean popBooleanValue() {
-        return operandStack.pop().getBooleanValue();
+        return 0 != popIntValue();
     }
 
     public byte popByteValue() {
-        return operandStack.pop().getByteValue();
+        return (byte) popIntValue();
     }
 
     public char popCharValue() {
-        return operandStack.pop().getCharValue();
+        return (char) popIntValue();
     }
 
     public short popShortValue() {
-        return operandStack.pop().getShortValue();
+        return (short) popIntValue();
     }
 
     public int popIntValue() {
-        return operandStack.pop().getIntValue();
+        return slots[base + --size];
     }
 
     public float popFloatValue() {
-        return operandStack.pop().getFloatValue();
+        return Float.intBitsToFloat(popIntValue());
     }
 
     public Reference popReference() {
-        return operandStack.pop().getReference();
+        return references[base + --size];
     }
 
     public int popReturnAddress() {
-        return operandStack.pop().getReturnAddress();
+        return popIntValue();
     }
 
     public long popLongValue() {
-        LocalVariable localVariable2 = operandStack.pop();
-        LocalVariable localVariable1 = operandStack.pop();
-        // pop high bytes
-        int intValue2 = localVariable2.getIntValue();
         // pop low bytes
-        int intValue1 = localVariable1.getIntValue();
-        return ByteUtils.int2long(intValue2, intValue1);
+        int lowBytes = popIntValue();
+        // pop high bytes
+        int highBytes = popIntValue();
+        return ByteUtils.int2long(highBytes, lowBytes);
     }
 
     public double popDoubleValue() {
@@ -94,52 +220,60 @@ public class OperandStacks {
 
 
     public void pushBooleanValue(boolean booleanValue) {
-        operandStack.push(new LocalVariable().setBooleanValue(booleanValue));
+        pushIntValue(booleanValue ? 1 : 0);
     }
 
     public void pushByteValue(byte byteValue) {
-        operandStack.push(new LocalVariable().setByteValue(byteValue));
+        pushIntValue(byteValue);
     }
 
     public void pushCharValue(char charValue) {
-        operandStack.push(new LocalVariable().setCharValue(charValue));
+        pushIntValue(charValue);
     }
 
     public void pushShortValue(short shortValue) {
-        operandStack.push(new LocalVariable().setShortValue(shortValue));
+        pushIntValue(shortValue);
     }
 
+    /**
+     * a slot holds a value or a reference, never both,
+     * so the reference in the same index is cleared
+     * @param intValue
+     */
     public void pushIntValue(int intValue) {
-        operandStack.push(new LocalVariable().setIntValue(intValue));
+        slots[base + size] = intValue;
+        references[base + size] = null;
+        size++;
     }
 
     public void pushFloatValue(float floatValue) {
-        operandStack.push(new LocalVariable().setFloatValue(floatValue));
+        pushIntValue(Float.floatToRawIntBits(floatValue));
     }
 
     public void pushReference(Reference reference) {
-        operandStack.push(new LocalVariable().setReference(reference));
+        slots[base + size] = 0;
+        references[base + size] = reference;
+        size++;
     }
 
     public void pushReturnAddress(int returnAddress) {
-        operandStack.push(new LocalVariable().setReturnAddress(returnAddress));
+        pushIntValue(returnAddress);
     }
 
     /**
-     * a long value occupies 2 local variables
-     * push low bytes first
-     * then push high bytes
+     * a long value occupies 2 slots,
+     * push high bytes first
+     * then push low bytes,
+     * same order as in local variables,
+     * so the args of an invocation can become local variables directly
      *
      * @param longValue
      */
     public void pushLongValue(long longValue) {
-        // low bytes
-        int intValue1 = (int) (longValue);
         // high bytes
-        int intValue2 = (int) (longValue >> 32);
-
-        this.pushIntValue(intValue1);
-        this.pushIntValue(intValue2);
+        this.pushIntValue((int) (longValue >> 32));
+        // low bytes
+        this.pushIntValue((int) (longValue));
     }
 
     public void pushDoubleValue(double doubleValue) {
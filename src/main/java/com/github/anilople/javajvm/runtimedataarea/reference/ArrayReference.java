@@ -40,6 +40,12 @@ public abstract class ArrayReference implements Reference {
         }
     }
 
+    /**
+     * jls8, 10.7 Array Members, clone of array is shallow
+     * @return a new array with same component type and elements
+     */
+    public abstract ArrayReference cloneArray();
+
     public JvmClass getComponentType() {
         return componentType;
     }
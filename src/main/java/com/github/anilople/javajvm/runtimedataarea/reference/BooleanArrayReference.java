@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * boolean[] in heap, elements are in a boolean[] of real jvm
+ */
+public final class BooleanArrayReference extends BaseTypeArrayReference {
+
+    private final boolean[] booleans;
+
+    public BooleanArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new boolean[count]);
+    }
+
+    /**
+     * @param booleans shared, not copied
+     */
+    public BooleanArrayReference(JvmClassLoader jvmClassLoader, boolean[] booleans) {
+        super(jvmClassLoader, boolean.class, booleans.length);
+        this.booleans = booleans;
+    }
+
+    @Override
+    public boolean[] getArray() {
+        return booleans;
+    }
+
+    @Override
+    public BooleanArrayReference cloneArray() {
+        return new BooleanArrayReference(this.getComponentType().getLoader(), booleans.clone());
+    }
+
+    @Override
+    public boolean getBooleanValue(int index) {
+        return booleans[index];
+    }
+
+    @Override
+    public void setBooleanValue(int index, boolean booleanValue) {
+        booleans[index] = booleanValue;
+    }
+
+    @Override
+    public String toString() {
+        return "BooleanArrayReference{" + Arrays.toString(booleans) + "}";
+    }
+}
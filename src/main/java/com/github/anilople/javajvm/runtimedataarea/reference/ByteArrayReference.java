@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * byte[] in heap, elements are in a byte[] of real jvm
+ */
+public final class ByteArrayReference extends BaseTypeArrayReference {
+
+    private final byte[] bytes;
+
+    public ByteArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new byte[count]);
+    }
+
+    /**
+     * @param bytes shared, not copied
+     */
+    public ByteArrayReference(JvmClassLoader jvmClassLoader, byte[] bytes) {
+        super(jvmClassLoader, byte.class, bytes.length);
+        this.bytes = bytes;
+    }
+
+    @Override
+    public byte[] getArray() {
+        return bytes;
+    }
+
+    @Override
+    public ByteArrayReference cloneArray() {
+        return new ByteArrayReference(this.getComponentType().getLoader(), bytes.clone());
+    }
+
+    @Override
+    public byte getByteValue(int index) {
+        return bytes[index];
+    }
+
+    @Override
+    public void setByteValue(int index, byte byteValue) {
+        bytes[index] = byteValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ByteArrayReference{" + Arrays.toString(bytes) + "}";
+    }
+}
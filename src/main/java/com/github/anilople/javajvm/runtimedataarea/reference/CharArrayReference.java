@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * char[] in heap, elements are in a char[] of real jvm
+ */
+public final class CharArrayReference extends BaseTypeArrayReference {
+
+    private final char[] chars;
+
+    public CharArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new char[count]);
+    }
+
+    /**
+     * @param chars shared, not copied
+     */
+    public CharArrayReference(JvmClassLoader jvmClassLoader, char[] chars) {
+        super(jvmClassLoader, char.class, chars.length);
+        this.chars = chars;
+    }
+
+    @Override
+    public char[] getArray() {
+        return chars;
+    }
+
+    @Override
+    public CharArrayReference cloneArray() {
+        return new CharArrayReference(this.getComponentType().getLoader(), chars.clone());
+    }
+
+    @Override
+    public char getCharValue(int index) {
+        return chars[index];
+    }
+
+    @Override
+    public void setCharValue(int index, char charValue) {
+        chars[index] = charValue;
+    }
+
+    @Override
+    public String toString() {
+        return "CharArrayReference{" + Arrays.toString(chars) + "}";
+    }
+}
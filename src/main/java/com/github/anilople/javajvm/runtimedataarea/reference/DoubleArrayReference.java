@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * double[] in heap, elements are in a double[] of real jvm
+ */
+public final class DoubleArrayReference extends BaseTypeArrayReference {
+
+    private final double[] doubles;
+
+    public DoubleArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new double[count]);
+    }
+
+    /**
+     * @param doubles shared, not copied
+     */
+    public DoubleArrayReference(JvmClassLoader jvmClassLoader, double[] doubles) {
+        super(jvmClassLoader, double.class, doubles.length);
+        this.doubles = doubles;
+    }
+
+    @Override
+    public double[] getArray() {
+        return doubles;
+    }
+
+    @Override
+    public DoubleArrayReference cloneArray() {
+        return new DoubleArrayReference(this.getComponentType().getLoader(), doubles.clone());
+    }
+
+    @Override
+    public double getDoubleValue(int index) {
+        return doubles[index];
+    }
+
+    @Override
+    public void setDoubleValue(int index, double doubleValue) {
+        doubles[index] = doubleValue;
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleArrayReference{" + Arrays.toString(doubles) + "}";
+    }
+}
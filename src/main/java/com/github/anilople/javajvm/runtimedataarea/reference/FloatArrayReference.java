@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * float[] in heap, elements are in a float[] of real jvm
+ */
+public final class FloatArrayReference extends BaseTypeArrayReference {
+
+    private final float[] floats;
+
+    public FloatArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new float[count]);
+    }
+
+    /**
+     * @param floats shared, not copied
+     */
+    public FloatArrayReference(JvmClassLoader jvmClassLoader, float[] floats) {
+        super(jvmClassLoader, float.class, floats.length);
+        this.floats = floats;
+    }
+
+    @Override
+    public float[] getArray() {
+        return floats;
+    }
+
+    @Override
+    public FloatArrayReference cloneArray() {
+        return new FloatArrayReference(this.getComponentType().getLoader(), floats.clone());
+    }
+
+    @Override
+    public float getFloatValue(int index) {
+        return floats[index];
+    }
+
+    @Override
+    public void setFloatValue(int index, float floatValue) {
+        floats[index] = floatValue;
+    }
+
+    @Override
+    public String toString() {
+        return "FloatArrayReference{" + Arrays.toString(floats) + "}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * int[] in heap, elements are in a int[] of real jvm
+ */
+public final class IntArrayReference extends BaseTypeArrayReference {
+
+    private final int[] ints;
+
+    public IntArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new int[count]);
+    }
+
+    /**
+     * @param ints shared, not copied
+     */
+    public IntArrayReference(JvmClassLoader jvmClassLoader, int[] ints) {
+        super(jvmClassLoader, int.class, ints.length);
+        this.ints = ints;
+    }
+
+    @Override
+    public int[] getArray() {
+        return ints;
+    }
+
+    @Override
+    public IntArrayReference cloneArray() {
+        return new IntArrayReference(this.getComponentType().getLoader(), ints.clone());
+    }
+
+    @Override
+    public int getIntValue(int index) {
+        return ints[index];
+    }
+
+    @Override
+    public void setIntValue(int index, int intValue) {
+        ints[index] = intValue;
+    }
+
+    @Override
+    public String toString() {
+        return "IntArrayReference{" + Arrays.toString(ints) + "}";
+    }
+}
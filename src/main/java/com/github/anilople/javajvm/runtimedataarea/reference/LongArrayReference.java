@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * long[] in heap, elements are in a long[] of real jvm
+ */
+public final class LongArrayReference extends BaseTypeArrayReference {
+
+    private final long[] longs;
+
+    public LongArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new long[count]);
+    }
+
+    /**
+     * @param longs shared, not copied
+     */
+    public LongArrayReference(JvmClassLoader jvmClassLoader, long[] longs) {
+        super(jvmClassLoader, long.class, longs.length);
+        this.longs = longs;
+    }
+
+    @Override
+    public long[] getArray() {
+        return longs;
+    }
+
+    @Override
+    public LongArrayReference cloneArray() {
+        return new LongArrayReference(this.getComponentType().getLoader(), longs.clone());
+    }
+
+    @Override
+    public long getLongValue(int index) {
+        return longs[index];
+    }
+
+    @Override
+    public void setLongValue(int index, long longValue) {
+        longs[index] = longValue;
+    }
+
+    @Override
+    public String toString() {
+        return "LongArrayReference{" + Arrays.toString(longs) + "}";
+    }
+}
@@ -2,6 +2,7 @@ package com.github.anilople.javajvm.runtimedataarea.reference;
 
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.utils.JvmClassUtils;
 
 import java.util.Arrays;
 
@@ -10,7 +11,7 @@ public class ObjectArrayReference extends ArrayReference {
     /**
      * reference
      */
-    private Reference[] references;
+    private final Reference[] references;
 
 
     public ObjectArrayReference(JvmClass componentType, int count) {
@@ -19,6 +20,72 @@ public class ObjectArrayReference extends ArrayReference {
         Arrays.fill(references, Reference.NULL);
     }
 
+    private ObjectArrayReference(JvmClass componentType, Reference[] references) {
+        super(componentType, references.length);
+        this.references = references;
+    }
+
+    @Override
+    public ObjectArrayReference cloneArray() {
+        return new ObjectArrayReference(this.getComponentType(), references.clone());
+    }
+
+    /**
+     * jvms8 System.arraycopy, same array is allowed.
+     * Elements are copied in bulk if component type of this array can be assigned to dest's,
+     * otherwise they are checked one by one,
+     * the ones before the element cannot be stored are copied
+     * @throws ArrayStoreException if an element cannot be stored in dest
+     * @throws IndexOutOfBoundsException
+     */
+    public void copyTo(int srcPos, ObjectArrayReference dest, int destPos, int length) {
+        if (isAssignable(this.getComponentType(), dest.getComponentType())) {
+            System.arraycopy(references, srcPos, dest.references, destPos, length);
+            return;
+        }
+        if (srcPos < 0 || destPos < 0 || length < 0
+                || srcPos > references.length - length || destPos > dest.references.length - length) {
+            throw new ArrayIndexOutOfBoundsException("arraycopy: last source index " + (srcPos + length) + " out of bounds");
+        }
+        // component types differ, so this is not dest, no overlap
+        for (int i = 0; i < length; i++) {
+            Reference reference = references[srcPos + i];
+            dest.assertCanStore(reference);
+            dest.references[destPos + i] = reference;
+        }
+    }
+
+    /**
+     * @throws ArrayStoreException if reference cannot be stored in this array
+     * @see Arrays#fill(Object[], int, int, Object)
+     */
+    public void fill(int fromIndex, int toIndex, Reference reference) {
+        assertCanStore(reference);
+        Arrays.fill(references, fromIndex, toIndex, reference);
+    }
+
+    /**
+     * same check as aastore, null can be stored in any array
+     * @throws ArrayStoreException
+     */
+    private void assertCanStore(Reference reference) {
+        if (Reference.isNull(reference)) {
+            return;
+        }
+        JvmClass type = Reference.isArray(reference) ?
+                ((ArrayReference) reference).resolveType() : ((ObjectReference) reference).getJvmClass();
+        if (!isAssignable(type, this.getComponentType())) {
+            throw new ArrayStoreException(type.getName() + " cannot be stored in array of " + this.getComponentType().getName());
+        }
+    }
+
+    /**
+     * @return true if a reference of type S can be assigned to type T
+     */
+    private static boolean isAssignable(JvmClass S, JvmClass T) {
+        return S.getName().equals(T.getName()) || JvmClassUtils.typeCast(S, T);
+    }
+
     @Override
     public String toString() {
         return "ObjectArrayReference{" +
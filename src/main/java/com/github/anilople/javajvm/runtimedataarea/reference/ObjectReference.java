@@ -2,18 +2,31 @@ package com.github.anilople.javajvm.runtimedataarea.reference;
 
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmField;
-import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
-import com.github.anilople.javajvm.utils.DescriptorUtils;
+import com.github.anilople.javajvm.utils.ByteUtils;
 
-import java.util.List;
+/**
+ * an object in heap.
+ * Values of primitive fields are in an int array, long and double occupy 2 slots,
+ * values of reference fields are in a reference array,
+ * the index of a field in its array is the offset computed when its class is linked.
+ * @see JvmClass#getInstanceFields()
+ */
+public class ObjectReference implements Reference {
 
-import static com.github.anilople.javajvm.constants.Descriptors.BaseType.*;
-import static com.github.anilople.javajvm.constants.Descriptors.BaseType.BOOLEAN;
+    private static final String JAVA_LANG_CLASS = "java/lang/Class";
 
-public class ObjectReference extends LocalVariables implements Reference {
+    private static final int[] NO_PRIMITIVES = new int[0];
 
-    private JvmClass jvmClass;
+    private final JvmClass jvmClass;
+
+    /**
+     * boolean, byte, char, short, int, float,
+     * or half of a long or double
+     */
+    private final int[] primitives;
+
+    private final Reference[] references;
 
     /**
      * Initialize an object reference,
@@ -22,50 +35,13 @@ public class ObjectReference extends LocalVariables implements Reference {
      * @param jvmClass object ref's class
      */
     ObjectReference(JvmClass jvmClass) {
-        // an Object in run-time exist own fields (non static fields)
-        super(jvmClass.getNonStaticFieldsSize());
+        // an Object in run-time exist own fields (non static fields),
+        // start with default values
         this.jvmClass = jvmClass;
-
-        // initial fields with default value
-        List<JvmField> jvmFields = jvmClass.getNonStaticJvmFieldsFromAncestorsInOrder();
-        int fieldOffset = 0;
-        for(JvmField jvmField : jvmFields) {
-            // initial default value of this field
-            String descriptor = jvmField.getDescriptor();
-            if(DescriptorUtils.isBaseType(descriptor)) {
-                switch (descriptor) {
-                    case BYTE:
-                        this.setByteValue(fieldOffset, (byte) 0);
-                        break;
-                    case CHAR:
-                        this.setCharValue(fieldOffset, '\u0000');
-                        break;
-                    case DOUBLE:
-                        this.setDoubleValue(fieldOffset, 0.0d);
-                        break;
-                    case FLOAT:
-                        this.setFloatValue(fieldOffset, 0.0f);
-                        break;
-                    case INT:
-                        this.setIntValue(fieldOffset, 0);
-                        break;
-                    case LONG:
-                        this.setLongValue(fieldOffset, 0L);
-                        break;
-                    case SHORT:
-                        this.setShortValue(fieldOffset, (short) 0);
-                        break;
-                    case BOOLEAN:
-                        this.setBooleanValue(fieldOffset, false);
-                        break;
-                }
-            } else {
-                this.setReference(fieldOffset, Reference.NULL);
-            }
-
-            // add the offset
-            fieldOffset += jvmField.getSize();
-        }
+        int primitiveSlots = jvmClass.getInstancePrimitiveSlots();
+        this.primitives = 0 == primitiveSlots ? NO_PRIMITIVES : new int[primitiveSlots];
+        Reference[] instanceTemplate = jvmClass.getInstanceTemplate();
+        this.references = 0 == instanceTemplate.length ? instanceTemplate : instanceTemplate.clone();
     }
 
     /**
@@ -77,7 +53,7 @@ public class ObjectReference extends LocalVariables implements Reference {
      * @return
      */
     public static ObjectReference makeObjectReference(JvmClass jvmClass) {
-        if(jvmClass.isSameName(java.lang.Class.class)) {
+        if(JAVA_LANG_CLASS.equals(jvmClass.getName())) {
             return ClassObjectReference.getInstance(jvmClass);
         } else {
             return new ObjectReference(jvmClass);
@@ -130,6 +106,80 @@ public class ObjectReference extends LocalVariables implements Reference {
         }
     }
 
+    public boolean getBooleanValue(int offset) {
+        return 0 != primitives[offset];
+    }
+
+    public byte getByteValue(int offset) {
+        return (byte) primitives[offset];
+    }
+
+    public char getCharValue(int offset) {
+        return (char) primitives[offset];
+    }
+
+    public short getShortValue(int offset) {
+        return (short) primitives[offset];
+    }
+
+    public int getIntValue(int offset) {
+        return primitives[offset];
+    }
+
+    public float getFloatValue(int offset) {
+        return Float.intBitsToFloat(primitives[offset]);
+    }
+
+    public long getLongValue(int offset) {
+        return ByteUtils.int2long(primitives[offset], primitives[offset + 1]);
+    }
+
+    public double getDoubleValue(int offset) {
+        return Double.longBitsToDouble(this.getLongValue(offset));
+    }
+
+    public Reference getReference(int offset) {
+        return references[offset];
+    }
+
+    public void setBooleanValue(int offset, boolean booleanValue) {
+        primitives[offset] = booleanValue ? 1 : 0;
+    }
+
+    public void setByteValue(int offset, byte byteValue) {
+        primitives[offset] = byteValue;
+    }
+
+    public void setCharValue(int offset, char charValue) {
+        primitives[offset] = charValue;
+    }
+
+    public void setShortValue(int offset, short shortValue) {
+        primitives[offset] = shortValue;
+    }
+
+    public void setIntValue(int offset, int intValue) {
+        primitives[offset] = intValue;
+    }
+
+    public void setFloatValue(int offset, float floatValue) {
+        primitives[offset] = Float.floatToRawIntBits(floatValue);
+    }
+
+    public void setLongValue(int offset, long longValue) {
+        // high bytes first
+        primitives[offset] = (int) (longValue >> 32);
+        primitives[offset + 1] = (int) longValue;
+    }
+
+    public void setDoubleValue(int offset, double doubleValue) {
+        this.setLongValue(offset, Double.doubleToLongBits(doubleValue));
+    }
+
+    public void setReference(int offset, Reference reference) {
+        references[offset] = reference;
+    }
+
     @Override
     public String toString() {
         return "ObjectReference{" +
@@ -0,0 +1,50 @@
+package com.github.anilople.javajvm.runtimedataarea.reference;
+
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+
+import java.util.Arrays;
+
+/**
+ * short[] in heap, elements are in a short[] of real jvm
+ */
+public final class ShortArrayReference extends BaseTypeArrayReference {
+
+    private final short[] shorts;
+
+    public ShortArrayReference(JvmClassLoader jvmClassLoader, int count) {
+        this(jvmClassLoader, new short[count]);
+    }
+
+    /**
+     * @param shorts shared, not copied
+     */
+    public ShortArrayReference(JvmClassLoader jvmClassLoader, short[] shorts) {
+        super(jvmClassLoader, short.class, shorts.length);
+        this.shorts = shorts;
+    }
+
+    @Override
+    public short[] getArray() {
+        return shorts;
+    }
+
+    @Override
+    public ShortArrayReference cloneArray() {
+        return new ShortArrayReference(this.getComponentType().getLoader(), shorts.clone());
+    }
+
+    @Override
+    public short getShortValue(int index) {
+        return shorts[index];
+    }
+
+    @Override
+    public void setShortValue(int index, short shortValue) {
+        shorts[index] = shortValue;
+    }
+
+    @Override
+    public String toString() {
+        return "ShortArrayReference{" + Arrays.toString(shorts) + "}";
+    }
+}
@@ -8,9 +8,11 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * utils for handling something about ClassContext
@@ -20,56 +22,51 @@ public class ClassPathUtils {
     private static final Logger logger = LoggerFactory.getLogger(ClassPathUtils.class);
 
     /**
-     * cache the results to forbid
-     * {@code
-     *      java.nio.file.FileSystemException: /usr/lib/jvm/java-8-openjdk-amd64/jre/lib: Too many open files
-     * }
-     */
-    private static final Map<String, Collection<Path>> pathname2PathCollection = new ConcurrentHashMap<>();
-
-    /**
-     * @param pathname one path or multiple path split by path separator
-     * @return all path under pathname
+     * entries of a class search path,
+     * a directory, a jar or zip file, or dir/* for all jar files in the directory.
+     * Directories are not walked.
+     *
+     * @param classpath entries separated by path separator
+     * @return paths of entries exist, in order, wildcards are expanded
      */
-    public static Collection<Path> getAllPathNested(String pathname) {
-        if(!pathname2PathCollection.containsKey(pathname)) {
-            if (pathname.contains(File.pathSeparator)) {
-                // multiple paths
-                Collection<Path> pathCollection = Arrays.stream(pathname.split(File.pathSeparator))
-                        .flatMap(s -> getAllPathNested(s).stream())
-                        .collect(Collectors.toSet());
-                pathname2PathCollection.put(pathname, pathCollection);
-            } else if (pathname.contains("*")) {
-                // wildcard *
-                Collection<Path> pathCollection = getAllPathNested(pathname.substring(0, pathname.length() - 1));
-                pathname2PathCollection.put(pathname, pathCollection);
+    public static List<Path> getClasspathEntries(String classpath) {
+        List<Path> paths = new ArrayList<>();
+        for (String entry : classpath.split(File.pathSeparator)) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            if ("*".equals(entry) || entry.endsWith(File.separator + "*") || entry.endsWith("/*")) {
+                paths.addAll(getJarFiles(Paths.get(entry.substring(0, entry.length() - 1))));
             } else {
-                // make sure that there is no path separator here
-                Path path = Paths.get(pathname);
-                pathname2PathCollection.put(pathname, getAllPathNested(path));
+                Path path = Paths.get(entry);
+                if (Files.exists(path)) {
+                    paths.add(path);
+                } else {
+                    logger.debug("classpath entry {} not exist", entry);
+                }
             }
         }
-
-        return pathname2PathCollection.get(pathname);
+        return paths;
     }
 
     /**
-     * @param path a file path or a directory path
-     * @return all paths under path
+     * @param directory not walked
+     * @return jar files in directory, sorted by name
      */
-    private static Collection<Path> getAllPathNested(Path path) {
-        if (Files.isDirectory(path)) {
-            try {
-                return Files.list(path)
-                        .flatMap(p -> getAllPathNested(p).stream())
-                        .collect(Collectors.toSet());
-            } catch (IOException e) {
-                logger.error("file list fail", e);
-            }
-            return new HashSet<>();
-        } else {
-            // is a file
-            return Collections.singleton(path);
+    private static List<Path> getJarFiles(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            logger.debug("classpath wildcard directory {} not exist", directory);
+            return Collections.emptyList();
+        }
+        try (Stream<Path> stream = Files.list(directory)) {
+            return stream
+                    .filter(Files::isRegularFile)
+                    .filter(path -> path.toString().endsWith(".jar") || path.toString().endsWith(".JAR"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            logger.error("file list fail", e);
+            return Collections.emptyList();
         }
     }
 
@@ -37,14 +37,31 @@ public class ConstantPoolUtils {
      * @return
      */
     public static String decodeMUTF8(byte[] bytes) {
-        return new String(bytes);
-//        DataInput dataInput = new DataInputStream(new ByteArrayInputStream(bytes));
-//        try {
-//            return DataInputStream.readUTF(dataInput);
-//        } catch (IOException e) {
-//            logger.error("cannot decode {}", bytes);
-//            throw new RuntimeException("MUTF8 decode fail", e);
-//        }
+        // jvms8 4.4.7, code point '\u0000' is encoded in 2 bytes,
+        // supplementary characters are encoded by their surrogate pairs, 3 bytes for each
+        char[] chars = new char[bytes.length];
+        int count = 0;
+        int i = 0;
+        try {
+            while (i < bytes.length) {
+                final int x = bytes[i] & 0xFF;
+                if (x < 0x80) {
+                    chars[count++] = (char) x;
+                    i += 1;
+                } else if ((x & 0xE0) == 0xC0) {
+                    chars[count++] = (char) (((x & 0x1F) << 6) | (bytes[i + 1] & 0x3F));
+                    i += 2;
+                } else if ((x & 0xF0) == 0xE0) {
+                    chars[count++] = (char) (((x & 0x0F) << 12) | ((bytes[i + 1] & 0x3F) << 6) | (bytes[i + 2] & 0x3F));
+                    i += 3;
+                } else {
+                    throw new ClassFormatError("MUTF8 decode fail, byte " + x + " at " + i);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new ClassFormatError("MUTF8 decode fail, incomplete character at " + i);
+        }
+        return new String(chars, 0, count);
     }
 
     /**
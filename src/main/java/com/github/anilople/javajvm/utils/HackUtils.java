@@ -1,16 +1,14 @@
 package com.github.anilople.javajvm.utils;
 
-import com.github.anilople.javajvm.heap.JvmClass;
-import com.github.anilople.javajvm.heap.JvmClassLoader;
 import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.natives.Stdio;
 import com.github.anilople.javajvm.runtimedataarea.*;
 import com.github.anilople.javajvm.runtimedataarea.reference.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.PrintStream;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,66 +23,10 @@ public class HackUtils {
     private static final Logger logger = LoggerFactory.getLogger(HackUtils.class);
 
     /**
-     * We know that all native methods must be hacked.
-     * But there are still some methods not native should be hacked too.
-     * Like System.out.Println()...
-     * So for the non-native method, this judgement is necessary
-     * @param jvmMethod
-     * @return should hack jvm method given or not
+     * @see Throwable fillInStackTrace(int)
      */
-    public static boolean isInHackMethods(JvmMethod jvmMethod) {
-        if(jvmMethod.isNative()) {
-            logger.debug("Hack judgement for class {} 's native method: {} {}",
-                    jvmMethod.getJvmClass().getName(),
-                    jvmMethod.getName(),
-                    jvmMethod.getDescriptor()
-            );
-        }
-        if(jvmMethod.getJvmClass().isSameName(PrintStream.class)) {
-            // System.out.* should be hacked
-            return true;
-        }
-
-        // default action: hack all native method
-        return jvmMethod.isNative();
-    }
-
-    /**
-     * hack a native method
-     * @param frame frame in jvm stack
-     * @param jvmMethod the method be hacked
-     * @param localVariables args pop from operand stack
-     * @return
-     */
-    public static void hackMethod(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
-        final JvmClass jvmClass = jvmMethod.getJvmClass();
-        if(jvmClass.isSameName(PrintStream.class)) {
-            // System.out
-            hackSystemOut(jvmMethod, localVariables);
-        } else if(jvmClass.isSameName(System.class) && jvmMethod.getName().equals("arraycopy")) {
-            hackSystemArrayCopy(localVariables);
-        } else if(jvmClass.isSameName(Throwable.class)
-                && jvmMethod.getName().equals("fillInStackTrace")
-                && jvmMethod.getDescriptor().equals("(I)Ljava/lang/Throwable;")) {
-            hackThrowableFillInStackTrace0(frame.getJvmThread(), jvmMethod, localVariables);
-        } else if(jvmClass.isSameName(Class.class) && jvmMethod.getName().equals("getComponentType")) {
-            hackClassGetComponentType(frame, localVariables);
-        } else {
-            // default action: hack all native method
-            try {
-                 hackAllNativeMethod(frame, jvmMethod, localVariables);
-            } catch (IllegalAccessException | NoSuchMethodException | InvocationTargetException e) {
-                throw new RuntimeException(
-                        "hack method " +
-                                jvmClass.getName() + "." + jvmMethod.getName() +
-                                " fail",
-                        e
-                );
-            }
-        }
-    }
-
-    private static void hackThrowableFillInStackTrace0(JvmThread jvmThread, JvmMethod jvmMethod, LocalVariables localVariables) {
+    public static void hackThrowableFillInStackTrace0(Frame currentFrame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        final JvmThread jvmThread = currentFrame.getJvmThread();
         // get "this"
         ObjectReference thisObjectReference = (ObjectReference) localVariables.getReference(0);
 
@@ -122,27 +64,34 @@ public class HackUtils {
     }
 
     /**
-     * Hack the method in class System.out, i.e PrintStream
+     * Hack the method in class System.out and System.err, i.e PrintStream,
+     * the text is buffered by standard stream instead of printed at once
      * @see java.io.PrintStream;
+     * @see Stdio
+     * @param frame
      * @param jvmMethod method in runtime
      * @param localVariables variables pop from operand stack by method's parameter descriptors
      */
-    public static void hackSystemOut(JvmMethod jvmMethod, LocalVariables localVariables) {
+    public static void hackSystemOut(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
         // the method must belong to class PrintStream
         if(!jvmMethod.getJvmClass().isSameName(PrintStream.class)) {
             return;
         }
-        List<String> parameterDescriptors = DescriptorUtils.getParameterDescriptor(jvmMethod.getDescriptor());
+        Stdio stdio = Stdio.of(localVariables.getReference(0));
+        List<String> parameterDescriptors = jvmMethod.getSignature().getParameterDescriptors();
         final String methodName = jvmMethod.getName();
         switch (methodName) {
             case "print":
-                hackSystemOutPrint(localVariables, parameterDescriptors.get(0));
+                hackSystemOutPrint(stdio, localVariables, parameterDescriptors.get(0));
                 break;
             case "println":
                 if(parameterDescriptors.size() > 0) {
-                    hackSystemOutPrint(localVariables, parameterDescriptors.get(0));
+                    hackSystemOutPrint(stdio, localVariables, parameterDescriptors.get(0));
                 }
-                System.out.println();
+                stdio.println();
+                break;
+            case "flush":
+                stdio.flush();
                 break;
             default:
                 throw new IllegalStateException("Unexpected value: " + methodName);
@@ -152,79 +101,63 @@ public class HackUtils {
     /**
      * Hack the method "print" in PrintStream
      * @see java.io.PrintStream;
+     * @param stdio standard stream the print stream writes to
      * @param localVariables variables pop from operand stack by method's parameter descriptors
      * @param parameterDescriptor method's parameter descriptor, just 1
      */
-    private static void hackSystemOutPrint(LocalVariables localVariables, String parameterDescriptor) {
+    private static void hackSystemOutPrint(Stdio stdio, LocalVariables localVariables, String parameterDescriptor) {
         switch (parameterDescriptor) {
-            case BYTE: {
-                byte value = localVariables.getByteValue(1);
-                System.out.print(value);
+            case BYTE:
+                stdio.print(String.valueOf(localVariables.getByteValue(1)));
                 break;
-            }
-            case CHAR: {
-                char value = localVariables.getCharValue(1);
-                System.out.print(value);
+            case CHAR:
+                stdio.print(new char[] {localVariables.getCharValue(1)});
                 break;
-            }
-            case DOUBLE: {
-                double value = localVariables.getDoubleValue(1);
-                System.out.print(value);
+            case DOUBLE:
+                stdio.print(String.valueOf(localVariables.getDoubleValue(1)));
                 break;
-            }
-            case FLOAT: {
-                float value = localVariables.getFloatValue(1);
-                System.out.print(value);
+            case FLOAT:
+                stdio.print(String.valueOf(localVariables.getFloatValue(1)));
                 break;
-            }
-            case INT: {
-                int value = localVariables.getIntValue(1);
-                System.out.print(value);
+            case INT:
+                stdio.print(String.valueOf(localVariables.getIntValue(1)));
                 break;
-            }
-            case LONG: {
-                long value = localVariables.getLongValue(1);
-                System.out.print(value);
+            case LONG:
+                stdio.print(String.valueOf(localVariables.getLongValue(1)));
                 break;
-            }
-            case SHORT: {
-                short value = localVariables.getShortValue(1);
-                System.out.print(value);
+            case SHORT:
+                stdio.print(String.valueOf(localVariables.getShortValue(1)));
                 break;
-            }
-            case BOOLEAN: {
-                boolean value = localVariables.getBooleanValue(1);
-                System.out.print(value);
+            case BOOLEAN:
+                stdio.print(String.valueOf(localVariables.getBooleanValue(1)));
+                break;
+            case "[C": {
+                Reference reference = localVariables.getReference(1);
+                if(Reference.isNull(reference)) {
+                    throw new NullPointerException();
+                }
+                stdio.print(((CharArrayReference) reference).getArray());
                 break;
             }
             case "Ljava/lang/String;": {
                 Reference reference = localVariables.getReference(1);
-                if(reference instanceof NullReference) {
-                    System.out.print("null");
+                if(Reference.isNull(reference)) {
+                    stdio.print("null");
                 } else {
-                    // string reference
-                    ObjectReference objectReference = (ObjectReference) reference;
-                    // get the char array
-                    BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) objectReference.getReference(0);
-                    char[] chars = new char[baseTypeArrayReference.length()];
-                    // copy
-                    for(int i = 0; i < baseTypeArrayReference.length(); i++) {
-                        chars[i] = baseTypeArrayReference.getCharValue(i);
-                    }
-                    // copy finished
-                    System.out.print(chars);
+                    // chars of string are encoded directly
+                    stdio.print(ReferenceUtils.getStringValue((ObjectReference) reference));
                 }
                 break;
             }
             case "Ljava/lang/Object;": {
                 Reference reference = localVariables.getReference(1);
-                if(reference instanceof NullReference) {
-                    System.out.print("null");
+                if(Reference.isNull(reference)) {
+                    stdio.print("null");
                 } else {
                     // object reference, may be array!!!
                     try {
                         Object object = ReferenceUtils.reference2Object(reference);
-                        System.out.print(object);
+                        stdio.print(String.valueOf(object));
                     } catch (IllegalAccessException e) {
                         throw new RuntimeException(e);
                     }
@@ -236,11 +169,23 @@ public class HackUtils {
         }
     }
 
+    /**
+     * the last step of System.exit and Runtime.halt,
+     * standard streams buffered are flushed before real jvm halts
+     * @see Runtime#halt(int)
+     */
+    public static void hackShutdownHalt0(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        Stdio.flushAll();
+        Runtime.getRuntime().halt(localVariables.getIntValue(0));
+    }
+
     /**
      * @see java.lang.System arraycopy method
+     * @param frame
+     * @param jvmMethod
      * @param localVariables
      */
-    private static void hackSystemArrayCopy(LocalVariables localVariables) {
+    public static void hackSystemArrayCopy(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
         ArrayReference srcArrayReference = (ArrayReference) localVariables.getReference(0);
         int srcPos = localVariables.getIntValue(1);
         ArrayReference destArrayReference = (ArrayReference) localVariables.getReference(2);
@@ -249,13 +194,73 @@ public class HackUtils {
         ReferenceUtils.arrayCopy(srcArrayReference, srcPos, destArrayReference, destPos, length);
     }
 
+    /**
+     * fill the array of real jvm behind the array reference
+     * @see java.util.Arrays fill
+     * @param frame
+     * @param jvmMethod fill(a, val) or fill(a, fromIndex, toIndex, val)
+     * @param localVariables
+     */
+    public static void hackArraysFill(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        Reference reference = localVariables.getReference(0);
+        if(Reference.isNull(reference)) {
+            throw new NullPointerException();
+        }
+        ArrayReference arrayReference = (ArrayReference) reference;
+        List<String> parameterDescriptors = jvmMethod.getSignature().getParameterDescriptors();
+        final int fromIndex;
+        final int toIndex;
+        final int valueIndex;
+        if(2 == parameterDescriptors.size()) {
+            fromIndex = 0;
+            toIndex = arrayReference.length();
+            valueIndex = 1;
+        } else {
+            fromIndex = localVariables.getIntValue(1);
+            toIndex = localVariables.getIntValue(2);
+            valueIndex = 3;
+        }
+        final String valueDescriptor = parameterDescriptors.get(parameterDescriptors.size() - 1);
+        switch (valueDescriptor) {
+            case BOOLEAN:
+                Arrays.fill(((BooleanArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getBooleanValue(valueIndex));
+                break;
+            case BYTE:
+                Arrays.fill(((ByteArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getByteValue(valueIndex));
+                break;
+            case CHAR:
+                Arrays.fill(((CharArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getCharValue(valueIndex));
+                break;
+            case SHORT:
+                Arrays.fill(((ShortArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getShortValue(valueIndex));
+                break;
+            case INT:
+                Arrays.fill(((IntArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getIntValue(valueIndex));
+                break;
+            case LONG:
+                Arrays.fill(((LongArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getLongValue(valueIndex));
+                break;
+            case FLOAT:
+                Arrays.fill(((FloatArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getFloatValue(valueIndex));
+                break;
+            case DOUBLE:
+                Arrays.fill(((DoubleArrayReference) arrayReference).getArray(), fromIndex, toIndex, localVariables.getDoubleValue(valueIndex));
+                break;
+            default:
+                // Object, ArrayStoreException if type of value cannot be stored
+                ((ObjectArrayReference) arrayReference).fill(fromIndex, toIndex, localVariables.getReference(valueIndex));
+                break;
+        }
+    }
+
     /**
      *
      * @param frame
+     * @param jvmMethod
      * @param localVariables
      * @see java.lang.Class getComponentType
      */
-    private static void hackClassGetComponentType(Frame frame, LocalVariables localVariables) {
+    public static void hackClassGetComponentType(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
         // get "this", reference of java.lang.Class
         Reference reference = localVariables.getReference(0);
         if(Reference.isNull(reference)) {
@@ -268,112 +273,51 @@ public class HackUtils {
         frame.getOperandStacks().pushReference(componentTypeReference);
     }
 
-    public static void assertNativeMethod(JvmMethod jvmMethod) {
-        if(!jvmMethod.isNative()) {
-            throw new RuntimeException(jvmMethod.getName() + jvmMethod.getDescriptor() + " must be native method");
-        }
+    /**
+     * @see Object#hashCode()
+     * @see System#identityHashCode(Object)
+     */
+    public static void hackIdentityHashCode(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        Reference reference = localVariables.getReference(0);
+        // same object reference, same hash code
+        frame.getOperandStacks().pushIntValue(Reference.isNull(reference) ? 0 : System.identityHashCode(reference));
+    }
+
+    public static void hackSystemNanoTime(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        frame.getOperandStacks().pushLongValue(System.nanoTime());
+    }
+
+    public static void hackSystemCurrentTimeMillis(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        frame.getOperandStacks().pushLongValue(System.currentTimeMillis());
     }
 
     /**
-     * hack the native method
-     * i.e when our JVM wants to invoke a native method,
-     * we intercept the invocation,
-     * then hack it.
-     * invoke the method by reflection to get the result
-     * @param frame
-     * @param jvmMethod
-     * @param localVariables
-     * @throws NoSuchMethodException
-     * @throws InvocationTargetException
-     * @throws IllegalAccessException
+     * @see Float#floatToRawIntBits(float)
      */
-    public static void hackAllNativeMethod(
-            Frame frame, JvmMethod jvmMethod, LocalVariables localVariables
-    ) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        assertNativeMethod(jvmMethod);
-        final JvmClass jvmClass = jvmMethod.getJvmClass();
-        final JvmClassLoader jvmClassLoader = jvmClass.getLoader();
-        final String methodName = jvmMethod.getName();
-        final Class<?> clazz = jvmClass.getRealClassInJvm();
-        // parse type of parameters
-        Class<?>[] parameterTypes = DescriptorUtils.methodDescriptor2ParameterTypes(jvmMethod.getDescriptor());
-        // find the method
-        final Method method = clazz.getDeclaredMethod(methodName, parameterTypes);
-        method.setAccessible(true);
-
-        int parameterOffset = jvmMethod.isStatic() ? 0 : 1;
-        // parameters pass to method when invoke
-        Object[] parameterObjects = new Object[parameterTypes.length];
-        for(int i = 0; i < parameterObjects.length; i++) {
-            parameterObjects[i] = ReferenceUtils.getLocalVariableByClassType(localVariables, parameterOffset, parameterTypes[i]);
-            parameterOffset += ReflectionUtils.getClassSize(parameterTypes[i]);
-        }
+    public static void hackFloatToRawIntBits(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        // the slot is the raw bits already
+        frame.getOperandStacks().pushIntValue(localVariables.getIntValue(0));
+    }
 
-        // the result of invocation
-        Object returnObject = null;
-        if(jvmMethod.isStatic()) {
-            returnObject = method.invoke(null, parameterObjects);
-        } else {
-            // non static method, so we must pass this pointer
-            Reference reference = localVariables.getReference(0);
-            Object thisObject = ReferenceUtils.reference2Object(reference);
-            returnObject = method.invoke(thisObject, parameterObjects);
-        }
+    /**
+     * @see Float#intBitsToFloat(int)
+     */
+    public static void hackIntBitsToFloat(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        frame.getOperandStacks().pushFloatValue(localVariables.getFloatValue(0));
+    }
 
-        final Class<?> returnType = method.getReturnType();
-        if(!void.class.equals(returnType)) {
-            // exists return value
-            if(returnType.isPrimitive()) {
-                // int, boolean, double etc..
-                pushPrimitiveValueByType(frame.getOperandStacks(), returnObject, returnType);
-            } else {
-                // String, Object, String[][] etc..
-                Reference returnReference = ReferenceUtils.object2Reference(jvmClassLoader, returnObject);
-                // push the result
-                frame.getOperandStacks().pushReference(returnReference);
-            }
-        }
+    /**
+     * @see Double#doubleToRawLongBits(double)
+     */
+    public static void hackDoubleToRawLongBits(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        frame.getOperandStacks().pushLongValue(localVariables.getLongValue(0));
     }
 
     /**
-     * push the return value of method to operand stack
-     * when return value is primitive type
-     * @param operandStacks
-     * @param primitiveValue
-     * @param primitiveType
+     * @see Double#longBitsToDouble(long)
      */
-    private static void pushPrimitiveValueByType(OperandStacks operandStacks, Object primitiveValue, Class<?> primitiveType) {
-        if(!primitiveType.isPrimitive()) {
-            throw new RuntimeException(primitiveType + " is not primitive");
-        }
-        final Class<?> type = primitiveType;
-        if(type.equals(boolean.class)) {
-            boolean value = (boolean) primitiveValue;
-            operandStacks.pushBooleanValue(value);
-        } else if(type.equals(byte.class)) {
-            byte value = (byte) primitiveValue;
-            operandStacks.pushByteValue(value);
-        } else if(type.equals(short.class)) {
-            short value = (short) primitiveValue;
-            operandStacks.pushShortValue(value);
-        } else if(type.equals(char.class)) {
-            char value = (char) primitiveValue;
-            operandStacks.pushCharValue(value);
-        } else if(type.equals(int.class)) {
-            int value = (int) primitiveValue;
-            operandStacks.pushIntValue(value);
-        } else if(type.equals(float.class)) {
-            float value = (float) primitiveValue;
-            operandStacks.pushFloatValue(value);
-        } else if(type.equals(long.class)) {
-            long value = (long) primitiveValue;
-            operandStacks.pushLongValue(value);
-        } else if(type.equals(double.class)) {
-            double value = (double) primitiveValue;
-            operandStacks.pushDoubleValue(value);
-        } else {
-            throw new IllegalArgumentException("Cannot set type " + type);
-        }
+    public static void hackLongBitsToDouble(Frame frame, JvmMethod jvmMethod, LocalVariables localVariables) {
+        frame.getOperandStacks().pushDoubleValue(localVariables.getDoubleValue(0));
     }
 
 }
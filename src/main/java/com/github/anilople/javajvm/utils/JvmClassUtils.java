@@ -152,6 +152,36 @@ public class JvmClassUtils {
         return null;
     }
 
+    /**
+     * jvms8 5.4.3.4 Interface Method Resolution
+     * look up in the interface, then java.lang.Object, then the super interfaces
+     * @param interfaceClass
+     * @param name
+     * @param descriptor
+     * @return null if method does not existed
+     */
+    public static JvmMethod getInterfaceMethod(JvmClass interfaceClass, String name, String descriptor) {
+        for(JvmMethod jvmMethod : interfaceClass.getJvmMethods()) {
+            if(jvmMethod.getName().equals(name) && jvmMethod.getDescriptor().equals(descriptor)) {
+                return jvmMethod;
+            }
+        }
+        // super class of interface is java.lang.Object
+        if(null != interfaceClass.getSuperClass()) {
+            JvmMethod jvmMethod = getMethod(interfaceClass.getSuperClass(), name, descriptor);
+            if(null != jvmMethod && jvmMethod.isPublic() && !jvmMethod.isStatic()) {
+                return jvmMethod;
+            }
+        }
+        for(JvmClass superInterface : interfaceClass.getInterfaces()) {
+            JvmMethod jvmMethod = getInterfaceMethod(superInterface, name, descriptor);
+            if(null != jvmMethod) {
+                return jvmMethod;
+            }
+        }
+        return null;
+    }
+
     /**
      * how many static fields occupy size in now class ?
      * (just in now class, not in super class)
@@ -329,36 +359,53 @@ public class JvmClassUtils {
 
         logger.trace("{} type cast to {} ?", S.getName(), T.getName());
 
-        if(S.isOrdinary()) {
-            if(T.isClassType()) {
-                // S <= T
-                return S.equals(T) || S.isInheritFrom(T);
+        // array classes have all access flags, check them before interfaces
+        if(S.isArrayType()) {
+            if(T.isArrayType()) {
+                String componentS = DescriptorUtils.getComponentType(S.getName());
+                String componentT = DescriptorUtils.getComponentType(T.getName());
+                if(DescriptorUtils.isBaseType(componentS) || DescriptorUtils.isBaseType(componentT)) {
+                    // int[] can only be cast to int[]
+                    return componentS.equals(componentT);
+                }
+                JvmClass subS = S.getLoader().loadClass(componentClassName(componentS));
+                JvmClass subT = T.getLoader().loadClass(componentClassName(componentT));
+                return JvmClassUtils.typeCast(subS, subT);
             }
             if(T.isInterface()) {
-                // S must implement interface T
-                return S.isImplementInterface(T);
+                return T.isSameName(Cloneable.class) || T.isSameName(Serializable.class);
+            }
+            if(T.isClassType()) {
+                return T.isSameName(Object.class);
             }
+        } else if(T.isArrayType()) {
+            return false;
         } else if(S.isInterface()) {
             if(T.isClassType()) {
                 return T.isSameName(Object.class);
             }
             if(T.isInterface()) {
-                return S.equals(T) || S.isInheritFrom(T);
+                return S.equals(T) || S.isImplementInterface(T);
             }
-        } else if(S.isArrayType()) {
+        } else if(S.isOrdinary()) {
             if(T.isClassType()) {
-                return T.isSameName(Object.class);
+                // S <= T
+                return S.equals(T) || S.isInheritFrom(T);
             }
             if(T.isInterface()) {
-                return T.isSameName(Cloneable.class) || T.isSameName(Serializable.class);
-            }
-            if(T.isArrayType()) {
-                JvmClass subS = S.getLoader().loadClass(DescriptorUtils.getComponentType(S.getName()));
-                JvmClass subT = T.getLoader().loadClass(DescriptorUtils.getComponentType(T.getName()));
-                return JvmClassUtils.typeCast(subS, subT);
+                // S must implement interface T
+                return S.isImplementInterface(T);
             }
         }
 
         throw new IllegalArgumentException("not match any branch! S = " + S + ", T = " + T);
     }
+
+    /**
+     * Ljava/lang/Object; -> java/lang/Object
+     * [I -> [I
+     */
+    private static String componentClassName(String componentType) {
+        return DescriptorUtils.isObjectType(componentType) ? DescriptorUtils.getClassName(componentType) : componentType;
+    }
 }
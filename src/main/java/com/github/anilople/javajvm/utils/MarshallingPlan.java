@@ -0,0 +1,257 @@
+package com.github.anilople.javajvm.utils;
+
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmClassLoader;
+import com.github.anilople.javajvm.heap.JvmField;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * how to convert objects of a class between real jvm and heap,
+ * made once for every class, then used by {@link ReferenceUtils}.
+ *
+ * The non static fields of real class are paired with the offsets in {@link ObjectReference},
+ * and accessed by method handles instead of {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ */
+final class MarshallingPlan {
+
+    private static final ObjenesisStd OBJENESIS = new ObjenesisStd();
+
+    /**
+     * key is the name of class, i.e java/lang/String,
+     * there is only one class with the same name in jvm
+     */
+    private static final ConcurrentMap<String, MarshallingPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final JvmClass jvmClass;
+
+    private final Class<?> clazz;
+
+    private final FieldPlan[] fields;
+
+    /**
+     * create object without constructor
+     */
+    private final ObjectInstantiator<?> instantiator;
+
+    private MarshallingPlan(JvmClass jvmClass, Class<?> clazz) {
+        this.jvmClass = jvmClass;
+        this.clazz = clazz;
+        List<Field> nonStaticFields = ReflectionUtils.getNonStaticFieldsFromAncestor(clazz);
+        this.fields = new FieldPlan[nonStaticFields.size()];
+        for(int i = 0; i < fields.length; i++) {
+            Field field = nonStaticFields.get(i);
+            fields[i] = new FieldPlan(field, getJvmField(jvmClass, field).calculateNonStaticFieldOffset());
+        }
+        this.instantiator = OBJENESIS.getInstantiatorOf(clazz);
+    }
+
+    /**
+     * @param jvmClass class in heap, not java.lang.Class or array
+     * @return plan of the class
+     */
+    static MarshallingPlan of(JvmClass jvmClass) {
+        MarshallingPlan plan = PLANS.get(jvmClass.getName());
+        if(null == plan) {
+            plan = PLANS.computeIfAbsent(jvmClass.getName(), name -> new MarshallingPlan(jvmClass, jvmClass.getRealClassInJvm()));
+        }
+        return plan;
+    }
+
+    /**
+     * @param jvmClassLoader load the class in heap if there is no plan
+     * @param clazz class in real jvm, not java.lang.Class or array
+     * @return plan of the class
+     */
+    static MarshallingPlan of(JvmClassLoader jvmClassLoader, Class<?> clazz) {
+        String name = clazz.getName().replace('.', '/');
+        MarshallingPlan plan = PLANS.get(name);
+        if(null == plan) {
+            plan = PLANS.computeIfAbsent(name, key -> new MarshallingPlan(jvmClassLoader.loadClass(clazz), clazz));
+        }
+        return plan;
+    }
+
+    /**
+     * @param jvmClass class of object
+     * @param field non static field of object's class or its super classes
+     * @return field of JvmClass which has same name and declaring class
+     */
+    private static JvmField getJvmField(JvmClass jvmClass, Field field) {
+        for(JvmField jvmField : jvmClass.getInstanceFields()) {
+            if(jvmField.getName().equals(field.getName())
+                    && jvmField.getJvmClass().isSameName(field.getDeclaringClass())) {
+                return jvmField;
+            }
+        }
+        throw new IllegalStateException(field + " not in " + jvmClass.getName());
+    }
+
+    JvmClass getJvmClass() {
+        return jvmClass;
+    }
+
+    Class<?> getRealClass() {
+        return clazz;
+    }
+
+    FieldPlan[] getFields() {
+        return fields;
+    }
+
+    /**
+     * @return a new object of real class, its fields are default values
+     */
+    Object newInstance() {
+        return instantiator.newInstance();
+    }
+
+    /**
+     * a non static field and its offset in object reference
+     */
+    static final class FieldPlan {
+
+        private final Field field;
+
+        /**
+         * offset in primitives or references of object reference
+         */
+        private final int offset;
+
+        private final Class<?> type;
+
+        /**
+         * (Object) -> type
+         */
+        private final MethodHandle getter;
+
+        /**
+         * (Object, type) -> void
+         */
+        private final MethodHandle setter;
+
+        private FieldPlan(Field field, int offset) {
+            this.field = field;
+            this.offset = offset;
+            final Class<?> fieldType = field.getType();
+            this.type = fieldType.isPrimitive() ? fieldType : Object.class;
+            field.setAccessible(true);
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                this.getter = lookup.unreflectGetter(field).asType(MethodType.methodType(type, Object.class));
+                this.setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, type));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("cannot access " + field, e);
+            }
+        }
+
+        boolean isPrimitive() {
+            return Object.class != type;
+        }
+
+        Field getField() {
+            return field;
+        }
+
+        int getOffset() {
+            return offset;
+        }
+
+        /**
+         * copy primitive value from object to object reference
+         */
+        void copyPrimitive(Object object, ObjectReference objectReference) {
+            try {
+                if(boolean.class == type) {
+                    objectReference.setBooleanValue(offset, (boolean) getter.invokeExact(object));
+                } else if(byte.class == type) {
+                    objectReference.setByteValue(offset, (byte) getter.invokeExact(object));
+                } else if(short.class == type) {
+                    objectReference.setShortValue(offset, (short) getter.invokeExact(object));
+                } else if(char.class == type) {
+                    objectReference.setCharValue(offset, (char) getter.invokeExact(object));
+                } else if(int.class == type) {
+                    objectReference.setIntValue(offset, (int) getter.invokeExact(object));
+                } else if(float.class == type) {
+                    objectReference.setFloatValue(offset, (float) getter.invokeExact(object));
+                } else if(long.class == type) {
+                    objectReference.setLongValue(offset, (long) getter.invokeExact(object));
+                } else if(double.class == type) {
+                    objectReference.setDoubleValue(offset, (double) getter.invokeExact(object));
+                } else {
+                    throw new IllegalStateException(field + " is not primitive");
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("cannot access " + field, e);
+            }
+        }
+
+        /**
+         * copy primitive value from object reference to object
+         */
+        void copyPrimitive(ObjectReference objectReference, Object object) {
+            try {
+                if(boolean.class == type) {
+                    setter.invokeExact(object, objectReference.getBooleanValue(offset));
+                } else if(byte.class == type) {
+                    setter.invokeExact(object, objectReference.getByteValue(offset));
+                } else if(short.class == type) {
+                    setter.invokeExact(object, objectReference.getShortValue(offset));
+                } else if(char.class == type) {
+                    setter.invokeExact(object, objectReference.getCharValue(offset));
+                } else if(int.class == type) {
+                    setter.invokeExact(object, objectReference.getIntValue(offset));
+                } else if(float.class == type) {
+                    setter.invokeExact(object, objectReference.getFloatValue(offset));
+                } else if(long.class == type) {
+                    setter.invokeExact(object, objectReference.getLongValue(offset));
+                } else if(double.class == type) {
+                    setter.invokeExact(object, objectReference.getDoubleValue(offset));
+                } else {
+                    throw new IllegalStateException(field + " is not primitive");
+                }
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("cannot access " + field, e);
+            }
+        }
+
+        /**
+         * @return value of reference type field
+         */
+        Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("cannot access " + field, e);
+            }
+        }
+
+        /**
+         * @param value of reference type field
+         */
+        void set(Object object, Object value) {
+            try {
+                setter.invokeExact(object, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("cannot access " + field, e);
+            }
+        }
+    }
+}
@@ -1,21 +1,16 @@
 package com.github.anilople.javajvm.utils;
 
 import com.github.anilople.javajvm.cachepool.StringPool;
-import com.github.anilople.javajvm.constants.ArrayTypeCodes;
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmClassLoader;
 import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.*;
-import org.objenesis.Objenesis;
-import org.objenesis.ObjenesisStd;
-import org.objenesis.instantiator.ObjectInstantiator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +21,13 @@ public class ReferenceUtils {
 
     private static final Logger logger = LoggerFactory.getLogger(ReferenceUtils.class);
 
+    private static final String JAVA_LANG_STRING = "java/lang/String";
+
+    /**
+     * offset of field "value" in string
+     */
+    private static volatile int stringValueOffset = -1;
+
     /**
      * get the string.
      * use pool to save string
@@ -39,16 +41,47 @@ public class ReferenceUtils {
         }
         // exists in pool or not
         if(!StringPool.exists(utf8)) {
-            ObjectReference objectReference = ObjectReference.makeObjectReference(stringClass);
-            BaseTypeArrayReference charArrayReference = new BaseTypeArrayReference(stringClass.getLoader(), utf8.toCharArray());
-            // use hack skill to generate string
-            objectReference.setReference(0, charArrayReference);
-            StringPool.add(utf8, objectReference);
+            StringPool.add(utf8, newStringObjectReference(stringClass, utf8.toCharArray()));
         }
         // get string from pool
         return StringPool.get(utf8);
     }
 
+    /**
+     * @param string object reference of java.lang.String
+     * @return chars of string, shared, not copied
+     */
+    public static char[] getStringValue(ObjectReference string) {
+        Reference value = string.getReference(getStringValueOffset(string.getJvmClass()));
+        return ((CharArrayReference) value).getArray();
+    }
+
+    /**
+     * a new string, not in string pool
+     * @param stringClass must be string class
+     * @param chars shared, not copied
+     * @return object reference of string
+     */
+    public static ObjectReference newStringObjectReference(JvmClass stringClass, char[] chars) {
+        ObjectReference string = ObjectReference.makeObjectReference(stringClass);
+        string.setReference(getStringValueOffset(stringClass), new CharArrayReference(stringClass.getLoader(), chars));
+        return string;
+    }
+
+    /**
+     * there is only one string class, so the offset is cached
+     */
+    private static int getStringValueOffset(JvmClass stringClass) {
+        int offset = stringValueOffset;
+        if(offset < 0) {
+            offset = stringValueOffset = stringClass.getJvmFieldByNameIncludeAncestors("value").calculateNonStaticFieldOffset();
+        }
+        return offset;
+    }
+
+    private static boolean isString(ObjectReference objectReference) {
+        return JAVA_LANG_STRING.equals(objectReference.getJvmClass().getName());
+    }
 
     /**
      * convert a real object in JVM to
@@ -58,7 +91,21 @@ public class ReferenceUtils {
      * @return
      */
     public static Reference object2Reference(JvmClassLoader jvmClassLoader, Object object) throws IllegalAccessException {
-        return object2Reference(new HashMap<>(), jvmClassLoader, object);
+        // the objects without fields to follow don't need cache
+        if(null == object) {
+            return Reference.NULL;
+        }
+        if(object instanceof String) {
+            return string2Reference(jvmClassLoader, (String) object);
+        }
+        if(object instanceof Class) {
+            return classObject2ClassObjectReference(jvmClassLoader, (Class<?>) object);
+        }
+        final Class<?> componentType = object.getClass().getComponentType();
+        if(null != componentType && componentType.isPrimitive()) {
+            return singleDimensionPrimitiveArray2ArrayReference(jvmClassLoader, object);
+        }
+        return object2Reference(new IdentityHashMap<>(), jvmClassLoader, object);
     }
 
     /**
@@ -75,20 +122,33 @@ public class ReferenceUtils {
             return Reference.NULL;
         }
 
-        if(cache.containsKey(object)) {
-            return cache.get(object);
+        Reference reference = cache.get(object);
+        if(null != reference) {
+            return reference;
         }
 
         logger.trace("{} not in cache.", object);
 
-        final Class<?> clazz = object.getClass();
         // array
-        if(clazz.isArray()) {
+        if(object.getClass().isArray()) {
             return array2ArrayReference(cache, jvmClassLoader, object);
         }
 
+        if(object instanceof String) {
+            reference = string2Reference(jvmClassLoader, (String) object);
+            cache.put(object, reference);
+            return reference;
+        }
+
         // object
-        return object2ObjectReference(jvmClassLoader, object);
+        return object2ObjectReference(cache, jvmClassLoader, object);
+    }
+
+    /**
+     * chars are copied once, the hash will be computed again
+     */
+    private static ObjectReference string2Reference(JvmClassLoader jvmClassLoader, String string) {
+        return newStringObjectReference(jvmClassLoader.loadClass(JAVA_LANG_STRING), string.toCharArray());
     }
 
     /**
@@ -104,7 +164,7 @@ public class ReferenceUtils {
         if(object instanceof java.lang.Class) {
             return classObject2ClassObjectReference(jvmClassLoader, (Class<?>) object);
         } else {
-            return object2ObjectReference(new HashMap<>(), jvmClassLoader, object);
+            return object2ObjectReference(new IdentityHashMap<>(), jvmClassLoader, object);
         }
     }
 
@@ -124,10 +184,10 @@ public class ReferenceUtils {
     }
 
     /**
-     *
+     * the fields are copied by the plan of object's class
      * @param cache
      * @param jvmClassLoader
-     * @param object {@code object.getClass()} must not be java.lang.Class
+     * @param object
      * @return
      * @throws IllegalAccessException
      */
@@ -136,33 +196,24 @@ public class ReferenceUtils {
             JvmClassLoader jvmClassLoader, Object object
     ) throws IllegalAccessException {
         if(object instanceof Class) {
-            throw new IllegalStateException(object + "'s type is java.lang.Class");
+            return classObject2ClassObjectReference(jvmClassLoader, (Class<?>) object);
         }
 
-        final Class<?> clazz = object.getClass();
-        // get the JvmClass of object
-        JvmClass jvmClass = jvmClassLoader.loadClass(clazz);
-        ObjectReference objectReference = ObjectReference.makeObjectReference(jvmClass);
+        MarshallingPlan plan = MarshallingPlan.of(jvmClassLoader, object.getClass());
+        ObjectReference objectReference = ObjectReference.makeObjectReference(plan.getJvmClass());
         // cache it
         cache.put(object, objectReference);
 
         // converter the static fields, todo
 
         // converter the non-static fields
-        List<Field> nonStaticFields = ReflectionUtils.getNonStaticFieldsFromAncestor(clazz);
-        int nonStaticFieldCurrentOffset = 0;
-        for(Field nonStaticField : nonStaticFields) {
-            if(nonStaticField.getType().isPrimitive()) {
-                setPrimitive2ObjectField(objectReference, nonStaticFieldCurrentOffset, object, nonStaticField);
+        for(MarshallingPlan.FieldPlan field : plan.getFields()) {
+            if(field.isPrimitive()) {
+                field.copyPrimitive(object, objectReference);
             } else {
-                setObjectField2ObjectReference(
-                        cache,
-                        objectReference, nonStaticFieldCurrentOffset,
-                        jvmClassLoader,
-                        object, nonStaticField
-                );
+                Reference reference = object2Reference(cache, jvmClassLoader, field.get(object));
+                objectReference.setReference(field.getOffset(), reference);
             }
-            nonStaticFieldCurrentOffset += ReflectionUtils.getFieldSize(nonStaticField);
         }
 
         return objectReference;
@@ -190,12 +241,10 @@ public class ReferenceUtils {
                 // primitive should be cached too
                 BaseTypeArrayReference baseTypeArrayReference = singleDimensionPrimitiveArray2ArrayReference(jvmClassLoader, arrayObject);
                 cache.put(arrayObject, baseTypeArrayReference);
+                return baseTypeArrayReference;
             } else {
-                ObjectArrayReference objectArrayReference = singleDimensionObjectArray2ObjectArrayReference(cache, jvmClassLoader, arrayObject);
-                cache.put(arrayObject, objectArrayReference);
+                return singleDimensionObjectArray2ObjectArrayReference(cache, jvmClassLoader, arrayObject);
             }
-
-            return (ArrayReference) cache.get(arrayObject);
         }
 
 
@@ -212,21 +261,21 @@ public class ReferenceUtils {
         // get component type
         final Class<?> type = primitiveArrayObject.getClass().getComponentType();
         if(type.equals(boolean.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (boolean[]) primitiveArrayObject);
+            return new BooleanArrayReference(jvmClassLoader, (boolean[]) primitiveArrayObject);
         } else if(type.equals(byte.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (byte[]) primitiveArrayObject);
+            return new ByteArrayReference(jvmClassLoader, (byte[]) primitiveArrayObject);
         } else if(type.equals(short.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (short[]) primitiveArrayObject);
+            return new ShortArrayReference(jvmClassLoader, (short[]) primitiveArrayObject);
         } else if(type.equals(char.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (char[]) primitiveArrayObject);
+            return new CharArrayReference(jvmClassLoader, (char[]) primitiveArrayObject);
         } else if(type.equals(int.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (int[]) primitiveArrayObject);
+            return new IntArrayReference(jvmClassLoader, (int[]) primitiveArrayObject);
         } else if(type.equals(float.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (float[]) primitiveArrayObject);
+            return new FloatArrayReference(jvmClassLoader, (float[]) primitiveArrayObject);
         } else if(type.equals(long.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (long[]) primitiveArrayObject);
+            return new LongArrayReference(jvmClassLoader, (long[]) primitiveArrayObject);
         } else if(type.equals(double.class)) {
-            return new BaseTypeArrayReference(jvmClassLoader, (double[]) primitiveArrayObject);
+            return new DoubleArrayReference(jvmClassLoader, (double[]) primitiveArrayObject);
         } else {
             throw new IllegalArgumentException("Cannot set type " + type);
         }
@@ -262,103 +311,42 @@ public class ReferenceUtils {
     }
 
     /**
-     * set the field's value to position offset
-     * long and double will occupy 2 locations
-     * @param localVariables super class of ObjectReference
-     * @param offset position in the object
-     * @param field must be primitive type
-     */
-    private static void setPrimitive2ObjectField(LocalVariables localVariables, int offset, Object object, Field field) throws IllegalAccessException {
-        field.setAccessible(true);
-        final Class<?> fieldType = field.getType();
-        final Class<?> type = fieldType;
-        if(type.equals(boolean.class)) {
-            boolean value = field.getBoolean(object);
-            localVariables.setBooleanValue(offset, value);
-        } else if(type.equals(byte.class)) {
-            byte value = field.getByte(object);
-            localVariables.setByteValue(offset, value);
-        } else if(type.equals(short.class)) {
-            short value = field.getShort(object);
-            localVariables.setShortValue(offset, value);
-        } else if(type.equals(char.class)) {
-            char value = field.getChar(object);
-            localVariables.setCharValue(offset, value);
-        } else if(type.equals(int.class)) {
-            int value = field.getInt(object);
-            localVariables.setIntValue(offset, value);
-        } else if(type.equals(float.class)) {
-            float value = field.getFloat(object);
-            localVariables.setFloatValue(offset, value);
-        } else if(type.equals(long.class)) {
-            long value = field.getLong(object);
-            localVariables.setLongValue(offset, value);
-        } else if(type.equals(double.class)) {
-            double value = field.getDouble(object);
-            localVariables.setDoubleValue(offset, value);
-        } else {
-            throw new IllegalArgumentException("Cannot set type " + type);
-        }
-    }
-
-    /**
-     * set the value to position offset
-     * according to the value's type
-     * the value must be object reference
-     * @param cache
-     * @param localVariables
-     * @param fieldCurrentOffset
-     * @param jvmClassLoader
-     * @param object
-     * @param field
-     */
-    private static void setObjectField2ObjectReference(
-            Map<Object, Reference> cache,
-            LocalVariables localVariables, int fieldCurrentOffset,
-            JvmClassLoader jvmClassLoader,
-            Object object, Field field
-    ) throws IllegalAccessException {
-        // get the field
-        field.setAccessible(true);
-        Object fieldObject = field.get(object);
-        // resolve the reference
-        Reference reference = object2Reference(cache, jvmClassLoader, fieldObject);
-        // set the reference
-        localVariables.setReference(fieldCurrentOffset, reference);
-    }
-
-    /**
-     * fetch the reference from self-define object reference
-     * and convert the reference fetched to a real object value in JVM,
-     * then set this real object value to object's field
-     * @param cache
-     * @param object
-     * @param field
-     * @param jvmClassLoader
-     * @param objectReference
-     * @param offset
+     * convert self-define reference to a real object,
+     * everything reachable is copied
+     * @param reference
+     * @return
      */
-    private static void setReference2ObjectField(
-            Map<Reference, Object> cache,
-            Object object, Field field,
-            JvmClassLoader jvmClassLoader,
-            ObjectReference objectReference, int offset
-    ) throws IllegalAccessException {
-       Reference reference = objectReference.getReference(offset);
-       Object value = reference2Object(cache, reference);
-       // set the value
-       field.setAccessible(true);
-       field.set(object, value);
+    public static Object reference2Object(Reference reference) throws IllegalAccessException {
+        return reference2Object(reference, false);
     }
 
-
     /**
-     * convert self-define reference to a real object
+     * like {@link #reference2Object(Reference)}, for the arguments of native method.
+     * Array of primitive type is shared instead of copied,
+     * so the native method reads and writes the elements in heap directly.
      * @param reference
      * @return
      */
-    public static Object reference2Object(Reference reference) throws IllegalAccessException {
-        return reference2Object(new HashMap<>(), reference);
+    public static Object reference2ObjectShallow(Reference reference) throws IllegalAccessException {
+        return reference2Object(reference, true);
+    }
+
+    private static Object reference2Object(Reference reference, boolean shallow) throws IllegalAccessException {
+        // the objects without fields to follow don't need cache
+        if(Reference.isNull(reference)) {
+            return null;
+        }
+        if(reference instanceof BaseTypeArrayReference) {
+            BaseTypeArrayReference baseTypeArrayReference = (BaseTypeArrayReference) reference;
+            return shallow ? baseTypeArrayReference.getArray() : baseTypeArrayReference2Object(baseTypeArrayReference);
+        }
+        if(reference instanceof ClassObjectReference) {
+            return ClassObjectReference.getRealClassInJvm((ClassObjectReference) reference);
+        }
+        if(reference instanceof ObjectReference && isString((ObjectReference) reference)) {
+            return new String(getStringValue((ObjectReference) reference));
+        }
+        return reference2Object(new IdentityHashMap<>(), reference);
     }
 
     /**
@@ -376,8 +364,9 @@ public class ReferenceUtils {
             return null;
         }
         // look up from cache, forbid graph circle!!!
-        if(cache.containsKey(reference)) {
-            return cache.get(reference);
+        Object object = cache.get(reference);
+        if(null != object) {
+            return object;
         }
         if(reference instanceof ObjectReference) {
             return objectReference2Object(cache, (ObjectReference) reference);
@@ -396,11 +385,12 @@ public class ReferenceUtils {
      * @throws IllegalAccessException
      */
     static Object objectReference2Object(ObjectReference objectReference) throws IllegalAccessException {
-        return objectReference2Object(new HashMap<>(), objectReference);
+        return objectReference2Object(new IdentityHashMap<>(), objectReference);
     }
 
     /**
-     * convert a self define object reference to a real object
+     * convert a self define object reference to a real object,
+     * the fields are copied by the plan of its class
      * @param cache cache object, forbid stack over flow (recursion cause by graph's circle)
      * @param objectReference
      * @return
@@ -409,94 +399,59 @@ public class ReferenceUtils {
     private static Object objectReference2Object(
             Map<Reference, Object> cache, ObjectReference objectReference
     ) throws IllegalAccessException {
-        final JvmClass jvmClass = objectReference.getJvmClass();
-        final Class<?> clazz = jvmClass.getRealClassInJvm();
         if(objectReference instanceof ClassObjectReference) {
             return ClassObjectReference.getRealClassInJvm((ClassObjectReference) objectReference);
         }
 
         // check cache
-        if(cache.containsKey(objectReference)) {
+        Object object = cache.get(objectReference);
+        if(null != object) {
             // in cache already, so just get it
-            return cache.get(objectReference);
+            return object;
+        }
+
+        if(isString(objectReference)) {
+            object = new String(getStringValue(objectReference));
+            cache.put(objectReference, object);
+            return object;
         }
 
-        // not in cache, new one
-        Objenesis objenesis = new ObjenesisStd();
-        ObjectInstantiator<?> objectInstantiator = objenesis.getInstantiatorOf(clazz);
-//        object = clazz.newInstance();
-        // new instance by objenesis
-        Object object = objectInstantiator.newInstance();
+        // not in cache, new one without constructor
+        MarshallingPlan plan = MarshallingPlan.of(objectReference.getJvmClass());
+        object = plan.newInstance();
 
         // then add it to cache
         cache.put(objectReference, object);
 
-        // change fields in object
-        setObjectFields(cache, object, objectReference);
-
-        return object;
-    }
-
-    /**
-     * set the values in self define object reference to real object's fields
-     * @param cache
-     * @param object
-     * @param objectReference
-     * @throws IllegalAccessException
-     */
-    private static void setObjectFields(
-            Map<Reference, Object> cache, Object object, ObjectReference objectReference
-    ) throws IllegalAccessException {
         if(object instanceof Throwable) {
             // for the bug in jdk 8
-            setThrowableFields(cache, object, objectReference);
-            return;
+            checkThrowableBacktrace(objectReference);
         }
 
-        final JvmClass jvmClass = objectReference.getJvmClass();
-        final Class<?> clazz = jvmClass.getRealClassInJvm();
-        final JvmClassLoader jvmClassLoader = jvmClass.getLoader();
-
-        List<Field> fields = ReflectionUtils.getNonStaticFieldsFromAncestor(clazz);
-
-        int realOffset = 0;
-        // change object's fields value
-        for(int i = 0; i < fields.size(); i++) {
-            Field field = fields.get(i);
-            if(field.getType().isPrimitive()) {
-                setPrimitive2ObjectField(object, field, objectReference, realOffset);
+        // change fields in object
+        for(MarshallingPlan.FieldPlan field : plan.getFields()) {
+            if(field.isPrimitive()) {
+                field.copyPrimitive(objectReference, object);
             } else {
-                setReference2ObjectField(cache, object, field, jvmClassLoader, objectReference, realOffset);
+                Object value = reference2Object(cache, objectReference.getReference(field.getOffset()));
+                field.set(object, value);
             }
-            realOffset += ReflectionUtils.getFieldSize(field);
         }
+
+        return object;
     }
 
     /**
      * {@code Throwable.class.getDeclaredField("backtrace")} will get Exception.
      * So use this method to handle it manual
      * @see <a href="https://bugs.java.com/bugdatabase/view_bug.do?bug_id=8033735">JDK-8033735 : make Throwable.backtrace visible to Class.getDeclaredField again</a>
-     * @param cache
-     * @param object
      * @param objectReference
      * @throws IllegalAccessException
      */
-    private static void setThrowableFields(
-            Map<Reference, Object> cache, Object object, ObjectReference objectReference
-    ) throws IllegalAccessException {
-        if(! (object instanceof Throwable)) {
-            throw new RuntimeException(object.getClass() + " is not subclass of " + Throwable.class);
-        }
-
-        final JvmClass jvmClass = objectReference.getJvmClass();
-        final Class<?> clazz = jvmClass.getRealClassInJvm();
-        final JvmClassLoader jvmClassLoader = jvmClass.getLoader();
-
-        List<Field> fields = ReflectionUtils.getNonStaticFieldsFromAncestor(clazz);
+    private static void checkThrowableBacktrace(ObjectReference objectReference) throws IllegalAccessException {
         // private transient Object backtrace;
-        // cannot get by reflection in jdk 8
-        // we handle it manually
-        Reference backtrace = objectReference.getReference(0);
+        // cannot get by reflection in jdk 8, so it is not in the fields of plan
+        Reference backtrace = objectReference.getReference("backtrace");
         if(Reference.isNull(backtrace)) {
             // the default value in object is null, so we do nothing
         } else {
@@ -504,71 +459,8 @@ public class ReferenceUtils {
             // so throw an exception here
             throw new IllegalAccessException("Cannot change backtrace in " + Throwable.class + ", " + backtrace);
         }
-
-        // skip private transient Object backtrace;
-        // from offset 1 not 0
-        int realOffset = 1;
-        // change object's fields value
-        for(int i = 0; i < fields.size(); i++) {
-            Field field = fields.get(i);
-            if(field.getType().isPrimitive()) {
-                setPrimitive2ObjectField(object, field, objectReference, realOffset);
-            } else {
-                setReference2ObjectField(cache, object, field, jvmClassLoader, objectReference, realOffset);
-            }
-            realOffset += ReflectionUtils.getFieldSize(field);
-        }
     }
 
-    /**
-     * set the primitive value
-     * from self-define reference to object's field
-     * @param object
-     * @param field
-     * @param objectReference
-     * @param offset
-     * @throws IllegalAccessException
-     */
-    private static void setPrimitive2ObjectField(
-            Object object, Field field,
-            ObjectReference objectReference, int offset
-    ) throws IllegalAccessException {
-        if(!field.getType().isPrimitive()) {
-            throw new RuntimeException(field + " is not primitive");
-        }
-        field.setAccessible(true);
-        final Class<?> fieldType = field.getType();
-        final Class<?> type = fieldType;
-        if(type.equals(boolean.class)) {
-            boolean value = objectReference.getBooleanValue(offset);
-            field.setBoolean(object, value);
-        } else if(type.equals(byte.class)) {
-            byte value = objectReference.getByteValue(offset);
-            field.setByte(object, value);
-        } else if(type.equals(short.class)) {
-            short value = objectReference.getShortValue(offset);
-            field.setShort(object, value);
-        } else if(type.equals(char.class)) {
-            char value = objectReference.getCharValue(offset);
-            field.setChar(object, value);
-        } else if(type.equals(int.class)) {
-            int value = objectReference.getIntValue(offset);
-            field.setInt(object, value);
-        } else if(type.equals(float.class)) {
-            float value = objectReference.getFloatValue(offset);
-            field.setFloat(object, value);
-        } else if(type.equals(long.class)) {
-            long value = objectReference.getLongValue(offset);
-            field.setLong(object, value);
-        } else if(type.equals(double.class)) {
-            double value = objectReference.getDoubleValue(offset);
-            field.setDouble(object, value);
-        } else {
-            throw new IllegalArgumentException("Cannot set type " + type);
-        }
-    }
-
-
     private static Object arrayReference2Object(
             Map<Reference, Object> cache, ArrayReference arrayReference
     ) throws IllegalAccessException {
@@ -588,60 +480,12 @@ public class ReferenceUtils {
      * @return
      */
     static Object baseTypeArrayReference2Object(BaseTypeArrayReference baseTypeArrayReference) {
+        // copy, the real array must not be shared
+        final Object array = baseTypeArrayReference.getArray();
         final int length = baseTypeArrayReference.length();
-        final byte typeCode = baseTypeArrayReference.getTypeCode();
-        switch (typeCode) {
-            case ArrayTypeCodes.T_BOOLEAN:
-                boolean[] booleans = new boolean[length];
-                for(int i = 0; i < length; i++) {
-                    booleans[i] = baseTypeArrayReference.getBooleanValue(i);
-                }
-                return booleans;
-            case ArrayTypeCodes.T_BYTE:
-                byte[] bytes = new byte[length];
-                for(int i = 0; i < length; i++) {
-                    bytes[i] = baseTypeArrayReference.getByteValue(i);
-                }
-                return bytes;
-            case ArrayTypeCodes.T_CHAR:
-                char[] chars = new char[length];
-                for(int i = 0; i < length; i++) {
-                    chars[i] = baseTypeArrayReference.getCharValue(i);
-                }
-                return chars;
-            case ArrayTypeCodes.T_DOUBLE:
-                double[] doubles = new double[length];
-                for(int i = 0; i < length; i++) {
-                    doubles[i] = baseTypeArrayReference.getDoubleValue(i);
-                }
-                return doubles;
-            case ArrayTypeCodes.T_FLOAT:
-                float[] floats = new float[length];
-                for(int i = 0; i < length; i++) {
-                    floats[i] = baseTypeArrayReference.getFloatValue(i);
-                }
-                return floats;
-            case ArrayTypeCodes.T_INT:
-                int[] ints = new int[length];
-                for(int i = 0; i < length; i++) {
-                    ints[i] = baseTypeArrayReference.getIntValue(i);
-                }
-                return ints;
-            case ArrayTypeCodes.T_LONG:
-                long[] longs = new long[length];
-                for(int i = 0; i < length; i++) {
-                    longs[i] = baseTypeArrayReference.getLongValue(i);
-                }
-                return longs;
-            case ArrayTypeCodes.T_SHORT:
-                short[] shorts = new short[length];
-                for(int i = 0; i < length; i++) {
-                    shorts[i] = baseTypeArrayReference.getShortValue(i);
-                }
-                return shorts;
-            default:
-                throw new IllegalStateException("Unexpected value: " + typeCode);
-        }
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
     }
 
     /**
@@ -655,33 +499,26 @@ public class ReferenceUtils {
             Map<Reference, Object> cache, ObjectArrayReference objectArrayReference
     ) throws IllegalAccessException {
         final int length = objectArrayReference.length();
-        Object[] objects = null;
-        // check cache
-        if(cache.containsKey(objectArrayReference)) {
-            objects = (Object[]) cache.get(objectArrayReference);
-        } else {
-            // not in cache, new one
-            final Class<?> componentType =  objectArrayReference.getComponentType().getRealClassInJvm();
-            objects = (Object[]) Array.newInstance(componentType, length);
-            // then add it to cache
-            cache.put(objectArrayReference, objects);
-        }
+        final Class<?> componentType =  objectArrayReference.getComponentType().getRealClassInJvm();
+        Object[] objects = (Object[]) Array.newInstance(componentType, length);
+        // then add it to cache
+        cache.put(objectArrayReference, objects);
         for(int i = 0; i < length; i++) {
-            Object object = reference2Object(objectArrayReference.getReference(i));
-            objects[i] = object;
+            objects[i] = reference2Object(cache, objectArrayReference.getReference(i));
         }
         return objects;
     }
 
     /**
-     * get the local variable from local variable
+     * get the local variable from local variable,
+     * reference is converted shallowly
+     * @see #reference2ObjectShallow(Reference)
      * @param localVariables
      * @param offset
      * @param type
      * @return
-     * @throws IllegalAccessException
      */
-    static Object getLocalVariableByClassType(
+    public static Object getLocalVariableByClassType(
             LocalVariables localVariables, int offset, Class<?> type
     ) {
         if(type.isPrimitive()) {
@@ -691,7 +528,7 @@ public class ReferenceUtils {
             // reference value
             Reference reference = localVariables.getReference(offset);
             try {
-                return reference2Object(reference);
+                return reference2ObjectShallow(reference);
             } catch (IllegalAccessException e) {
                 throw new RuntimeException(e);
             }
@@ -730,7 +567,9 @@ public class ReferenceUtils {
     }
 
     /**
-     * emulator "arraycopy" in System
+     * emulator "arraycopy" in System,
+     * elements are copied by the arraycopy of real jvm,
+     * so overlap of same array is handled
      * @see java.lang.System#arraycopy(Object, int, Object, int, int)
      */
     public static void arrayCopy(
@@ -738,85 +577,12 @@ public class ReferenceUtils {
             ArrayReference dest, int destPos,
             int length
     ) {
-        if(!src.getClass().equals(dest.getClass())) {
-            throw new IllegalArgumentException(src + " type not same as " + dest);
-        }
-        if(src instanceof BaseTypeArrayReference) {
-            arrayCopy((BaseTypeArrayReference) src, srcPos, (BaseTypeArrayReference) dest, destPos, length);
-        } else if(src instanceof ObjectArrayReference) {
-            arrayCopy((ObjectArrayReference) src, srcPos, (ObjectArrayReference) dest, destPos, length);
+        if(src instanceof BaseTypeArrayReference && dest instanceof BaseTypeArrayReference) {
+            ((BaseTypeArrayReference) src).copyTo(srcPos, (BaseTypeArrayReference) dest, destPos, length);
+        } else if(src instanceof ObjectArrayReference && dest instanceof ObjectArrayReference) {
+            ((ObjectArrayReference) src).copyTo(srcPos, (ObjectArrayReference) dest, destPos, length);
         } else {
-            throw new IllegalStateException("Wrong type " + src);
-        }
-    }
-
-    /**
-     * copy the primitive values of self-define bast type array
-     */
-    private static void arrayCopy(
-            BaseTypeArrayReference src, int srcPos,
-            BaseTypeArrayReference dest, int destPos,
-            int length
-    ) {
-        if(src.getTypeCode() != dest.getTypeCode()) {
-            throw new IllegalArgumentException("type code not same");
-        }
-        for(int i = 0; i < length; i++) {
-            arrayCopyPrimitiveOne(src, srcPos + i, dest, destPos + i);
-        }
-    }
-
-    /**
-     * array copy of Object Array
-     */
-    private static void arrayCopy(
-            ObjectArrayReference src, int srcPos,
-            ObjectArrayReference dest, int destPos,
-            int length) {
-        for(int i = 0; i < length; i++) {
-            Reference temp = src.getReference(srcPos + i);
-            dest.setReference(destPos + i, temp);
-        }
-    }
-
-    /**
-     * just copy 1 primitive element in array
-     */
-    private static void arrayCopyPrimitiveOne(
-            BaseTypeArrayReference src, int srcIndex,
-            BaseTypeArrayReference dest, int destIndex
-    ) {
-        if(src.getTypeCode() != dest.getTypeCode()) {
-            throw new IllegalArgumentException("type code not same");
-        }
-        final byte typeCode = src.getTypeCode();
-        switch (typeCode) {
-            case ArrayTypeCodes.T_BOOLEAN:
-                dest.setBooleanValue(destIndex, src.getBooleanValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_BYTE:
-                dest.setByteValue(destIndex, src.getByteValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_CHAR:
-                dest.setCharValue(destIndex, src.getCharValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_DOUBLE:
-                dest.setDoubleValue(destIndex, src.getDoubleValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_FLOAT:
-                dest.setFloatValue(destIndex, src.getFloatValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_INT:
-                dest.setIntValue(destIndex, src.getIntValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_LONG:
-                dest.setLongValue(destIndex, src.getLongValue(srcIndex));
-                break;
-            case ArrayTypeCodes.T_SHORT:
-                dest.setShortValue(destIndex, src.getShortValue(srcIndex));
-                break;
-            default:
-                throw new IllegalStateException("Unexpected value: " + typeCode);
+            throw new ArrayStoreException(src + " type not same as " + dest);
         }
     }
 }
@@ -3,12 +3,14 @@ package com.github.anilople.javajvm.vm;
 import com.github.anilople.javajvm.heap.JvmClass;
 import com.github.anilople.javajvm.heap.JvmClassLoader;
 import com.github.anilople.javajvm.heap.JvmField;
+import com.github.anilople.javajvm.natives.Stdio;
 import com.github.anilople.javajvm.runtimedataarea.Reference;
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import com.github.anilople.javajvm.utils.ReferenceUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.PrintStream;
 import java.util.Properties;
 
 /**
@@ -39,6 +41,28 @@ public class VM {
         JvmField savedProps = vm.getJvmFieldByNameIncludeAncestors("savedProps");
         int staticFieldOffset = savedProps.getStaticFieldOffset();
         vm.getStaticFieldsValue().setReference(staticFieldOffset, propertiesReference);
+
+        initialStandardStreams(jvmClassLoader);
+    }
+
+    /**
+     * System.out and System.err are set by System.initializeSystemClass in real jvm,
+     * here they are print streams without fields, their methods are hacked.
+     * @see Stdio
+     */
+    private static void initialStandardStreams(JvmClassLoader jvmClassLoader) {
+        JvmClass system = jvmClassLoader.loadClass(System.class);
+        JvmClass printStream = jvmClassLoader.loadClass(PrintStream.class);
+        ObjectReference out = ObjectReference.makeObjectReference(printStream);
+        ObjectReference err = ObjectReference.makeObjectReference(printStream);
+        setStaticReference(system, "out", out);
+        setStaticReference(system, "err", err);
+        Stdio.setErrReference(err);
+    }
+
+    private static void setStaticReference(JvmClass jvmClass, String fieldName, Reference reference) {
+        JvmField jvmField = jvmClass.getJvmFieldByNameIncludeAncestors(fieldName);
+        jvmClass.getStaticFieldsValue().setReference(jvmField.getStaticFieldOffset(), reference);
     }
 
 }
@@ -0,0 +1,76 @@
+package com.github.anilople.javajvm.benchmark;
+
+import com.github.anilople.javajvm.JavaJvmApplication;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+
+/**
+ * allocate small objects in a loop,
+ * to know how many objects the interpreter allocates per second.
+ *
+ * Not a test, run main method by hand.
+ */
+public class AllocationBenchmark {
+
+    private static final int WARMUP_ROUNDS = 3;
+
+    private static final int ROUNDS = 5;
+
+    /**
+     * objects allocated by the workload in every round
+     */
+    private static final int OBJECTS = Workload.LOOPS * 2;
+
+    /**
+     * code run on the jvm
+     */
+    static class Workload {
+
+        static final int LOOPS = 50_000;
+
+        static class Point {
+            int x;
+            int y;
+            Object tag;
+        }
+
+        static class Pair {
+            long id;
+            Point point;
+            Pair next;
+        }
+
+        public static void main(String[] args) {
+            Pair last = null;
+            for (int i = 0; i < LOOPS; i++) {
+                Point point = new Point();
+                point.x = i;
+                Pair pair = new Pair();
+                pair.point = point;
+                pair.next = last;
+                // keep a short chain only
+                last = 0 == (i & 7) ? null : pair;
+            }
+        }
+    }
+
+    private static long runRound() {
+        JvmThread jvmThread = JvmThreadFactory.makeSimpleInstance(Workload.class);
+        long start = System.nanoTime();
+        JavaJvmApplication.loop(jvmThread);
+        return System.nanoTime() - start;
+    }
+
+    public static void main(String[] args) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            runRound();
+        }
+        long total = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long nanos = runRound();
+            total += nanos;
+            System.out.printf("round %d: %d ms, %.0f objects/s%n", i, nanos / 1_000_000, OBJECTS * 1e9 / nanos);
+        }
+        System.out.printf("average: %.0f objects/s%n", OBJECTS * 1e9 * ROUNDS / total);
+    }
+}
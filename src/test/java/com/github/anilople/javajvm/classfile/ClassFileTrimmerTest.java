@@ -0,0 +1,103 @@
+package com.github.anilople.javajvm.classfile;
+
+import com.github.anilople.javajvm.classfile.attributes.AttributeInfo;
+import com.github.anilople.javajvm.classfile.attributes.CodeAttribute;
+import com.github.anilople.javajvm.classfile.attributes.ConstantValueAttribute;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassFileTrimmerTest {
+
+    private static byte[] readClassFile(Class<?> clazz) throws IOException {
+        try (InputStream inputStream = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int length = inputStream.read(buffer); length >= 0; length = inputStream.read(buffer)) {
+                byteArrayOutputStream.write(buffer, 0, length);
+            }
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+
+    @Test
+    void trim() throws IOException {
+        byte[] original = readClassFile(String.class);
+        byte[] trimmed = ClassFileTrimmer.trim(original);
+        assertTrue(trimmed.length < original.length);
+
+        ClassFile expected = ClassFile.parse(new ClassFile.ClassReader(original));
+        ClassFile actual = ClassFile.parse(new ClassFile.ClassReader(trimmed));
+        assertEquals(expected.getConstantPool().length, actual.getConstantPool().length);
+        assertEquals(expected.getClassName(), actual.getClassName());
+        assertEquals(expected.getSuperClassName(), actual.getSuperClassName());
+        assertArrayEquals(expected.getInterfaceNames(), actual.getInterfaceNames());
+
+        assertEquals(expected.getFields().length, actual.getFields().length);
+        for (int i = 0; i < expected.getFields().length; i++) {
+            assertEquals(
+                    count(expected.getFields()[i].getAttributes(), ConstantValueAttribute.class),
+                    actual.getFields()[i].getAttributes().length
+            );
+        }
+
+        assertEquals(expected.getMethods().length, actual.getMethods().length);
+        for (int i = 0; i < expected.getMethods().length; i++) {
+            MethodInfo expectedMethod = expected.getMethods()[i];
+            MethodInfo actualMethod = actual.getMethods()[i];
+            assertEquals(expectedMethod.getName(), actualMethod.getName());
+            assertEquals(expectedMethod.getDescriptor(), actualMethod.getDescriptor());
+            CodeAttribute expectedCode = findCode(expectedMethod);
+            CodeAttribute actualCode = findCode(actualMethod);
+            if (null == expectedCode) {
+                assertEquals(0, actualMethod.getAttributes().length);
+            } else {
+                assertEquals(1, actualMethod.getAttributes().length);
+                assertEquals(expectedCode.getMaxStack(), actualCode.getMaxStack());
+                assertEquals(expectedCode.getMaxLocals(), actualCode.getMaxLocals());
+                assertArrayEquals(expectedCode.getCode(), actualCode.getCode());
+                assertEquals(expectedCode.getExceptionTable().length, actualCode.getExceptionTable().length);
+                assertEquals(0, actualCode.getAttributes().length);
+            }
+        }
+        assertEquals(0, actual.getAttributes().length);
+    }
+
+    @Test
+    void trimTwice() throws IOException {
+        byte[] trimmed = ClassFileTrimmer.trim(readClassFile(ClassFileTrimmerTest.class));
+        assertArrayEquals(trimmed, ClassFileTrimmer.trim(trimmed));
+    }
+
+    @Test
+    void notClassFile() throws IOException {
+        assertThrows(IllegalArgumentException.class, () -> ClassFileTrimmer.trim(new byte[]{1, 2, 3, 4}));
+        byte[] original = readClassFile(String.class);
+        byte[] truncated = new byte[original.length / 2];
+        System.arraycopy(original, 0, truncated, 0, truncated.length);
+        assertThrows(IllegalArgumentException.class, () -> ClassFileTrimmer.trim(truncated));
+    }
+
+    private static int count(AttributeInfo[] attributes, Class<?> type) {
+        int count = 0;
+        for (AttributeInfo attribute : attributes) {
+            if (type.isInstance(attribute)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static CodeAttribute findCode(MethodInfo methodInfo) {
+        for (AttributeInfo attribute : methodInfo.getAttributes()) {
+            if (attribute instanceof CodeAttribute) {
+                return (CodeAttribute) attribute;
+            }
+        }
+        return null;
+    }
+}
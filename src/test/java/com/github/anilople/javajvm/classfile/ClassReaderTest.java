@@ -0,0 +1,65 @@
+package com.github.anilople.javajvm.classfile;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassReaderTest {
+
+    private static final byte[] BYTES = new byte[]{
+            (byte) 0xCA, (byte) 0xFE, (byte) 0xBA, (byte) 0xBE,
+            0x00, 0x01, (byte) 0xFF, (byte) 0xFE,
+            0x12, 0x34, 0x56, 0x78
+    };
+
+    @Test
+    void read() {
+        ClassFile.ClassReader classReader = new ClassFile.ClassReader(BYTES);
+        assertEquals(0xCAFEBABE, classReader.readU4());
+        assertEquals(1, classReader.readU2());
+        assertEquals((short) 0xFFFE, classReader.readU2());
+        assertEquals(0x12, classReader.readU1());
+        assertEquals(9, classReader.getPosition());
+        assertEquals(3, classReader.remaining());
+        assertThrows(IndexOutOfBoundsException.class, () -> classReader.readU4());
+    }
+
+    @Test
+    void absoluteRead() {
+        ClassFile.ClassReader classReader = new ClassFile.ClassReader(BYTES);
+        assertEquals(0x12345678, classReader.getU4(8));
+        assertEquals((short) 0xBABE, classReader.getU2(2));
+        assertEquals((byte) 0xFE, classReader.getU1(1));
+        // cursor doesn't move
+        assertEquals(0, classReader.getPosition());
+    }
+
+    @Test
+    void slice() {
+        ClassFile.ClassReader classReader = new ClassFile.ClassReader(BYTES);
+        classReader.skip(4);
+        ClassFile.ClassReader slice = classReader.slice(4);
+        assertEquals(8, classReader.getPosition());
+        assertEquals(0, slice.getPosition());
+        assertEquals(0x0001FFFE, slice.getU4(0));
+        assertEquals(1, slice.readU2());
+        assertEquals(2, slice.remaining());
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.getU4(2));
+    }
+
+    @Test
+    void align4() {
+        ClassFile.ClassReader classReader = new ClassFile.ClassReader(BYTES);
+        classReader.align4();
+        assertEquals(0, classReader.getPosition());
+        classReader.readU1();
+        classReader.align4();
+        assertEquals(4, classReader.getPosition());
+        // relative to the start of a slice
+        classReader.readU1();
+        ClassFile.ClassReader slice = classReader.slice(6);
+        slice.readU1();
+        slice.align4();
+        assertEquals(4, slice.getPosition());
+    }
+}
@@ -0,0 +1,98 @@
+package com.github.anilople.javajvm.classpath;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassContextIndexTest {
+
+    /**
+     * contains the classes given, count how many times it is searched
+     */
+    private static class CountClassContext implements ClassContext {
+
+        private final Set<String> classNames;
+
+        private final Set<String> packages;
+
+        private int reads;
+
+        CountClassContext(Set<String> packages, String... classNames) {
+            this.classNames = new HashSet<>(Arrays.asList(classNames));
+            this.packages = packages;
+        }
+
+        @Override
+        public byte[] readClass(String className) {
+            reads++;
+            return classNames.contains(className) ? className.getBytes() : null;
+        }
+
+        @Override
+        public Set<String> getPackages() {
+            return packages;
+        }
+    }
+
+    @Test
+    void packageOf() {
+        assertEquals("java/lang", ClassContextIndex.packageOf("java/lang/Object.class"));
+        assertEquals("", ClassContextIndex.packageOf("Main.class"));
+    }
+
+    @Test
+    void onlyCandidatesAreSearched() {
+        CountClassContext lang = new CountClassContext(Collections.singleton("java/lang"), "java/lang/Object.class");
+        CountClassContext util = new CountClassContext(Collections.singleton("java/util"), "java/util/List.class");
+        CountClassContext unknown = new CountClassContext(null, "a/b/C.class", "java/lang/Object.class");
+        CountClassContext lang2 = new CountClassContext(Collections.singleton("java/lang"), "java/lang/String.class");
+        ClassContextIndex index = new ClassContextIndex(Arrays.asList(lang, util, unknown, lang2));
+
+        assertEquals(Arrays.asList(lang, unknown, lang2), index.getCandidates("java/lang/String.class"));
+        assertEquals(Collections.singletonList(unknown), index.getCandidates("x/Y.class"));
+
+        // first one wins
+        assertArrayEquals("java/lang/Object.class".getBytes(), index.readClass("java/lang/Object.class"));
+        assertEquals(0, unknown.reads);
+        assertArrayEquals("java/lang/String.class".getBytes(), index.readClass("java/lang/String.class"));
+        assertEquals(1, unknown.reads);
+        assertArrayEquals("a/b/C.class".getBytes(), index.readClass("a/b/C.class"));
+        assertNull(index.readClass("x/Y.class"));
+        assertEquals(0, util.reads);
+        // unknown packages
+        assertNull(index.getPackages());
+    }
+
+    @Test
+    void directory(@TempDir Path directory) throws IOException {
+        Path classfile = directory.resolve(Paths.get("a", "b", "C.class"));
+        Files.createDirectories(classfile.getParent());
+        Files.write(classfile, new byte[]{1, 2, 3});
+
+        DirectoryClassContextImpl classContext = new DirectoryClassContextImpl(directory);
+        assertArrayEquals(new byte[]{1, 2, 3}, classContext.readClass("a/b/C.class"));
+        assertNull(classContext.readClass("a/b/D.class"));
+        assertNull(classContext.readClass("a/b"));
+        // a directory is searched only for the packages in it
+        ClassContextIndex index = new ClassContextIndex(Collections.singletonList(classContext));
+        assertEquals(Collections.singletonList(classContext), index.getCandidates("a/b/D.class"));
+        assertEquals(Collections.singletonList(classContext), index.getCandidates("Main.class"));
+        assertEquals(Collections.emptyList(), index.getCandidates("x/Y.class"));
+
+        // a package created later is found
+        Path later = directory.resolve(Paths.get("x", "Y.class"));
+        Files.createDirectories(later.getParent());
+        Files.write(later, new byte[]{4});
+        assertArrayEquals(new byte[]{4}, index.readClass("x/Y.class"));
+    }
+}
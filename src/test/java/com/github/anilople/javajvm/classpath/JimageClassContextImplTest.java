@@ -0,0 +1,58 @@
+package com.github.anilople.javajvm.classpath;
+
+import com.github.anilople.javajvm.classfile.ClassFile;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JimageClassContextImplTest {
+
+    /**
+     * lib/modules of a modular runtime,
+     * set system property javajvm.jimage when tests run on jdk 8
+     */
+    private static Path getJimage() {
+        String jimage = System.getProperty("javajvm.jimage");
+        if (null != jimage) {
+            return Paths.get(jimage);
+        }
+        return Paths.get(System.getProperty("java.home"), "lib", "modules");
+    }
+
+    private static String parseClassName(ClassContext classContext, String className) {
+        ClassFile classFile = classContext.parseClass(className, buffer -> ClassFile.parse(new ClassFile.ClassReader(buffer)));
+        return null == classFile ? null : classFile.getClassName();
+    }
+
+    @Test
+    void readClass() throws IOException {
+        Path jimage = getJimage();
+        Assumptions.assumeTrue(Files.isRegularFile(jimage), () -> "no jimage " + jimage + ", set -Djavajvm.jimage on jdk 8");
+        JimageClassContextImpl classContext = new JimageClassContextImpl(jimage);
+        assertEquals("java/lang/Object", parseClassName(classContext, "java/lang/Object.class"));
+        assertEquals("java/util/HashMap", parseClassName(classContext, "java/util/HashMap.class"));
+        // not in java.base
+        assertEquals("java/sql/Connection", parseClassName(classContext, "java/sql/Connection.class"));
+
+        byte[] bytes = classContext.readClass("java/lang/String.class");
+        assertEquals((byte) 0xCA, bytes[0]);
+        assertEquals((byte) 0xFE, bytes[1]);
+
+        assertNull(classContext.readClass("java/lang/NotExists.class"));
+        assertNull(classContext.readClass("not/exists/Foo.class"));
+        assertNull(classContext.readClass("Foo.class"));
+    }
+
+    @Test
+    void notJimage(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("modules"), new byte[100]);
+        assertThrows(IOException.class, () -> new JimageClassContextImpl(file));
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.anilople.javajvm.classpath;
+
+import com.github.anilople.javajvm.classfile.ClassFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedZipClassContextImplTest {
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static void putEntry(ZipOutputStream zipOutputStream, String name, byte[] bytes, boolean stored) throws IOException {
+        ZipEntry zipEntry = new ZipEntry(name);
+        if (stored) {
+            CRC32 crc32 = new CRC32();
+            crc32.update(bytes);
+            zipEntry.setMethod(ZipEntry.STORED);
+            zipEntry.setSize(bytes.length);
+            zipEntry.setCompressedSize(bytes.length);
+            zipEntry.setCrc(crc32.getValue());
+        }
+        zipOutputStream.putNextEntry(zipEntry);
+        zipOutputStream.write(bytes);
+        zipOutputStream.closeEntry();
+    }
+
+    @Test
+    void readClass(@TempDir Path directory) throws IOException {
+        byte[] stored = randomBytes(1000);
+        // compressible
+        byte[] deflated = new byte[50000];
+        Arrays.fill(deflated, (byte) 'a');
+        byte[] empty = new byte[0];
+        Path jar = directory.resolve("test.jar");
+        try (OutputStream outputStream = Files.newOutputStream(jar);
+             ZipOutputStream zipOutputStream = new ZipOutputStream(outputStream)) {
+            zipOutputStream.setComment("comment after central directory");
+            putEntry(zipOutputStream, "a/b/", empty, true);
+            putEntry(zipOutputStream, "a/b/Stored.class", stored, true);
+            putEntry(zipOutputStream, "a/b/Deflated.class", deflated, false);
+            putEntry(zipOutputStream, "Default.class", randomBytes(10), false);
+            putEntry(zipOutputStream, "META-INF/readme.txt", randomBytes(10), false);
+        }
+
+        MappedZipClassContextImpl classContext = new MappedZipClassContextImpl(jar);
+        assertArrayEquals(stored, classContext.readClass("a/b/Stored.class"));
+        assertArrayEquals(deflated, classContext.readClass("a/b/Deflated.class"));
+        assertArrayEquals(randomBytes(10), classContext.readClass("Default.class"));
+        assertNull(classContext.readClass("a/b/Missing.class"));
+        assertNull(classContext.readClass("META-INF/readme.txt"));
+        assertEquals(new HashSet<>(Arrays.asList("a/b", "")), classContext.getPackages());
+
+        // parser reads another class, the pooled buffers are not shared
+        byte[] nested = classContext.parseClass("a/b/Deflated.class", outer -> {
+            byte[] inner = classContext.readClass("a/b/Deflated.class");
+            assertEquals('a', outer.get(outer.remaining() - 1));
+            return inner;
+        });
+        assertArrayEquals(deflated, nested);
+    }
+
+    @Test
+    void runtimeJar() throws IOException {
+        Path rtJar = Paths.get(System.getProperty("java.home"), "lib", "rt.jar");
+        if (!Files.exists(rtJar)) {
+            return;
+        }
+        MappedZipClassContextImpl mapped = new MappedZipClassContextImpl(rtJar);
+        ZipClassContextImpl zip = new ZipClassContextImpl(rtJar);
+        for (String className : Arrays.asList("java/lang/Object.class", "java/lang/String.class", "java/util/HashMap.class")) {
+            assertArrayEquals(zip.readClass(className), mapped.readClass(className));
+            ClassFile classFile = mapped.parseClass(className, buffer -> ClassFile.parse(new ClassFile.ClassReader(buffer)));
+            assertEquals(className, classFile.getClassName() + ".class");
+        }
+        assertTrue(mapped.getPackages().contains("java/lang"));
+    }
+
+    @Test
+    void notZip(@TempDir Path directory) throws IOException {
+        Path file = Files.write(directory.resolve("broken.jar"), randomBytes(100));
+        assertThrows(IOException.class, () -> new MappedZipClassContextImpl(file));
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.anilople.javajvm.classpath;
+
+import com.github.anilople.javajvm.classfile.ClassFile;
+import com.github.anilople.javajvm.helper.JvmClassLoaderFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedArchiveTest {
+
+    @Test
+    void dumpAndMap(@TempDir Path directory) throws IOException {
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        classes.put("a/b/A.class", new byte[]{1, 2, 3});
+        classes.put("B.class", new byte[0]);
+        classes.put("a/C.class", new byte[]{4, 5});
+        Path path = directory.resolve("test.jsa");
+        SharedArchive.dump(path, "stamp", new HashSet<>(Arrays.asList("a/b", "a", "c")), classes);
+
+        SharedArchive sharedArchive = SharedArchive.map(path, "stamp");
+        assertNotNull(sharedArchive);
+        assertEquals(3, sharedArchive.size());
+        for (Map.Entry<String, byte[]> entry : classes.entrySet()) {
+            assertArrayEquals(entry.getValue(), sharedArchive.readClass(entry.getKey()));
+        }
+        assertNull(sharedArchive.readClass("a/b/D.class"));
+        assertEquals(new HashSet<>(Arrays.asList("a/b", "", "a")), sharedArchive.getPackages());
+        assertTrue(sharedArchive.mayBeSystemClass("c/E.class"));
+        assertFalse(sharedArchive.mayBeSystemClass("d/F.class"));
+
+        // dump again replaces it
+        // boot packages unknown
+        SharedArchive.dump(path, "stamp", null, new LinkedHashMap<>());
+        sharedArchive = SharedArchive.map(path, "stamp");
+        assertEquals(0, sharedArchive.size());
+        assertTrue(sharedArchive.mayBeSystemClass("d/F.class"));
+    }
+
+    @Test
+    void notUsed(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("test.jsa");
+        assertNull(SharedArchive.map(path, "stamp"));
+
+        Map<String, byte[]> classes = new LinkedHashMap<>();
+        classes.put("A.class", new byte[]{1});
+        SharedArchive.dump(path, "stamp", Collections.singleton(""), classes);
+        assertNull(SharedArchive.map(path, "other stamp"));
+
+        // truncated
+        byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertNull(SharedArchive.map(path, "stamp"));
+
+        Files.write(path, new byte[]{1, 2, 3});
+        assertNull(SharedArchive.map(path, "stamp"));
+    }
+
+    @Test
+    void bootClasses(@TempDir Path directory) throws IOException {
+        JvmClassLoaderFactory.getInstance();
+        Classpath classpath = Classpath.getInstance();
+        Path path = directory.resolve("boot.jsa");
+        int count = classpath.dumpSharedArchive(path, Arrays.asList(
+                "java/lang/Object", "java/lang/String", "[I", SharedArchiveTest.class.getName().replace('.', '/')
+        ));
+        // only boot classes
+        assertEquals(2, count);
+
+        SharedArchive sharedArchive = SharedArchive.map(path, classpath.getSystemStamp());
+        assertNotNull(sharedArchive);
+        ClassFile classFile = sharedArchive.parseClass(
+                "java/lang/String.class",
+                buffer -> ClassFile.parse(new ClassFile.ClassReader(buffer))
+        );
+        assertEquals("java/lang/String", classFile.getClassName());
+        assertTrue(sharedArchive.mayBeSystemClass("java/util/HashMap.class"));
+        assertFalse(sharedArchive.mayBeSystemClass(SharedArchiveTest.class.getName().replace('.', '/') + ".class"));
+        // trimmed
+        assertTrue(sharedArchive.readClass("java/lang/String.class").length < classpath.readClass("java/lang/String").length);
+    }
+}
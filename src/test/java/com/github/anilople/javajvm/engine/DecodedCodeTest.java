@@ -0,0 +1,100 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.helper.JvmClassLoaderFactory;
+import com.github.anilople.javajvm.utils.JvmMethodUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DecodedCodeTest {
+
+    private static int sum(int n) {
+        int s = 0;
+        for (int i = 0; i < n; i++) {
+            s += i;
+        }
+        return s;
+    }
+
+    private static DecodedCode decodeSum() {
+        JvmMethod jvmMethod = JvmMethodUtils.getJvmMethod(
+                JvmClassLoaderFactory.getInstance(), DecodedCodeTest.class, "sum", "(I)I"
+        );
+        DecodedCode decodedCode = jvmMethod.getDecodedCode();
+        assertSame(decodedCode, jvmMethod.getDecodedCode());
+        return decodedCode;
+    }
+
+    @Test
+    void shortForms() {
+        DecodedCode decodedCode = decodeSum();
+        // iconst_0
+        assertEquals(Opcodes.BIPUSH, decodedCode.opcodes[0]);
+        assertEquals(0, decodedCode.operands1[0]);
+        assertEquals(1, decodedCode.nextPcs[0]);
+        // istore_1
+        assertEquals(Opcodes.ISTORE, decodedCode.opcodes[1]);
+        assertEquals(1, decodedCode.operands1[1]);
+        assertEquals(2, decodedCode.nextPcs[1]);
+    }
+
+    @Test
+    void branchTargets() {
+        DecodedCode decodedCode = decodeSum();
+        int gotoPc = -1;
+        int ifPc = -1;
+        for (int pc = 0; pc < decodedCode.length(); pc = decodedCode.nextPcs[pc]) {
+            if (Opcodes.GOTO == decodedCode.opcodes[pc]) {
+                gotoPc = pc;
+            } else if (Opcodes.IF_ICMPGE == decodedCode.opcodes[pc]) {
+                ifPc = pc;
+            }
+        }
+        assertTrue(gotoPc > 0);
+        assertTrue(ifPc > 0);
+
+        // loop back to the condition, iload_2
+        int loopStart = decodedCode.operands1[gotoPc];
+        assertTrue(loopStart < gotoPc);
+        assertEquals(Opcodes.ILOAD, decodedCode.opcodes[loopStart]);
+        assertEquals(2, decodedCode.operands1[loopStart]);
+
+        // leave the loop, iload_1 and ireturn
+        int loopEnd = decodedCode.operands1[ifPc];
+        assertEquals(decodedCode.nextPcs[gotoPc], loopEnd);
+        assertEquals(Opcodes.ILOAD, decodedCode.opcodes[loopEnd]);
+        assertEquals(1, decodedCode.operands1[loopEnd]);
+    }
+
+    @Test
+    void fuse() {
+        DecodedCode decodedCode = decodeSum();
+        int superinstructions = 0;
+        for (int pc = 0; pc < decodedCode.length(); pc = decodedCode.nextPcs[pc]) {
+            switch (decodedCode.fusedOpcodes[pc]) {
+                case Opcodes.ILOAD_ILOAD_IF_ICMPGE:
+                    // i < n
+                    assertEquals(2, decodedCode.operands1[pc]);
+                    assertEquals(0, decodedCode.fusedOperands2[pc]);
+                    superinstructions++;
+                    break;
+                case Opcodes.ILOAD_ILOAD_IADD_ISTORE:
+                    // s = s + i
+                    assertEquals(1, decodedCode.operands1[pc]);
+                    assertEquals(2, decodedCode.fusedOperands2[pc]);
+                    assertEquals(1, decodedCode.fusedOperands3[pc]);
+                    superinstructions++;
+                    break;
+                case Opcodes.IINC_GOTO:
+                    assertEquals(Opcodes.ILOAD_ILOAD_IF_ICMPGE, decodedCode.fusedOpcodes[decodedCode.fusedOperands3[pc]]);
+                    superinstructions++;
+                    break;
+                default:
+                    // instructions in a sequence are kept
+                    assertEquals(decodedCode.opcodes[pc], decodedCode.fusedOpcodes[pc]);
+            }
+        }
+        assertEquals(3, superinstructions);
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.JavaJvmApplication;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.instructions.Instruction;
+import com.github.anilople.javajvm.runtimedataarea.Frame;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExecutionListenersTest {
+
+    private static int depth(int n) {
+        if (n <= 0) {
+            return 0;
+        }
+        return 1 + depth(n - 1);
+    }
+
+    private static int catchException() {
+        try {
+            throw new IllegalStateException();
+        } catch (IllegalStateException e) {
+            return 1;
+        }
+    }
+
+    public static void main(String[] args) {
+        int value = depth(10) + catchException();
+    }
+
+    /**
+     * only count the events of thread given
+     */
+    private static class CountListener implements ExecutionListener {
+
+        private final JvmThread jvmThread;
+
+        int fetched;
+
+        int executed;
+
+        int entered;
+
+        int exited;
+
+        int depthEntered;
+
+        int thrown;
+
+        CountListener(JvmThread jvmThread) {
+            this.jvmThread = jvmThread;
+        }
+
+        @Override
+        public void afterFetch(JvmThread jvmThread, Instruction instruction) {
+            if (this.jvmThread == jvmThread) {
+                fetched++;
+            }
+        }
+
+        @Override
+        public void afterExecute(JvmThread jvmThread, Instruction instruction) {
+            if (this.jvmThread == jvmThread) {
+                executed++;
+            }
+        }
+
+        @Override
+        public void methodEnter(Frame frame) {
+            if (this.jvmThread == frame.getJvmThread()) {
+                entered++;
+                if ("depth".equals(frame.getJvmMethod().getName())) {
+                    depthEntered++;
+                }
+            }
+        }
+
+        @Override
+        public void methodExit(Frame frame) {
+            if (this.jvmThread == frame.getJvmThread()) {
+                exited++;
+            }
+        }
+
+        @Override
+        public void exceptionThrown(Frame frame, Reference exception) {
+            if (this.jvmThread == frame.getJvmThread()) {
+                assertFalse(Reference.isNull(exception));
+                thrown++;
+            }
+        }
+    }
+
+    @AfterEach
+    void clear() {
+        ExecutionListeners.clear();
+    }
+
+    @Test
+    void events() {
+        JvmThread jvmThread = JvmThreadFactory.makeSimpleInstance(this.getClass());
+        CountListener countListener = new CountListener(jvmThread);
+        ExecutionListeners.add(countListener);
+        JavaJvmApplication.loop(jvmThread);
+
+        assertTrue(countListener.fetched > 0);
+        assertEquals(countListener.fetched, countListener.executed);
+        assertEquals(11, countListener.depthEntered);
+        assertEquals(countListener.entered, countListener.exited);
+        assertEquals(1, countListener.thrown);
+    }
+
+    @Test
+    void remove() {
+        JvmThread jvmThread = JvmThreadFactory.makeSimpleInstance(this.getClass());
+        CountListener countListener = new CountListener(jvmThread);
+        ExecutionListeners.add(countListener);
+        ExecutionListeners.remove(countListener);
+        JavaJvmApplication.loop(jvmThread);
+
+        assertEquals(0, countListener.fetched);
+        assertEquals(0, countListener.entered);
+    }
+}
@@ -0,0 +1,89 @@
+package com.github.anilople.javajvm.engine;
+
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SwitchEngineTest {
+
+    private static int sum(int n) {
+        int s = 0;
+        for (int i = 0; i < n; i++) {
+            s += i;
+        }
+        return s;
+    }
+
+    public static void main(String[] args) {
+        int value = sum(100);
+    }
+
+    static class PostIncrement {
+
+        private static int postIncrement(boolean condition, int i) {
+            int old = condition ? i++ : -1;
+            return old + i;
+        }
+
+        public static void main(String[] args) {
+            if (11 != postIncrement(true, 5) || 4 != postIncrement(false, 5)) {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
+    @BeforeEach
+    void countHits() {
+        Superinstructions.setCounting(true);
+        Superinstructions.resetHits();
+    }
+
+    @AfterEach
+    void stopCounting() {
+        Superinstructions.setCounting(false);
+    }
+
+    @Test
+    void superinstructionHits() {
+        ExecutionEngines.getEngine(SwitchEngine.NAME).run(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+
+        Map<String, Long> hits = Superinstructions.getHits();
+        assertEquals(101L, hits.get("iload_iload_if_icmpge"));
+        assertEquals(100L, hits.get("iload_iload_iadd_istore"));
+        assertEquals(100L, hits.get("iinc_goto"));
+    }
+
+    @Test
+    void postIncrementInBranch() {
+        ExecutionEngines.getEngine(SwitchEngine.NAME).run(JvmThreadFactory.makeSimpleInstance(PostIncrement.class));
+        assertEquals(1L, Superinstructions.getHits().get("iload_iinc_goto"));
+    }
+
+    @Test
+    void noSuperinstructionInStep() {
+        ExecutionEngine executionEngine = ExecutionEngines.getEngine(SwitchEngine.NAME);
+        JvmThread jvmThread = JvmThreadFactory.makeSimpleInstance(this.getClass());
+        while (jvmThread.existFrame()) {
+            executionEngine.step(jvmThread);
+        }
+
+        for (long hit : Superinstructions.getHits().values()) {
+            assertEquals(0L, hit);
+        }
+    }
+
+    @Test
+    void notCounting() {
+        Superinstructions.setCounting(false);
+        ExecutionEngines.getEngine(SwitchEngine.NAME).run(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        for (long hit : Superinstructions.getHits().values()) {
+            assertEquals(0L, hit);
+        }
+    }
+}
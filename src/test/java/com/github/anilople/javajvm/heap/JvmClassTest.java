@@ -0,0 +1,223 @@
+package com.github.anilople.javajvm.heap;
+
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmClassLoaderFactory;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_1;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_2;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import com.github.anilople.javajvm.runtimedataarea.LocalVariables;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.utils.ReferenceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JvmClassTest {
+
+    interface Shape {
+
+        int sides();
+
+        default int corners() {
+            return sides();
+        }
+    }
+
+    static class Polygon {
+
+        int sides() {
+            return 0;
+        }
+
+        int weight() {
+            return 1;
+        }
+    }
+
+    static class Square extends Polygon implements Shape {
+
+        @Override
+        public int sides() {
+            return 4;
+        }
+    }
+
+    static class Point {
+        int x;
+        long id;
+    }
+
+    static class Point3 extends Point {
+        static int count;
+        byte z;
+    }
+
+    static class ColorPoint3 extends Point3 {
+        Object color;
+        double alpha;
+    }
+
+    static class Constants {
+        static final int ANSWER = 42;
+        static final long BIG = 1L << 40;
+        static final double HALF = 0.5d;
+        static final String NAME = "constants";
+        static int counter;
+    }
+
+    private static JvmField getDeclaredField(JvmClass jvmClass, String name) {
+        for (JvmField jvmField : jvmClass.getJvmFields()) {
+            if (jvmField.getName().equals(name)) {
+                return jvmField;
+            }
+        }
+        throw new IllegalStateException(name + " not in " + jvmClass);
+    }
+
+    private static int fields() {
+        ColorPoint3 point = new ColorPoint3();
+        point.x = 1;
+        point.id = 1L << 40;
+        point.z = (byte) 130;
+        point.alpha = 0.5d;
+        point.color = point;
+        int value = point.x + point.z + (int) (point.id >> 40) + (int) (point.alpha * 10);
+        return point.color == point ? value : -1;
+    }
+
+    private static int dispatch(Shape shape, Polygon polygon) {
+        return shape.corners() * 100 + polygon.sides() * 10 + polygon.weight();
+    }
+
+    public static void main(String[] args) {
+        int value = dispatch(new Square(), new Square());
+        int fieldsValue = fields();
+    }
+
+    private static JvmMethod getDeclaredMethod(JvmClass jvmClass, String name) {
+        for (JvmMethod jvmMethod : jvmClass.getJvmMethods()) {
+            if (jvmMethod.getName().equals(name)) {
+                return jvmMethod;
+            }
+        }
+        throw new IllegalStateException(name + " not in " + jvmClass);
+    }
+
+    @Test
+    void vtable() {
+        JvmClassLoader jvmClassLoader = JvmClassLoaderFactory.getInstance();
+        JvmClass objectClass = jvmClassLoader.loadClass(Object.class);
+        JvmClass polygon = jvmClassLoader.loadClass(Polygon.class);
+        JvmClass square = jvmClassLoader.loadClass(Square.class);
+
+        // slots of super class come first
+        for (int i = 0; i < objectClass.getVtable().length; i++) {
+            assertSame(objectClass.getVtable()[i].getName(), polygon.getVtable()[i].getName());
+        }
+
+        JvmMethod polygonSides = getDeclaredMethod(polygon, "sides");
+        JvmMethod squareSides = getDeclaredMethod(square, "sides");
+        // overridden in place
+        assertEquals(polygonSides.getVtableIndex(), squareSides.getVtableIndex());
+        assertSame(squareSides, square.getVtable()[polygonSides.getVtableIndex()]);
+        assertSame(squareSides, square.selectMethod(polygonSides));
+        assertSame(polygonSides, polygon.selectMethod(polygonSides));
+
+        JvmMethod weight = getDeclaredMethod(polygon, "weight");
+        assertSame(weight, square.selectMethod(weight));
+    }
+
+    @Test
+    void itable() {
+        JvmClassLoader jvmClassLoader = JvmClassLoaderFactory.getInstance();
+        JvmClass shape = jvmClassLoader.loadClass(Shape.class);
+        JvmClass square = jvmClassLoader.loadClass(Square.class);
+
+        JvmMethod sides = getDeclaredMethod(shape, "sides");
+        JvmMethod corners = getDeclaredMethod(shape, "corners");
+        JvmMethod[] itable = square.getItable(shape);
+        assertSame(getDeclaredMethod(square, "sides"), itable[sides.getVtableIndex()]);
+        // default method
+        assertSame(corners, itable[corners.getVtableIndex()]);
+        assertSame(corners, square.selectMethod(corners));
+    }
+
+    @Test
+    void fieldLayout() {
+        JvmClassLoader jvmClassLoader = JvmClassLoaderFactory.getInstance();
+        JvmClass point = jvmClassLoader.loadClass(Point.class);
+        JvmClass point3 = jvmClassLoader.loadClass(Point3.class);
+        JvmClass colorPoint3 = jvmClassLoader.loadClass(ColorPoint3.class);
+
+        assertEquals(0, getDeclaredField(point, "x").calculateNonStaticFieldOffset());
+        assertEquals(1, getDeclaredField(point, "id").calculateNonStaticFieldOffset());
+        // static field not in layout
+        assertEquals(3, getDeclaredField(point3, "z").calculateNonStaticFieldOffset());
+        // reference field is laid out apart from primitive fields
+        assertEquals(0, getDeclaredField(colorPoint3, "color").calculateNonStaticFieldOffset());
+        assertEquals(4, getDeclaredField(colorPoint3, "alpha").calculateNonStaticFieldOffset());
+        assertEquals(6, colorPoint3.getInstancePrimitiveSlots());
+        assertEquals(7, colorPoint3.getNonStaticFieldsSize());
+        assertEquals(5, colorPoint3.getInstanceFields().length);
+        assertSame(getDeclaredField(point, "x"), colorPoint3.getInstanceFields()[0]);
+
+        // one reference for each reference field
+        Reference[] instanceTemplate = colorPoint3.getInstanceTemplate();
+        assertEquals(1, instanceTemplate.length);
+        assertEquals(Reference.NULL, instanceTemplate[0]);
+        assertEquals(0, point.getInstanceTemplate().length);
+    }
+
+    @Test
+    void constantValues() throws IllegalAccessException {
+        JvmClass constants = JvmClassLoaderFactory.getInstance().loadClass(Constants.class);
+        // no <clinit>, assigned when preparing
+        assertFalse(constants.existsStaticInitialMethod());
+        LocalVariables staticFieldsValue = constants.getStaticFieldsValue();
+        assertEquals(42, staticFieldsValue.getIntValue(getDeclaredField(constants, "ANSWER").getStaticFieldOffset()));
+        assertEquals(1L << 40, staticFieldsValue.getLongValue(getDeclaredField(constants, "BIG").getStaticFieldOffset()));
+        assertEquals(0.5d, staticFieldsValue.getDoubleValue(getDeclaredField(constants, "HALF").getStaticFieldOffset()));
+        assertEquals(6, getDeclaredField(constants, "counter").getStaticFieldOffset());
+        Reference name = staticFieldsValue.getReference(getDeclaredField(constants, "NAME").getStaticFieldOffset());
+        assertEquals("constants", ReferenceUtils.reference2Object(name));
+    }
+
+    @Test
+    void fieldAccess() {
+        final Consumer<JvmThread> after = jvmThread -> {
+            int value = jvmThread.currentFrame().getLocalVariables().getIntValue(2);
+            // (byte) 130 is -126
+            assertEquals(1 - 126 + 1 + 5, value);
+        };
+
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_2.class,
+                HighOrderFunctions.toInMainTrigger(this.getClass(), after)
+        );
+        jvmThreadRunner.run();
+
+        assertTrue(jvmThreadRunner.isExecuted(ISTORE_2.class));
+    }
+
+    @Test
+    void dispatch() {
+        final Consumer<JvmThread> after = jvmThread -> {
+            int value = jvmThread.currentFrame().getLocalVariables().getIntValue(1);
+            assertEquals(441, value);
+        };
+
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_1.class,
+                HighOrderFunctions.toInMainTrigger(this.getClass(), after)
+        );
+        jvmThreadRunner.run();
+
+        assertTrue(jvmThreadRunner.isExecuted(ISTORE_1.class));
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.anilople.javajvm.heap;
+
+import com.github.anilople.javajvm.constants.ValueKind;
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.LSTORE_1;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MethodSignatureTest {
+
+    private static long add(long a, double b, int c, Object d) {
+        return (long) (a + b + c);
+    }
+
+    public static void main(String[] args) {
+        long value = add(1L << 40, 2.5d, 3, null);
+    }
+
+    @Test
+    void parse() {
+        MethodSignature methodSignature = new MethodSignature("(JDILjava/lang/Object;[I)Ljava/lang/String;");
+        assertArrayEquals(
+                new ValueKind[]{ValueKind.LONG, ValueKind.DOUBLE, ValueKind.INT, ValueKind.REFERENCE, ValueKind.REFERENCE},
+                methodSignature.getArgumentKinds()
+        );
+        assertEquals(7, methodSignature.getArgumentsSlots());
+        assertEquals(ValueKind.REFERENCE, methodSignature.getReturnKind());
+        assertArrayEquals(
+                new Class<?>[]{long.class, double.class, int.class, Object.class, int[].class},
+                methodSignature.getParameterTypes()
+        );
+    }
+
+    @Test
+    void voidMethod() {
+        MethodSignature methodSignature = new MethodSignature("()V");
+        assertEquals(0, methodSignature.getArgumentKinds().length);
+        assertEquals(0, methodSignature.getArgumentsSlots());
+        assertEquals(ValueKind.VOID, methodSignature.getReturnKind());
+    }
+
+    @Test
+    void wideArguments() {
+        final Consumer<JvmThread> after = jvmThread -> {
+            long value = jvmThread.currentFrame().getLocalVariables().getLongValue(1);
+            assertEquals((1L << 40) + 5, value);
+        };
+
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                LSTORE_1.class,
+                HighOrderFunctions.toInMainTrigger(this.getClass(), after)
+        );
+        jvmThreadRunner.run();
+
+        assertTrue(jvmThreadRunner.isExecuted(LSTORE_1.class));
+    }
+}
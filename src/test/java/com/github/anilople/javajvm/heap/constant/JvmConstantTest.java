@@ -0,0 +1,124 @@
+package com.github.anilople.javajvm.heap.constant;
+
+import com.github.anilople.javajvm.helper.JvmClassLoaderFactory;
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmConstantPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JvmConstantTest {
+
+    private static int count;
+
+    public static void main(String[] args) {
+        String s = "resolve once";
+        count += s.length();
+        Math.abs(count);
+    }
+
+    private static <T extends JvmConstant> List<T> findConstants(JvmClass jvmClass, Class<T> type) {
+        JvmConstantPool jvmConstantPool = jvmClass.getJvmConstantPool();
+        List<T> constants = new ArrayList<>();
+        for (int i = 1; i < jvmConstantPool.size(); i++) {
+            JvmConstant jvmConstant;
+            try {
+                jvmConstant = jvmConstantPool.getJvmConstant(i);
+            } catch (RuntimeException e) {
+                // second slot of long or double
+                continue;
+            }
+            if (type.isInstance(jvmConstant)) {
+                constants.add(type.cast(jvmConstant));
+            }
+        }
+        assertFalse(constants.isEmpty());
+        return constants;
+    }
+
+    @Test
+    void sameResolution() {
+        JvmClass jvmClass = JvmClassLoaderFactory.getInstance().loadClass(this.getClass());
+
+        JvmConstantClass math = findConstants(jvmClass, JvmConstantClass.class).stream()
+                .filter(jvmConstantClass -> "java/lang/Math".equals(jvmConstantClass.getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertSame(math.resolveJvmClass(), math.resolveJvmClass());
+        assertSame(math.resolveClassObjectReference(), math.resolveClassObjectReference());
+
+        JvmConstantMethodref abs = findConstants(jvmClass, JvmConstantMethodref.class).stream()
+                .filter(methodref -> "abs".equals(methodref.getName()))
+                .findFirst()
+                .orElseThrow(IllegalStateException::new);
+        assertEquals("abs", abs.resolveJvmMethod().getName());
+        assertSame(abs.resolveJvmMethod(), abs.resolveJvmMethod());
+
+        for (JvmConstantFieldref jvmConstantFieldref : findConstants(jvmClass, JvmConstantFieldref.class)) {
+            assertSame(jvmConstantFieldref.resolveJvmField(), jvmConstantFieldref.resolveJvmField());
+        }
+
+        for (JvmConstantString jvmConstantString : findConstants(jvmClass, JvmConstantString.class)) {
+            assertSame(jvmConstantString.resolveStringObjectReference(), jvmConstantString.resolveStringObjectReference());
+        }
+    }
+
+    @Test
+    void sameError() {
+        final int[] times = new int[1];
+        JvmConstant jvmConstant = new JvmConstant() {
+            @Override
+            protected Object resolve() {
+                times[0]++;
+                throw new NoClassDefFoundError("not.Exists");
+            }
+        };
+        NoClassDefFoundError first = assertThrows(NoClassDefFoundError.class, jvmConstant::getResolution);
+        NoClassDefFoundError second = assertThrows(NoClassDefFoundError.class, jvmConstant::getResolution);
+        assertSame(first, second);
+        assertEquals(1, times[0]);
+    }
+
+    @Test
+    void retryAfterRuntimeException() {
+        final int[] times = new int[1];
+        JvmConstant jvmConstant = new JvmConstant() {
+            @Override
+            protected Object resolve() {
+                times[0]++;
+                if (1 == times[0]) {
+                    // i.e ClassCastException in a hack method when initialize class
+                    throw new ClassCastException("not remembered");
+                }
+                return "resolved";
+            }
+        };
+        assertThrows(ClassCastException.class, jvmConstant::getResolution);
+        assertEquals("resolved", jvmConstant.getResolution());
+        assertEquals("resolved", jvmConstant.getResolution());
+        assertEquals(2, times[0]);
+    }
+
+    @Test
+    void nothingResolved() {
+        final int[] times = new int[1];
+        JvmConstant jvmConstant = new JvmConstant() {
+            @Override
+            protected Object resolve() {
+                times[0]++;
+                return null;
+            }
+        };
+        LinkageError first = assertThrows(LinkageError.class, jvmConstant::getResolution);
+        assertSame(first, assertThrows(LinkageError.class, jvmConstant::getResolution));
+        assertEquals(1, times[0]);
+    }
+
+    @Test
+    void classNotFound() {
+        assertThrows(NoClassDefFoundError.class, () -> JvmClassLoaderFactory.getInstance().loadClass("not/Exists"));
+    }
+}
@@ -1,5 +1,11 @@
 package com.github.anilople.javajvm.helper;
 
+import com.github.anilople.javajvm.JavaJvmApplication;
+import com.github.anilople.javajvm.engine.InstructionEngine;
+
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Paths;
 import java.util.Map;
 import java.util.Properties;
 
@@ -15,6 +21,35 @@ public class CommandConfig {
 
     }
 
+    /**
+     * tests run on the reference engine by default,
+     * set system property javajvm.engine to run them on another engine
+     * @return name of execution engine
+     */
+    public static String getEngine() {
+        return System.getProperty("javajvm.engine", InstructionEngine.NAME);
+    }
+
+    /**
+     * classes of tests and main, i.e target/test-classes and target/classes
+     * @return class search path
+     */
+    public static String getClasspath() {
+        return String.join(
+                File.pathSeparator,
+                getLocation(CommandConfig.class),
+                getLocation(JavaJvmApplication.class)
+        );
+    }
+
+    private static String getLocation(Class<?> clazz) {
+        try {
+            return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * command when run a jvm
      * @param className without suffix ".class"
@@ -24,6 +59,10 @@ public class CommandConfig {
         return new String[]{
                 "-Xjre",
                 System.getProperty("java.home"),
+                "-cp",
+                getClasspath(),
+                "-Xengine",
+                getEngine(),
                 // without class name, default is
                 className
         };
@@ -14,7 +14,7 @@ public class JvmClassLoaderFactory {
         if(!Classpath.isInitialized()) {
             String[] args = CommandConfig.getArgs(JvmClassLoaderFactory.class.getName());
             Command command = Command.parse(args);
-            Classpath.initialize(command.getOptions().getXjre());
+            Classpath.initialize(command.getOptions().getXjre(), command.getOptions().getClasspath());
         }
         return JvmClassLoader.getInstance();
     }
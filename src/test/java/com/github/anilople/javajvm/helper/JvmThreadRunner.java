@@ -1,5 +1,9 @@
 package com.github.anilople.javajvm.helper;
 
+import com.github.anilople.javajvm.JavaJvmApplication;
+import com.github.anilople.javajvm.engine.ExecutionEngines;
+import com.github.anilople.javajvm.engine.ExecutionListener;
+import com.github.anilople.javajvm.engine.ExecutionListeners;
 import com.github.anilople.javajvm.instructions.Instruction;
 import com.github.anilople.javajvm.runtimedataarea.JvmThread;
 
@@ -34,6 +38,9 @@ import java.util.function.Consumer;
  *
  * It seems like a debugger, and catch every moment of JVM,
  * When JVM do something, the listener will be trigger
+ *
+ * The listeners are attached to the loop of JVM by
+ * {@link com.github.anilople.javajvm.engine.ExecutionListener}
  */
 public class JvmThreadRunner {
 
@@ -166,38 +173,48 @@ public class JvmThreadRunner {
     }
 
     /**
-     * run the JvmThread and trigger the listener added
+     * run the JvmThread by the loop of JVM and trigger the listener added
      */
     public void run() {
+        // class initialization use the same engine
+        ExecutionEngines.use(CommandConfig.getEngine());
 
         // before thread running, trigger the listeners
         for(Consumer<JvmThread> consumer : startListeners) {
             consumer.accept(jvmThread);
         }
 
-        while(jvmThread.existFrame()) {
-            // read instruction
-            Instruction instruction = jvmThread.currentFrame().readNextInstruction();
+        ExecutionListener executionListener = new ExecutionListener() {
+            @Override
+            public void beforeExecute(JvmThread thread, Instruction instruction) {
+                // ignore the threads of class initialization
+                if(thread != jvmThread) {
+                    return;
+                }
 
-            // keep the track of instructions
-            instructionsExecuted.add(instruction);
+                // keep the track of instructions
+                instructionsExecuted.add(instruction);
 
-            // before this instruction's execution, trigger the listeners
-            if(beforeInstructionExecutionListeners.containsKey(instruction.getClass())) {
-                for(BiConsumer<Instruction, JvmThread> biConsumer : beforeInstructionExecutionListeners.get(instruction.getClass())) {
-                    biConsumer.accept(instruction, jvmThread);
-                }
+                // before this instruction's execution, trigger the listeners
+                trigger(beforeInstructionExecutionListeners, instruction);
             }
 
-            // execute instruction
-            instruction.execute(jvmThread.currentFrame());
-
-            // after this instruction's execution, trigger the listeners
-            if(afterInstructionExecutionListeners.containsKey(instruction.getClass())) {
-                for(BiConsumer<Instruction, JvmThread> biConsumer : afterInstructionExecutionListeners.get(instruction.getClass())) {
-                    biConsumer.accept(instruction, jvmThread);
+            @Override
+            public void afterExecute(JvmThread thread, Instruction instruction) {
+                if(thread != jvmThread) {
+                    return;
                 }
+
+                // after this instruction's execution, trigger the listeners
+                trigger(afterInstructionExecutionListeners, instruction);
             }
+        };
+
+        ExecutionListeners.add(executionListener);
+        try {
+            JavaJvmApplication.loop(jvmThread);
+        } finally {
+            ExecutionListeners.remove(executionListener);
         }
 
         // after thread running, trigger the listeners
@@ -206,6 +223,17 @@ public class JvmThreadRunner {
         }
     }
 
+    private void trigger(
+            Map<Class<? extends Instruction>, List<BiConsumer<Instruction, JvmThread>>> listeners,
+            Instruction instruction
+    ) {
+        if(listeners.containsKey(instruction.getClass())) {
+            for(BiConsumer<Instruction, JvmThread> biConsumer : listeners.get(instruction.getClass())) {
+                biConsumer.accept(instruction, jvmThread);
+            }
+        }
+    }
+
     /**
      * A thread will execute many instructions.
      * This method will tell you after thread was completed,
@@ -0,0 +1,52 @@
+package com.github.anilople.javajvm.instructions.control;
+
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_1;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LOOKUPSWITCHTest {
+
+    private static int lookupSwitch(int i) {
+        switch (i) {
+            case -50000:
+                return 1;
+            case 10:
+                return 20;
+            case 1000:
+                return 300;
+            default:
+                return 4000;
+        }
+    }
+
+    public static void main(String[] args) {
+        int sum = lookupSwitch(-50000) + lookupSwitch(10) + lookupSwitch(1000) + lookupSwitch(7);
+    }
+
+    @Test
+    void execute() {
+        final Consumer<JvmThread> after = jvmThread -> {
+            int sum = jvmThread.currentFrame().getLocalVariables().getIntValue(1);
+            assertEquals(4321, sum);
+        };
+
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_1.class,
+                HighOrderFunctions.toInMainTrigger(this.getClass(), after)
+        );
+
+        jvmThreadRunner.run();
+
+        assertTrue(jvmThreadRunner.isExecuted(LOOKUPSWITCH.class));
+        assertTrue(jvmThreadRunner.isExecuted(ISTORE_1.class));
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.anilople.javajvm.instructions.control;
+
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_1;
+import com.github.anilople.javajvm.runtimedataarea.JvmThread;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TABLESWITCHTest {
+
+    private static int tableSwitch(int i) {
+        switch (i) {
+            case 1:
+                return 10;
+            case 2:
+                return 20;
+            case 3:
+                return 30;
+            default:
+                return -1;
+        }
+    }
+
+    public static void main(String[] args) {
+        int sum = tableSwitch(0) + tableSwitch(1) + tableSwitch(2) + tableSwitch(3) + tableSwitch(4);
+    }
+
+    @Test
+    void execute() {
+        final Consumer<JvmThread> after = jvmThread -> {
+            int sum = jvmThread.currentFrame().getLocalVariables().getIntValue(1);
+            assertEquals(58, sum);
+        };
+
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_1.class,
+                HighOrderFunctions.toInMainTrigger(this.getClass(), after)
+        );
+
+        jvmThreadRunner.run();
+
+        assertTrue(jvmThreadRunner.isExecuted(TABLESWITCH.class));
+        assertTrue(jvmThreadRunner.isExecuted(ISTORE_1.class));
+    }
+}
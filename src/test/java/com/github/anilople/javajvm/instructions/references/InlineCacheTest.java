@@ -0,0 +1,104 @@
+package com.github.anilople.javajvm.instructions.references;
+
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InlineCacheTest {
+
+    private static int catLegs(Animal animal) {
+        return animal.legs();
+    }
+
+    private static int anyLegs(Animal animal) {
+        return animal.legs();
+    }
+
+    private static int addFunction(Functions functions) {
+        return functions.add(1, 2);
+    }
+
+    public static void main(String[] args) {
+        Animal[] animals = new Animal[]{new Cat(), new Bird(), new Snake(), new Spider(), new Fish()};
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            sum += catLegs(animals[0]);
+            sum += anyLegs(animals[i % animals.length]);
+            sum += addFunction(new FunctionsImpl());
+        }
+    }
+
+    private static InlineCache getInlineCache(String callerName) {
+        for (InlineCache inlineCache : InlineCache.getInlineCaches()) {
+            if (inlineCache.getCaller().getJvmClass().getName().endsWith("InlineCacheTest")
+                    && inlineCache.getCaller().getName().equals(callerName)) {
+                return inlineCache;
+            }
+        }
+        throw new IllegalStateException("call site in " + callerName + " not executed");
+    }
+
+    @Test
+    void callSiteShapes() {
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.run();
+
+        InlineCache monomorphic = getInlineCache("catLegs");
+        assertTrue(monomorphic.isMonomorphic());
+        assertEquals(1, monomorphic.getMisses());
+        assertEquals(9, monomorphic.getHits());
+        assertEquals(0, monomorphic.getMegamorphicLookups());
+
+        InlineCache megamorphic = getInlineCache("anyLegs");
+        assertTrue(megamorphic.isMegamorphic());
+        assertEquals(InlineCache.MAX_ENTRIES, megamorphic.getReceiverClassesCount());
+        assertEquals(InlineCache.MAX_ENTRIES, megamorphic.getMisses());
+        assertEquals(10 - 2 - InlineCache.MAX_ENTRIES, megamorphic.getHits());
+        assertEquals(2, megamorphic.getMegamorphicLookups());
+
+        InlineCache interfaceCallSite = getInlineCache("addFunction");
+        assertTrue(interfaceCallSite.isMonomorphic());
+        assertEquals(9, interfaceCallSite.getHits());
+    }
+
+    static abstract class Animal {
+        abstract int legs();
+    }
+
+    static class Cat extends Animal {
+        @Override
+        int legs() {
+            return 4;
+        }
+    }
+
+    static class Bird extends Animal {
+        @Override
+        int legs() {
+            return 2;
+        }
+    }
+
+    static class Snake extends Animal {
+        @Override
+        int legs() {
+            return 0;
+        }
+    }
+
+    static class Spider extends Animal {
+        @Override
+        int legs() {
+            return 8;
+        }
+    }
+
+    static class Fish extends Animal {
+        @Override
+        int legs() {
+            return 0;
+        }
+    }
+}
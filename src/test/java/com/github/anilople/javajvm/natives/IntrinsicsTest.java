@@ -0,0 +1,157 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.ASTORE_1;
+import com.github.anilople.javajvm.runtimedataarea.Reference;
+import com.github.anilople.javajvm.utils.ReferenceUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntrinsicsTest {
+
+    private static String charAt(String s, int index) {
+        try {
+            return String.valueOf(s.charAt(index));
+        } catch (StringIndexOutOfBoundsException e) {
+            return "out of range";
+        }
+    }
+
+    private static int parseInt(String s) {
+        try {
+            return Integer.parseInt(s);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * every intrinsic is invoked at least once,
+     * the results may be different from real jvm, i.e Math.exp,
+     * so they are only compared with interpreted ones
+     */
+    static Object[] compute() {
+        String s = "hello, intrinsic world";
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("x=").append(42).append(',').append(-7L).append(true).append((String) null);
+        for(int i = 0; i < 20; i++) {
+            stringBuilder.append(i);
+        }
+
+        int[] ints = {5, -1, 3, 9, 0, Integer.MIN_VALUE};
+        Arrays.sort(ints);
+        long[] longs = {5L, -1L, Long.MAX_VALUE, 0L};
+        Arrays.sort(longs, 1, 4);
+        short[] shorts = {3, 2, 1};
+        Arrays.sort(shorts);
+        char[] chars = s.toCharArray();
+        Arrays.sort(chars, 2, 10);
+        byte[] bytes = {127, -128, 0};
+        Arrays.sort(bytes);
+        float[] floats = {1.5F, Float.NaN, -0.0F, 0.0F, -3F};
+        Arrays.sort(floats);
+        double[] doubles = {1.5, Double.NaN, -0.0, 0.0, -3};
+        Arrays.sort(doubles);
+
+        return new Object[]{
+                s.equals("hello, intrinsic world"), s.equals(null), s.equals(stringBuilder), s.equals("hello"),
+                s.hashCode(), "".hashCode(),
+                s.charAt(4), charAt(s, 100), charAt(s, -1),
+                s.indexOf('o'), s.indexOf('o', 5), s.indexOf('z'), s.indexOf('o', -3), s.indexOf(0x1F600),
+                s.indexOf("in"), s.indexOf("in", 9), s.indexOf(""), s.indexOf("", 100), s.indexOf("worlds"),
+                stringBuilder.toString(),
+                Integer.toString(-123), Integer.toString(Integer.MIN_VALUE), Integer.toString(255, 16),
+                Integer.parseInt("-456"), Integer.parseInt("ff", 16), parseInt("x"), parseInt(null),
+                Character.isDigit('7'), Character.isDigit((int) 'a'),
+                Character.isLetter('a'), Character.isLetter((int) '7'),
+                Character.isLetterOrDigit('_'), Character.isLetterOrDigit((int) '7'),
+                Character.isWhitespace(' '), Character.isWhitespace((int) 'x'),
+                Character.isUpperCase('A'), Character.isUpperCase((int) 'a'),
+                Character.isLowerCase('A'), Character.isLowerCase((int) 'a'),
+                Character.toUpperCase('a'), Character.toUpperCase((int) 'b'),
+                Character.toLowerCase('A'), Character.toLowerCase((int) 'B'),
+                Character.digit('f', 16), Character.digit((int) '9', 8),
+                Math.sin(1), Math.cos(1), Math.tan(1), Math.asin(0.5), Math.acos(0.5), Math.atan(1),
+                Math.exp(1), Math.log(10), Math.log10(1000), Math.sqrt(2), Math.cbrt(27),
+                Math.floor(-1.5), Math.ceil(-1.5), Math.pow(2, 0.5), Math.atan2(1, 2),
+                Math.abs(-3), Math.abs(-3L), Math.abs(-3.5F), Math.abs(-0.0),
+                Math.max(1, 2), Math.max(1L, 2L), Math.max(-0.0, 0.0), Math.max(Double.NaN, 1),
+                Math.min(1, 2), Math.min(1L, 2L), Math.min(-0.0, 0.0),
+                StrictMath.sin(2), StrictMath.cos(2), StrictMath.tan(2), StrictMath.asin(0.2), StrictMath.acos(0.2),
+                StrictMath.atan(2), StrictMath.exp(2), StrictMath.log(2), StrictMath.log10(2), StrictMath.sqrt(3),
+                StrictMath.cbrt(3), StrictMath.floor(2.5), StrictMath.ceil(2.5), StrictMath.pow(3, 3),
+                StrictMath.atan2(2, 1),
+                StrictMath.abs(-4), StrictMath.max(3, 4), StrictMath.min(3, 4),
+                ints, longs, shorts, chars, bytes, floats, doubles
+        };
+    }
+
+    public static void main(String[] args) {
+        Object[] results = compute();
+    }
+
+    /**
+     * @return results computed in jvm
+     */
+    private Object[] run() {
+        AtomicReference<Object[]> results = new AtomicReference<>();
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ASTORE_1.class,
+                HighOrderFunctions.toInMainTrigger(
+                        this.getClass(),
+                        jvmThread -> {
+                            Reference reference = jvmThread.currentFrame().getLocalVariables().getReference(1);
+                            try {
+                                results.set((Object[]) ReferenceUtils.reference2Object(reference));
+                            } catch (IllegalAccessException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }
+                )
+        );
+        jvmThreadRunner.run();
+        assertNotNull(results.get());
+        return results.get();
+    }
+
+    @Test
+    void conformance() {
+        Intrinsics.resetHits();
+        Object[] intrinsified = run();
+        for(Intrinsic intrinsic : Intrinsics.getIntrinsics()) {
+            assertTrue(intrinsic.getHits() > 0, () -> intrinsic + " is not invoked");
+        }
+
+        Intrinsics.setAllEnabled(false);
+        try {
+            Intrinsics.resetHits();
+            Object[] interpreted = run();
+            for(Intrinsic intrinsic : Intrinsics.getIntrinsics()) {
+                assertEquals(0, intrinsic.getHits(), intrinsic::toString);
+            }
+            assertArrayEquals(interpreted, intrinsified);
+        } finally {
+            Intrinsics.setAllEnabled(true);
+        }
+    }
+
+    @Test
+    void disable() {
+        assertThrows(IllegalArgumentException.class, () -> Intrinsics.disable("String.nothing"));
+        Intrinsics.disable("String.equals, Math.sqrt");
+        try {
+            assertFalse(Intrinsics.getIntrinsic("String.equals").isEnabled());
+            assertFalse(Intrinsics.getIntrinsic("Math.sqrt").isEnabled());
+            assertTrue(Intrinsics.getIntrinsic("String.hashCode").isEnabled());
+        } finally {
+            Intrinsics.setAllEnabled(true);
+        }
+    }
+}
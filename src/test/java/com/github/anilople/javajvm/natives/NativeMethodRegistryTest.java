@@ -0,0 +1,67 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.heap.JvmMethod;
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmClassLoaderFactory;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_2;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_3;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeMethodRegistryTest {
+
+    private static JvmMethod getMethod(Class<?> clazz, String name, String descriptor) {
+        JvmClass jvmClass = JvmClassLoaderFactory.getInstance().loadClass(clazz);
+        return jvmClass.getMethod(name, descriptor);
+    }
+
+    @Test
+    void bind() {
+        JvmMethod floatToRawIntBits = getMethod(Float.class, "floatToRawIntBits", "(F)I");
+        assertNotNull(floatToRawIntBits.getNativeMethod());
+        assertFalse(floatToRawIntBits.getNativeMethod() instanceof ReflectiveNativeMethod);
+        // bound once
+        assertSame(floatToRawIntBits.getNativeMethod(), floatToRawIntBits.getNativeMethod());
+
+        // native method without implementation registered
+        JvmMethod sinh = getMethod(StrictMath.class, "sinh", "(D)D");
+        assertTrue(sinh.getNativeMethod() instanceof ReflectiveNativeMethod);
+
+        // interpreted
+        assertNull(getMethod(Math.class, "toRadians", "(D)D").getNativeMethod());
+    }
+
+    public static void main(String[] args) {
+        Object object = new Object();
+        int same = object.hashCode() == object.hashCode() ? 1 : 0;
+        int bits = Float.floatToRawIntBits(1.5F) + (int) Double.doubleToRawLongBits(Double.longBitsToDouble(7L));
+    }
+
+    @Test
+    void invoke() {
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_2.class,
+                HighOrderFunctions.toInMainTrigger(
+                        this.getClass(),
+                        jvmThread -> assertEquals(1, jvmThread.currentFrame().getLocalVariables().getIntValue(2))
+                )
+        );
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_3.class,
+                HighOrderFunctions.toInMainTrigger(
+                        this.getClass(),
+                        jvmThread -> assertEquals(
+                                Float.floatToRawIntBits(1.5F) + 7,
+                                jvmThread.currentFrame().getLocalVariables().getIntValue(3)
+                        )
+                )
+        );
+        jvmThreadRunner.run();
+        assertTrue(jvmThreadRunner.isExecuted(ISTORE_3.class));
+    }
+}
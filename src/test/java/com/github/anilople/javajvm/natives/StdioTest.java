@@ -0,0 +1,123 @@
+package com.github.anilople.javajvm.natives;
+
+import com.github.anilople.javajvm.heap.JvmClass;
+import com.github.anilople.javajvm.helper.JvmClassLoaderFactory;
+import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StdioTest {
+
+    /**
+     * remember the bytes and how many writes
+     */
+    private static class RecordStream extends ByteArrayOutputStream {
+
+        private int writes;
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writes++;
+            super.write(b, off, len);
+        }
+
+        String text() {
+            return new String(toByteArray(), Charset.defaultCharset());
+        }
+    }
+
+    @Test
+    void lineBuffering() {
+        RecordStream stream = new RecordStream();
+        Stdio stdio = new Stdio(() -> stream, 1024, Stdio.Buffering.LINE);
+        stdio.print("abc");
+        assertEquals(0, stream.writes);
+        stdio.println();
+        assertEquals(1, stream.writes);
+        stdio.print("x\ny");
+        assertEquals(2, stream.writes);
+        // the whole print is written, not only the line
+        assertEquals("abc" + System.lineSeparator() + "x\ny", stream.text());
+    }
+
+    @Test
+    void fullBuffering() {
+        RecordStream stream = new RecordStream();
+        Stdio stdio = new Stdio(() -> stream, 16, Stdio.Buffering.FULL);
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            stdio.print(String.valueOf(i));
+            stdio.println();
+            expected.append(i).append(System.lineSeparator());
+        }
+        // written only when the buffer is full
+        assertTrue(stream.writes < 10);
+        stdio.flush();
+        assertEquals(expected.toString(), stream.text());
+
+        // longer than the buffer
+        char[] chars = new char[100];
+        Arrays.fill(chars, 'z');
+        stdio.print(chars, 10, 50);
+        stdio.flush();
+        assertEquals(expected + new String(chars, 10, 50), stream.text());
+    }
+
+    @Test
+    void surrogatePairSplit() {
+        RecordStream stream = new RecordStream();
+        Stdio stdio = new Stdio(() -> stream, 1024, Stdio.Buffering.FULL);
+        // U+1F600 is \uD83D\uDE00
+        stdio.print("a\uD83D");
+        stdio.print(new char[] {'\uDE00', 'b'});
+        stdio.flush();
+        // one char, i.e one '?' if the charset cannot map it
+        byte[] pair = "a\uD83D\uDE00b".getBytes(Charset.defaultCharset());
+        assertArrayEquals(pair, stream.toByteArray());
+
+        // not followed by a low surrogate, replaced when flush
+        stdio.print("\uD83D");
+        stdio.flush();
+        byte[] expected = Arrays.copyOf(pair, pair.length + 1);
+        expected[pair.length] = '?';
+        assertArrayEquals(expected, stream.toByteArray());
+    }
+
+    @Test
+    void followRedirect() {
+        PrintStream out = System.out;
+        RecordStream stream = new RecordStream();
+        try {
+            System.setOut(new PrintStream(stream, true));
+            Stdio.out().print("redirected");
+            Stdio.out().flush();
+        } finally {
+            System.setOut(out);
+        }
+        assertEquals("redirected", stream.text());
+    }
+
+    @Test
+    void standardStreams() {
+        JvmClass system = JvmClassLoaderFactory.getInstance().loadClass(System.class);
+        ObjectReference out = (ObjectReference) system.getStaticFieldsValue().getReference(
+                system.getJvmFieldByNameIncludeAncestors("out").getStaticFieldOffset()
+        );
+        ObjectReference err = (ObjectReference) system.getStaticFieldsValue().getReference(
+                system.getJvmFieldByNameIncludeAncestors("err").getStaticFieldOffset()
+        );
+        assertSame(Stdio.out(), Stdio.of(out));
+        assertSame(Stdio.err(), Stdio.of(err));
+    }
+
+    @Test
+    void unknownBuffering() {
+        assertThrows(IllegalArgumentException.class, () -> Stdio.setOutBuffering("none"));
+    }
+}
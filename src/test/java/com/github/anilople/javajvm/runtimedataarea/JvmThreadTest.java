@@ -0,0 +1,82 @@
+package com.github.anilople.javajvm.runtimedataarea;
+
+import com.github.anilople.javajvm.helper.HighOrderFunctions;
+import com.github.anilople.javajvm.helper.JvmThreadFactory;
+import com.github.anilople.javajvm.helper.JvmThreadRunner;
+import com.github.anilople.javajvm.instructions.stores.ISTORE_1;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JvmThreadTest {
+
+    private static int depth(int n) {
+        if (n <= 0) {
+            return 0;
+        }
+        return 1 + depth(n - 1);
+    }
+
+    public static void main(String[] args) {
+        int value = depth(5000);
+    }
+
+    @Test
+    void deepRecursion() {
+        final Consumer<JvmThread> after = jvmThread -> {
+            int value = jvmThread.currentFrame().getLocalVariables().getIntValue(1);
+            assertEquals(5000, value);
+        };
+
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+        jvmThreadRunner.addAfterInstructionExecutionListener(
+                ISTORE_1.class,
+                HighOrderFunctions.toInMainTrigger(this.getClass(), after)
+        );
+        jvmThreadRunner.run();
+
+        assertTrue(jvmThreadRunner.isExecuted(ISTORE_1.class));
+    }
+
+    @Test
+    void stackOverflow() {
+        JvmThread.setStackSize(4 * 1024);
+        try {
+            JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(JvmThreadFactory.makeSimpleInstance(this.getClass()));
+            RuntimeException exception = assertThrows(RuntimeException.class, jvmThreadRunner::run);
+            assertEquals("java.lang.StackOverflowError", exception.getMessage());
+        } finally {
+            JvmThread.setStackSize(JvmThread.DEFAULT_STACK_SIZE);
+        }
+    }
+
+    private static long add(long a, double b, int c, Object d) {
+        return a + (long) b + c + (null == d ? 0 : 1);
+    }
+
+    private long subtract(double a, long b) {
+        return (long) a - b;
+    }
+
+    /**
+     * long and double arguments become local variables of callee directly
+     */
+    private static void wideArguments() {
+        if (1099511627781L != add(1L << 40, 2.5d, 3, null)) {
+            throw new IllegalStateException();
+        }
+        if (-4L != new JvmThreadTest().subtract(-1.5d, 3L)) {
+            throw new IllegalStateException();
+        }
+    }
+
+    @Test
+    void wideArgumentsTest() {
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(
+                JvmThreadFactory.createFromStaticMethod(this.getClass(), "wideArguments", "()V")
+        );
+        assertDoesNotThrow(jvmThreadRunner::run);
+    }
+}
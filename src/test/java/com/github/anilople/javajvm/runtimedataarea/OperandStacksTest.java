@@ -38,4 +38,41 @@ public class OperandStacksTest {
         Assertions.assertEquals(null, operandStack.popReference());
     }
 
+    @Test
+    public void dupTest() {
+        OperandStacks operandStack = new OperandStacks(defaultStackSize);
+        operandStack.pushIntValue(1);
+        operandStack.pushLongValue(2L);
+        operandStack.pushIntValue(3);
+        // dup_x2, value1 = 3, value2 = 2L
+        operandStack.dup(1, 2);
+        Assertions.assertEquals(3, operandStack.popIntValue());
+        Assertions.assertEquals(2L, operandStack.popLongValue());
+        Assertions.assertEquals(3, operandStack.popIntValue());
+        Assertions.assertEquals(1, operandStack.popIntValue());
+
+        operandStack.pushReference(Reference.NULL);
+        operandStack.pushDoubleValue(4.5d);
+        // dup2_x1, value1 = 4.5d, value2 = reference
+        operandStack.dup(2, 1);
+        Assertions.assertEquals(4.5d, operandStack.popDoubleValue());
+        Assertions.assertEquals(Reference.NULL, operandStack.popReference());
+        Assertions.assertEquals(4.5d, operandStack.popDoubleValue());
+    }
+
+    @Test
+    public void swapAndPopSlotsTest() {
+        OperandStacks operandStack = new OperandStacks(defaultStackSize);
+        operandStack.pushIntValue(1);
+        operandStack.pushLongValue(Long.MAX_VALUE);
+        operandStack.pushIntValue(2);
+        operandStack.pushIntValue(3);
+        operandStack.swap();
+        Assertions.assertEquals(2, operandStack.popIntValue());
+        Assertions.assertEquals(3, operandStack.popIntValue());
+        // pop2 a long
+        operandStack.popSlots(2);
+        Assertions.assertEquals(1, operandStack.popIntValue());
+    }
+
 }
@@ -67,4 +67,76 @@ public class BaseTypeArrayTest {
         jvmThreadRunner.run();
     }
 
+    private static void bulkOperations() {
+        int[] ints = new int[]{1, 2, 3, 4, 5};
+        // same array, copy from back to front
+        System.arraycopy(ints, 0, ints, 1, 4);
+        char[] chars = new char[4];
+        Arrays.fill(chars, 1, 3, 'x');
+        long[] longs = new long[3];
+        Arrays.fill(longs, -1L);
+        String[] strings = new String[3];
+        Arrays.fill(strings, "s");
+        int[] copy = ints.clone();
+        copy[0] = 9;
+        boolean right = ints[0] == 1 && ints[1] == 1 && ints[4] == 4
+                && chars[0] == 0 && chars[1] == 'x' && chars[2] == 'x' && chars[3] == 0
+                && longs[2] == -1L
+                && "s".equals(strings[2])
+                && copy[0] == 9 && copy[4] == 4;
+        if(!right) {
+            throw new IllegalStateException("wrong values of array");
+        }
+    }
+
+    @Test
+    void bulkOperationsTest() {
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(
+                JvmThreadFactory.createFromStaticMethod(
+                        this.getClass(),
+                        "bulkOperations",
+                        "()V"
+                )
+        );
+
+        assertDoesNotThrow(jvmThreadRunner::run);
+    }
+
+    private static void copyIncompatible() {
+        Object[] objects = new Object[]{"a", 1};
+        String[] strings = new String[2];
+        System.arraycopy(objects, 0, strings, 0, 2);
+    }
+
+    @Test
+    void copyIncompatibleTest() {
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(
+                JvmThreadFactory.createFromStaticMethod(
+                        this.getClass(),
+                        "copyIncompatible",
+                        "()V"
+                )
+        );
+
+        assertThrows(ArrayStoreException.class, jvmThreadRunner::run);
+    }
+
+    private static void fillIncompatible() {
+        Object[] strings = new String[2];
+        Arrays.fill(strings, 1);
+    }
+
+    @Test
+    void fillIncompatibleTest() {
+        JvmThreadRunner jvmThreadRunner = new JvmThreadRunner(
+                JvmThreadFactory.createFromStaticMethod(
+                        this.getClass(),
+                        "fillIncompatible",
+                        "()V"
+                )
+        );
+
+        assertThrows(ArrayStoreException.class, jvmThreadRunner::run);
+    }
+
 }
@@ -0,0 +1,37 @@
+package com.github.anilople.javajvm.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClassPathUtilsTest {
+
+    @Test
+    void getClasspathEntries(@TempDir Path directory) throws IOException {
+        Path classes = Files.createDirectory(directory.resolve("classes"));
+        Path lib = Files.createDirectory(directory.resolve("lib"));
+        Path b = Files.createFile(lib.resolve("b.jar"));
+        Path a = Files.createFile(lib.resolve("a.jar"));
+        Files.createFile(lib.resolve("readme.txt"));
+        // not walked by wildcard
+        Files.createFile(Files.createDirectory(lib.resolve("nested")).resolve("c.jar"));
+
+        String classpath = String.join(
+                File.pathSeparator,
+                classes.toString(),
+                lib.toString() + File.separator + "*",
+                directory.resolve("missing").toString(),
+                ""
+        );
+        List<Path> entries = ClassPathUtils.getClasspathEntries(classpath);
+        assertEquals(Arrays.asList(classes, a, b), entries);
+    }
+}
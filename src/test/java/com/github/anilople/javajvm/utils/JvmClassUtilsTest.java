@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
 
 class JvmClassUtilsTest {
@@ -104,6 +105,26 @@ class JvmClassUtilsTest {
         );
     }
 
+    @Test
+    void typeCast() {
+        JvmClass integerClass = jvmClassLoader.loadClass(Integer.class);
+        JvmClass stringClass = jvmClassLoader.loadClass(String.class);
+        JvmClass objectClass = jvmClassLoader.loadClass(Object.class);
+        Assertions.assertTrue(JvmClassUtils.typeCast(integerClass, objectClass));
+        Assertions.assertTrue(JvmClassUtils.typeCast(integerClass, jvmClassLoader.loadClass(Comparable.class)));
+        Assertions.assertFalse(JvmClassUtils.typeCast(integerClass, stringClass));
+        Assertions.assertFalse(JvmClassUtils.typeCast(objectClass, stringClass));
+        // by super interface
+        Assertions.assertTrue(JvmClassUtils.typeCast(jvmClassLoader.loadClass(ArrayList.class), jvmClassLoader.loadClass(Iterable.class)));
+
+        JvmClass integerArrayClass = jvmClassLoader.loadClass(Integer[].class);
+        Assertions.assertTrue(JvmClassUtils.typeCast(integerArrayClass, jvmClassLoader.loadClass(Object[].class)));
+        Assertions.assertFalse(JvmClassUtils.typeCast(integerArrayClass, jvmClassLoader.loadClass(String[].class)));
+        Assertions.assertTrue(JvmClassUtils.typeCast(jvmClassLoader.loadClass(int[][].class), jvmClassLoader.loadClass(Object[].class)));
+        Assertions.assertFalse(JvmClassUtils.typeCast(jvmClassLoader.loadClass(int[].class), jvmClassLoader.loadClass(long[].class)));
+        Assertions.assertFalse(JvmClassUtils.typeCast(objectClass, jvmClassLoader.loadClass(Object[].class)));
+    }
+
     @Test
     void existsWithAncestor() {
     }
@@ -11,11 +11,20 @@ class JvmMethodUtilsTest {
 
     private static final JvmClassLoader jvmClassLoader = JvmClassLoaderFactory.getInstance();
 
+    /**
+     * unlike this test class, its static initializer needs no class outside the classpath of jvm
+     */
+    static class NoMain {
+
+        void getJvmMethod() {
+        }
+    }
+
     @Test
     void getJvmMethod() {
         JvmMethod jvmMethod = JvmMethodUtils.getJvmMethod(
                 jvmClassLoader,
-                JvmMethodUtilsTest.class,
+                NoMain.class,
                 "getJvmMethod",
                 "()V"
         );
@@ -28,7 +37,7 @@ class JvmMethodUtilsTest {
     void getMainMethod() {
         assertThrows(
                 RuntimeException.class,
-                () -> JvmMethodUtils.getMainMethod(jvmClassLoader, JvmMethodUtilsTest.class)
+                () -> JvmMethodUtils.getMainMethod(jvmClassLoader, NoMain.class)
         );
     }
 }
\ No newline at end of file
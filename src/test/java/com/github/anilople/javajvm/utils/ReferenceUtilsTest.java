@@ -8,7 +8,11 @@ import com.github.anilople.javajvm.runtimedataarea.reference.ObjectArrayReferenc
 import com.github.anilople.javajvm.runtimedataarea.reference.ObjectReference;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -134,6 +138,39 @@ class ReferenceUtilsTest {
             assertEquals(valuesCharArray[i], valuesImageCharArray[i]);
         }
     }
+
+    @Test
+    void graphRoundTrip() throws IllegalAccessException {
+        // nodes of linked list refer to each other
+        LinkedList<String> linkedList = new LinkedList<>(Arrays.asList("a", "b", "c"));
+        Reference reference = ReferenceUtils.object2Reference(jvmClassLoader, linkedList);
+        @SuppressWarnings("unchecked")
+        LinkedList<String> image = (LinkedList<String>) ReferenceUtils.reference2Object(reference);
+        assertEquals(linkedList, image);
+        List<String> reversed = new ArrayList<>();
+        image.descendingIterator().forEachRemaining(reversed::add);
+        assertEquals(Arrays.asList("c", "b", "a"), reversed);
+
+        // same object is converted once
+        String s = "shared";
+        Object[] objects = (Object[]) ReferenceUtils.reference2Object(
+                ReferenceUtils.object2Reference(jvmClassLoader, new Object[]{s, s})
+        );
+        assertEquals(s, objects[0]);
+        assertSame(objects[0], objects[1]);
+    }
+
+    @Test
+    void reference2ObjectShallow() throws IllegalAccessException {
+        int[] ints = new int[]{1, 2, 3};
+        BaseTypeArrayReference intArray = ReferenceUtils.singleDimensionPrimitiveArray2ArrayReference(jvmClassLoader, ints);
+        assertSame(intArray.getArray(), ReferenceUtils.reference2ObjectShallow(intArray));
+        assertNotSame(intArray.getArray(), ReferenceUtils.reference2Object(intArray));
+
+        Reference string = ReferenceUtils.object2Reference(jvmClassLoader, "abc");
+        assertEquals("abc", ReferenceUtils.reference2ObjectShallow(string));
+        assertNull(ReferenceUtils.reference2ObjectShallow(Reference.NULL));
+    }
 }
 
 /**